@@ -20,6 +20,7 @@ package org.apache.syncope.client.console.panels;
 
 import de.agilecoders.wicket.core.markup.html.bootstrap.components.TooltipConfig;
 import org.apache.syncope.client.ui.commons.Constants;
+import org.apache.syncope.client.ui.commons.markup.html.form.AjaxCheckBoxPanel;
 import org.apache.syncope.common.lib.to.DerSchemaTO;
 import org.apache.wicket.markup.html.form.TextField;
 import org.apache.wicket.model.PropertyModel;
@@ -36,5 +37,8 @@ public class DerSchemaDetails extends AbstractSchemaDetailsPanel {
         add(expression);
 
         add(Constants.getJEXLPopover(this, TooltipConfig.Placement.right));
+
+        add(new AjaxCheckBoxPanel(
+                "materialized", getString("materialized"), new PropertyModel<>(schemaTO, "materialized")));
     }
 }
@@ -109,6 +109,23 @@ public class BatchRequest {
      * @return batch response
      */
     public BatchResponse commit(final boolean async) {
+        return commit(async, 1);
+    }
+
+    /**
+     * Sends the current request, with items accumulated by invoking methods on proxies obtained via
+     * {@link #getService(java.lang.Class)}, to the Batch service, and awaits for a synchronous or asynchronous
+     * response, depending on the {@code async} parameter.
+     * Items are processed concurrently, up to {@code parallelism} at a time, when greater than 1: in such case,
+     * only items sharing the first two path segments (e.g. {@code users/{key}}), POST included, and non-POST items
+     * targeting the same shorter path are guaranteed to be processed in the given order.
+     * It also clears out the accumulated items, in case of reuse of this instance for subsequent requests.
+     *
+     * @param async whether asynchronous Batch process is requested, or not
+     * @param parallelism maximum number of items to process concurrently
+     * @return batch response
+     */
+    public BatchResponse commit(final boolean async, final int parallelism) {
         String boundary = "--batch_" + UUID.randomUUID();
 
         WebClient webClient = WebClient.create(bcfb.getAddress()).path("batch").
@@ -117,6 +134,9 @@ public class BatchRequest {
         if (async) {
             webClient.header(RESTHeaders.PREFER, Preference.RESPOND_ASYNC);
         }
+        if (parallelism > 1) {
+            webClient.header(RESTHeaders.BATCH_PARALLELISM, parallelism);
+        }
         if (tlsClientParameters != null) {
             ClientConfiguration config = WebClient.getConfig(webClient);
             HTTPConduit httpConduit = (HTTPConduit) config.getConduit();
@@ -60,6 +60,10 @@ public class ConnInstanceTO implements EntityTO {
 
     private Integer connRequestTimeout;
 
+    private Integer searchPageSize;
+
+    private boolean pipelinedSearch;
+
     private ConnPoolConf poolConf;
 
     @Override
@@ -167,6 +171,38 @@ public class ConnInstanceTO implements EntityTO {
         this.connRequestTimeout = connRequestTimeout;
     }
 
+    /**
+     * Get the page size used when paging over connector search results.
+     *
+     * @return page size
+     */
+    public Integer getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    /**
+     * Set the page size used when paging over connector search results.
+     * Default page size is applied if null.
+     *
+     * @param searchPageSize page size
+     */
+    public void setSearchPageSize(final Integer searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    /**
+     * Whether the next page of connector search results is fetched while the current one is being handled.
+     *
+     * @return whether pipelined search is enabled
+     */
+    public boolean isPipelinedSearch() {
+        return pipelinedSearch;
+    }
+
+    public void setPipelinedSearch(final boolean pipelinedSearch) {
+        this.pipelinedSearch = pipelinedSearch;
+    }
+
     public ConnPoolConf getPoolConf() {
         return poolConf;
     }
@@ -199,6 +235,8 @@ public class ConnInstanceTO implements EntityTO {
                 append(capabilities, other.capabilities).
                 append(displayName, other.displayName).
                 append(connRequestTimeout, other.connRequestTimeout).
+                append(searchPageSize, other.searchPageSize).
+                append(pipelinedSearch, other.pipelinedSearch).
                 append(poolConf, other.poolConf).
                 build();
     }
@@ -217,6 +255,8 @@ public class ConnInstanceTO implements EntityTO {
                 append(capabilities).
                 append(displayName).
                 append(connRequestTimeout).
+                append(searchPageSize).
+                append(pipelinedSearch).
                 append(poolConf).
                 build();
     }
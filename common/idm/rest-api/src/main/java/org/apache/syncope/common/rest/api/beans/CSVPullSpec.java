@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.common.rest.api.beans;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
@@ -67,6 +68,21 @@ public class CSVPullSpec extends AbstractCSVSpec {
             instance.setInboundCorrelationRule(inboundCorrelationRule);
             return this;
         }
+
+        public Builder chunkSize(final int chunkSize) {
+            instance.setChunkSize(chunkSize);
+            return this;
+        }
+
+        public Builder offset(final long offset) {
+            instance.setOffset(offset);
+            return this;
+        }
+
+        public Builder concurrency(final int concurrency) {
+            instance.setConcurrency(concurrency);
+            return this;
+        }
     }
 
     private String destinationRealm = SyncopeConstants.ROOT_REALM;
@@ -81,6 +97,12 @@ public class CSVPullSpec extends AbstractCSVSpec {
 
     private String inboundCorrelationRule;
 
+    private int chunkSize;
+
+    private long offset;
+
+    private int concurrency;
+
     public String getDestinationRealm() {
         return destinationRealm;
     }
@@ -136,4 +158,53 @@ public class CSVPullSpec extends AbstractCSVSpec {
     public void setInboundCorrelationRule(final String inboundCorrelationRule) {
         this.inboundCorrelationRule = inboundCorrelationRule;
     }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * When greater than 0, rows are processed in chunks of the given size, and progress is checkpointed after each.
+     *
+     * @param chunkSize number of rows per chunk
+     */
+    @Min(0)
+    @QueryParam("chunkSize")
+    @DefaultValue("0")
+    public void setChunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Number of rows to skip before processing: set to the latest checkpoint reported to resume a failed import.
+     *
+     * @param offset number of rows to skip
+     */
+    @Min(0)
+    @QueryParam("offset")
+    @DefaultValue("0")
+    public void setOffset(final long offset) {
+        this.offset = offset;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * When greater than 1 and chunks are enabled, rows in each chunk are processed in parallel, partitioned by
+     * key column value; rows sharing the same key are always processed in order.
+     *
+     * @param concurrency number of rows processed in parallel
+     */
+    @Min(0)
+    @QueryParam("concurrency")
+    @DefaultValue("0")
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
 }
@@ -31,6 +31,8 @@ public class DerSchemaTO extends SchemaTO {
 
     private String expression;
 
+    private boolean materialized;
+
     @JacksonXmlProperty(localName = "_class", isAttribute = true)
     @JsonProperty("_class")
     @Schema(name = "_class", requiredMode = Schema.RequiredMode.REQUIRED,
@@ -48,11 +50,20 @@ public class DerSchemaTO extends SchemaTO {
         this.expression = expression;
     }
 
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    public void setMaterialized(final boolean materialized) {
+        this.materialized = materialized;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(expression).
+                append(materialized).
                 build();
     }
 
@@ -71,6 +82,7 @@ public class DerSchemaTO extends SchemaTO {
         return new EqualsBuilder().
                 appendSuper(super.equals(obj)).
                 append(expression, other.expression).
+                append(materialized, other.materialized).
                 build();
     }
 }
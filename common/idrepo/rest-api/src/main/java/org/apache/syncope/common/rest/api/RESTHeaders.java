@@ -46,6 +46,18 @@ public final class RESTHeaders {
      */
     public static final String NULL_PRIORITY_ASYNC = "X-Syncope-Null-Priority-Async";
 
+    /**
+     * Asks for batch items to be processed concurrently, up to the given number at a time; items sharing the first
+     * two path segments (e.g. {@code users/{key}}), POST included, keep their relative order, as do non-POST items
+     * targeting the same shorter path, while the client declares that all other items do not depend on each other.
+     */
+    public static final String BATCH_PARALLELISM = "X-Syncope-Batch-Parallelism";
+
+    /**
+     * Reports the number of batch items processed so far, out of the total, as {@code processed/total}.
+     */
+    public static final String BATCH_PROGRESS = "X-Syncope-Batch-Progress";
+
     /**
      * Declares the type of exception being raised.
      *
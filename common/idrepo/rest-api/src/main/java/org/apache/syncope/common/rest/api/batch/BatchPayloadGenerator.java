@@ -30,45 +30,70 @@ public final class BatchPayloadGenerator {
     public static <T extends BatchItem> String generate(final List<T> items, final String boundary) {
         StringBuilder payload = new StringBuilder();
 
-        items.forEach(item -> {
-            payload.append(boundary).append(JAXRSService.CRLF);
-            payload.append(HttpHeaders.CONTENT_TYPE).append(": ").append("application/http").append('\n');
-            payload.append("Content-Transfer-Encoding: binary").append('\n');
-            payload.append(JAXRSService.CRLF);
+        items.forEach(item -> payload.append(generate(item, boundary)));
 
-            if (item instanceof BatchRequestItem) {
-                BatchRequestItem bri = BatchRequestItem.class.cast(item);
-                payload.append(bri.getMethod()).append(' ').append(bri.getRequestURI());
-                if (bri.getQueryString() != null) {
-                    payload.append('?').append(bri.getQueryString());
-                }
-                payload.append(' ').append(HTTP_1_1).append('\n');
-            }
+        payload.append(generateEnd(boundary));
 
-            if (item instanceof BatchResponseItem) {
-                BatchResponseItem bri = BatchResponseItem.class.cast(item);
-                payload.append(HTTP_1_1).append(' ').
-                        append(bri.getStatus()).append(' ').
-                        append(Response.Status.fromStatusCode(bri.getStatus()).getReasonPhrase()).
-                        append('\n');
-            }
+        return payload.toString();
+    }
 
-            if (item.getHeaders() != null && !item.getHeaders().isEmpty()) {
-                item.getHeaders().forEach((key, values) -> values.forEach(
-                        value -> payload.append(key).append(": ").append(value).append('\n')));
-                payload.append(JAXRSService.CRLF);
-            }
+    /**
+     * Generates the payload part for a single item, to be followed by other parts and eventually by
+     * {@link #generateEnd(java.lang.String)}.
+     *
+     * @param <T> batch item type
+     * @param item batch item
+     * @param boundary multipart boundary, including the leading double dash
+     * @return payload part for the given item
+     */
+    public static <T extends BatchItem> String generate(final T item, final String boundary) {
+        StringBuilder payload = new StringBuilder();
 
-            if (item.getContent() != null) {
-                payload.append(item.getContent()).append('\n');
+        payload.append(boundary).append(JAXRSService.CRLF);
+        payload.append(HttpHeaders.CONTENT_TYPE).append(": ").append("application/http").append('\n');
+        payload.append("Content-Transfer-Encoding: binary").append('\n');
+        payload.append(JAXRSService.CRLF);
+
+        if (item instanceof BatchRequestItem) {
+            BatchRequestItem bri = BatchRequestItem.class.cast(item);
+            payload.append(bri.getMethod()).append(' ').append(bri.getRequestURI());
+            if (bri.getQueryString() != null) {
+                payload.append('?').append(bri.getQueryString());
             }
-        });
+            payload.append(' ').append(HTTP_1_1).append('\n');
+        }
+
+        if (item instanceof BatchResponseItem) {
+            BatchResponseItem bri = BatchResponseItem.class.cast(item);
+            payload.append(HTTP_1_1).append(' ').
+                    append(bri.getStatus()).append(' ').
+                    append(Response.Status.fromStatusCode(bri.getStatus()).getReasonPhrase()).
+                    append('\n');
+        }
+
+        if (item.getHeaders() != null && !item.getHeaders().isEmpty()) {
+            item.getHeaders().forEach((key, values) -> values.forEach(
+                    value -> payload.append(key).append(": ").append(value).append('\n')));
+            payload.append(JAXRSService.CRLF);
+        }
 
-        payload.append(boundary).append(JAXRSService.DOUBLE_DASH).append('\n');
+        if (item.getContent() != null) {
+            payload.append(item.getContent()).append('\n');
+        }
 
         return payload.toString();
     }
 
+    /**
+     * Generates the closing delimiter of the payload.
+     *
+     * @param boundary multipart boundary, including the leading double dash
+     * @return closing delimiter
+     */
+    public static String generateEnd(final String boundary) {
+        return boundary + JAXRSService.DOUBLE_DASH + '\n';
+    }
+
     private BatchPayloadGenerator() {
         // private constructor for static utility class
     }
@@ -23,6 +23,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -60,6 +62,36 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder field(final String field) {
+            getInstance().getFields().add(field);
+            return this;
+        }
+
+        public Builder fields(final String... fields) {
+            getInstance().getFields().addAll(List.of(fields));
+            return this;
+        }
+
+        public Builder plainAttr(final String plainAttr) {
+            getInstance().getPlainAttrs().add(plainAttr);
+            return this;
+        }
+
+        public Builder plainAttrs(final String... plainAttrs) {
+            getInstance().getPlainAttrs().addAll(List.of(plainAttrs));
+            return this;
+        }
+
+        public Builder derAttr(final String derAttr) {
+            getInstance().getDerAttrs().add(derAttr);
+            return this;
+        }
+
+        public Builder derAttrs(final String... derAttrs) {
+            getInstance().getDerAttrs().addAll(List.of(derAttrs));
+            return this;
+        }
     }
 
     private String realm;
@@ -70,6 +102,12 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private List<String> fields = new ArrayList<>();
+
+    private List<String> plainAttrs = new ArrayList<>();
+
+    private List<String> derAttrs = new ArrayList<>();
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -126,6 +164,41 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_FIELD, description = "restricts the properties returned for each match, "
+            + "besides key and other scalar properties, to the given ones (e.g. resources, dynRealms, memberships); "
+            + "when any of field, plainAttr or derAttr is provided, what is not listed is neither computed nor "
+            + "returned")
+    public List<String> getFields() {
+        return fields;
+    }
+
+    @QueryParam(JAXRSService.PARAM_FIELD)
+    public void setFields(final List<String> fields) {
+        this.fields = fields;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_PLAIN_ATTR, description = "restricts the plain attributes returned for "
+            + "each match to the ones for the given schemas")
+    public List<String> getPlainAttrs() {
+        return plainAttrs;
+    }
+
+    @QueryParam(JAXRSService.PARAM_PLAIN_ATTR)
+    public void setPlainAttrs(final List<String> plainAttrs) {
+        this.plainAttrs = plainAttrs;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_DER_ATTR, description = "restricts the derived attributes computed and "
+            + "returned for each match to the ones for the given schemas")
+    public List<String> getDerAttrs() {
+        return derAttrs;
+    }
+
+    @QueryParam(JAXRSService.PARAM_DER_ATTR)
+    public void setDerAttrs(final List<String> derAttrs) {
+        this.derAttrs = derAttrs;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -143,6 +216,9 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(fields, other.fields).
+                append(plainAttrs, other.plainAttrs).
+                append(derAttrs, other.derAttrs).
                 build();
     }
 
@@ -153,6 +229,9 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(fields).
+                append(plainAttrs).
+                append(derAttrs).
                 build();
     }
 }
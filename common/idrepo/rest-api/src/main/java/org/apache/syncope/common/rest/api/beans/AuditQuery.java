@@ -64,6 +64,11 @@ public class AuditQuery extends AbstractTimeframeQuery {
             getInstance().setOutcome(outcome);
             return this;
         }
+
+        public Builder lastKey(final String lastKey) {
+            getInstance().setLastKey(lastKey);
+            return this;
+        }
     }
 
     private String entityKey;
@@ -78,7 +83,10 @@ public class AuditQuery extends AbstractTimeframeQuery {
 
     private OpEvent.Outcome outcome;
 
-    @Parameter(name = JAXRSService.PARAM_ENTITY_KEY, description = "audit entity key to match", schema =
+    private String lastKey;
+
+    @Parameter(name = JAXRSService.PARAM_ENTITY_KEY, description = "audit entity key to match: either "
+            + "UUID-shaped tokens or values of JSON properties named key or ending with Key are matched", schema =
             @Schema(implementation = String.class, example = "50592942-73ec-44c4-a377-e859524245e4"))
     public String getEntityKey() {
         return entityKey;
@@ -143,4 +151,18 @@ public class AuditQuery extends AbstractTimeframeQuery {
     public void setOp(final String op) {
         this.op = op;
     }
+
+    @Parameter(name = "lastKey", description = "key of the last audit event from the previous page: when provided, "
+            + "the audit events following it by descending time and key are returned, regardless of page; orderby "
+            + "can only be omitted or set to 'when DESC,id DESC' and totalCount is not computed but reports the "
+            + "number of returned events", schema =
+            @Schema(implementation = String.class, example = "50592942-73ec-44c4-a377-e859524245e4"))
+    public String getLastKey() {
+        return lastKey;
+    }
+
+    @QueryParam("lastKey")
+    public void setLastKey(final String lastKey) {
+        this.lastKey = lastKey;
+    }
 }
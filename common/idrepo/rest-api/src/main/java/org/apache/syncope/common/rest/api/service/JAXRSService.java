@@ -46,6 +46,12 @@ public interface JAXRSService {
 
     String PARAM_DETAILS = "details";
 
+    String PARAM_FIELD = "field";
+
+    String PARAM_PLAIN_ATTR = "plainAttr";
+
+    String PARAM_DER_ATTR = "derAttr";
+
     String PARAM_CONNID_PAGED_RESULTS_COOKIE = "connIdPagedResultsCookie";
 
     String PARAM_MAX = "max";
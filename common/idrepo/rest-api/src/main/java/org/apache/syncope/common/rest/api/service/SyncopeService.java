@@ -67,6 +67,10 @@ public interface SyncopeService extends JAXRSService {
             description = "Allows client to specify a preference to process the batch request asynchronously",
             allowEmptyValue = true, schema =
             @Schema(defaultValue = "", allowableValues = { "respond-async" }))
+    @Parameter(name = RESTHeaders.BATCH_PARALLELISM, in = ParameterIn.HEADER,
+            description = "Allows client to request concurrent processing of batch items, up to the given number",
+            allowEmptyValue = true, schema =
+            @Schema(type = "integer", defaultValue = "1"))
     @ApiResponses({
         @ApiResponse(responseCode = "200",
                 description = "Batch request processed, results returned as Response entity, "
@@ -103,7 +107,10 @@ public interface SyncopeService extends JAXRSService {
                             description = "URL to poll in order to get the results of the requested batch processing"),
                     @Header(name = HttpHeaders.RETRY_AFTER, schema =
                             @Schema(type = "integer"),
-                            description = "seconds after which attempt again to get batch results") }),
+                            description = "seconds after which attempt again to get batch results"),
+                    @Header(name = RESTHeaders.BATCH_PROGRESS, schema =
+                            @Schema(type = "string"),
+                            description = "number of batch items processed so far, out of the total") }),
         @ApiResponse(responseCode = "404", description = "No batch process was found for the provided boundary") })
     @Path("batch")
     @Produces(RESTHeaders.MULTIPART_MIXED)
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ConfParamOps} decorator keeping, for each domain, a snapshot of all conf parameters as read with a single
+ * {@link ConfParamOps#list(java.lang.String)} call, so that {@link #get} does not need to reach the Keymaster.
+ *
+ * Snapshots are discarded when changed via this instance, when {@link #invalidate(java.lang.String)} is invoked
+ * (e.g. by watchers on the underlying storage) or anyway once older than the configured time-to-live.
+ */
+public class CachingConfParamOps implements ConfParamOps {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
+
+    protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    protected record Snapshot(Map<String, Object> values, long loaded) {
+
+    }
+
+    protected final ConfParamOps delegate;
+
+    protected final long ttlMs;
+
+    protected final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    protected final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+
+    protected final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    protected final AtomicLong hitCount = new AtomicLong();
+
+    protected final AtomicLong loadCount = new AtomicLong();
+
+    protected final AtomicLong loadFailureCount = new AtomicLong();
+
+    protected final AtomicLong invalidationCount = new AtomicLong();
+
+    public CachingConfParamOps(final ConfParamOps delegate, final long ttlMs) {
+        this.delegate = delegate;
+        this.ttlMs = ttlMs;
+    }
+
+    protected boolean isFresh(final Snapshot snapshot) {
+        return snapshot != null && System.currentTimeMillis() - snapshot.loaded() < ttlMs;
+    }
+
+    protected AtomicLong generation(final String domain) {
+        return generations.computeIfAbsent(domain, k -> new AtomicLong());
+    }
+
+    protected Snapshot snapshot(final String domain) {
+        Snapshot snapshot = snapshots.get(domain);
+        if (isFresh(snapshot)) {
+            hitCount.incrementAndGet();
+            return snapshot;
+        }
+
+        // only one thread per domain reloads, the others wait for its outcome
+        synchronized (loadLocks.computeIfAbsent(domain, k -> new Object())) {
+            snapshot = snapshots.get(domain);
+            if (isFresh(snapshot)) {
+                hitCount.incrementAndGet();
+                return snapshot;
+            }
+
+            long expected = generation(domain).get();
+
+            // reaching the Keymaster while not holding any lock on snapshots, which other domains share
+            loadCount.incrementAndGet();
+            Snapshot loaded = new Snapshot(
+                    Collections.unmodifiableMap(new HashMap<>(delegate.list(domain))), System.currentTimeMillis());
+
+            // not kept if invalidated while loading, as it might already be stale
+            snapshots.compute(domain, (k, current) -> generation(domain).get() == expected ? loaded : current);
+            return loaded;
+        }
+    }
+
+    @Override
+    public Map<String, Object> list(final String domain) {
+        try {
+            return snapshot(domain).values();
+        } catch (Exception e) {
+            loadFailureCount.incrementAndGet();
+            LOG.error("Could not load conf params for domain {}, reading directly", domain, e);
+            return delegate.list(domain);
+        }
+    }
+
+    @Override
+    public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+        Snapshot snapshot;
+        try {
+            snapshot = snapshot(domain);
+        } catch (Exception e) {
+            loadFailureCount.incrementAndGet();
+            LOG.error("Could not load conf params for domain {}, reading {} directly", domain, key, e);
+            return delegate.get(domain, key, defaultValue, reference);
+        }
+
+        // values are converted on every read, as callers might alter what is returned
+        return Optional.ofNullable(snapshot.values().get(key)).map(value -> {
+            try {
+                return MAPPER.convertValue(value, reference);
+            } catch (IllegalArgumentException e) {
+                LOG.error("Could not convert {} to {}", value, reference.getName(), e);
+                return null;
+            }
+        }).orElse(defaultValue);
+    }
+
+    @Override
+    public <T> void set(final String domain, final String key, final T value) {
+        try {
+            delegate.set(domain, key, value);
+        } finally {
+            invalidate(domain);
+        }
+    }
+
+    @Override
+    public void remove(final String domain, final String key) {
+        try {
+            delegate.remove(domain, key);
+        } finally {
+            invalidate(domain);
+        }
+    }
+
+    /**
+     * Discards the snapshot for the given domain, to be reloaded on next read.
+     *
+     * @param domain domain
+     */
+    public void invalidate(final String domain) {
+        generation(domain).incrementAndGet();
+        if (snapshots.remove(domain) != null) {
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Discards the snapshots for all domains.
+     */
+    public void invalidateAll() {
+        snapshots.keySet().forEach(this::invalidate);
+    }
+
+    public Map<String, Object> getStatistics() {
+        long hits = hitCount.get();
+        long loads = loadCount.get();
+
+        Map<String, Object> stalenessMs = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        snapshots.forEach((domain, snapshot) -> stalenessMs.put(domain, now - snapshot.loaded()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ttlMs", ttlMs);
+        stats.put("domains", snapshots.size());
+        stats.put("hitCount", hits);
+        stats.put("loadCount", loads);
+        stats.put("hitRate", hits + loads == 0 ? 0.0 : (double) hits / (hits + loads));
+        stats.put("loadFailureCount", loadFailureCount.get());
+        stats.put("invalidationCount", invalidationCount.get());
+        stats.put("stalenessMs", stalenessMs);
+        return stats;
+    }
+}
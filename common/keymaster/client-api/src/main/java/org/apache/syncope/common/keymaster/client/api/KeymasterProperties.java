@@ -35,6 +35,8 @@ public class KeymasterProperties {
 
     private boolean enableAutoRegistration = true;
 
+    private long confParamCacheTtlMs = 30000;
+
     public String getAddress() {
         return address;
     }
@@ -82,4 +84,12 @@ public class KeymasterProperties {
     public void setEnableAutoRegistration(final boolean enableAutoRegistration) {
         this.enableAutoRegistration = enableAutoRegistration;
     }
+
+    public long getConfParamCacheTtlMs() {
+        return confParamCacheTtlMs;
+    }
+
+    public void setConfParamCacheTtlMs(final long confParamCacheTtlMs) {
+        this.confParamCacheTtlMs = confParamCacheTtlMs;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CachingConfParamOpsTest {
+
+    private static final String DOMAIN = "Master";
+
+    @Mock
+    private ConfParamOps delegate;
+
+    @Test
+    public void readFromSnapshot() {
+        when(delegate.list(DOMAIN)).thenReturn(Map.of("password.cipher.algorithm", "SHA1", "token.length", 256));
+
+        CachingConfParamOps ops = new CachingConfParamOps(delegate, 60000);
+
+        assertEquals("SHA1", ops.get(DOMAIN, "password.cipher.algorithm", null, String.class));
+        assertEquals(256L, ops.get(DOMAIN, "token.length", null, Long.class));
+        assertEquals("default", ops.get(DOMAIN, "notfound", "default", String.class));
+        assertEquals(2, ops.list(DOMAIN).size());
+
+        verify(delegate, times(1)).list(DOMAIN);
+        assertEquals(1L, ops.getStatistics().get("loadCount"));
+        assertEquals(3L, ops.getStatistics().get("hitCount"));
+    }
+
+    @Test
+    public void reloadAfterChange() {
+        when(delegate.list(DOMAIN)).thenReturn(Map.of("token.length", 256)).thenReturn(Map.of("token.length", 512));
+
+        CachingConfParamOps ops = new CachingConfParamOps(delegate, 60000);
+
+        assertEquals(256L, ops.get(DOMAIN, "token.length", null, Long.class));
+
+        ops.set(DOMAIN, "token.length", 512);
+        verify(delegate).set(DOMAIN, "token.length", 512);
+
+        assertEquals(512L, ops.get(DOMAIN, "token.length", null, Long.class));
+        verify(delegate, times(2)).list(DOMAIN);
+        assertEquals(1L, ops.getStatistics().get("invalidationCount"));
+    }
+
+    @Test
+    public void readDirectlyOnLoadFailure() {
+        when(delegate.list(anyString())).thenThrow(new KeymasterException("unavailable"));
+        when(delegate.get(DOMAIN, "token.length", 0L, Long.class)).thenReturn(256L);
+
+        CachingConfParamOps ops = new CachingConfParamOps(delegate, 60000);
+
+        assertEquals(256L, ops.get(DOMAIN, "token.length", 0L, Long.class));
+        assertEquals(1L, ops.getStatistics().get("loadFailureCount"));
+    }
+
+    @Test
+    public void invalidateWhileLoading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(delegate.list(DOMAIN)).thenAnswer(ic -> {
+            if (loads.incrementAndGet() == 1) {
+                loading.countDown();
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+                return Map.of("token.length", 256);
+            }
+            return Map.of("token.length", 512);
+        });
+
+        CachingConfParamOps ops = new CachingConfParamOps(delegate, 60000);
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(
+                () -> ops.get(DOMAIN, "token.length", null, Long.class));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+        // the Keymaster is reached without holding any lock on snapshots, so invalidation does not wait for it
+        CompletableFuture.runAsync(() -> ops.invalidate(DOMAIN)).get(5, TimeUnit.SECONDS);
+
+        release.countDown();
+        assertEquals(256L, first.get(10, TimeUnit.SECONDS));
+
+        // the snapshot loaded before invalidation was not kept
+        assertEquals(512L, ops.get(DOMAIN, "token.length", null, Long.class));
+        assertEquals(2, loads.get());
+    }
+}
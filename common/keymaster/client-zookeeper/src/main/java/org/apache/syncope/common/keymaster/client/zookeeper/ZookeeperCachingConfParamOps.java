@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.zookeeper;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * {@link CachingConfParamOps} watching the conf params' nodes, so that each domain's snapshot is discarded as soon
+ * as any of its conf params is changed, by any Syncope instance.
+ */
+public class ZookeeperCachingConfParamOps extends CachingConfParamOps implements InitializingBean, DisposableBean {
+
+    protected final CuratorFramework client;
+
+    protected CuratorCache cache;
+
+    public ZookeeperCachingConfParamOps(final CuratorFramework client, final ConfParamOps delegate, final long ttlMs) {
+        super(delegate, ttlMs);
+        this.client = client;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (client.checkExists().forPath(ZookeeperConfParamOps.CONF_PATH) == null) {
+            client.create().creatingParentContainersIfNeeded().forPath(ZookeeperConfParamOps.CONF_PATH);
+        }
+
+        cache = CuratorCache.build(client, ZookeeperConfParamOps.CONF_PATH);
+        cache.listenable().addListener(CuratorCacheListener.builder().
+                forAll((type, oldData, newData) -> {
+                    String path = newData == null ? oldData.getPath() : newData.getPath();
+                    String domain = StringUtils.substringBefore(
+                            StringUtils.substringAfter(path, ZookeeperConfParamOps.CONF_PATH + '/'), "/");
+                    if (StringUtils.isNotBlank(domain)) {
+                        LOG.debug("Conf params changed for domain {}: {} {}", domain, type, path);
+                        invalidate(domain);
+                    }
+                }).
+                afterInitialized().
+                build());
+        cache.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (cache != null) {
+            cache.close();
+            cache = null;
+        }
+    }
+}
@@ -111,8 +111,11 @@ public class ZookeeperKeymasterClientContext {
 
     @Conditional(ZookeeperCondition.class)
     @Bean
-    public ConfParamOps selfConfParamOps(final CuratorFramework client) {
-        return new ZookeeperConfParamOps(client);
+    public ConfParamOps selfConfParamOps(final CuratorFramework client, final KeymasterProperties props) {
+        ConfParamOps confParamOps = new ZookeeperConfParamOps(client);
+        return props.getConfParamCacheTtlMs() > 0
+                ? new ZookeeperCachingConfParamOps(client, confParamOps, props.getConfParamCacheTtlMs())
+                : confParamOps;
     }
 
     @Conditional(ZookeeperCondition.class)
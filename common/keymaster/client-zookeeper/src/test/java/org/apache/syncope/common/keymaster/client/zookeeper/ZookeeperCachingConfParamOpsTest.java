@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.zookeeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.retry.RetryOneTime;
+import org.apache.curator.test.TestingServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ZookeeperCachingConfParamOpsTest {
+
+    private static final String DOMAIN = "Master";
+
+    private static final String KEY = "token.length";
+
+    private TestingServer server;
+
+    private CuratorFramework client;
+
+    private ZookeeperConfParamOps delegate;
+
+    private ZookeeperCachingConfParamOps ops;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new TestingServer();
+        client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(100));
+        client.start();
+
+        delegate = new ZookeeperConfParamOps(client);
+        ops = new ZookeeperCachingConfParamOps(client, delegate, 60000);
+        ops.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        ops.destroy();
+        client.close();
+        server.close();
+    }
+
+    /**
+     * Changes the conf param as another Syncope instance would, until the change is observed: the watcher might still
+     * be initializing when first changed.
+     */
+    private long changeAndWait(final long value) throws InterruptedException {
+        Long read = null;
+        for (int i = 0; i < 50 && (read == null || read != value); i++) {
+            delegate.set(DOMAIN, KEY, value);
+            Thread.sleep(200);
+            read = ops.get(DOMAIN, KEY, null, Long.class);
+        }
+        return read;
+    }
+
+    @Test
+    public void invalidateOnChange() throws Exception {
+        delegate.set(DOMAIN, KEY, 256L);
+        assertEquals(256L, ops.get(DOMAIN, KEY, null, Long.class));
+
+        assertEquals(512L, changeAndWait(512L));
+    }
+
+    @Test
+    public void destroy() throws Exception {
+        assertEquals(512L, changeAndWait(512L));
+        assertNotNull(ops.cache);
+
+        ops.destroy();
+        assertNull(ops.cache);
+
+        // no more watching once destroyed, so the snapshot is still served
+        delegate.set(DOMAIN, KEY, 1024L);
+        Thread.sleep(1000);
+        assertEquals(512L, ops.get(DOMAIN, KEY, null, Long.class));
+
+        // destroying twice is harmless
+        ops.destroy();
+    }
+}
@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -46,6 +47,7 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdMEntitlement;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
 import org.apache.syncope.common.rest.api.beans.AbstractCSVSpec;
 import org.apache.syncope.common.rest.api.beans.CSVPullSpec;
 import org.apache.syncope.common.rest.api.beans.CSVPushSpec;
@@ -68,6 +70,8 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
@@ -608,14 +612,37 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         if (spec.getIgnorePaging()) {
             matching = new ArrayList<>();
 
-            long count = anySearchDAO.count(base, true, adminRealms, effectiveCond, anyType.getKind());
-            long pages = (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            for (int page = 0; page < pages; page++) {
-                matching.addAll(anySearchDAO.search(
-                        base, true, adminRealms, effectiveCond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, pageable.getSort()),
-                        anyType.getKind()));
+            if (pageable.getSort().isSorted()) {
+                // explicit ordering requested: cannot seek by key
+                long count = anySearchDAO.count(base, true, adminRealms, effectiveCond, anyType.getKind());
+                long pages = (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+
+                for (int page = 0; page < pages; page++) {
+                    matching.addAll(anySearchDAO.search(
+                            base, true, adminRealms, effectiveCond,
+                            PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, pageable.getSort()),
+                            anyType.getKind()));
+                }
+            } else {
+                List<Any> page;
+                String lastKey = null;
+                do {
+                    page = anySearchDAO.seek(
+                            base, true, adminRealms, effectiveCond,
+                            lastKey, AnyDAO.DEFAULT_PAGE_SIZE,
+                            anyType.getKind());
+                    matching.addAll(page);
+
+                    lastKey = page.isEmpty() ? null : page.getLast().getKey();
+                } while (page.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+
+                // seek walks by key: restore the default ordering by username / name
+                matching.sort(Comparator.comparing(any -> switch (any) {
+                    case User user -> user.getUsername();
+                    case Group group -> group.getName();
+                    case AnyObject anyObject -> anyObject.getName();
+                    default -> any.getKey();
+                }));
             }
         } else {
             matching = anySearchDAO.search(base, true, adminRealms, effectiveCond, pageable, anyType.getKind());
@@ -687,6 +714,11 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         pullTask.setMatchingRule(spec.getMatchingRule());
         pullTask.setUnmatchingRule(spec.getUnmatchingRule());
         pullTask.getActions().addAll(spec.getProvisioningActions());
+        if (spec.getConcurrency() > 1) {
+            ThreadPoolSettings concurrentSettings = new ThreadPoolSettings();
+            concurrentSettings.setPoolSize(spec.getConcurrency());
+            pullTask.setConcurrentSettings(concurrentSettings);
+        }
 
         try (CSVStreamConnector connector = new CSVStreamConnector(
                 spec.getKeyColumn(),
@@ -700,6 +732,8 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
                 throw new NotFoundException("Key column '" + spec.getKeyColumn() + "'");
             }
 
+            connector.setOffset(spec.getOffset());
+
             SyncopeStreamPullExecutor executor =
                     ApplicationContextProvider.getBeanFactory().createBean(StreamPullJobDelegate.class);
             return executor.pull(anyType,
@@ -709,6 +743,8 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
                     spec.getInboundCorrelationRule(),
                     connector,
                     pullTask,
+                    spec.getChunkSize(),
+                    spec.getOffset(),
                     AuthContextUtils.getWho());
         } catch (NotFoundException e) {
             throw e;
@@ -39,6 +39,7 @@ import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.data.domain.Page;
@@ -222,6 +223,14 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             boolean recursive,
             boolean details);
 
+    public abstract Page<TO> search(
+            SearchCond searchCond,
+            Pageable pageable,
+            String realm,
+            boolean recursive,
+            boolean details,
+            AnyProjection projection);
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
@@ -32,9 +32,12 @@ import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -49,16 +52,20 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
 
     protected final AccessTokenDAO accessTokenDAO;
 
+    protected final ApplicationEventPublisher publisher;
+
     public AccessTokenLogic(
             final SecurityProperties securityProperties,
             final EncryptorManager encryptorManager,
             final AccessTokenDataBinder binder,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final ApplicationEventPublisher publisher) {
 
         this.securityProperties = securityProperties;
         this.encryptorManager = encryptorManager;
         this.binder = binder;
         this.accessTokenDAO = accessTokenDAO;
+        this.publisher = publisher;
     }
 
     protected byte[] getAuthorities() {
@@ -112,7 +119,12 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ACCESS_TOKEN_DELETE + "')")
     public void delete(final String key) {
-        accessTokenDAO.deleteById(key);
+        accessTokenDAO.findById(key).ifPresent(accessToken -> {
+            accessTokenDAO.deleteById(key);
+
+            publisher.publishEvent(new EntityLifecycleEvent<>(
+                    this, SyncDeltaType.DELETE, accessToken, AuthContextUtils.getDomain()));
+        });
     }
 
     @Override
@@ -54,6 +54,7 @@ import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Page;
@@ -113,6 +114,19 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
             final boolean recursive,
             final boolean details) {
 
+        return search(searchCond, pageable, realm, recursive, details, AnyProjection.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyObjectTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final AnyProjection projection) {
+
         if (searchCond.hasAnyTypeCond() == null) {
             throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
         }
@@ -128,9 +142,7 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
 
         List<AnyObject> matching = searchDAO.search(
                 base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
-        List<AnyObjectTO> result = matching.stream().
-                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
-                toList();
+        List<AnyObjectTO> result = binder.getAnyObjectTOs(matching, details, projection);
 
         return new SyncopePage<>(result, pageable, count);
     }
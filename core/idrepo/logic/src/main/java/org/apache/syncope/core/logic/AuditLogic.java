@@ -48,7 +48,10 @@ import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.data.AuditDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -56,7 +59,9 @@ import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ClassUtils;
@@ -66,6 +71,8 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
 
     protected static final List<OpEvent> EVENTS = new ArrayList<>();
 
+    protected static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("when"), Sort.Order.desc("id"));
+
     protected static void addForOutcomes(
             final Set<OpEvent> events,
             final OpEvent.CategoryType type,
@@ -91,6 +98,8 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
 
     protected final AuditManager auditManager;
 
+    protected final ApplicationEventPublisher publisher;
+
     public AuditLogic(
             final AuditConfDAO auditConfDAO,
             final AuditEventDAO auditEventDAO,
@@ -98,7 +107,8 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
             final EntityFactory entityFactory,
             final ImplementationLookup implementationLookup,
             final AuditDataBinder binder,
-            final AuditManager auditManager) {
+            final AuditManager auditManager,
+            final ApplicationEventPublisher publisher) {
 
         this.auditConfDAO = auditConfDAO;
         this.auditEventDAO = auditEventDAO;
@@ -107,6 +117,7 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         this.implementationLookup = implementationLookup;
         this.binder = binder;
         this.auditManager = auditManager;
+        this.publisher = publisher;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_LIST + "')")
@@ -125,12 +136,16 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_SET + "')")
     public void setConf(final AuditConfTO auditTO) {
         AuditConf audit = auditConfDAO.findById(auditTO.getKey()).orElse(null);
+        SyncDeltaType type = SyncDeltaType.UPDATE;
         if (audit == null) {
             audit = entityFactory.newEntity(AuditConf.class);
             audit.setKey(auditTO.getKey());
+            type = SyncDeltaType.CREATE;
         }
         audit.setActive(auditTO.isActive());
-        auditConfDAO.save(audit);
+        audit = auditConfDAO.save(audit);
+
+        publisher.publishEvent(new EntityLifecycleEvent<>(this, type, audit, AuthContextUtils.getDomain()));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_DELETE + "')")
@@ -138,6 +153,9 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         AuditConf audit = auditConfDAO.findById(key).
                 orElseThrow(() -> new NotFoundException("AuditConf " + key));
         auditConfDAO.delete(audit);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, audit, AuthContextUtils.getDomain()));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_LIST + "') "
@@ -282,14 +300,29 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
             final OpEvent.Outcome result,
             final OffsetDateTime before,
             final OffsetDateTime after,
+            final String lastKey,
             final Pageable pageable) {
 
-        long count = auditEventDAO.count(entityKey, type, category, subcategory, op, result, before, after);
+        if (lastKey == null) {
+            long count = auditEventDAO.count(entityKey, type, category, subcategory, op, result, before, after);
+
+            List<AuditEventTO> matching = auditEventDAO.search(
+                    entityKey, type, category, subcategory, op, result, before, after, pageable);
+
+            return new SyncopePage<>(matching, pageable, count);
+        }
+
+        if (pageable.getSort().isSorted() && !KEYSET_SORT.equals(pageable.getSort())) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidRequest);
+            sce.getElements().add("orderby can only be 'when DESC,id DESC' when lastKey is provided");
+            throw sce;
+        }
 
-        List<AuditEventTO> matching = auditEventDAO.search(
-                entityKey, type, category, subcategory, op, result, before, after, pageable);
+        // keyset pages are not counted, as this would mean scanning all matching events for each page
+        List<AuditEventTO> matching = auditEventDAO.searchAfter(
+                entityKey, type, category, subcategory, op, result, before, after, lastKey, pageable.getPageSize());
 
-        return new SyncopePage<>(matching, pageable, count);
+        return new SyncopePage<>(matching, PageRequest.of(0, pageable.getPageSize(), KEYSET_SORT), matching.size());
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -61,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
@@ -167,6 +168,20 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final boolean recursive,
             final boolean details) {
 
+        return search(searchCond, pageable, realm, recursive, details, AnyProjection.ALL);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<GroupTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final AnyProjection projection) {
+
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
 
@@ -179,9 +194,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         List<Group> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
-        List<GroupTO> result = matching.stream().
-                map(group -> binder.getGroupTO(group, details)).
-                toList();
+        List<GroupTO> result = binder.getGroupTOs(matching, details, projection);
 
         return new SyncopePage<>(result, pageable, count);
     }
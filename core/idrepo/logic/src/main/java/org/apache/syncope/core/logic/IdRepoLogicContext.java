@@ -148,9 +148,10 @@ public class IdRepoLogicContext {
             final AccessTokenDataBinder binder,
             final AccessTokenDAO accessTokenDAO,
             final SecurityProperties securityProperties,
-            final EncryptorManager encryptorManager) {
+            final EncryptorManager encryptorManager,
+            final ApplicationEventPublisher publisher) {
 
-        return new AccessTokenLogic(securityProperties, encryptorManager, binder, accessTokenDAO);
+        return new AccessTokenLogic(securityProperties, encryptorManager, binder, accessTokenDAO, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -203,7 +204,8 @@ public class IdRepoLogicContext {
             final EntityFactory entityFactory,
             final ImplementationLookup implementationLookup,
             final AuditDataBinder binder,
-            final AuditManager auditManager) {
+            final AuditManager auditManager,
+            final ApplicationEventPublisher publisher) {
 
         return new AuditLogic(
                 auditConfDAO,
@@ -212,7 +214,8 @@ public class IdRepoLogicContext {
                 entityFactory,
                 implementationLookup,
                 binder,
-                auditManager);
+                auditManager,
+                publisher);
     }
 
     @ConditionalOnMissingBean
@@ -299,7 +302,8 @@ public class IdRepoLogicContext {
             final TaskDAO taskDAO,
             final ExternalResourceDAO resourceDAO,
             final ImplementationDAO implementationDAO,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final ApplicationEventPublisher publisher) {
 
         return new ImplementationLogic(
                 binder,
@@ -310,7 +314,8 @@ public class IdRepoLogicContext {
                 taskDAO,
                 realmDAO,
                 plainSchemaDAO,
-                notificationDAO);
+                notificationDAO,
+                publisher);
     }
 
     @ConditionalOnMissingBean
@@ -330,9 +335,10 @@ public class IdRepoLogicContext {
             final JobManager jobManager,
             final JobStatusDAO jobStatusDAO,
             final SyncopeTaskScheduler scheduler,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final ApplicationEventPublisher publisher) {
 
-        return new NotificationLogic(jobManager, scheduler, jobStatusDAO, notificationDAO, binder);
+        return new NotificationLogic(jobManager, scheduler, jobStatusDAO, notificationDAO, binder, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -419,9 +425,10 @@ public class IdRepoLogicContext {
             final DerSchemaDAO derSchemaDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final ImplementationDAO implementationDAO,
-            final SchemaDataBinder binder) {
+            final SchemaDataBinder binder,
+            final ApplicationEventPublisher publisher) {
 
-        return new SchemaLogic(plainSchemaDAO, derSchemaDAO, anyTypeClassDAO, implementationDAO, binder);
+        return new SchemaLogic(plainSchemaDAO, derSchemaDAO, anyTypeClassDAO, implementationDAO, binder, publisher);
     }
 
     @ConditionalOnMissingBean
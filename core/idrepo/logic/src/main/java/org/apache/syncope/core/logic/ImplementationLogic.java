@@ -41,6 +41,10 @@ import org.apache.syncope.core.persistence.api.dao.ReportDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.provisioning.api.data.ImplementationDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -64,6 +68,8 @@ public class ImplementationLogic extends AbstractTransactionalLogic<Implementati
 
     protected final NotificationDAO notificationDAO;
 
+    protected final ApplicationEventPublisher publisher;
+
     public ImplementationLogic(
             final ImplementationDataBinder binder,
             final ImplementationDAO implementationDAO,
@@ -73,7 +79,8 @@ public class ImplementationLogic extends AbstractTransactionalLogic<Implementati
             final TaskDAO taskDAO,
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final ApplicationEventPublisher publisher) {
 
         this.binder = binder;
         this.implementationDAO = implementationDAO;
@@ -84,6 +91,7 @@ public class ImplementationLogic extends AbstractTransactionalLogic<Implementati
         this.realmDAO = realmDAO;
         this.plainSchemaDAO = plainSchemaDAO;
         this.notificationDAO = notificationDAO;
+        this.publisher = publisher;
     }
 
     protected void checkType(final String type) {
@@ -147,6 +155,9 @@ public class ImplementationLogic extends AbstractTransactionalLogic<Implementati
         binder.update(implementation, implementationTO);
         implementation = implementationDAO.save(implementation);
 
+        publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, implementation, AuthContextUtils.getDomain()));
+
         return binder.getImplementationTO(implementation);
     }
 
@@ -237,6 +248,9 @@ public class ImplementationLogic extends AbstractTransactionalLogic<Implementati
         }
 
         implementationDAO.deleteById(key);
+
+        publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.DELETE, implementation, AuthContextUtils.getDomain()));
     }
 
     @Override
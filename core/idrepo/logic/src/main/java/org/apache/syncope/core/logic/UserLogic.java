@@ -73,6 +73,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
 import org.apache.syncope.core.provisioning.api.rules.RuleProvider;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
@@ -177,6 +178,20 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
             final boolean recursive,
             final boolean details) {
 
+        return search(searchCond, pageable, realm, recursive, details, AnyProjection.ALL);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<UserTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final AnyProjection projection) {
+
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
 
@@ -189,9 +204,7 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
 
         List<User> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER);
-        List<UserTO> result = matching.stream().
-                map(user -> binder.getUserTO(user, details)).
-                toList();
+        List<UserTO> result = binder.getUserTOs(matching, details, projection);
 
         return new SyncopePage<>(result, pageable, count);
     }
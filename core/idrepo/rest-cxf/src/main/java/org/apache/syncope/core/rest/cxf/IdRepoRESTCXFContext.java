@@ -466,9 +466,11 @@ public class IdRepoRESTCXFContext {
             @Qualifier("batchExecutor")
             final AsyncTaskExecutor batchExecutor,
             final BatchDAO batchDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final RESTProperties props) {
 
-        return new SyncopeServiceImpl(syncopeLogic, batchExecutor, bus, batchDAO, entityFactory);
+        return new SyncopeServiceImpl(
+                syncopeLogic, batchExecutor, bus, batchDAO, entityFactory, props.getBatchMaxParallelism());
     }
 
     @ConditionalOnMissingBean
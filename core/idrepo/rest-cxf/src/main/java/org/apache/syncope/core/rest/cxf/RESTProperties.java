@@ -28,7 +28,21 @@ public class RESTProperties {
     @NestedConfigurationProperty
     private final ExecutorProperties batchExecutor = new ExecutorProperties();
 
+    /**
+     * Upper bound for the number of batch items processed concurrently, when requested via
+     * {@link org.apache.syncope.common.rest.api.RESTHeaders#BATCH_PARALLELISM}.
+     */
+    private int batchMaxParallelism = 8;
+
     public ExecutorProperties getBatchExecutor() {
         return batchExecutor;
     }
+
+    public int getBatchMaxParallelism() {
+        return batchMaxParallelism;
+    }
+
+    public void setBatchMaxParallelism(final int batchMaxParallelism) {
+        this.batchMaxParallelism = batchMaxParallelism;
+    }
 }
@@ -21,9 +21,18 @@ package org.apache.syncope.core.rest.cxf.batch;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.HttpMethod;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.transport.http.AbstractHTTPDestination;
 import org.apache.cxf.transport.http.DestinationRegistry;
 import org.apache.syncope.common.rest.api.batch.BatchPayloadGenerator;
@@ -41,6 +50,34 @@ public class BatchProcess implements Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(BatchProcess.class);
 
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    /**
+     * Progress to be stored.
+     *
+     * @param payload results payload, only available once all items were processed
+     * @param processedItems number of items processed
+     */
+    protected record Progress(String payload, int processedItems) {
+
+    }
+
+    /**
+     * Items targeting a given entity are chained by resource type and entity key - the first two path segments - so
+     * that, for example, updating a user and then changing its status keep their relative ordering; other items
+     * except {@code POST} are chained by request URI.
+     *
+     * @param reqItem request item
+     * @return chain key, or null if the given item can be run independently
+     */
+    protected static String chainKey(final BatchRequestItem reqItem) {
+        String[] segments = StringUtils.split(reqItem.getRequestURI(), '/');
+        if (segments.length >= 2) {
+            return segments[0] + '/' + segments[1];
+        }
+        return HttpMethod.POST.equals(reqItem.getMethod()) ? null : reqItem.getRequestURI();
+    }
+
     @Autowired
     private BatchDAO batchDAO;
 
@@ -72,6 +109,20 @@ public class BatchProcess implements Runnable {
 
     private Authentication authentication;
 
+    private int parallelism = 1;
+
+    private final StringBuilder results = new StringBuilder();
+
+    private BatchResponseItem[] pending;
+
+    private int written;
+
+    private long lastFlush;
+
+    private final Object flushLock = new Object();
+
+    private int flushed;
+
     public void setBoundary(final String boundary) {
         this.boundary = boundary;
     }
@@ -128,60 +179,164 @@ public class BatchProcess implements Runnable {
         this.authentication = authentication;
     }
 
-    @Override
-    public void run() {
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
 
-        List<BatchResponseItem> batchResponseItems = new ArrayList<>(batchRequestItems.size());
+    protected BatchResponseItem process(final BatchRequestItem reqItem) {
+        LOG.debug("Batch Request item:\n{}", reqItem);
+
+        AbstractHTTPDestination dest = destinationRegistry.getDestinationForPath(reqItem.getRequestURI(), true);
+        if (dest == null) {
+            dest = destinationRegistry.checkRestfulRequest(reqItem.getRequestURI());
+        }
+        LOG.debug("Destination found for {}: {}", reqItem.getRequestURI(), dest);
+
+        BatchResponseItem resItem = new BatchResponseItem();
+        if (dest == null) {
+            resItem.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        } else {
+            BatchItemRequest request = new BatchItemRequest(
+                    scheme, serverName, serverPort, contextPath, servletPath, pathInfo, characterEncoding,
+                    baseURI, servletRequest, reqItem);
+            BatchItemResponse response = new BatchItemResponse();
+            try {
+                dest.invoke(servletConfig, servletConfig.getServletContext(), request, response);
+
+                resItem.setStatus(response.getStatus());
+                resItem.setHeaders(response.getHeaders());
+                String output = new String(response.getUnderlyingOutputStream().toByteArray());
+                if (!output.isEmpty()) {
+                    resItem.setContent(output);
+                }
 
-        batchRequestItems.forEach(reqItem -> {
-            LOG.debug("Batch Request item:\n{}", reqItem);
+                LOG.debug("Returned:\nstatus: {}\nheaders: {}\nbody:\n{}",
+                        response.getStatus(), response.getHeaders(), output);
+            } catch (IOException e) {
+                LOG.error("Invocation of {} failed", dest.getPath(), e);
 
-            AbstractHTTPDestination dest = destinationRegistry.getDestinationForPath(reqItem.getRequestURI(), true);
-            if (dest == null) {
-                dest = destinationRegistry.checkRestfulRequest(reqItem.getRequestURI());
+                resItem.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             }
-            LOG.debug("Destination found for {}: {}", reqItem.getRequestURI(), dest);
-
-            BatchResponseItem resItem = new BatchResponseItem();
-            batchResponseItems.add(resItem);
-            if (dest == null) {
-                resItem.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            } else {
-                BatchItemRequest request = new BatchItemRequest(
-                        scheme, serverName, serverPort, contextPath, servletPath, pathInfo, characterEncoding,
-                        baseURI, servletRequest, reqItem);
-                BatchItemResponse response = new BatchItemResponse();
-                try {
-                    dest.invoke(servletConfig, servletConfig.getServletContext(), request, response);
-
-                    resItem.setStatus(response.getStatus());
-                    resItem.setHeaders(response.getHeaders());
-                    String output = new String(response.getUnderlyingOutputStream().toByteArray());
-                    if (!output.isEmpty()) {
-                        resItem.setContent(output);
-                    }
+        }
+
+        LOG.debug("Batch Response item:\n{}", resItem);
+        return resItem;
+    }
 
-                    LOG.debug("Returned:\nstatus: {}\nheaders: {}\nbody:\n{}",
-                            response.getStatus(), response.getHeaders(), output);
-                } catch (IOException e) {
-                    LOG.error("Invocation of {} failed", dest.getPath(), e);
+    /**
+     * Stores the given progress, unless a more recent one was already stored by a concurrent item; results are
+     * only written once, at the end, rather than rewritten at each step.
+     *
+     * @param progress progress to store
+     */
+    protected void flush(final Progress progress) {
+        synchronized (flushLock) {
+            if (progress.processedItems() < flushed) {
+                return;
+            }
+            flushed = progress.processedItems();
+
+            batchDAO.findById(boundary).ifPresentOrElse(
+                    batch -> {
+                        if (progress.payload() != null) {
+                            batch.setResults(progress.payload());
+                        }
+                        batch.setProcessedItems(progress.processedItems());
+                        batchDAO.save(batch);
+                    },
+                    () -> LOG.error("Could not find batch {}, cannot save results hence reporting here:\n{}",
+                            boundary, progress.payload()));
+        }
+    }
+
+    /**
+     * Records the response for the given item; responses are appended to results in the same order as requests.
+     *
+     * @param index request item index
+     * @param resItem response item
+     * @return progress to store, when due, so that it is visible while processing
+     */
+    protected synchronized Optional<Progress> collect(final int index, final BatchResponseItem resItem) {
+        pending[index] = resItem;
+        while (written < pending.length && pending[written] != null) {
+            results.append(BatchPayloadGenerator.generate(pending[written], JAXRSService.DOUBLE_DASH + boundary));
+            pending[written] = null;
+            written++;
+        }
+
+        if (written < pending.length && System.currentTimeMillis() - lastFlush >= FLUSH_INTERVAL_MILLIS) {
+            lastFlush = System.currentTimeMillis();
+            return Optional.of(new Progress(null, written));
+        }
+        return Optional.empty();
+    }
+
+    protected void completed(final int index, final BatchResponseItem resItem) {
+        // progress is stored out of the lock, not to hold back other items while writing
+        collect(index, resItem).ifPresent(this::flush);
+    }
 
-                    resItem.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    protected void runParallel() {
+        Semaphore permits = new Semaphore(parallelism);
+
+        // items touching the same entity are chained, in order not to alter their relative ordering
+        Map<String, CompletableFuture<Void>> chains = new HashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batchRequestItems.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < batchRequestItems.size(); i++) {
+                int index = i;
+                BatchRequestItem reqItem = batchRequestItems.get(i);
+
+                Runnable task = () -> {
+                    permits.acquireUninterruptibly();
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    try {
+                        completed(index, process(reqItem));
+                    } catch (Exception e) {
+                        LOG.error("While processing batch item {}", reqItem, e);
+
+                        BatchResponseItem resItem = new BatchResponseItem();
+                        resItem.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        completed(index, resItem);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        permits.release();
+                    }
+                };
+
+                CompletableFuture<Void> future;
+                String chainKey = chainKey(reqItem);
+                if (chainKey == null) {
+                    future = CompletableFuture.runAsync(task, executor);
+                } else {
+                    future = chains.getOrDefault(chainKey, CompletableFuture.completedFuture(null)).
+                            thenRunAsync(task, executor);
+                    chains.put(chainKey, future);
                 }
+                futures.add(future);
             }
 
-            LOG.debug("Batch Response item:\n{}", resItem);
-        });
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    @Override
+    public void run() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        pending = new BatchResponseItem[batchRequestItems.size()];
+        lastFlush = System.currentTimeMillis();
 
-        String results = BatchPayloadGenerator.generate(batchResponseItems, JAXRSService.DOUBLE_DASH + boundary);
+        if (parallelism > 1) {
+            runParallel();
+        } else {
+            for (int i = 0; i < batchRequestItems.size(); i++) {
+                completed(i, process(batchRequestItems.get(i)));
+            }
+        }
 
-        batchDAO.findById(boundary).ifPresentOrElse(
-                batch -> {
-                    batch.setResults(results);
-                    batchDAO.save(batch);
-                },
-                () -> LOG.error("Could not find batch {}, cannot save results hence reporting here:\n{}",
-                        boundary, results));
+        results.append(BatchPayloadGenerator.generateEnd(JAXRSService.DOUBLE_DASH + boundary));
+        flush(new Progress(results.toString(), written));
     }
 }
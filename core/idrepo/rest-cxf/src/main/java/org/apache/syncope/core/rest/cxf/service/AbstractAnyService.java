@@ -55,8 +55,10 @@ import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.identityconnectors.common.CollectionUtil;
 import org.springframework.data.domain.Page;
 
 public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR extends AnyUR>
@@ -112,6 +114,16 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
         return getAnyLogic().read(findActualKey(getAnyDAO(), key));
     }
 
+    protected static AnyProjection projection(final AnyQuery anyQuery) {
+        List<String> fields = CollectionUtil.nullAsEmpty(anyQuery.getFields());
+        List<String> plainAttrs = CollectionUtil.nullAsEmpty(anyQuery.getPlainAttrs());
+        List<String> derAttrs = CollectionUtil.nullAsEmpty(anyQuery.getDerAttrs());
+
+        return fields.isEmpty() && plainAttrs.isEmpty() && derAttrs.isEmpty()
+                ? AnyProjection.ALL
+                : new AnyProjection(Set.copyOf(fields), Set.copyOf(plainAttrs), Set.copyOf(derAttrs));
+    }
+
     @Override
     public PagedResult<TO> search(final AnyQuery anyQuery) {
         String realm = Strings.CS.prependIfMissing(anyQuery.getRealm(), SyncopeConstants.ROOT_REALM);
@@ -124,7 +136,8 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                     pageable(anyQuery),
                     realm,
                     anyQuery.getRecursive(),
-                    anyQuery.getDetails());
+                    anyQuery.getDetails(),
+                    projection(anyQuery));
             return buildPagedResult(result);
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
@@ -77,6 +77,7 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 auditQuery.getOutcome(),
                 auditQuery.getBefore(),
                 auditQuery.getAfter(),
+                auditQuery.getLastKey(),
                 pageable(auditQuery));
 
         return buildPagedResult(result);
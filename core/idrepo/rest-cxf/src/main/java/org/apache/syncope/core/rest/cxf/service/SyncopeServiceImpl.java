@@ -29,6 +29,7 @@ import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.util.List;
 import org.apache.commons.lang3.Strings;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.cxf.Bus;
 import org.apache.cxf.transport.DestinationFactoryManager;
 import org.apache.cxf.transport.http.DestinationRegistry;
@@ -69,18 +70,22 @@ public class SyncopeServiceImpl extends AbstractService implements SyncopeServic
 
     protected final EntityFactory entityFactory;
 
+    protected final int batchMaxParallelism;
+
     public SyncopeServiceImpl(
             final SyncopeLogic logic,
             final AsyncTaskExecutor batchExecutor,
             final Bus bus,
             final BatchDAO batchDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final int batchMaxParallelism) {
 
         this.logic = logic;
         this.batchExecutor = batchExecutor;
         this.bus = bus;
         this.batchDAO = batchDAO;
         this.entityFactory = entityFactory;
+        this.batchMaxParallelism = batchMaxParallelism;
     }
 
     @Override
@@ -138,8 +143,14 @@ public class SyncopeServiceImpl extends AbstractService implements SyncopeServic
         Batch batch = entityFactory.newEntity(Batch.class);
         batch.setKey(boundary);
         batch.setExpiryTime(OffsetDateTime.now().plusMinutes(5));
+        batch.setTotalItems(batchRequestItems.size());
         batchDAO.save(batch);
 
+        int parallelism = Math.min(
+                Math.max(1, NumberUtils.toInt(
+                        messageContext.getHttpServletRequest().getHeader(RESTHeaders.BATCH_PARALLELISM), 1)),
+                Math.max(1, batchMaxParallelism));
+
         BatchProcess batchProcess = ApplicationContextProvider.getBeanFactory().createBean(BatchProcess.class);
         batchProcess.setBoundary(boundary);
         batchProcess.setScheme(messageContext.getHttpServletRequest().getScheme());
@@ -155,6 +166,7 @@ public class SyncopeServiceImpl extends AbstractService implements SyncopeServic
         batchProcess.setServletConfig(messageContext.getServletConfig());
         batchProcess.setServletRequest(messageContext.getHttpServletRequest());
         batchProcess.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        batchProcess.setParallelism(parallelism);
 
         // manage synchronous Vs asynchronous batch processing
         if (getPreference() == Preference.RESPOND_ASYNC) {
@@ -179,11 +191,13 @@ public class SyncopeServiceImpl extends AbstractService implements SyncopeServic
         Batch batch = batchDAO.findById(boundary).
                 orElseThrow(() -> new NotFoundException("Batch " + boundary));
 
-        if (batch.getResults() == null) {
+        // results are stored incrementally while processing, hence they are final only once all items are processed
+        if (batch.getResults() == null || batch.getProcessedItems() < batch.getTotalItems()) {
             return Response.accepted().
                     type(RESTHeaders.multipartMixedWith(boundary)).
                     header(HttpHeaders.RETRY_AFTER, 5).
                     header(HttpHeaders.LOCATION, uriInfo.getAbsolutePathBuilder().build()).
+                    header(RESTHeaders.BATCH_PROGRESS, batch.getProcessedItems() + "/" + batch.getTotalItems()).
                     build();
         }
 
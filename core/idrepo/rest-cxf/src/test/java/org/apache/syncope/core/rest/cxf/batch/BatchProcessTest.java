@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.batch.BatchPayloadParser;
+import org.apache.syncope.common.rest.api.batch.BatchRequestItem;
+import org.apache.syncope.common.rest.api.batch.BatchResponseItem;
+import org.junit.jupiter.api.Test;
+
+public class BatchProcessTest {
+
+    private static class TestBatchProcess extends BatchProcess {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<Progress> flushed = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected BatchResponseItem process(final BatchRequestItem reqItem) {
+            events.add("start " + reqItem.getMethod() + ' ' + reqItem.getRequestURI());
+            if (HttpMethod.PATCH.equals(reqItem.getMethod())) {
+                // give the following items on the same entity the chance to run too early, if not properly chained
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add("end " + reqItem.getMethod() + ' ' + reqItem.getRequestURI());
+
+            BatchResponseItem resItem = new BatchResponseItem();
+            resItem.setStatus(200);
+            resItem.getHeaders().put(HttpHeaders.CONTENT_TYPE, List.<Object>of(MediaType.TEXT_PLAIN));
+            resItem.setContent(reqItem.getMethod() + ' ' + reqItem.getRequestURI());
+            return resItem;
+        }
+
+        @Override
+        protected void flush(final Progress progress) {
+            flushed.add(progress);
+        }
+    }
+
+    private static BatchRequestItem item(final String method, final String requestURI) {
+        BatchRequestItem item = new BatchRequestItem();
+        item.setMethod(method);
+        item.setRequestURI(requestURI);
+        item.setContent("");
+        return item;
+    }
+
+    @Test
+    public void chainKey() {
+        assertEquals("users/1234", BatchProcess.chainKey(item(HttpMethod.PATCH, "/users/1234")));
+        assertEquals("users/1234", BatchProcess.chainKey(item(HttpMethod.POST, "/users/1234/status")));
+        assertEquals("/users", BatchProcess.chainKey(item(HttpMethod.GET, "/users")));
+        assertNull(BatchProcess.chainKey(item(HttpMethod.POST, "/users")));
+    }
+
+    @Test
+    public void parallelOrdering() throws Exception {
+        List<BatchRequestItem> items = List.of(
+                item(HttpMethod.PATCH, "/users/1234"),
+                item(HttpMethod.POST, "/users/1234/status"),
+                item(HttpMethod.POST, "/users"),
+                item(HttpMethod.DELETE, "/groups/5678"),
+                item(HttpMethod.DELETE, "/users/1234"));
+
+        String boundary = "--batch_" + UUID.randomUUID();
+
+        TestBatchProcess batchProcess = new TestBatchProcess();
+        batchProcess.setBoundary(boundary);
+        batchProcess.setBatchRequestItems(items);
+        batchProcess.setParallelism(4);
+        batchProcess.run();
+
+        List<String> events = List.copyOf(batchProcess.events);
+        assertEquals(10, events.size());
+
+        // items on the same user follow the request order
+        assertTrue(events.indexOf("end PATCH /users/1234") < events.indexOf("start POST /users/1234/status"));
+        assertTrue(events.indexOf("end POST /users/1234/status") < events.indexOf("start DELETE /users/1234"));
+
+        // other items do not wait for them
+        assertTrue(events.indexOf("start POST /users") < events.indexOf("end PATCH /users/1234"));
+        assertTrue(events.indexOf("start DELETE /groups/5678") < events.indexOf("end PATCH /users/1234"));
+
+        // results are reported in the request order anyway
+        BatchProcess.Progress last = batchProcess.flushed.getLast();
+        assertEquals(items.size(), last.processedItems());
+
+        List<BatchResponseItem> responses = BatchPayloadParser.parse(
+                new ByteArrayInputStream(last.payload().getBytes(StandardCharsets.UTF_8)),
+                MediaType.valueOf(RESTHeaders.multipartMixedWith(boundary)),
+                new BatchResponseItem());
+        assertEquals(
+                items.stream().map(item -> item.getMethod() + ' ' + item.getRequestURI()).toList(),
+                responses.stream().map(BatchResponseItem::getContent).map(String::trim).toList());
+    }
+
+    @Test
+    public void progressWithoutResults() {
+        // each PATCH takes 200 ms, hence progress is stored at least once while processing
+        List<BatchRequestItem> items = IntStream.range(0, 7).
+                mapToObj(i -> item(HttpMethod.PATCH, "/users/" + i)).toList();
+
+        TestBatchProcess batchProcess = new TestBatchProcess();
+        batchProcess.setBoundary("--batch_" + UUID.randomUUID());
+        batchProcess.setBatchRequestItems(items);
+        batchProcess.run();
+
+        List<BatchProcess.Progress> flushed = List.copyOf(batchProcess.flushed);
+        assertTrue(flushed.size() > 1);
+
+        flushed.subList(0, flushed.size() - 1).forEach(progress -> {
+            assertNull(progress.payload());
+            assertTrue(progress.processedItems() < items.size());
+        });
+
+        assertNotNull(flushed.getLast().payload());
+        assertEquals(items.size(), flushed.getLast().processedItems());
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
@@ -71,5 +72,13 @@ public interface AnyDAO<A extends Any> extends DAO<A> {
 
     List<String> findDynRealms(String key);
 
+    /**
+     * Bulk variant of {@link #findDynRealms(String)}, for assembling a whole page of results at once.
+     *
+     * @param keys any object, user or group keys
+     * @return dynamic realm keys, by any key; keys without dynamic realms are not reported
+     */
+    Map<String, List<String>> findDynRealms(Collection<String> keys);
+
     Collection<String> findAllResourceKeys(String key);
 }
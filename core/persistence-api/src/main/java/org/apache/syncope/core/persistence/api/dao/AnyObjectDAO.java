@@ -67,6 +67,8 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
 
     List<Group> findDynGroups(String key);
 
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     List<Relationship<Any, AnyObject>> findAllRelationships(AnyObject anyObject);
 
     Collection<Group> findAllGroups(AnyObject anyObject);
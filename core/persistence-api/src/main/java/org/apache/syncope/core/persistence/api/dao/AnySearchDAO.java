@@ -78,4 +78,27 @@ public interface AnySearchDAO {
             SearchCond searchCondition,
             Pageable pageable,
             AnyTypeKind kind);
+
+    /**
+     * Keyset (seek) pagination: differently from offset-based paging, the cost of each page does not depend on its
+     * depth, hence this is the preferred way to walk through all any objects matching a given search condition.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param lastKey key of the last any object returned by the previous invocation, null to start from the first
+     * @param size maximum number of any objects to return
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition and following lastKey, ordered by key
+     */
+    <T extends Any> List<T> seek(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            String lastKey,
+            int size,
+            AnyTypeKind kind);
 }
@@ -29,6 +29,10 @@ public interface AuditEventDAO {
 
     AuditEvent save(AuditEvent auditEvent);
 
+    default List<AuditEvent> saveAll(final List<AuditEvent> auditEvents) {
+        return auditEvents.stream().map(this::save).toList();
+    }
+
     long count(
             String entityKey,
             OpEvent.CategoryType type,
@@ -62,4 +66,43 @@ public interface AuditEventDAO {
             OffsetDateTime before,
             OffsetDateTime after,
             Pageable pageable);
+
+    /**
+     * Keyset variant of {@link #search}: returns up to {@code size} events following the one with given key, in
+     * descending time and key order, without having to skip all the preceding ones; no other ordering is supported.
+     *
+     * @param entityKey entity key to match
+     * @param type event category type to match
+     * @param category event category to match
+     * @param subcategory event subcategory to match
+     * @param op event op to match
+     * @param outcome event outcome to match
+     * @param before events must have occurred not later than this
+     * @param after events must have occurred not earlier than this
+     * @param lastKey key of the last event previously returned
+     * @param size maximum number of events to return
+     * @return matching events following the given one
+     */
+    List<AuditEventTO> searchAfter(
+            String entityKey,
+            OpEvent.CategoryType type,
+            String category,
+            String subcategory,
+            String op,
+            OpEvent.Outcome outcome,
+            OffsetDateTime before,
+            OffsetDateTime after,
+            String lastKey,
+            int size);
+
+    /**
+     * Indexes the entity keys referenced by up to {@code max} audit events stored before such indexing was
+     * available.
+     *
+     * @param max maximum number of audit events to index
+     * @return number of audit events indexed, 0 when there is nothing left
+     */
+    default int indexEntityKeys(final int max) {
+        return 0;
+    }
 }
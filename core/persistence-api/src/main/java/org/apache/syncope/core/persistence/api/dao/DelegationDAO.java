@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
@@ -35,5 +36,9 @@ public interface DelegationDAO extends DAO<Delegation> {
 
     List<Delegation> findByDelegated(User user);
 
+    List<Delegation> findByDelegatingIn(Collection<String> userKeys);
+
+    List<Delegation> findByDelegatedIn(Collection<String> userKeys);
+
     List<Delegation> findByRoles(Role role);
 }
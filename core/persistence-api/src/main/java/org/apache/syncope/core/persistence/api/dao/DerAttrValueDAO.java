@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Storage for the values of derived attributes whose schema is flagged as materialized: such values are computed
+ * when the owning any object is saved, and stored so that they can be looked up by value without evaluating the
+ * derived schema's expression.
+ */
+public interface DerAttrValueDAO {
+
+    /**
+     * Replaces the materialized derived attribute values of the given any object: values not found in the given
+     * map are removed.
+     *
+     * @param anyKey any object key
+     * @param values materialized derived attribute values, by derived schema key
+     * @return keys of the derived schemas whose values could not be stored, hence cannot be looked up
+     */
+    Set<String> replace(String anyKey, Map<String, String> values);
+
+    /**
+     * Same as {@link #replace(java.lang.String, java.util.Map)} for several any objects, committed on its own
+     * transaction.
+     *
+     * @param values materialized derived attribute values, by any object key and derived schema key
+     * @return keys of the derived schemas whose values could not be stored, hence cannot be looked up
+     */
+    Set<String> replaceAll(Map<String, Map<String, String>> values);
+
+    void deleteByAny(String anyKey);
+
+    void deleteBySchema(String schemaKey);
+
+    /**
+     * Finds the keys of the any objects whose materialized value for the given derived schema matches the given
+     * value.
+     *
+     * @param schemaKey derived schema key
+     * @param value value to match
+     * @param ignoreCase whether matching shall be case insensitive
+     * @return keys of matching any objects
+     */
+    List<String> findAnyKeys(String schemaKey, String value, boolean ignoreCase);
+}
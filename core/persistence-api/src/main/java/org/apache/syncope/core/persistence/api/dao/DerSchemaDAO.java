@@ -18,8 +18,10 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 
 public interface DerSchemaDAO extends SchemaDAO<DerSchema> {
 
+    List<? extends DerSchema> findByMaterializedTrue();
 }
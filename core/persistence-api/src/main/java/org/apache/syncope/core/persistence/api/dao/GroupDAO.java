@@ -79,6 +79,14 @@ public interface GroupDAO extends AnyDAO<Group> {
 
     long countUDynMembers(Group group);
 
+    Map<String, Long> countAMembers(Collection<String> groupKeys);
+
+    Map<String, Long> countUMembers(Collection<String> groupKeys);
+
+    Map<String, Long> countADynMembers(Collection<String> groupKeys);
+
+    Map<String, Long> countUDynMembers(Collection<String> groupKeys);
+
     void clearADynMembers(Group group);
 
     /**
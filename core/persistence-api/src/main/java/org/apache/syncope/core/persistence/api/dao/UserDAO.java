@@ -65,10 +65,14 @@ public interface UserDAO extends AnyDAO<User> {
 
     List<Role> findDynRoles(String key);
 
+    Map<String, List<Role>> findDynRoles(Collection<String> keys);
+
     Collection<Role> findAllRoles(User user);
 
     List<Group> findDynGroups(String key);
 
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     Collection<Group> findAllGroups(User user);
 
     Collection<String> findAllGroupKeys(User user);
@@ -81,6 +85,8 @@ public interface UserDAO extends AnyDAO<User> {
 
     Optional<? extends LinkedAccount> findLinkedAccount(ExternalResource resource, String connObjectKeyValue);
 
+    List<LinkedAccount> findLinkedAccounts(ExternalResource resource, Collection<String> connObjectKeyValues);
+
     List<LinkedAccount> findLinkedAccounts(String userKey);
 
     List<LinkedAccount> findLinkedAccountsByResource(ExternalResource resource);
@@ -29,4 +29,12 @@ public interface Batch extends ProvidedKeyEntity {
     String getResults();
 
     void setResults(String results);
+
+    int getTotalItems();
+
+    void setTotalItems(int totalItems);
+
+    int getProcessedItems();
+
+    void setProcessedItems(int processedItems);
 }
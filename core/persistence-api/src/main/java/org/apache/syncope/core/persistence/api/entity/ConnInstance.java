@@ -68,4 +68,12 @@ public interface ConnInstance extends Entity {
 
     Integer getConnRequestTimeout();
 
+    void setSearchPageSize(Integer searchPageSize);
+
+    Integer getSearchPageSize();
+
+    void setPipelinedSearch(boolean pipelinedSearch);
+
+    boolean isPipelinedSearch();
+
 }
@@ -23,4 +23,19 @@ public interface DerSchema extends Schema {
     String getExpression();
 
     void setExpression(String expression);
+
+    boolean isMaterialized();
+
+    void setMaterialized(boolean materialized);
+
+    /**
+     * Whether values are stored for all users, groups and any objects, as the {@code DerAttrValuesMaterializer} job
+     * completed after materialization was enabled or the expression was last changed; until then, stored values
+     * cannot be relied upon, as some might be missing or stale.
+     *
+     * @return whether stored values can be relied upon
+     */
+    boolean isFullyMaterialized();
+
+    void setFullyMaterialized(boolean fullyMaterialized);
 }
@@ -24,8 +24,9 @@ import jakarta.validation.constraints.Min;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
@@ -377,12 +378,30 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                 map(key -> key instanceof Object[] array ? (String) (array)[0] : ((String) key)).
                 toList();
 
-        // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual query results
-        List<Any> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
-                sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).toList();
+        // place anys according to keys' sorting, as their ordering is same as raw, e.g. the actual query results
+        Map<String, Integer> positions = new HashMap<>(keys.size() * 4 / 3 + 1);
+        for (int i = 0; i < keys.size(); i++) {
+            positions.putIfAbsent(keys.get(i), i);
+        }
+
+        Any[] sorted = new Any[keys.size()];
+        anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).forEach(any -> {
+            Integer position = positions.get(any.getKey());
+            if (position != null) {
+                sorted[position] = any;
+            }
+        });
 
-        keys.stream().filter(key -> anys.stream().noneMatch(any -> key.equals(any.getKey()))).
-                forEach(key -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key));
+        List<Any> anys = new ArrayList<>(sorted.length);
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] == null) {
+                if (positions.get(keys.get(i)) == i) {
+                    LOG.error("Could not find {} with id {}, even if returned by native query", kind, keys.get(i));
+                }
+            } else {
+                anys.add(sorted[i]);
+            }
+        }
 
         return (List<T>) anys;
     }
@@ -427,4 +446,33 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                 : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
                 kind);
     }
+
+    @Override
+    public <T extends Any> List<T> seek(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String lastKey,
+            final int size,
+            final AnyTypeKind kind) {
+
+        SearchCond effectiveCond = cond;
+        if (lastKey != null) {
+            AnyCond keyCond = new AnyCond(AttrCond.Type.GT);
+            keyCond.setSchema("key");
+            keyCond.setExpression(lastKey);
+
+            effectiveCond = SearchCond.and(cond, SearchCond.of(keyCond));
+        }
+
+        // always fetch the first page, as the starting point is given by lastKey
+        return search(
+                base,
+                recursive,
+                adminRealms,
+                effectiveCond,
+                PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")),
+                kind);
+    }
 }
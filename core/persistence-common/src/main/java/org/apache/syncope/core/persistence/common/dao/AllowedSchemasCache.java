@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
+import org.apache.syncope.core.persistence.api.entity.Groupable;
+import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Memoizes {@link AllowedSchemas} for the duration of the current transaction, as the same any - or anys with
+ * the same type, auxiliary classes and group memberships - are checked several times while being read or updated.
+ * Without an active transaction, nothing is memoized.
+ */
+public final class AllowedSchemasCache {
+
+    private record Key(String anyType, Set<String> auxClasses, Set<String> groups, Class<?> reference) {
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Key, AllowedSchemas<?>> current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<Key, AllowedSchemas<?>> memo =
+                (Map<Key, AllowedSchemas<?>>) TransactionSynchronizationManager.getResource(AllowedSchemasCache.class);
+        if (memo == null) {
+            Map<Key, AllowedSchemas<?>> newMemo = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(AllowedSchemasCache.class, newMemo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AllowedSchemasCache.class);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(AllowedSchemasCache.class, newMemo);
+                }
+
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AllowedSchemasCache.class);
+                }
+            });
+            memo = newMemo;
+        }
+        return memo;
+    }
+
+    private static Key key(final Any any, final Class<?> reference) {
+        return new Key(
+                any.getType().getKey(),
+                any.getAuxClasses().stream().map(AnyTypeClass::getKey).collect(Collectors.toSet()),
+                any instanceof Groupable<?, ?, ?, ?> groupable
+                ? groupable.getMemberships().stream().map(m -> m.getRightEnd().getKey()).collect(Collectors.toSet())
+                : Set.of(),
+                reference);
+    }
+
+    /**
+     * Returns the allowed schemas for the given any, computing them only if not already available for the current
+     * transaction.
+     *
+     * @param <S> schema type
+     * @param any any object
+     * @param reference schema class
+     * @param supplier actual computation
+     * @return allowed schemas
+     */
+    @SuppressWarnings("unchecked")
+    public static <S extends Schema> AllowedSchemas<S> get(
+            final Any any,
+            final Class<S> reference,
+            final Supplier<AllowedSchemas<S>> supplier) {
+
+        Map<Key, AllowedSchemas<?>> memo = current();
+        if (memo == null) {
+            return supplier.get();
+        }
+
+        Key key = key(any, reference);
+        AllowedSchemas<S> allowedSchemas = (AllowedSchemas<S>) memo.get(key);
+        if (allowedSchemas == null) {
+            allowedSchemas = supplier.get();
+            memo.put(key, allowedSchemas);
+        }
+        return allowedSchemas;
+    }
+
+    /**
+     * Discards what was memoized for the current transaction; to be invoked whenever any type, any type classes or
+     * group type extensions are changed.
+     */
+    public static void invalidate() {
+        if (TransactionSynchronizationManager.getResource(AllowedSchemasCache.class) instanceof Map<?, ?> memo) {
+            memo.clear();
+        }
+    }
+
+    private AllowedSchemasCache() {
+        // private constructor for static utility class
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+
+/**
+ * Keeps the {@link SearchCond} parsed from dynamic membership conditions, as the same FIQL expressions are evaluated
+ * against every any being saved.
+ * Entries are keyed by FIQL expression, so that changing a condition never serves stale results; as matching may
+ * alter the given conditions, each caller is handed out its own copy of the cached one.
+ */
+public final class DynMembershipConds {
+
+    private static final int MAX_SIZE = 10000;
+
+    private static final Map<String, SearchCond> CONDS = new ConcurrentHashMap<>();
+
+    public static SearchCond get(final SearchCondVisitor visitor, final String fiql) {
+        SearchCond cond = CONDS.get(fiql);
+        if (cond == null) {
+            if (CONDS.size() >= MAX_SIZE) {
+                CONDS.clear();
+            }
+
+            cond = SearchCondConverter.convert(visitor, fiql);
+            CONDS.put(fiql, cond);
+        }
+        return SerializationUtils.clone(cond);
+    }
+
+    private DynMembershipConds() {
+        // private constructor for static utility class
+    }
+}
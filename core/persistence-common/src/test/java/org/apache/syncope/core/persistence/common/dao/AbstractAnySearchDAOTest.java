@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AbstractAnySearchDAOTest {
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private AnyUtils anyUtils;
+
+    @Mock
+    private UserDAO userDAO;
+
+    private TestAnySearchDAO searchDAO;
+
+    private static User user(final String key) {
+        User user = mock(User.class);
+        when(user.getKey()).thenReturn(key);
+        return user;
+    }
+
+    private static SearchCond allMatchingCond() {
+        AnyCond idCond = new AnyCond(AttrCond.Type.ISNOTNULL);
+        idCond.setSchema("id");
+        return SearchCond.of(idCond);
+    }
+
+    @BeforeEach
+    protected void setupSearchDAO() {
+        when(anyUtilsFactory.getInstance(AnyTypeKind.USER)).thenReturn(anyUtils);
+        doReturn(userDAO).when(anyUtils).dao();
+
+        searchDAO = new TestAnySearchDAO(anyUtilsFactory);
+    }
+
+    @Test
+    public void buildResultKeepsRawOrdering() {
+        User u1 = user("k1");
+        User u2 = user("k2");
+        User u3 = user("k3");
+        // DAO returns entities in arbitrary order
+        doReturn(List.of(u2, u3, u1)).when(userDAO).findByKeys(anyList());
+
+        List<Any> result = searchDAO.buildResult(List.<Object>of("k3", "k1", "k2"), AnyTypeKind.USER);
+        assertEquals(3, result.size());
+        assertSame(u3, result.get(0));
+        assertSame(u1, result.get(1));
+        assertSame(u2, result.get(2));
+    }
+
+    @Test
+    public void buildResultWithArrayRows() {
+        User u1 = user("k1");
+        User u2 = user("k2");
+        doReturn(List.of(u1, u2)).when(userDAO).findByKeys(anyList());
+
+        // rows as returned by native queries also selecting ordering columns
+        List<Any> result = searchDAO.buildResult(
+                List.<Object>of(new Object[] { "k2", "bbb" }, new Object[] { "k1", "aaa" }), AnyTypeKind.USER);
+        assertEquals(List.of(u2, u1), result);
+
+        verify(userDAO).findByKeys(List.of("k2", "k1"));
+    }
+
+    @Test
+    public void buildResultSkipsMissingAndDuplicates() {
+        User u1 = user("k1");
+        User u3 = user("k3");
+        doReturn(List.of(u3, u1)).when(userDAO).findByKeys(anyList());
+
+        // k2 was removed meanwhile, k1 is returned twice - as it happens when joining multi-valued attributes
+        List<Any> result = searchDAO.buildResult(List.<Object>of("k1", "k2", "k1", "k3"), AnyTypeKind.USER);
+        assertEquals(List.of(u1, u3), result);
+    }
+
+    @Test
+    public void buildResultEmpty() {
+        doReturn(List.of()).when(userDAO).findByKeys(anyList());
+
+        assertTrue(searchDAO.buildResult(List.<Object>of(), AnyTypeKind.USER).isEmpty());
+    }
+
+    @Test
+    public void seekFromStart() {
+        SearchCond cond = allMatchingCond();
+
+        searchDAO.seek(null, true, SyncopeConstants.FULL_ADMIN_REALMS, cond, null, 50, AnyTypeKind.USER);
+
+        assertEquals(1, searchDAO.invocations.size());
+        TestAnySearchDAO.Invocation invocation = searchDAO.invocations.getFirst();
+        assertSame(cond, invocation.cond());
+        assertEquals(0, invocation.pageable().getPageNumber());
+        assertEquals(50, invocation.pageable().getPageSize());
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), invocation.pageable().getSort());
+    }
+
+    @Test
+    public void seekFromLastKey() {
+        SearchCond cond = allMatchingCond();
+
+        searchDAO.seek(null, true, SyncopeConstants.FULL_ADMIN_REALMS, cond, "k2", 50, AnyTypeKind.USER);
+
+        TestAnySearchDAO.Invocation invocation = searchDAO.invocations.getFirst();
+        assertEquals(SearchCond.Type.AND, invocation.cond().getType());
+        assertSame(cond, invocation.cond().getLeft());
+
+        AnyCond keyCond = invocation.cond().getRight().asLeaf(AnyCond.class).orElseThrow();
+        assertEquals("key", keyCond.getSchema());
+        assertEquals(AttrCond.Type.GT, keyCond.getType());
+        assertEquals("k2", keyCond.getExpression());
+
+        // always the first page, whatever the position of lastKey
+        assertEquals(0, invocation.pageable().getPageNumber());
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), invocation.pageable().getSort());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link AbstractAnySearchDAO#buildResult(List, AnyTypeKind)} for page sizes from 10 to 100k; entities are
+ * returned by the DAO in an order different from the one of the raw query results, as it happens with actual
+ * databases.
+ *
+ * Not executed during the build: run it via {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildResultBenchmark {
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BuildResultBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Param({ "10", "100", "1000", "10000", "100000" })
+    private int pageSize;
+
+    private TestAnySearchDAO searchDAO;
+
+    private List<Object> raw;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<User> users = new ArrayList<>(pageSize);
+        raw = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            String key = UUID.randomUUID().toString();
+            raw.add(key);
+
+            // stub only, in order not to record invocations
+            User user = mock(User.class, withSettings().stubOnly());
+            when(user.getKey()).thenReturn(key);
+            users.add(user);
+        }
+        Collections.shuffle(users, new Random(pageSize));
+
+        UserDAO userDAO = mock(UserDAO.class, withSettings().stubOnly());
+        doReturn(users).when(userDAO).findByKeys(anyList());
+        AnyUtils anyUtils = mock(AnyUtils.class, withSettings().stubOnly());
+        doReturn(userDAO).when(anyUtils).dao();
+        AnyUtilsFactory anyUtilsFactory = mock(AnyUtilsFactory.class, withSettings().stubOnly());
+        when(anyUtilsFactory.getInstance(AnyTypeKind.USER)).thenReturn(anyUtils);
+
+        searchDAO = new TestAnySearchDAO(anyUtilsFactory);
+    }
+
+    @Benchmark
+    public List<Any> buildResult() {
+        return searchDAO.buildResult(raw, AnyTypeKind.USER);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.junit.jupiter.api.Test;
+
+public class DynMembershipCondsTest {
+
+    @Test
+    public void copyPerCall() {
+        SearchCondVisitor visitor = new SearchCondVisitor();
+        String fiql = "key==1417acbe-cbf6-4277-9372-e75e04f97000;firstname==$null";
+
+        SearchCond first = DynMembershipConds.get(visitor, fiql);
+        SearchCond second = DynMembershipConds.get(visitor, fiql);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+
+        // matching rewrites the conditions it is given, as done for key and null checks
+        first.getLeft().asLeaf(AnyCond.class).ifPresent(cond -> cond.setSchema("id"));
+        first.getRight().asLeaf(AttrCond.class).ifPresent(cond -> cond.setType(AttrCond.Type.ISNOTNULL));
+
+        SearchCond third = DynMembershipConds.get(visitor, fiql);
+        assertEquals(second, third);
+        assertEquals("key", third.getLeft().asLeaf(AnyCond.class).orElseThrow().getSchema());
+        assertEquals(AttrCond.Type.ISNULL, third.getRight().asLeaf(AttrCond.class).orElseThrow().getType());
+    }
+}
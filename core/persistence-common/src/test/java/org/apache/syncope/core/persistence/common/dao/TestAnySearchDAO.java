@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Minimal {@link AbstractAnySearchDAO} recording search invocations, for testing the shared logic.
+ */
+class TestAnySearchDAO extends AbstractAnySearchDAO {
+
+    record Invocation(SearchCond cond, Pageable pageable, AnyTypeKind kind) {
+
+    }
+
+    protected final List<Invocation> invocations = new ArrayList<>();
+
+    TestAnySearchDAO(final AnyUtilsFactory anyUtilsFactory) {
+        super(null, null, null, null, null, null, null, anyUtilsFactory, null);
+    }
+
+    @Override
+    protected long doCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        return 0;
+    }
+
+    @Override
+    protected <T extends Any> List<T> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond searchCondition,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        invocations.add(new Invocation(searchCondition, pageable, kind));
+        return List.of();
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.syncope.core.persistence.api.dao.BatchDAO;
 import org.apache.syncope.core.persistence.api.dao.CASSPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
@@ -90,6 +91,7 @@ import org.apache.syncope.core.persistence.jpa.content.XMLContentLoader;
 import org.apache.syncope.core.persistence.jpa.dao.JPAAnyMatchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAAuditEventDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPABatchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.JPADerAttrValueDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAEntityCacheDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJobStatusDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAOIDCJWKSDAO;
@@ -564,13 +566,20 @@ public class PersistenceContext {
         return jpaRepositoryFactory.getRepository(DelegationRepo.class);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrValueDAO derAttrValueDAO(final EntityManager entityManager) {
+        return new JPADerAttrValueDAO(entityManager);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public DerSchemaRepoExt derSchemaRepoExt(
             final @Lazy ExternalResourceDAO resourceDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityManager entityManager) {
 
-        return new DerSchemaRepoExtImpl(resourceDAO, entityManager);
+        return new DerSchemaRepoExtImpl(resourceDAO, derAttrValueDAO, entityManager);
     }
 
     @ConditionalOnMissingBean
@@ -75,6 +75,7 @@ import org.apache.syncope.core.persistence.common.content.AbstractXMLContentExpo
 import org.apache.syncope.core.persistence.common.content.MultiParentNode;
 import org.apache.syncope.core.persistence.common.content.MultiParentNodeOp;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
 import org.apache.syncope.core.persistence.jpa.entity.JPAJobStatus;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.springframework.data.domain.Pageable;
@@ -90,7 +91,8 @@ import org.xml.sax.helpers.AttributesImpl;
  */
 public class XMLContentExporter extends AbstractXMLContentExporter {
 
-    protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = Set.of(JPAJobStatus.TABLE, JPAAuditEvent.TABLE);
+    protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED =
+            Set.of(JPAJobStatus.TABLE, JPAAuditEvent.TABLE, JPADerAttrValue.TABLE);
 
     protected static boolean isTableAllowed(final String tableName) {
         return TABLE_PREFIXES_TO_BE_EXCLUDED.stream().
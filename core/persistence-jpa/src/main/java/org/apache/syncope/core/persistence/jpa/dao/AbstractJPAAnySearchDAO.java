@@ -66,12 +66,15 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AbstractAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerSchema;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -79,7 +82,7 @@ import org.springframework.data.domain.Sort;
 /**
  * Search engine implementation for users, groups and any objects, based on self-updating SQL views.
  */
-abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
+abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO implements AnyKeyQueryBuilder {
 
     protected static final String SELECT_COLS_FROM_VIEW =
             "any_id,creationContext,creationDate,creator,lastChangeContext,"
@@ -94,13 +97,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
     }
 
     protected static void fillWithParameters(final Query query, final List<Object> parameters) {
-        for (int i = 0; i < parameters.size(); i++) {
-            if (parameters.get(i) instanceof Boolean aBoolean) {
-                query.setParameter(i + 1, aBoolean ? 1 : 0);
-            } else {
-                query.setParameter(i + 1, parameters.get(i));
-            }
-        }
+        AnyKeyQueryBuilder.fillWithParameters(query, parameters);
     }
 
     protected static Supplier<SyncopeClientException> syncopeClientException(final String message) {
@@ -165,6 +162,12 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return anyId(defaultSV(svs));
     }
 
+    protected Optional<? extends DerSchema> findMaterializedDerSchema(final String key) {
+        return Optional.ofNullable(key).
+                map(k -> entityManager.find(JPADerSchema.class, k)).
+                filter(DerSchema::isMaterialized);
+    }
+
     protected Optional<AnySearchNode> getQueryForCustomConds(
             final SearchCond cond,
             final List<Object> parameters,
@@ -237,6 +240,9 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                     node = cond.asLeaf(AnyCond.class).
                             map(anyCond -> getQuery(anyCond, not, parameters, svs)).
                             or(() -> cond.asLeaf(AttrCond.class).
+                            flatMap(attrCond -> findMaterializedDerSchema(attrCond.getSchema()).
+                            map(derSchema -> getQuery(attrCond, not, derSchema, parameters, svs)))).
+                            or(() -> cond.asLeaf(AttrCond.class).
                             map(attrCond -> {
                                 Pair<PlainSchema, PlainAttrValue> checked = check(attrCond);
                                 Pair<Boolean, AnySearchNode> query = getQuery(attrCond, not, checked, parameters, svs);
@@ -714,6 +720,119 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
+    /**
+     * Until the given materialized derived schema is fully materialized, stored values might be missing or stale:
+     * only equality is supported, by evaluating its expression as when the schema is not materialized.
+     *
+     * @param cond attribute condition
+     * @param not whether the condition is negated
+     * @param schema materialized derived schema
+     * @param parameters query parameters
+     * @param svs search support
+     * @return search node
+     */
+    protected AnySearchNode getQueryNotFullyMaterialized(
+            final AttrCond cond,
+            final boolean not,
+            final DerSchema schema,
+            final List<Object> parameters,
+            final SearchSupport svs) {
+
+        if (cond.getType() != AttrCond.Type.EQ && cond.getType() != AttrCond.Type.IEQ) {
+            throw syncopeClientException("Derived schema " + schema.getKey() + " is not fully materialized yet: "
+                    + "only " + AttrCond.Type.EQ + " and " + AttrCond.Type.IEQ + " are supported").get();
+        }
+
+        List<String> keys = anyUtilsFactory.getInstance(svs.anyTypeKind).dao().findByDerAttrValue(
+                schema.getExpression(),
+                cond.getExpression(),
+                cond.getType() == AttrCond.Type.IEQ).stream().
+                map(Any::getKey).
+                toList();
+
+        if (keys.isEmpty()) {
+            return new AnySearchNode.Leaf(
+                    defaultSV(svs),
+                    not ? anyId(svs) + " IS NOT NULL" : ALWAYS_FALSE_CLAUSE);
+        }
+
+        return new AnySearchNode.Leaf(
+                defaultSV(svs),
+                anyId(svs) + (not ? " NOT IN (" : " IN (")
+                + keys.stream().map(key -> "?" + setParameter(parameters, key)).collect(Collectors.joining(","))
+                + ')');
+    }
+
+    /**
+     * Matches the values stored for the given materialized derived schema, rather than evaluating its expression.
+     *
+     * @param cond attribute condition
+     * @param not whether the condition is negated
+     * @param schema materialized derived schema
+     * @param parameters query parameters
+     * @param svs search support
+     * @return search node
+     */
+    protected AnySearchNode getQuery(
+            final AttrCond cond,
+            final boolean not,
+            final DerSchema schema,
+            final List<Object> parameters,
+            final SearchSupport svs) {
+
+        if (!schema.isFullyMaterialized()) {
+            return getQueryNotFullyMaterialized(cond, not, schema, parameters, svs);
+        }
+
+        StringBuilder subquery = new StringBuilder("SELECT any_id FROM ").append(JPADerAttrValue.TABLE).
+                append(" WHERE schema_id=?").append(setParameter(parameters, schema.getKey()));
+
+        // as for multivalue plain schemas, negation matches any object without a matching value
+        boolean in = !not;
+        switch (cond.getType()) {
+            case ISNOTNULL -> {
+            }
+
+            case ISNULL ->
+                in = !in;
+
+            case ILIKE, LIKE -> {
+                if (cond.getType() == AttrCond.Type.ILIKE) {
+                    subquery.append(" AND lowerValue LIKE LOWER(?").
+                            append(setParameter(parameters, cond.getExpression())).append(')');
+                } else {
+                    subquery.append(" AND stringValue LIKE ?").append(setParameter(parameters, cond.getExpression()));
+                }
+                if (isOracle()) {
+                    subquery.append(" ESCAPE '\\'");
+                }
+            }
+
+            case IEQ ->
+                subquery.append(" AND lowerValue=LOWER(?").
+                        append(setParameter(parameters, cond.getExpression())).append(')');
+
+            case GE ->
+                subquery.append(" AND stringValue>=?").append(setParameter(parameters, cond.getExpression()));
+
+            case GT ->
+                subquery.append(" AND stringValue>?").append(setParameter(parameters, cond.getExpression()));
+
+            case LE ->
+                subquery.append(" AND stringValue<=?").append(setParameter(parameters, cond.getExpression()));
+
+            case LT ->
+                subquery.append(" AND stringValue<?").append(setParameter(parameters, cond.getExpression()));
+
+            default ->
+                subquery.append(" AND stringValue=?").append(setParameter(parameters, cond.getExpression()));
+        }
+
+        return new AnySearchNode.Leaf(
+                defaultSV(svs),
+                anyId(svs) + (in ? " IN (" : " NOT IN (") + subquery + ')');
+    }
+
     protected AnySearchNode getQuery(
             final AnyCond cond,
             final boolean not,
@@ -937,6 +1056,60 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return ((Number) countQuery.getSingleResult()).intValue();
     }
 
+    @Override
+    public Optional<Pair<String, List<Object>>> buildKeyQuery(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        if (adminRealms == null || adminRealms.isEmpty() || cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return Optional.empty();
+        }
+
+        List<Object> parameters = new ArrayList<>();
+
+        SearchSupport svs = new SearchViewSupport(kind);
+
+        // 1. get admin realms filter
+        Triple<AnySearchNode.Leaf, Set<String>, Set<String>> filter =
+                getAdminRealmsFilter(base, recursive, adminRealms, parameters, svs);
+
+        // 2. transform search condition
+        Optional<Pair<AnySearchNode, Set<String>>> optionalQueryInfo = getQuery(
+                buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind), parameters, svs);
+        if (optionalQueryInfo.isEmpty()) {
+            LOG.error("Invalid search condition: {}", cond);
+            return Optional.empty();
+        }
+        Pair<AnySearchNode, Set<String>> queryInfo = optionalQueryInfo.get();
+
+        // 3. generate the query string
+        AnySearchNode root;
+        if (queryInfo.getLeft().getType() == AnySearchNode.Type.AND) {
+            root = queryInfo.getLeft();
+        } else {
+            root = new AnySearchNode(AnySearchNode.Type.AND);
+            root.add(queryInfo.getLeft());
+        }
+        root.add(filter.getLeft());
+
+        Set<SearchSupport.SearchView> from = new HashSet<>();
+        List<String> where = new ArrayList<>();
+        Map<SearchSupport.SearchView, Boolean> counters = new HashMap<>();
+        visitNode(root, counters, from, where, svs);
+
+        String queryString = "SELECT DISTINCT " + anyId(svs) + " AS any_key"
+                + " FROM " + buildFrom(from, queryInfo.getRight(), null)
+                + " WHERE " + buildWhere(where, root);
+
+        LOG.debug("Query: {}, parameters: {}", queryString, parameters);
+
+        return Optional.of(Pair.of(queryString, parameters));
+    }
+
     protected void parseOrderByForPlainSchema(
             final SearchSupport svs,
             final OrderBySupport obs,
@@ -972,6 +1145,22 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
+    protected void parseOrderByForMaterializedDerSchema(
+            final SearchSupport svs,
+            final OrderBySupport.Item item,
+            final Sort.Order clause,
+            final DerSchema schema,
+            final String alias,
+            final List<Object> parameters) {
+
+        item.select = new StringBuilder("(SELECT stringValue FROM ").append(JPADerAttrValue.TABLE).
+                append(" WHERE any_id=").append(anyId(svs)).
+                append(" AND schema_id=?").append(setParameter(parameters, schema.getKey())).append(')').
+                append(" AS ").append(alias).toString();
+        item.where = StringUtils.EMPTY;
+        item.orderBy = alias + ' ' + clause.getDirection().name();
+    }
+
     protected void parseOrderByForField(
             final SearchSupport svs,
             final OrderBySupport.Item item,
@@ -994,7 +1183,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
     protected OrderBySupport parseOrderBy(
             final SearchSupport svs,
-            final List<Sort.Order> orderBy) {
+            final List<Sort.Order> orderBy,
+            final List<Object> parameters) {
 
         AnyUtils anyUtils = anyUtilsFactory.getInstance(svs.anyTypeKind);
 
@@ -1023,7 +1213,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                             parseOrderByForField(svs, item, fieldName, clause);
                         },
                         () -> {
-                            plainSchemaDAO.findById(clause.getProperty()).ifPresent(schema -> {
+                            plainSchemaDAO.findById(clause.getProperty()).ifPresentOrElse(schema -> {
                                 if (schema.isUniqueConstraint()) {
                                     orderByUniquePlainSchemas.add(schema.getKey());
                                 } else {
@@ -1035,7 +1225,15 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                                             ? orderByUniquePlainSchemas : orderByNonUniquePlainSchemas)).get();
                                 }
                                 parseOrderByForPlainSchema(svs, obs, item, clause, schema, clause.getProperty());
-                            });
+                            }, () -> findMaterializedDerSchema(clause.getProperty()).
+                                    filter(DerSchema::isFullyMaterialized).ifPresent(schema -> {
+
+                                obs.views.add(defaultSV(svs));
+
+                                // schema keys are not necessarily valid SQL identifiers
+                                parseOrderByForMaterializedDerSchema(
+                                        svs, item, clause, schema, "derOrderBy" + obs.items.size(), parameters);
+                            }));
                         });
             }
 
@@ -1071,7 +1269,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         visitNode(root, counters, from, where, svs);
 
         // 3. take ordering into account
-        OrderBySupport obs = parseOrderBy(svs, orderBy);
+        OrderBySupport obs = parseOrderBy(svs, orderBy, parameters);
 
         // 4. generate the query string
         StringBuilder queryString = new StringBuilder("SELECT DISTINCT ").append(anyId(svs));
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+
+/**
+ * Builds native queries selecting the keys of any objects matching a search condition, to be embedded into
+ * set-based statements.
+ */
+public interface AnyKeyQueryBuilder {
+
+    /**
+     * Binds the given positional parameters to the given native query, converting booleans to numbers.
+     *
+     * @param query native query
+     * @param parameters positional parameters
+     */
+    static void fillWithParameters(final Query query, final List<Object> parameters) {
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i) instanceof Boolean aBoolean) {
+                query.setParameter(i + 1, aBoolean ? 1 : 0);
+            } else {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+        }
+    }
+
+    /**
+     * Builds the native query selecting, as {@code any_key} column, the keys of all any objects matching the given
+     * search condition; meant to be embedded into set-based statements, like as {@code INSERT INTO ... SELECT}.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any object
+     * @return query string and its positional parameters, or empty if the search condition is not valid
+     */
+    Optional<Pair<String, List<Object>>> buildKeyQuery(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond cond,
+            AnyTypeKind kind);
+}
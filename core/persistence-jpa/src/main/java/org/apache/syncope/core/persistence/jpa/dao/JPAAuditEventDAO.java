@@ -24,13 +24,17 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.to.AuditEventTO;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JPAAuditEventDAO implements AuditEventDAO {
@@ -48,13 +52,25 @@ public class JPAAuditEventDAO implements AuditEventDAO {
             return parameters.size();
         }
 
-        protected AuditEventCriteriaBuilder entityKey(final String entityKey) {
+        protected AuditEventCriteriaBuilder entityKey(
+                final String entityKey,
+                final boolean unindexed,
+                final List<Object> parameters) {
+
             if (entityKey != null) {
                 query.append(andIfNeeded()).
-                        append("(before_value LIKE '%key%").append(entityKey).append("%' OR ").
-                        append("inputs LIKE '%key%").append(entityKey).append("%' OR ").
-                        append("output LIKE '%key%").append(entityKey).append("%' OR ").
-                        append("throwable LIKE '%key%").append(entityKey).append("%')");
+                        append("(id IN (SELECT auditEvent_id FROM ").append(JPAAuditEvent.ENTITY_KEY_TABLE).
+                        append(" WHERE entityKey = ?").append(setParameter(parameters, entityKey)).append(')');
+                if (unindexed) {
+                    // events stored before entity keys were indexed can only be matched against their content
+                    String like = "%key%" + entityKey + '%';
+                    query.append(" OR (entityKeysIndexed IS NULL AND (").
+                            append("before_value LIKE ?").append(setParameter(parameters, like)).append(" OR ").
+                            append("inputs LIKE ?").append(setParameter(parameters, like)).append(" OR ").
+                            append("output LIKE ?").append(setParameter(parameters, like)).append(" OR ").
+                            append("throwable LIKE ?").append(setParameter(parameters, like)).append("))");
+                }
+                query.append(')');
             }
             return this;
         }
@@ -90,6 +106,19 @@ public class JPAAuditEventDAO implements AuditEventDAO {
             return this;
         }
 
+        public AuditEventCriteriaBuilder lastKey(final String lastKey, final List<Object> parameters) {
+            if (lastKey != null) {
+                String lastWhen = "(SELECT event_date FROM " + JPAAuditEvent.TABLE + " WHERE id = ?";
+                query.append(andIfNeeded()).
+                        append("(event_date < ").append(lastWhen).
+                        append(setParameter(parameters, lastKey)).append(") OR ").
+                        append("(event_date = ").append(lastWhen).
+                        append(setParameter(parameters, lastKey)).append(") AND id < ?").
+                        append(setParameter(parameters, lastKey)).append("))");
+            }
+            return this;
+        }
+
         public String build() {
             return query.toString();
         }
@@ -97,18 +126,77 @@ public class JPAAuditEventDAO implements AuditEventDAO {
 
     protected final EntityManager entityManager;
 
+    /**
+     * Domains where all audit events have their entity keys indexed; as new events are indexed when stored, this
+     * does not change once reached.
+     */
+    protected final Set<String> indexedDomains = ConcurrentHashMap.newKeySet();
+
     public JPAAuditEventDAO(final EntityManager entityManager) {
         this.entityManager = entityManager;
     }
 
+    /**
+     * Checks whether audit events stored before entity keys were indexed still exist in the current domain; once
+     * none is found, the check is not performed any more.
+     *
+     * @return whether audit events without indexed entity keys exist
+     */
+    protected boolean unindexedExist() {
+        String domain = AuthContextUtils.getDomain();
+        if (indexedDomains.contains(domain)) {
+            return false;
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT id FROM " + JPAAuditEvent.TABLE + " WHERE entityKeysIndexed IS NULL");
+        query.setMaxResults(1);
+        if (query.getResultList().isEmpty()) {
+            indexedDomains.add(domain);
+            return false;
+        }
+        return true;
+    }
+
     @Transactional
     @Override
     public AuditEvent save(final AuditEvent auditEvent) {
         return entityManager.merge(auditEvent);
     }
 
-    protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
-        return new AuditEventCriteriaBuilder().entityKey(entityKey);
+    /**
+     * Persists all given audit events within the same transaction; being all new, they are not merged so that
+     * inserts can be batched by the JDBC driver at flush time.
+     *
+     * @param auditEvents audit events to persist
+     * @return persisted audit events
+     */
+    @Transactional
+    @Override
+    public List<AuditEvent> saveAll(final List<AuditEvent> auditEvents) {
+        auditEvents.forEach(entityManager::persist);
+        entityManager.flush();
+        return auditEvents;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public int indexEntityKeys(final int max) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT id FROM " + JPAAuditEvent.TABLE + " WHERE entityKeysIndexed IS NULL");
+        query.setMaxResults(max);
+
+        @SuppressWarnings("unchecked")
+        List<Object> entries = query.getResultList();
+        entries.stream().
+                map(row -> entityManager.find(JPAAuditEvent.class, row.toString())).
+                filter(Objects::nonNull).
+                forEach(JPAAuditEvent::indexEntityKeys);
+        return entries.size();
+    }
+
+    protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey, final List<Object> parameters) {
+        return new AuditEventCriteriaBuilder().entityKey(entityKey, entityKey != null && unindexedExist(), parameters);
     }
 
     protected void fillWithParameters(final Query query, final List<Object> parameters) {
@@ -136,7 +224,7 @@ public class JPAAuditEventDAO implements AuditEventDAO {
         List<Object> parameters = new ArrayList<>();
         String queryString = "SELECT COUNT(0)"
                 + " FROM " + JPAAuditEvent.TABLE
-                + " WHERE" + criteriaBuilder(entityKey).
+                + " WHERE" + criteriaBuilder(entityKey, parameters).
                         opEvent(type, category, subcategory, op, outcome).
                         before(before, parameters).
                         after(after, parameters).
@@ -163,7 +251,7 @@ public class JPAAuditEventDAO implements AuditEventDAO {
         List<Object> parameters = new ArrayList<>();
         String queryString = "SELECT id"
                 + " FROM " + JPAAuditEvent.TABLE
-                + " WHERE" + criteriaBuilder(entityKey).
+                + " WHERE" + criteriaBuilder(entityKey, parameters).
                         opEvent(type, category, subcategory, op, outcome).
                         before(before, parameters).
                         after(after, parameters).
@@ -189,4 +277,40 @@ public class JPAAuditEventDAO implements AuditEventDAO {
                 map(row -> entityManager.find(JPAAuditEvent.class, row.toString())).
                 filter(Objects::nonNull).map(this::toAuditEventTO).toList();
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AuditEventTO> searchAfter(
+            final String entityKey,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op,
+            final OpEvent.Outcome outcome,
+            final OffsetDateTime before,
+            final OffsetDateTime after,
+            final String lastKey,
+            final int size) {
+
+        List<Object> parameters = new ArrayList<>();
+        String queryString = "SELECT id"
+                + " FROM " + JPAAuditEvent.TABLE
+                + " WHERE" + criteriaBuilder(entityKey, parameters).
+                        opEvent(type, category, subcategory, op, outcome).
+                        before(before, parameters).
+                        after(after, parameters).
+                        lastKey(lastKey, parameters).
+                        build()
+                + " ORDER BY event_date DESC, id DESC";
+
+        Query query = entityManager.createNativeQuery(queryString);
+        fillWithParameters(query, parameters);
+        query.setMaxResults(size);
+
+        @SuppressWarnings("unchecked")
+        List<Object> entries = query.getResultList();
+        return entries.stream().
+                map(row -> entityManager.find(JPAAuditEvent.class, row.toString())).
+                filter(Objects::nonNull).map(this::toAuditEventTO).toList();
+    }
 }
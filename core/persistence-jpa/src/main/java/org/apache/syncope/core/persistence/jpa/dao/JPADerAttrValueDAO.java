@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public class JPADerAttrValueDAO implements DerAttrValueDAO {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DerAttrValueDAO.class);
+
+    protected final EntityManager entityManager;
+
+    public JPADerAttrValueDAO(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Updates in place the stored values which changed, so that saving an any object whose materialized derived
+     * attributes are unchanged does not write anything; empty values are not stored, while values exceeding the
+     * column length are reported, as they cannot be looked up.
+     *
+     * @param anyKey any object key
+     * @param values materialized derived attribute values, by derived schema key
+     * @return keys of the derived schemas whose values exceed the column length
+     */
+    @Transactional
+    @Override
+    public Set<String> replace(final String anyKey, final Map<String, String> values) {
+        Map<String, String> toStore = new HashMap<>();
+        Set<String> notStored = new HashSet<>();
+        values.forEach((schemaKey, value) -> {
+            if (StringUtils.isEmpty(value)) {
+                return;
+            }
+            if (value.length() > JPADerAttrValue.VALUE_MAX_LENGTH) {
+                LOG.warn("Value of {} for {} exceeds {} characters, not materializing",
+                        schemaKey, anyKey, JPADerAttrValue.VALUE_MAX_LENGTH);
+                notStored.add(schemaKey);
+                return;
+            }
+            toStore.put(schemaKey, value);
+        });
+
+        TypedQuery<JPADerAttrValue> query = entityManager.createQuery(
+                "SELECT e FROM " + JPADerAttrValue.class.getSimpleName() + " e WHERE e.anyKey = :anyKey",
+                JPADerAttrValue.class);
+        query.setParameter("anyKey", anyKey);
+        query.getResultList().forEach(stored -> {
+            String value = toStore.remove(stored.getSchemaKey());
+            if (value == null) {
+                entityManager.remove(stored);
+            } else if (!value.equals(stored.getStringValue())) {
+                stored.setStringValue(value);
+            }
+        });
+
+        toStore.forEach((schemaKey, value) -> {
+            JPADerAttrValue derAttrValue = new JPADerAttrValue();
+            derAttrValue.setKey(SecureRandomUtils.generateRandomUUID().toString());
+            derAttrValue.setAnyKey(anyKey);
+            derAttrValue.setSchemaKey(schemaKey);
+            derAttrValue.setStringValue(value);
+            entityManager.persist(derAttrValue);
+        });
+
+        return notStored;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public Set<String> replaceAll(final Map<String, Map<String, String>> values) {
+        Set<String> notStored = new HashSet<>();
+        values.forEach((anyKey, anyValues) -> notStored.addAll(replace(anyKey, anyValues)));
+        entityManager.flush();
+        return notStored;
+    }
+
+    @Transactional
+    @Override
+    public void deleteByAny(final String anyKey) {
+        entityManager.createQuery(
+                "DELETE FROM " + JPADerAttrValue.class.getSimpleName() + " e WHERE e.anyKey = :anyKey").
+                setParameter("anyKey", anyKey).
+                executeUpdate();
+    }
+
+    @Transactional
+    @Override
+    public void deleteBySchema(final String schemaKey) {
+        entityManager.createQuery(
+                "DELETE FROM " + JPADerAttrValue.class.getSimpleName() + " e WHERE e.schemaKey = :schemaKey").
+                setParameter("schemaKey", schemaKey).
+                executeUpdate();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findAnyKeys(final String schemaKey, final String value, final boolean ignoreCase) {
+        TypedQuery<String> query = entityManager.createQuery(
+                "SELECT e.anyKey FROM " + JPADerAttrValue.class.getSimpleName() + " e "
+                + "WHERE e.schemaKey = :schemaKey AND "
+                + (ignoreCase ? "e.lowerValue = LOWER(:value)" : "e.stringValue = :value"),
+                String.class);
+        query.setParameter("schemaKey", schemaKey);
+        query.setParameter("value", value);
+        return query.getResultList();
+    }
+}
@@ -29,6 +29,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
@@ -46,6 +48,7 @@ import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractAttributable;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
@@ -55,13 +58,14 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractAnyRepoExt<A extends Any> implements AnyRepoExt<A> {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AnyRepoExt.class);
 
+    protected static final int IN_CLAUSE_MAX_KEYS = 500;
+
     protected final DynRealmDAO dynRealmDAO;
 
     protected final PlainSchemaDAO plainSchemaDAO;
@@ -146,10 +150,14 @@ public abstract class AbstractAnyRepoExt<A extends Any> implements AnyRepoExt<A>
         return anyFinder.findByDerAttrValue(anyUtils.anyTypeKind(), expression, value, ignoreCaseMatch);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Transactional(readOnly = true)
     @Override
-    @SuppressWarnings("unchecked")
     public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final A any, final Class<S> reference) {
+        return AllowedSchemasCache.get(any, reference, () -> doFindAllowedSchemas(any, reference));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <S extends Schema> AllowedSchemas<S> doFindAllowedSchemas(final A any, final Class<S> reference) {
         AllowedSchemas<S> result = new AllowedSchemas<>();
 
         // schemas given by type and aux classes
@@ -211,6 +219,68 @@ public abstract class AbstractAnyRepoExt<A extends Any> implements AnyRepoExt<A>
                 toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        return groupByAny(
+                findByKeys(
+                        "SELECT any_id, dynRealm_id FROM " + DynRealmRepoExt.DYNMEMB_TABLE + " WHERE any_id IN (",
+                        ")",
+                        keys),
+                dynRealm -> dynRealmDAO.findById(dynRealm).map(DynRealm::getKey));
+    }
+
+    /**
+     * Runs the given native query once per chunk of at most {@link #IN_CLAUSE_MAX_KEYS} keys, so that the generated
+     * {@code IN} clause stays within the limits of all supported databases.
+     *
+     * @param prefix query text up to the opening parenthesis of the {@code IN} clause
+     * @param suffix query text from the closing parenthesis of the {@code IN} clause
+     * @param keys keys to bind
+     * @return rows returned by all chunks
+     */
+    protected List<Object[]> findByKeys(final String prefix, final String suffix, final Collection<String> keys) {
+        List<String> distinct = keys.stream().distinct().toList();
+        List<Object[]> result = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_MAX_KEYS) {
+            List<String> chunk = distinct.subList(from, Math.min(from + IN_CLAUSE_MAX_KEYS, distinct.size()));
+
+            Query query = entityManager.createNativeQuery(
+                    prefix + chunk.stream().map(k -> "?").collect(Collectors.joining(",")) + suffix);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter(i + 1, chunk.get(i));
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            result.addAll(rows);
+        }
+        return result;
+    }
+
+    /**
+     * Groups (any key, related entity key) rows by any key, resolving each distinct related entity only once.
+     *
+     * @param <T> related entity type
+     * @param rows (any key, related entity key) rows
+     * @param finder how to resolve related entities by key
+     * @return related entities, by any key
+     */
+    protected <T> Map<String, List<T>> groupByAny(
+            final List<Object[]> rows,
+            final Function<String, Optional<? extends T>> finder) {
+
+        Map<String, Optional<? extends T>> resolved = new HashMap<>();
+        Map<String, List<T>> result = new HashMap<>();
+        rows.forEach(row -> resolved.computeIfAbsent(row[1].toString(), finder).ifPresent(entity -> {
+            List<T> entities = result.computeIfAbsent(row[0].toString(), k -> new ArrayList<>());
+            if (!entities.contains(entity)) {
+                entities.add(entity);
+            }
+        }));
+        return result;
+    }
+
     protected <T extends AbstractAttributable> void checkBeforeSave(final T attributable) {
         // check UNIQUE constraints
         new ArrayList<>(attributable.getPlainAttrsList()).stream().
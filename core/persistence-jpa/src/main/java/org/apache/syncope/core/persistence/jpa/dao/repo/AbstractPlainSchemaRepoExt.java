@@ -26,6 +26,7 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractSchema;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
@@ -63,6 +64,9 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
         ((AbstractSchema) schema).map2json();
         PlainSchema merged = entityManager.merge(schema);
         ((AbstractSchema) merged).postSave();
+
+        AllowedSchemasCache.invalidate();
+
         return merged;
     }
 
@@ -78,5 +82,7 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
         Optional.ofNullable(schema.getAnyTypeClass()).ifPresent(c -> c.getPlainSchemas().remove(schema));
 
         entityManager.remove(schema);
+
+        AllowedSchemasCache.invalidate();
     }
 }
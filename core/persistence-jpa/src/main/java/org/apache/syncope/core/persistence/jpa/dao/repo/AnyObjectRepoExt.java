@@ -45,6 +45,8 @@ public interface AnyObjectRepoExt extends AnyRepoExt<AnyObject> {
 
     List<Group> findDynGroups(String key);
 
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     List<Relationship<Any, AnyObject>> findAllRelationships(AnyObject anyObject);
 
     Collection<Group> findAllGroups(AnyObject anyObject);
@@ -242,6 +242,17 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject> implemen
                 collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        return groupByAny(
+                findByKeys(
+                        "SELECT any_id, group_id FROM " + GroupRepoExt.ADYNMEMB_TABLE + " WHERE any_id IN (",
+                        ")",
+                        keys),
+                groupDAO::findById);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final AnyObject anyObject) {
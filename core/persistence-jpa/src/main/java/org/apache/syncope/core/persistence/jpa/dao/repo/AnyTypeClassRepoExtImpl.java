@@ -30,6 +30,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 
 public class AnyTypeClassRepoExtImpl implements AnyTypeClassRepoExt {
@@ -64,6 +65,8 @@ public class AnyTypeClassRepoExtImpl implements AnyTypeClassRepoExt {
 
     @Override
     public AnyTypeClass save(final AnyTypeClass anyTypeClass) {
+        AllowedSchemasCache.invalidate();
+
         AnyTypeClass merge = entityManager.merge(anyTypeClass);
 
         for (PlainSchema schema : merge.getPlainSchemas()) {
@@ -78,6 +81,8 @@ public class AnyTypeClassRepoExtImpl implements AnyTypeClassRepoExt {
 
     @Override
     public void deleteById(final String key) {
+        AllowedSchemasCache.invalidate();
+
         AnyTypeClass anyTypeClass = entityManager.find(JPAAnyTypeClass.class, key);
         if (anyTypeClass == null) {
             return;
@@ -23,6 +23,7 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -58,6 +59,8 @@ public class AnyTypeRepoExtImpl implements AnyTypeRepoExt {
 
     @Override
     public void deleteById(final String key) {
+        AllowedSchemasCache.invalidate();
+
         AnyType anyType = entityManager.find(JPAAnyType.class, key);
         if (anyType == null) {
             return;
@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.jpa.entity.JPADelegation;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
@@ -45,4 +47,12 @@ public interface DelegationRepo
             + "AND e.startDate <= :now AND (e.endDate IS NULL OR e.endDate >= :now)")
     @Override
     List<String> findValidDelegating(@Param("delegated") String delegated, @Param("now") OffsetDateTime now);
+
+    @Query("SELECT e FROM #{#entityName} e WHERE e.delegating.id IN (:userKeys)")
+    @Override
+    List<Delegation> findByDelegatingIn(@Param("userKeys") Collection<String> userKeys);
+
+    @Query("SELECT e FROM #{#entityName} e WHERE e.delegated.id IN (:userKeys)")
+    @Override
+    List<Delegation> findByDelegatedIn(@Param("userKeys") Collection<String> userKeys);
 }
@@ -21,18 +21,27 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import java.util.Collection;
 import java.util.List;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPADerSchema;
 
 public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSchemaRepoExt {
 
     protected final ExternalResourceDAO resourceDAO;
 
-    public DerSchemaRepoExtImpl(final ExternalResourceDAO resourceDAO, final EntityManager entityManager) {
+    protected final DerAttrValueDAO derAttrValueDAO;
+
+    public DerSchemaRepoExtImpl(
+            final ExternalResourceDAO resourceDAO,
+            final DerAttrValueDAO derAttrValueDAO,
+            final EntityManager entityManager) {
+
         super(entityManager);
         this.resourceDAO = resourceDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
     }
 
     @Override
@@ -45,6 +54,9 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
         ((JPADerSchema) schema).map2json();
         DerSchema merged = entityManager.merge(schema);
         ((JPADerSchema) merged).postSave();
+
+        AllowedSchemasCache.invalidate();
+
         return merged;
     }
 
@@ -57,10 +69,14 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
 
         resourceDAO.deleteMapping(key);
 
+        derAttrValueDAO.deleteBySchema(key);
+
         if (schema.getAnyTypeClass() != null) {
             schema.getAnyTypeClass().getDerSchemas().remove(schema);
         }
 
         entityManager.remove(schema);
+
+        AllowedSchemasCache.invalidate();
     }
 }
@@ -20,19 +20,26 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.common.dao.DynMembershipConds;
 import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPADynRealmMembership;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
@@ -148,36 +155,64 @@ public class DynRealmRepoExtImpl implements DynRealmRepoExt {
         entityManager.remove(dynRealm);
     }
 
+    /**
+     * Finds the compiled dynamic membership conditions defined for the given any type.
+     *
+     * @param anyType any type key
+     * @return compiled conditions, by dynamic realm key
+     */
+    protected Map<String, SearchCond> findDynMembershipConds(final String anyType) {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                "SELECT e.dynRealm.id, e.fiql FROM " + JPADynRealmMembership.class.getSimpleName() + " e "
+                + "WHERE e.anyType.id=:anyType", Object[].class);
+        query.setParameter("anyType", anyType);
+
+        Map<String, SearchCond> conds = new HashMap<>();
+        query.getResultList().forEach(result -> conds.put(
+                result[0].toString(), DynMembershipConds.get(searchCondVisitor, result[1].toString())));
+        return conds;
+    }
+
     @Transactional
     @Override
     public void refreshDynMemberships(final Any any) {
-        entityManager.createQuery(
-                "SELECT e FROM " + JPADynRealm.class.getSimpleName() + " e ", DynRealm.class).getResultStream().
-                forEach(dynRealm -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
-
-            boolean matches = anyMatchDAO.matches(
-                    any, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(dynRealm_id) FROM " + DYNMEMB_TABLE + " WHERE any_id=? AND dynRealm_id=?");
-            query.setParameter(1, any.getKey());
-            query.setParameter(2, dynRealm.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-
-            if (matches && !existing) {
-                Query insert = entityManager.
-                        createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, any.getKey());
-                insert.setParameter(2, dynRealm.getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?");
-                delete.setParameter(1, dynRealm.getKey());
-                delete.setParameter(2, any.getKey());
-                delete.executeUpdate();
+        Map<String, SearchCond> conds = findDynMembershipConds(any.getType().getKey());
+        if (conds.isEmpty()) {
+            return;
+        }
+
+        Set<String> after = conds.entrySet().stream().
+                filter(cond -> anyMatchDAO.matches(any, cond.getValue())).
+                map(Map.Entry::getKey).
+                collect(Collectors.toSet());
+
+        Query find = entityManager.createNativeQuery("SELECT dynRealm_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
+        find.setParameter(1, any.getKey());
+        @SuppressWarnings("unchecked")
+        List<Object> result = find.getResultList();
+        Set<String> before = result.stream().
+                map(Object::toString).
+                filter(conds::containsKey).
+                collect(Collectors.toSet());
+
+        after.stream().filter(dynRealm -> !before.contains(dynRealm)).forEach(dynRealm -> {
+            Query insert = entityManager.createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
+            insert.setParameter(1, any.getKey());
+            insert.setParameter(2, dynRealm);
+            insert.executeUpdate();
+        });
+
+        List<String> removed = before.stream().filter(dynRealm -> !after.contains(dynRealm)).toList();
+        if (!removed.isEmpty()) {
+            Query delete = entityManager.createNativeQuery(
+                    "DELETE FROM " + DYNMEMB_TABLE + " WHERE any_id=? AND dynRealm_id IN ("
+                    + removed.stream().map(dynRealm -> "?").collect(Collectors.joining(",")) + ")");
+            delete.setParameter(1, any.getKey());
+            for (int i = 0; i < removed.size(); i++) {
+                delete.setParameter(i + 2, removed.get(i));
             }
-        }));
+            delete.executeUpdate();
+        }
     }
 
     @Override
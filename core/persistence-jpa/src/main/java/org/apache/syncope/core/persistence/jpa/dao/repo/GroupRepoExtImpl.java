@@ -23,10 +23,12 @@ import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -38,6 +40,7 @@ import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -56,7 +59,10 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
+import org.apache.syncope.core.persistence.common.dao.DynMembershipConds;
+import org.apache.syncope.core.persistence.jpa.dao.AnyKeyQueryBuilder;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
@@ -68,7 +74,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -231,10 +236,114 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
 
     @Override
     public <S extends Group> S save(final S group) {
+        AllowedSchemasCache.invalidate();
+
         checkBeforeSave((JPAGroup) group);
         return entityManager.merge(group);
     }
 
+    /**
+     * Inserts all dynamic members matching the given condition with a single {@code INSERT INTO ... SELECT}, when the
+     * configured {@link AnySearchDAO} is also an {@link AnyKeyQueryBuilder}, e.g. backed by the same database.
+     *
+     * @param group group
+     * @param cond dynamic membership condition
+     * @param kind any type kind
+     * @param anyType any type key, for any objects; null for users
+     * @return whether the set-based insert was performed
+     */
+    protected boolean insertDynMembers(
+            final Group group,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final String anyType) {
+
+        if (!(anySearchDAO instanceof AnyKeyQueryBuilder keyQueryBuilder)) {
+            return false;
+        }
+
+        SearchCond effectiveCond = cond;
+        if (anyType != null) {
+            AnyTypeCond anyTypeCond = new AnyTypeCond();
+            anyTypeCond.setAnyTypeKey(anyType);
+            effectiveCond = SearchCond.and(cond, SearchCond.of(anyTypeCond));
+        }
+
+        keyQueryBuilder.buildKeyQuery(
+                group.getRealm(),
+                true,
+                Set.of(group.getRealm().getFullPath()),
+                effectiveCond,
+                kind).ifPresent(keyQuery -> {
+
+                    List<Object> parameters = new ArrayList<>(keyQuery.getRight());
+
+                    StringBuilder insert = new StringBuilder("INSERT INTO ");
+                    if (anyType == null) {
+                        insert.append(UDYNMEMB_TABLE).append(" (any_id, group_id) SELECT k.any_key, ?");
+                    } else {
+                        parameters.add(anyType);
+                        insert.append(ADYNMEMB_TABLE).append(" (anyType_id, any_id, group_id) SELECT ?").
+                                append(parameters.size()).append(", k.any_key, ?");
+                    }
+                    parameters.add(group.getKey());
+                    insert.append(parameters.size()).append(" FROM (").append(keyQuery.getLeft()).append(") k");
+
+                    Query query = entityManager.createNativeQuery(insert.toString());
+                    AnyKeyQueryBuilder.fillWithParameters(query, parameters);
+                    query.executeUpdate();
+                });
+
+        return true;
+    }
+
+    /**
+     * Walks through the keys of all dynamic members of the given group, in pages.
+     *
+     * @param group group
+     * @param anyType any type key, for any objects; null for users
+     * @param action action to perform on each page of keys
+     */
+    protected void forEachDynMembersPage(
+            final Group group,
+            final String anyType,
+            final Consumer<List<String>> action) {
+
+        List<String> keys;
+        String lastKey = null;
+        do {
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(group.getKey());
+
+            StringBuilder select = new StringBuilder("SELECT any_id FROM ").
+                    append(anyType == null ? UDYNMEMB_TABLE : ADYNMEMB_TABLE).
+                    append(" WHERE group_id=?1");
+            if (anyType != null) {
+                parameters.add(anyType);
+                select.append(" AND anyType_id=?").append(parameters.size());
+            }
+            if (lastKey != null) {
+                parameters.add(lastKey);
+                select.append(" AND any_id>?").append(parameters.size());
+            }
+            select.append(" ORDER BY any_id");
+
+            Query query = entityManager.createNativeQuery(select.toString());
+            AnyKeyQueryBuilder.fillWithParameters(query, parameters);
+            query.setMaxResults(AnyDAO.DEFAULT_PAGE_SIZE);
+
+            @SuppressWarnings("unchecked")
+            List<Object> result = query.getResultList();
+            keys = result.stream().map(Object::toString).toList();
+
+            if (!keys.isEmpty()) {
+                action.accept(keys);
+            }
+
+            lastKey = keys.isEmpty() ? null : keys.getLast();
+        } while (keys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+    }
+
     @Override
     public Group saveAndRefreshDynMemberships(final Group group) {
         Group merged = save(group);
@@ -243,54 +352,73 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         clearUDynMembers(merged);
         if (merged.getUDynMembership() != null) {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, merged.getUDynMembership().getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.USER);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<User> matching = anySearchDAO.search(
-                        merged.getRealm(),
-                        true,
-                        Set.of(merged.getRealm().getFullPath()),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        AnyTypeKind.USER);
-
-                matching.forEach(user -> {
-                    Query insert = entityManager.createNativeQuery(
-                            "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                    insert.setParameter(1, user.getKey());
-                    insert.setParameter(2, merged.getKey());
-                    insert.executeUpdate();
-
-                    publisher.publishEvent(
-                            new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
-                });
+            if (insertDynMembers(merged, cond, AnyTypeKind.USER, null)) {
+                String domain = AuthContextUtils.getDomain();
+                forEachDynMembersPage(merged, null, keys -> userDAO.findByKeys(keys).forEach(user -> publisher.
+                        publishEvent(new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, domain))));
+            } else {
+                List<User> matching;
+                String lastKey = null;
+                do {
+                    matching = anySearchDAO.seek(
+                            merged.getRealm(),
+                            true,
+                            Set.of(merged.getRealm().getFullPath()),
+                            cond,
+                            lastKey,
+                            AnyDAO.DEFAULT_PAGE_SIZE,
+                            AnyTypeKind.USER);
+
+                    matching.forEach(user -> {
+                        Query insert = entityManager.createNativeQuery(
+                                "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
+                        insert.setParameter(1, user.getKey());
+                        insert.setParameter(2, merged.getKey());
+                        insert.executeUpdate();
+
+                        publisher.publishEvent(new EntityLifecycleEvent<>(
+                                this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
+                    });
+
+                    lastKey = matching.isEmpty() ? null : matching.getLast().getKey();
+                } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
             }
         }
         clearADynMembers(merged);
         merged.getADynMemberships().forEach(memb -> {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<AnyObject> matching = anySearchDAO.search(
-                        merged.getRealm(),
-                        true,
-                        Set.of(merged.getRealm().getFullPath()),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        AnyTypeKind.ANY_OBJECT);
-
-                matching.forEach(any -> {
-                    Query insert = entityManager.createNativeQuery(
-                            "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                    insert.setParameter(1, any.getType().getKey());
-                    insert.setParameter(2, any.getKey());
-                    insert.setParameter(3, merged.getKey());
-                    insert.executeUpdate();
-
-                    publisher.publishEvent(
-                            new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
-                });
+            if (insertDynMembers(merged, cond, AnyTypeKind.ANY_OBJECT, memb.getAnyType().getKey())) {
+                String domain = AuthContextUtils.getDomain();
+                forEachDynMembersPage(merged, memb.getAnyType().getKey(), keys -> anyObjectDAO.findByKeys(keys).
+                        forEach(any -> publisher.publishEvent(
+                        new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, domain))));
+            } else {
+                List<AnyObject> matching;
+                String lastKey = null;
+                do {
+                    matching = anySearchDAO.seek(
+                            merged.getRealm(),
+                            true,
+                            Set.of(merged.getRealm().getFullPath()),
+                            cond,
+                            lastKey,
+                            AnyDAO.DEFAULT_PAGE_SIZE,
+                            AnyTypeKind.ANY_OBJECT);
+
+                    matching.forEach(any -> {
+                        Query insert = entityManager.createNativeQuery(
+                                "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
+                        insert.setParameter(1, any.getType().getKey());
+                        insert.setParameter(2, any.getKey());
+                        insert.setParameter(3, merged.getKey());
+                        insert.executeUpdate();
+
+                        publisher.publishEvent(new EntityLifecycleEvent<>(
+                                this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
+                    });
+
+                    lastKey = matching.isEmpty() ? null : matching.getLast().getKey();
+                } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
             }
         });
 
@@ -301,6 +429,8 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
 
     @Override
     public void delete(final Group group) {
+        AllowedSchemasCache.invalidate();
+
         dynRealmDAO.removeDynMemberships(group.getKey());
 
         findAMemberships(group).forEach(membership -> {
@@ -363,6 +493,39 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         return ((Number) query.getSingleResult()).longValue();
     }
 
+    protected Map<String, Long> countByGroup(
+            final String table,
+            final String anyColumn,
+            final Collection<String> groupKeys) {
+
+        Map<String, Long> result = new HashMap<>();
+        findByKeys(
+                "SELECT group_id, COUNT(DISTINCT " + anyColumn + ") FROM " + table + " WHERE group_id IN (",
+                ") GROUP BY group_id",
+                groupKeys).forEach(row -> result.put(row[0].toString(), ((Number) row[1]).longValue()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> countAMembers(final Collection<String> groupKeys) {
+        return countByGroup(JPAAMembership.TABLE, "anyObject_id", groupKeys);
+    }
+
+    @Override
+    public Map<String, Long> countUMembers(final Collection<String> groupKeys) {
+        return countByGroup(JPAUMembership.TABLE, "user_id", groupKeys);
+    }
+
+    @Override
+    public Map<String, Long> countADynMembers(final Collection<String> groupKeys) {
+        return countByGroup(ADYNMEMB_TABLE, "any_id", groupKeys);
+    }
+
+    @Override
+    public Map<String, Long> countUDynMembers(final Collection<String> groupKeys) {
+        return countByGroup(UDYNMEMB_TABLE, "any_id", groupKeys);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<String> findADynMembers(final Group group) {
@@ -424,45 +587,77 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         return query.getResultList();
     }
 
+    protected Set<String> findDynGroupKeys(final String table, final String anyKey) {
+        Query query = entityManager.createNativeQuery("SELECT group_id FROM " + table + " WHERE any_id=?");
+        query.setParameter(1, anyKey);
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().map(Object::toString).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    protected void deleteDynMemberships(final String table, final String anyKey, final Set<String> groupKeys) {
+        if (groupKeys.isEmpty()) {
+            return;
+        }
+
+        Query delete = entityManager.createNativeQuery(
+                "DELETE FROM " + table + " WHERE any_id=? AND group_id IN ("
+                + groupKeys.stream().map(k -> "?").collect(Collectors.joining(",")) + ")");
+        delete.setParameter(1, anyKey);
+        int index = 2;
+        for (String groupKey : groupKeys) {
+            delete.setParameter(index++, groupKey);
+        }
+        delete.executeUpdate();
+    }
+
+    /**
+     * Publishes group update events only for the groups whose dynamic membership has actually changed.
+     *
+     * @param groups groups with dynamic membership conditions, by key
+     * @param before keys of groups the any was dynamic member of
+     * @param after keys of groups the any is now dynamic member of
+     */
+    protected void publishDynMembershipChanges(
+            final Map<String, Group> groups,
+            final Set<String> before,
+            final Set<String> after) {
+
+        groups.forEach((key, group) -> {
+            if (before.contains(key) != after.contains(key)) {
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, group, AuthContextUtils.getDomain()));
+            }
+        });
+    }
+
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Set<String> before = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         Set<String> after = new HashSet<>();
         findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
+            if (anyMatchDAO.matches(anyObject, DynMembershipConds.get(searchCondVisitor, memb.getFIQLCond()))) {
                 after.add(memb.getGroup().getKey());
             }
+        });
 
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(group_id) FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            query.setParameter(1, memb.getGroup().getKey());
-            query.setParameter(2, anyObject.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
-
-            if (matches && !existing) {
-                Query insert = entityManager.createNativeQuery(
-                        "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                insert.setParameter(1, anyObject.getType().getKey());
-                insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, anyObject.getKey());
-                delete.executeUpdate();
-            }
+        Set<String> before = findDynGroupKeys(ADYNMEMB_TABLE, anyObject.getKey());
+        before.retainAll(groups.keySet());
 
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
+        after.stream().filter(groupKey -> !before.contains(groupKey)).forEach(groupKey -> {
+            Query insert = entityManager.createNativeQuery("INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
+            insert.setParameter(1, anyObject.getType().getKey());
+            insert.setParameter(2, anyObject.getKey());
+            insert.setParameter(3, groupKey);
+            insert.executeUpdate();
         });
+        deleteDynMemberships(ADYNMEMB_TABLE, anyObject.getKey(), before.stream().
+                filter(groupKey -> !after.contains(groupKey)).collect(Collectors.toSet()));
+
+        publishDynMembershipChanges(groups, before, after);
 
         return Pair.of(before, after);
     }
@@ -497,41 +692,28 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Set<String> before = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         Set<String> after = new HashSet<>();
         findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
+            if (anyMatchDAO.matches(user, DynMembershipConds.get(searchCondVisitor, memb.getFIQLCond()))) {
                 after.add(memb.getGroup().getKey());
             }
+        });
 
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(group_id) FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            query.setParameter(1, memb.getGroup().getKey());
-            query.setParameter(2, user.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
-
-            if (matches && !existing) {
-                Query insert = entityManager.createNativeQuery(
-                        "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, user.getKey());
-                insert.setParameter(2, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, user.getKey());
-                delete.executeUpdate();
-            }
+        Set<String> before = findDynGroupKeys(UDYNMEMB_TABLE, user.getKey());
+        before.retainAll(groups.keySet());
 
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
+        after.stream().filter(groupKey -> !before.contains(groupKey)).forEach(groupKey -> {
+            Query insert = entityManager.createNativeQuery("INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
+            insert.setParameter(1, user.getKey());
+            insert.setParameter(2, groupKey);
+            insert.executeUpdate();
         });
+        deleteDynMemberships(UDYNMEMB_TABLE, user.getKey(), before.stream().
+                filter(groupKey -> !after.contains(groupKey)).collect(Collectors.toSet()));
+
+        publishDynMembershipChanges(groups, before, after);
 
         return Pair.of(before, after);
     }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -55,6 +56,13 @@ public interface UserRepo
             @Param("resource") ExternalResource resource,
             @Param("connObjectKeyValue") String connObjectKeyValue);
 
+    @Query("SELECT e FROM JPALinkedAccount e "
+            + "WHERE e.resource = :resource AND e.connObjectKeyValue IN (:connObjectKeyValues)")
+    @Override
+    List<LinkedAccount> findLinkedAccounts(
+            @Param("resource") ExternalResource resource,
+            @Param("connObjectKeyValues") Collection<String> connObjectKeyValues);
+
     @Query("SELECT e FROM JPALinkedAccount e WHERE e.owner.id = :userKey")
     @Override
     List<LinkedAccount> findLinkedAccounts(@Param("userKey") String userKey);
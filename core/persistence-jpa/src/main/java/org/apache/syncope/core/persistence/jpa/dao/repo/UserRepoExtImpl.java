@@ -255,6 +255,17 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
                 collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<Role>> findDynRoles(final Collection<String> keys) {
+        return groupByAny(
+                findByKeys(
+                        "SELECT any_id, role_id FROM " + RoleRepoExt.DYNMEMB_TABLE + " WHERE any_id IN (",
+                        ")",
+                        keys),
+                roleDAO::findById);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public List<Group> findDynGroups(final String key) {
@@ -271,6 +282,17 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
                 collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        return groupByAny(
+                findByKeys(
+                        "SELECT any_id, group_id FROM " + GroupRepoExt.UDYNMEMB_TABLE + " WHERE any_id IN (",
+                        ")",
+                        keys),
+                groupDAO::findById);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final User user) {
@@ -18,7 +18,10 @@
  */
 package org.apache.syncope.core.persistence.jpa.entity;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.Transient;
 import java.util.List;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Attributable;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.common.validation.AttributableCheck;
@@ -29,13 +32,58 @@ public abstract class AbstractAttributable extends AbstractGeneratedKeyEntity im
 
     private static final long serialVersionUID = -2072949733409392882L;
 
+    private static final TypeReference<List<PlainAttr>> PLAIN_ATTRS_TYPEREF = new TypeReference<List<PlainAttr>>() {
+    };
+
+    /**
+     * Set when {@code plainAttrsJSON} was (re)loaded but not yet deserialized: parsing is deferred until plain
+     * attributes are first accessed, as many callers only need a few basic fields.
+     */
+    @Transient
+    private boolean plainAttrsJSONPending;
+
     public abstract List<PlainAttr> getPlainAttrsList();
 
     public abstract String getPlainAttrsJSON();
 
     public abstract void setPlainAttrsJSON(String plainAttrs);
 
+    /**
+     * Marks {@code plainAttrsJSON} as to be deserialized upon first access to plain attributes.
+     */
+    public void json2listOnDemand() {
+        plainAttrsJSONPending = true;
+    }
+
+    /**
+     * Deserializes {@code plainAttrsJSON} into the given list, if pending.
+     *
+     * @param plainAttrsList list of plain attributes, as held by the actual entity
+     * @return the given list, populated
+     */
+    protected List<PlainAttr> json2listIfPending(final List<PlainAttr> plainAttrsList) {
+        if (plainAttrsJSONPending) {
+            plainAttrsJSONPending = false;
+
+            plainAttrsList.clear();
+            Optional.ofNullable(getPlainAttrsJSON()).
+                    ifPresent(json -> POJOHelper.deserialize(json, PLAIN_ATTRS_TYPEREF).stream().
+                    filter(PlainAttr::isValid).
+                    forEach(attr -> {
+                        attr.getValues().forEach(value -> value.setAttr(attr));
+                        Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
+                        plainAttrsList.add(attr);
+                    }));
+        }
+        return plainAttrsList;
+    }
+
     public void list2json() {
+        if (plainAttrsJSONPending) {
+            // plain attributes were never accessed, hence plainAttrsJSON is still current
+            return;
+        }
+
         setPlainAttrsJSON(getPlainAttrsList().isEmpty()
                 ? "[]"
                 : POJOHelper.serialize(getPlainAttrsList()));
@@ -19,14 +19,23 @@
 package org.apache.syncope.core.persistence.jpa.entity;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import java.time.OffsetDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 
@@ -38,9 +47,42 @@ public class JPAAuditEvent extends AbstractGeneratedKeyEntity implements AuditEv
 
     public static final String TABLE = "AuditEvent";
 
+    public static final String ENTITY_KEY_TABLE = "AuditEventEntityKey";
+
     protected static final TypeReference<List<String>> TYPEREF = new TypeReference<List<String>>() {
     };
 
+    /**
+     * Matches JSON string properties named {@code key} or ending with {@code Key}, as found in serialized TOs and
+     * requests, e.g. {@code "key":"..."} or {@code "groupKey":"..."}.
+     */
+    protected static final Pattern ENTITY_KEY_PATTERN = Pattern.compile("\"(?:key|\\w+Key)\"\\s*:\\s*\"([^\"\\\\]+)\"");
+
+    /**
+     * Matches UUID-shaped tokens wherever they appear, e.g. plain keys passed as inputs or keys found in
+     * collections and maps.
+     */
+    protected static final Pattern UUID_PATTERN = Pattern.compile(
+            "\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+
+    protected static final int ENTITY_KEY_MAX_LENGTH = 255;
+
+    protected static void entityKeys(final String value, final Set<String> entityKeys) {
+        if (value != null) {
+            Matcher matcher = ENTITY_KEY_PATTERN.matcher(value);
+            while (matcher.find()) {
+                if (matcher.group(1).length() <= ENTITY_KEY_MAX_LENGTH) {
+                    entityKeys.add(matcher.group(1));
+                }
+            }
+
+            matcher = UUID_PATTERN.matcher(value);
+            while (matcher.find()) {
+                entityKeys.add(matcher.group());
+            }
+        }
+    }
+
     @NotNull
     private String opEvent;
 
@@ -63,6 +105,14 @@ public class JPAAuditEvent extends AbstractGeneratedKeyEntity implements AuditEv
     @Lob
     private String throwable;
 
+    @ElementCollection
+    @CollectionTable(name = ENTITY_KEY_TABLE, joinColumns =
+            @JoinColumn(name = "auditEvent_id"))
+    @Column(name = "entityKey", length = ENTITY_KEY_MAX_LENGTH)
+    private Set<String> entityKeys = new HashSet<>();
+
+    private Boolean entityKeysIndexed;
+
     @Override
     public String getOpEvent() {
         return opEvent;
@@ -132,4 +182,24 @@ public class JPAAuditEvent extends AbstractGeneratedKeyEntity implements AuditEv
     public void setThrowable(final String throwable) {
         this.throwable = throwable;
     }
+
+    public Set<String> getEntityKeys() {
+        return entityKeys;
+    }
+
+    public Boolean getEntityKeysIndexed() {
+        return entityKeysIndexed;
+    }
+
+    /**
+     * Extracts the keys of the entities referenced by this audit event, for {@link #ENTITY_KEY_TABLE} to be
+     * looked up when searching by entity key, rather than matching {@code LIKE} against LOB columns.
+     */
+    @PrePersist
+    public void indexEntityKeys() {
+        entityKeys.clear();
+        Stream.concat(Stream.of(before, output, throwable), getInputs().stream()).
+                forEach(value -> entityKeys(value, entityKeys));
+        entityKeysIndexed = true;
+    }
 }
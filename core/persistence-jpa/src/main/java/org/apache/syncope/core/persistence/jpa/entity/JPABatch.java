@@ -37,6 +37,10 @@ public class JPABatch extends AbstractProvidedKeyEntity implements Batch {
     @Lob
     private String results;
 
+    private int totalItems;
+
+    private int processedItems;
+
     @Override
     public OffsetDateTime getExpiryTime() {
         return expiryTime;
@@ -56,4 +60,24 @@ public class JPABatch extends AbstractProvidedKeyEntity implements Batch {
     public void setResults(final String results) {
         this.results = results;
     }
+
+    @Override
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    @Override
+    public void setTotalItems(final int totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    @Override
+    public int getProcessedItems() {
+        return processedItems;
+    }
+
+    @Override
+    public void setProcessedItems(final int processedItems) {
+        this.processedItems = processedItems;
+    }
 }
@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnPoolConf;
@@ -67,6 +68,8 @@ public class JPAConnInstance extends AbstractGeneratedKeyEntity implements ConnI
 
     private static final int DEFAULT_TIMEOUT = 10;
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     @ManyToOne(fetch = FetchType.EAGER, optional = false)
     private JPARealm adminRealm;
 
@@ -124,6 +127,14 @@ public class JPAConnInstance extends AbstractGeneratedKeyEntity implements ConnI
      */
     private Integer connRequestTimeout = DEFAULT_TIMEOUT;
 
+    /**
+     * Page size used when paging over search results.
+     * DEFAULT_PAGE_SIZE if null.
+     */
+    private Integer searchPageSize;
+
+    private Boolean pipelinedSearch = false;
+
     private String poolConf;
 
     @Override
@@ -225,6 +236,26 @@ public class JPAConnInstance extends AbstractGeneratedKeyEntity implements ConnI
         this.connRequestTimeout = timeout;
     }
 
+    @Override
+    public Integer getSearchPageSize() {
+        return Optional.ofNullable(searchPageSize).orElse(DEFAULT_PAGE_SIZE);
+    }
+
+    @Override
+    public void setSearchPageSize(final Integer searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    @Override
+    public boolean isPipelinedSearch() {
+        return BooleanUtils.isTrue(pipelinedSearch);
+    }
+
+    @Override
+    public void setPipelinedSearch(final boolean pipelinedSearch) {
+        this.pipelinedSearch = pipelinedSearch;
+    }
+
     @Override
     public ConnPoolConf getPoolConf() {
         return Optional.ofNullable(poolConf).map(pc -> POJOHelper.deserialize(pc, ConnPoolConf.class)).orElse(null);
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Value of a materialized derived attribute, stored with its lowercase form for case-insensitive lookups.
+ */
+@Entity
+@Table(name = JPADerAttrValue.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "any_id", "schema_id" }))
+public class JPADerAttrValue extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = 2170473624712908617L;
+
+    public static final String TABLE = "DerAttrValue";
+
+    public static final int VALUE_MAX_LENGTH = 255;
+
+    @NotNull
+    @Column(name = "any_id", length = 36)
+    private String anyKey;
+
+    @NotNull
+    @Column(name = "schema_id")
+    private String schemaKey;
+
+    @NotNull
+    @Column(length = VALUE_MAX_LENGTH)
+    private String stringValue;
+
+    @NotNull
+    @Column(length = VALUE_MAX_LENGTH)
+    private String lowerValue;
+
+    public String getAnyKey() {
+        return anyKey;
+    }
+
+    public void setAnyKey(final String anyKey) {
+        this.anyKey = anyKey;
+    }
+
+    public String getSchemaKey() {
+        return schemaKey;
+    }
+
+    public void setSchemaKey(final String schemaKey) {
+        this.schemaKey = schemaKey;
+    }
+
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    public void setStringValue(final String stringValue) {
+        this.stringValue = stringValue;
+        this.lowerValue = stringValue == null ? null : stringValue.toLowerCase();
+    }
+
+    public String getLowerValue() {
+        return lowerValue;
+    }
+}
@@ -29,7 +29,7 @@ public class JSONRealmListener extends JSONEntityListener<Realm> {
 
     @PostLoad
     public void read(final JPARealm realm) {
-        super.json2list(realm, false);
+        super.json2list(realm);
     }
 
     @PrePersist
@@ -41,6 +41,6 @@ public class JSONRealmListener extends JSONEntityListener<Realm> {
     @PostPersist
     @PostUpdate
     public void readAfterSave(final JPARealm realm) {
-        super.json2list(realm, true);
+        super.json2list(realm);
     }
 }
@@ -134,7 +134,7 @@ public class JPAAnyObject
 
     @Override
     public List<PlainAttr> getPlainAttrsList() {
-        return plainAttrsList;
+        return json2listIfPending(plainAttrsList);
     }
 
     @Override
@@ -149,12 +149,12 @@ public class JPAAnyObject
 
     @Override
     public boolean add(final PlainAttr attr) {
-        return plainAttrsList.add(attr);
+        return getPlainAttrsList().add(attr);
     }
 
     @Override
     public boolean remove(final PlainAttr attr) {
-        return plainAttrsList.removeIf(a -> a.getSchema().equals(attr.getSchema())
+        return getPlainAttrsList().removeIf(a -> a.getSchema().equals(attr.getSchema())
                 && Objects.equals(a.getMembership(), attr.getMembership()));
     }
 
@@ -189,7 +189,7 @@ public class JPAAnyObject
     @Override
     public boolean remove(final AMembership membership) {
         checkType(membership, JPAAMembership.class);
-        plainAttrsList.removeIf(attr -> Objects.equals(attr.getMembership(), membership.getKey()));
+        getPlainAttrsList().removeIf(attr -> Objects.equals(attr.getMembership(), membership.getKey()));
         return this.memberships.remove((JPAAMembership) membership);
     }
 
@@ -174,7 +174,7 @@ public class JPAGroup
 
     @Override
     public List<PlainAttr> getPlainAttrsList() {
-        return plainAttrsList;
+        return json2listIfPending(plainAttrsList);
     }
 
     @Override
@@ -189,24 +189,24 @@ public class JPAGroup
 
     @Override
     public boolean add(final PlainAttr attr) {
-        return plainAttrsList.add(attr);
+        return getPlainAttrsList().add(attr);
     }
 
     @Override
     public boolean remove(final PlainAttr attr) {
-        return plainAttrsList.removeIf(a -> a.getSchema().equals(attr.getSchema()));
+        return getPlainAttrsList().removeIf(a -> a.getSchema().equals(attr.getSchema()));
     }
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema) {
-        return plainAttrsList.stream().
+        return getPlainAttrsList().stream().
                 filter(attr -> plainSchema.equals(attr.getSchema())).
                 findFirst();
     }
 
     @Override
     public List<PlainAttr> getPlainAttrs() {
-        return plainAttrsList.stream().toList();
+        return getPlainAttrsList().stream().toList();
     }
 
     @Override
@@ -30,7 +30,7 @@ public class JSONGroupListener extends JSONEntityListener<Group> {
 
     @PostLoad
     public void read(final JPAGroup group) {
-        super.json2list(group, false);
+        super.json2list(group);
     }
 
     @PrePersist
@@ -42,6 +42,6 @@ public class JSONGroupListener extends JSONEntityListener<Group> {
     @PostPersist
     @PostUpdate
     public void readAfterSave(final JPAGroup group) {
-        super.json2list(group, true);
+        super.json2list(group);
     }
 }
@@ -265,7 +265,7 @@ public class JPAUser
 
     @Override
     public List<PlainAttr> getPlainAttrsList() {
-        return plainAttrsList;
+        return json2listIfPending(plainAttrsList);
     }
 
     @Override
@@ -280,12 +280,12 @@ public class JPAUser
 
     @Override
     public boolean add(final PlainAttr attr) {
-        return plainAttrsList.add(attr);
+        return getPlainAttrsList().add(attr);
     }
 
     @Override
     public boolean remove(final PlainAttr attr) {
-        return plainAttrsList.removeIf(a -> a.getSchema().equals(attr.getSchema())
+        return getPlainAttrsList().removeIf(a -> a.getSchema().equals(attr.getSchema())
                 && Objects.equals(a.getMembership(), attr.getMembership()));
     }
 
@@ -463,7 +463,7 @@ public class JPAUser
     @Override
     public boolean remove(final UMembership membership) {
         checkType(membership, JPAUMembership.class);
-        plainAttrsList.removeIf(attr -> Objects.equals(attr.getMembership(), membership.getKey()));
+        getPlainAttrsList().removeIf(attr -> Objects.equals(attr.getMembership(), membership.getKey()));
         return this.memberships.remove((JPAUMembership) membership);
     }
 
@@ -28,12 +28,12 @@ public class JSONLinkedAccountListener extends JSONEntityListener<User> {
 
     @PostLoad
     public void read(final JPALinkedAccount linkedAccount) {
-        super.json2list(linkedAccount, false);
+        super.json2list(linkedAccount);
     }
 
     @PostPersist
     @PostUpdate
     public void readAfterSave(final JPALinkedAccount linkedAccount) {
-        super.json2list(linkedAccount, true);
+        super.json2list(linkedAccount);
     }
 }
@@ -30,7 +30,7 @@ public class JSONUserListener extends JSONEntityListener<User> {
 
     @PostLoad
     public void read(final JPAUser user) {
-        super.json2list(user, false);
+        super.json2list(user);
     }
 
     @PrePersist
@@ -42,6 +42,6 @@ public class JSONUserListener extends JSONEntityListener<User> {
     @PostPersist
     @PostUpdate
     public void readAfterSave(final JPAUser user) {
-        super.json2list(user, true);
+        super.json2list(user);
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditConf;
+import org.apache.syncope.core.persistence.jpa.entity.JPANotification;
+import org.apache.syncope.core.provisioning.api.OpEventRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Takes care of invalidating the {@link OpEventRouter} routing table in case HA is set up and audit confs or
+ * notifications are changed by another node in the OpenJPA cluster.
+ */
+public class OpEventRouterRemoteCommitListener implements RemoteCommitListener, Serializable {
+
+    private static final long serialVersionUID = -2413398726358611587L;
+
+    protected static final Logger LOG = LoggerFactory.getLogger(OpEventRouterRemoteCommitListener.class);
+
+    protected static boolean isRouted(final String typeName) {
+        return JPAAuditConf.class.getName().equals(typeName) || JPANotification.class.getName().equals(typeName);
+    }
+
+    protected static boolean isRouted(final Object id) {
+        return id instanceof StringId stringId
+                && (JPAAuditConf.class.isAssignableFrom(stringId.getType())
+                || JPANotification.class.isAssignableFrom(stringId.getType()));
+    }
+
+    protected final String domain;
+
+    public OpEventRouterRemoteCommitListener(final String domain) {
+        this.domain = domain;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void afterCommit(final RemoteCommitEvent event) {
+        boolean changed;
+        if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_EXTENTS) {
+            changed = Stream.of(
+                    (Collection<Object>) event.getPersistedTypeNames(),
+                    (Collection<Object>) event.getUpdatedTypeNames(),
+                    (Collection<Object>) event.getDeletedTypeNames()).
+                    filter(Objects::nonNull).
+                    flatMap(Collection::stream).
+                    anyMatch(typeName -> isRouted(typeName.toString()));
+        } else {
+            changed = Stream.of(
+                    event.getPayloadType() == RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS
+                    ? (Collection<Object>) event.getPersistedObjectIds() : null,
+                    (Collection<Object>) event.getUpdatedObjectIds(),
+                    (Collection<Object>) event.getDeletedObjectIds()).
+                    filter(Objects::nonNull).
+                    flatMap(Collection::stream).
+                    anyMatch(OpEventRouterRemoteCommitListener::isRouted);
+        }
+
+        if (changed) {
+            LOG.debug("Audit confs or notifications changed remotely for domain {}", domain);
+            try {
+                ApplicationContextProvider.getApplicationContext().getBean(OpEventRouter.class).invalidate(domain);
+            } catch (Exception e) {
+                LOG.error("While invalidating routing table for domain {}", domain, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+}
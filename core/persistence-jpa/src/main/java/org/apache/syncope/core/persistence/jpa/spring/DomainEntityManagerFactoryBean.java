@@ -22,6 +22,7 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.spi.PersistenceUnitInfo;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.syncope.core.persistence.jpa.openjpa.ConnectorManagerRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.OpEventRouterRemoteCommitListener;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
@@ -34,6 +35,8 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
 
     protected ConnectorManagerRemoteCommitListener connectorManagerRemoteCommitListener;
 
+    protected OpEventRouterRemoteCommitListener opEventRouterRemoteCommitListener;
+
     public void setCommonEntityManagerFactoryConf(final CommonEntityManagerFactoryConf commonEMFConf) {
         super.setJpaPropertyMap(commonEMFConf.getJpaPropertyMap());
 
@@ -54,11 +57,20 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
         this.connectorManagerRemoteCommitListener = connectorManagerRemoteCommitListener;
     }
 
+    public void setOpEventRouterRemoteCommitListener(
+            final OpEventRouterRemoteCommitListener opEventRouterRemoteCommitListener) {
+
+        this.opEventRouterRemoteCommitListener = opEventRouterRemoteCommitListener;
+    }
+
     @Override
     protected void postProcessEntityManagerFactory(final EntityManagerFactory emf, final PersistenceUnitInfo pui) {
         super.postProcessEntityManagerFactory(emf, pui);
 
         OpenJPAEntityManagerFactorySPI emfspi = emf.unwrap(OpenJPAEntityManagerFactorySPI.class);
         emfspi.getConfiguration().getRemoteCommitEventManager().addListener(connectorManagerRemoteCommitListener);
+        if (opEventRouterRemoteCommitListener != null) {
+            emfspi.getConfiguration().getRemoteCommitEventManager().addListener(opEventRouterRemoteCommitListener);
+        }
     }
 }
@@ -37,6 +37,7 @@ import org.apache.syncope.common.keymaster.client.api.model.JPADomain;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
 import org.apache.syncope.core.persistence.jpa.openjpa.ConnectorManagerRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.OpEventRouterRemoteCommitListener;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,6 +88,8 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
         emf.setCommonEntityManagerFactoryConf(commonEMFConf);
         emf.setConnectorManagerRemoteCommitListener(
                 new ConnectorManagerRemoteCommitListener(SyncopeConstants.MASTER_DOMAIN));
+        emf.setOpEventRouterRemoteCommitListener(
+                new OpEventRouterRemoteCommitListener(SyncopeConstants.MASTER_DOMAIN));
 
         addToJpaPropertyMap(
                 emf,
@@ -117,6 +120,7 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
         emf.setJpaVendorAdapter(vendorAdapter);
         emf.setCommonEntityManagerFactoryConf(commonEMFConf);
         emf.setConnectorManagerRemoteCommitListener(new ConnectorManagerRemoteCommitListener(domain.getKey()));
+        emf.setOpEventRouterRemoteCommitListener(new OpEventRouterRemoteCommitListener(domain.getKey()));
 
         addToJpaPropertyMap(emf, vendorAdapter, domain.getDbSchema(), domain.getOrm(), metadataFactory);
 
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.apache.syncope.common.lib.to.AuditEventTO;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JPAAuditEventDAOTest {
+
+    private static final String UNINDEXED_QUERY =
+            "SELECT id FROM " + JPAAuditEvent.TABLE + " WHERE entityKeysIndexed IS NULL";
+
+    private static final String USER_KEY = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    private static final String GROUP_KEY = "37d15e4c-cdc1-460b-a591-8505c8133806";
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @BeforeEach
+    public void setUp() {
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    }
+
+    private static JPAAuditEvent auditEvent(final String key) {
+        JPAAuditEvent auditEvent = new JPAAuditEvent();
+        auditEvent.setKey(key);
+        auditEvent.setOpEvent(OpEvent.toString(
+                OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS));
+        auditEvent.setWho("admin");
+        auditEvent.setWhen(OffsetDateTime.now());
+        return auditEvent;
+    }
+
+    @Test
+    public void searchAfter() {
+        when(query.getResultList()).thenReturn(List.of("event2", "event3"));
+        when(entityManager.find(JPAAuditEvent.class, "event2")).thenReturn(auditEvent("event2"));
+        when(entityManager.find(JPAAuditEvent.class, "event3")).thenReturn(auditEvent("event3"));
+
+        List<AuditEventTO> result = new JPAAuditEventDAO(entityManager).searchAfter(
+                null, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS,
+                null, null, "event1", 2);
+        assertEquals(List.of("event2", "event3"), result.stream().map(AuditEventTO::getKey).toList());
+
+        ArgumentCaptor<String> queryString = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createNativeQuery(queryString.capture());
+        assertTrue(queryString.getValue().contains(
+                "(event_date < (SELECT event_date FROM " + JPAAuditEvent.TABLE + " WHERE id = ?1) OR "
+                + "(event_date = (SELECT event_date FROM " + JPAAuditEvent.TABLE + " WHERE id = ?2) AND id < ?3))"));
+        assertTrue(queryString.getValue().endsWith(" ORDER BY event_date DESC, id DESC"));
+
+        verify(query).setParameter(1, "event1");
+        verify(query).setParameter(2, "event1");
+        verify(query).setParameter(3, "event1");
+        verify(query).setMaxResults(2);
+        verify(query, never()).setFirstResult(anyInt());
+    }
+
+    @Test
+    public void indexEntityKeys() {
+        JPAAuditEvent auditEvent = auditEvent("event1");
+        auditEvent.setOutput("{\"key\":\"" + USER_KEY + "\",\"username\":\"rossini\"}");
+        auditEvent.setInputs(List.of(GROUP_KEY));
+        assertTrue(auditEvent.getEntityKeys().isEmpty());
+
+        when(query.getResultList()).thenReturn(List.of("event1"));
+        when(entityManager.find(JPAAuditEvent.class, "event1")).thenReturn(auditEvent);
+
+        assertEquals(1, new JPAAuditEventDAO(entityManager).indexEntityKeys(10));
+
+        verify(entityManager).createNativeQuery(UNINDEXED_QUERY);
+        verify(query).setMaxResults(10);
+        assertTrue(auditEvent.getEntityKeysIndexed());
+        assertTrue(auditEvent.getEntityKeys().contains(USER_KEY));
+        assertTrue(auditEvent.getEntityKeys().contains(GROUP_KEY));
+        assertFalse(auditEvent.getEntityKeys().contains("rossini"));
+    }
+
+    @Test
+    public void countByEntityKeyWithUnindexed() {
+        when(query.getResultList()).thenReturn(List.of("event0"));
+        when(query.getSingleResult()).thenReturn(1L);
+
+        assertEquals(1L, new JPAAuditEventDAO(entityManager).count(
+                USER_KEY, OpEvent.CategoryType.LOGIC, "UserLogic", null, null, null, null, null));
+
+        ArgumentCaptor<String> queryString = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(2)).createNativeQuery(queryString.capture());
+        assertEquals(UNINDEXED_QUERY, queryString.getAllValues().getFirst());
+        assertTrue(queryString.getAllValues().getLast().contains(
+                "(id IN (SELECT auditEvent_id FROM " + JPAAuditEvent.ENTITY_KEY_TABLE + " WHERE entityKey = ?1)"
+                + " OR (entityKeysIndexed IS NULL AND (before_value LIKE ?2 OR inputs LIKE ?3 OR output LIKE ?4"
+                + " OR throwable LIKE ?5)))"));
+
+        verify(query).setParameter(1, USER_KEY);
+        verify(query).setParameter(2, "%key%" + USER_KEY + '%');
+    }
+
+    @Test
+    public void countByEntityKeyAllIndexed() {
+        when(query.getResultList()).thenReturn(List.of());
+        when(query.getSingleResult()).thenReturn(1L);
+
+        JPAAuditEventDAO dao = new JPAAuditEventDAO(entityManager);
+        dao.count(USER_KEY, OpEvent.CategoryType.LOGIC, "UserLogic", null, null, null, null, null);
+        dao.count(GROUP_KEY, OpEvent.CategoryType.LOGIC, "GroupLogic", null, null, null, null, null);
+
+        // once no unindexed events are found, the check is not performed any more
+        verify(entityManager, times(1)).createNativeQuery(UNINDEXED_QUERY);
+
+        ArgumentCaptor<String> queryString = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(3)).createNativeQuery(queryString.capture());
+        queryString.getAllValues().stream().filter(q -> !UNINDEXED_QUERY.equals(q)).forEach(q -> {
+            assertTrue(q.contains("(id IN (SELECT auditEvent_id FROM " + JPAAuditEvent.ENTITY_KEY_TABLE
+                    + " WHERE entityKey = ?1))"));
+            assertFalse(q.contains("LIKE ?"));
+        });
+        verify(query, never()).setParameter(eq(2), anyString());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DerSchemaRepoExtImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private DerAttrValueDAO derAttrValueDAO;
+
+    @Mock
+    private User user;
+
+    private DerSchemaRepoExtImpl derSchemaRepoExt;
+
+    private JPADerSchema schema;
+
+    private final AtomicInteger computed = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        derSchemaRepoExt = new DerSchemaRepoExtImpl(mock(ExternalResourceDAO.class), derAttrValueDAO, entityManager);
+
+        schema = new JPADerSchema();
+        schema.setKey("fullname");
+        when(entityManager.merge(schema)).thenReturn(schema);
+        when(entityManager.find(JPADerSchema.class, "fullname")).thenReturn(schema);
+
+        AnyType anyType = mock(AnyType.class);
+        when(anyType.getKey()).thenReturn("USER");
+        when(user.getType()).thenReturn(anyType);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(AllowedSchemasCache.class);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private void findAllowedSchemas() {
+        AllowedSchemasCache.get(user, DerSchema.class, () -> {
+            computed.incrementAndGet();
+            return new AllowedSchemas<>();
+        });
+    }
+
+    @Test
+    public void invalidateOnSave() {
+        findAllowedSchemas();
+        findAllowedSchemas();
+        assertEquals(1, computed.get());
+
+        // e.g. the schema was moved to another any type class
+        derSchemaRepoExt.save(schema);
+
+        findAllowedSchemas();
+        assertEquals(2, computed.get());
+    }
+
+    @Test
+    public void invalidateOnDelete() {
+        findAllowedSchemas();
+        assertEquals(1, computed.get());
+
+        derSchemaRepoExt.deleteById(schema.getKey());
+        verify(derAttrValueDAO).deleteBySchema(schema.getKey());
+
+        findAllowedSchemas();
+        assertEquals(2, computed.get());
+    }
+}
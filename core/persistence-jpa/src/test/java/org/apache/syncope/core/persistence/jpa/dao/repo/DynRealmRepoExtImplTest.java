@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DynRealmRepoExtImplTest {
+
+    private static final String USER_KEY = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    @Mock
+    private AnyMatchDAO anyMatchDAO;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Object[]> condsQuery;
+
+    @Mock
+    private Query query;
+
+    @Mock
+    private User user;
+
+    private DynRealmRepoExtImpl dynRealmRepoExt;
+
+    @BeforeEach
+    public void setUp() {
+        dynRealmRepoExt = new DynRealmRepoExtImpl(
+                mock(ApplicationEventPublisher.class),
+                mock(UserDAO.class),
+                mock(GroupDAO.class),
+                mock(AnyObjectDAO.class),
+                mock(AnySearchDAO.class),
+                anyMatchDAO,
+                new SearchCondVisitor(),
+                entityManager);
+
+        AnyType anyType = mock(AnyType.class);
+        when(anyType.getKey()).thenReturn("USER");
+        when(user.getType()).thenReturn(anyType);
+        when(user.getKey()).thenReturn(USER_KEY);
+
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(condsQuery);
+        when(condsQuery.getResultList()).thenReturn(List.of(
+                new Object[] { "matching", "key==" + USER_KEY },
+                new Object[] { "notMatching", "username==verdi" }));
+
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of("notMatching"));
+    }
+
+    @Test
+    public void refreshDynMemberships() {
+        when(anyMatchDAO.matches(eq(user), any(SearchCond.class))).thenAnswer(ic -> {
+            SearchCond cond = ic.getArgument(1);
+            return cond.asLeaf(AnyCond.class).map(AnyCond::getExpression).filter(USER_KEY::equals).isPresent();
+        });
+
+        dynRealmRepoExt.refreshDynMemberships(user);
+
+        verify(entityManager).createNativeQuery("INSERT INTO " + DynRealmRepoExt.DYNMEMB_TABLE + " VALUES(?, ?)");
+        verify(query).setParameter(2, "matching");
+        verify(entityManager).createNativeQuery(
+                "DELETE FROM " + DynRealmRepoExt.DYNMEMB_TABLE + " WHERE any_id=? AND dynRealm_id IN (?)");
+        verify(query).setParameter(2, "notMatching");
+        verify(query, times(2)).executeUpdate();
+    }
+
+    @Test
+    public void conditionsNotAlteredByMatching() {
+        List<String> schemas = new ArrayList<>();
+        when(anyMatchDAO.matches(eq(user), any(SearchCond.class))).thenAnswer(ic -> {
+            SearchCond cond = ic.getArgument(1);
+            cond.asLeaf(AnyCond.class).ifPresent(anyCond -> {
+                schemas.add(anyCond.getSchema());
+                // as done when matching, key is rewritten into id
+                if ("key".equals(anyCond.getSchema())) {
+                    anyCond.setSchema("id");
+                }
+            });
+            return false;
+        });
+
+        dynRealmRepoExt.refreshDynMemberships(user);
+        dynRealmRepoExt.refreshDynMemberships(user);
+
+        assertEquals(2, schemas.stream().filter("key"::equals).count());
+    }
+}
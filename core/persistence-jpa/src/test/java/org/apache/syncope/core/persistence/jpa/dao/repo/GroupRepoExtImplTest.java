@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.common.dao.AnyFinder;
+import org.apache.syncope.core.persistence.jpa.dao.AnyKeyQueryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class GroupRepoExtImplTest {
+
+    private static final String GROUP_KEY = "37d15e4c-cdc1-460b-a591-8505c8133806";
+
+    private static final String KEY_QUERY = "SELECT any_id AS any_key FROM user_search WHERE username=?1 AND active=?2";
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private AnyUtils anyUtils;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @Mock
+    private Group group;
+
+    private static SearchCond cond() {
+        AnyCond usernameCond = new AnyCond(AttrCond.Type.EQ);
+        usernameCond.setSchema("username");
+        usernameCond.setExpression("rossini");
+        return SearchCond.of(usernameCond);
+    }
+
+    private GroupRepoExtImpl groupRepoExt(final AnySearchDAO anySearchDAO) {
+        return new GroupRepoExtImpl(
+                anyUtilsFactory,
+                mock(ApplicationEventPublisher.class),
+                mock(DynRealmDAO.class),
+                mock(PlainSchemaDAO.class),
+                mock(AnyMatchDAO.class),
+                mock(UserDAO.class),
+                mock(AnyObjectDAO.class),
+                anySearchDAO,
+                mock(SearchCondVisitor.class),
+                entityManager,
+                mock(AnyFinder.class));
+    }
+
+    private static AnySearchDAO keyQueryBuilder() {
+        AnySearchDAO anySearchDAO = mock(
+                AnySearchDAO.class, withSettings().extraInterfaces(AnyKeyQueryBuilder.class));
+        when(((AnyKeyQueryBuilder) anySearchDAO).buildKeyQuery(
+                any(Realm.class), eq(true), eq(Set.of("/even")), any(SearchCond.class), any(AnyTypeKind.class))).
+                thenReturn(Optional.of(Pair.of(KEY_QUERY, List.of("rossini", true))));
+        return anySearchDAO;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        when(anyUtilsFactory.getInstance(AnyTypeKind.GROUP)).thenReturn(anyUtils);
+        when(anyUtils.anyTypeKind()).thenReturn(AnyTypeKind.GROUP);
+
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn("/even");
+        when(group.getRealm()).thenReturn(realm);
+        when(group.getKey()).thenReturn(GROUP_KEY);
+
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    }
+
+    @Test
+    public void insertUDynMembers() {
+        assertTrue(groupRepoExt(keyQueryBuilder()).insertDynMembers(group, cond(), AnyTypeKind.USER, null));
+
+        verify(entityManager).createNativeQuery(
+                "INSERT INTO " + GroupRepoExt.UDYNMEMB_TABLE + " (any_id, group_id) SELECT k.any_key, ?3 "
+                + "FROM (" + KEY_QUERY + ") k");
+        verify(query).setParameter(1, "rossini");
+        verify(query).setParameter(2, 1);
+        verify(query).setParameter(3, GROUP_KEY);
+        verify(query).executeUpdate();
+    }
+
+    @Test
+    public void insertADynMembers() {
+        AnySearchDAO anySearchDAO = keyQueryBuilder();
+        assertTrue(groupRepoExt(anySearchDAO).insertDynMembers(group, cond(), AnyTypeKind.ANY_OBJECT, "PRINTER"));
+
+        ArgumentCaptor<SearchCond> effectiveCond = ArgumentCaptor.forClass(SearchCond.class);
+        verify((AnyKeyQueryBuilder) anySearchDAO).buildKeyQuery(
+                any(Realm.class), eq(true), eq(Set.of("/even")), effectiveCond.capture(), eq(AnyTypeKind.ANY_OBJECT));
+        assertEquals(SearchCond.Type.AND, effectiveCond.getValue().getType());
+
+        verify(entityManager).createNativeQuery(
+                "INSERT INTO " + GroupRepoExt.ADYNMEMB_TABLE + " (anyType_id, any_id, group_id) "
+                + "SELECT ?3, k.any_key, ?4 FROM (" + KEY_QUERY + ") k");
+        verify(query).setParameter(1, "rossini");
+        verify(query).setParameter(2, 1);
+        verify(query).setParameter(3, "PRINTER");
+        verify(query).setParameter(4, GROUP_KEY);
+        verify(query).executeUpdate();
+    }
+
+    @Test
+    public void insertDynMembersFallback() {
+        assertFalse(groupRepoExt(mock(AnySearchDAO.class)).
+                insertDynMembers(group, cond(), AnyTypeKind.USER, null));
+
+        verify(entityManager, never()).createNativeQuery(anyString());
+    }
+
+    @Test
+    public void forEachDynMembersPage() {
+        List<Object> firstPage = IntStream.range(0, AnyDAO.DEFAULT_PAGE_SIZE).
+                mapToObj(i -> String.format("key%05d", i)).map(Object.class::cast).toList();
+        List<Object> lastPage = List.of("key99999");
+        when(query.getResultList()).thenReturn(firstPage, lastPage);
+
+        List<List<String>> pages = new ArrayList<>();
+        groupRepoExt(mock(AnySearchDAO.class)).forEachDynMembersPage(group, "PRINTER", pages::add);
+
+        assertEquals(2, pages.size());
+        assertEquals(AnyDAO.DEFAULT_PAGE_SIZE, pages.getFirst().size());
+        assertEquals(List.of("key99999"), pages.getLast());
+
+        verify(entityManager).createNativeQuery("SELECT any_id FROM " + GroupRepoExt.ADYNMEMB_TABLE
+                + " WHERE group_id=?1 AND anyType_id=?2 ORDER BY any_id");
+        verify(entityManager).createNativeQuery("SELECT any_id FROM " + GroupRepoExt.ADYNMEMB_TABLE
+                + " WHERE group_id=?1 AND anyType_id=?2 AND any_id>?3 ORDER BY any_id");
+        verify(query).setParameter(3, firstPage.getLast());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AbstractAttributableTest {
+
+    private static final String JSON =
+            "[{\"schema\":\"fullname\",\"values\":[{\"stringValue\":\"Giuseppe Verdi\"}]}]";
+
+    @Mock
+    private ConfigurableApplicationContext ctx;
+
+    @Mock
+    private PlainSchemaDAO plainSchemaDAO;
+
+    @Mock
+    private PlainSchema plainSchema;
+
+    @BeforeEach
+    public void setUp() {
+        when(ctx.getBean(PlainSchemaDAO.class)).thenReturn(plainSchemaDAO);
+        doReturn(Optional.of(plainSchema)).when(plainSchemaDAO).findById(anyString());
+        ApplicationContextProvider.setApplicationContext(ctx);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ApplicationContextProvider.setApplicationContext(null);
+    }
+
+    private static JPAUser loaded(final String json) {
+        JPAUser user = new JPAUser();
+        user.setPlainAttrsJSON(json);
+        user.json2listOnDemand();
+        return user;
+    }
+
+    @Test
+    public void notDeserializedUntilAccessed() {
+        JPAUser user = loaded(JSON);
+
+        user.list2json();
+        assertSame(JSON, user.getPlainAttrsJSON());
+        verify(plainSchemaDAO, never()).findById(anyString());
+    }
+
+    @Test
+    public void deserializedOnFirstAccess() {
+        JPAUser user = loaded(JSON);
+
+        PlainAttr attr = user.getPlainAttr("fullname").orElseThrow();
+        assertEquals(1, attr.getValues().size());
+        assertEquals("Giuseppe Verdi", attr.getValues().getFirst().getStringValue());
+        assertSame(attr, attr.getValues().getFirst().getAttr());
+
+        // deserialized only once
+        assertSame(attr, user.getPlainAttrs().getFirst());
+        assertEquals(1, user.getPlainAttrsList().size());
+    }
+
+    @Test
+    public void serializedAfterChange() {
+        JPAUser user = loaded(JSON);
+
+        user.remove(user.getPlainAttr("fullname").orElseThrow());
+        user.list2json();
+        assertEquals("[]", user.getPlainAttrsJSON());
+    }
+
+    @Test
+    public void reloadedAfterSave() {
+        JPAUser user = loaded(JSON);
+        assertTrue(user.getPlainAttr("fullname").isPresent());
+
+        user.setPlainAttrsJSON("[{\"schema\":\"surname\",\"values\":[{\"stringValue\":\"Verdi\"}]}]");
+        user.json2listOnDemand();
+
+        assertTrue(user.getPlainAttr("fullname").isEmpty());
+        assertEquals("Verdi", user.getPlainAttr("surname").orElseThrow().getValues().getFirst().getStringValue());
+    }
+}
@@ -47,6 +47,7 @@ import org.apache.syncope.core.persistence.api.dao.BatchDAO;
 import org.apache.syncope.core.persistence.api.dao.CASSPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
@@ -94,6 +95,7 @@ import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnyMatchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAuditEventDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jBatchDAO;
+import org.apache.syncope.core.persistence.neo4j.dao.Neo4jDerAttrValueDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jEntityCacheDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jJobStatusDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jOIDCJWKSDAO;
@@ -777,10 +779,17 @@ public class PersistenceContext {
                         setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrValueDAO derAttrValueDAO(final Neo4jClient neo4jClient) {
+        return new Neo4jDerAttrValueDAO(neo4jClient);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public DerSchemaRepoExt derSchemaRepoExt(
             final @Lazy ExternalResourceDAO resourceDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
@@ -788,6 +797,7 @@ public class PersistenceContext {
 
         return new DerSchemaRepoExtImpl(
                 resourceDAO,
+                derAttrValueDAO,
                 neo4jTemplate,
                 neo4jClient,
                 nodeValidator,
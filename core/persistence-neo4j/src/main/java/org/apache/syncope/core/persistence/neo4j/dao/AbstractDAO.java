@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -115,6 +117,23 @@ public abstract class AbstractDAO {
                 flatMap(Optional::stream).map(n -> (E) n).toList();
     }
 
+    @SuppressWarnings("unchecked")
+    protected <E extends Entity, N extends AbstractNode> Map<String, List<E>> toMap(
+            final Collection<Map<String, Object>> result,
+            final String keyProperty,
+            final String property,
+            final Class<N> domainType,
+            final Cache<EntityCacheKey, N> cache) {
+
+        Map<String, Optional<N>> resolved = new HashMap<>();
+        Map<String, List<E>> map = new HashMap<>();
+        result.forEach(found -> resolved.computeIfAbsent(
+                found.get(property).toString(), key -> findById(key, domainType, cache)).
+                ifPresent(n -> map.computeIfAbsent(found.get(keyProperty).toString(), k -> new ArrayList<>()).
+                add((E) n)));
+        return map;
+    }
+
     protected void cascadeDelete(
             final String leftNode,
             final String rightNode,
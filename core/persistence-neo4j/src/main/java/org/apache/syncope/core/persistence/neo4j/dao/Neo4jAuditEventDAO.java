@@ -92,6 +92,14 @@ public class Neo4jAuditEventDAO implements AuditEventDAO {
             return this;
         }
 
+        public AuditEventCriteriaBuilder lastKey(final String lastKey, final Map<String, Object> parameters) {
+            if (lastKey != null) {
+                query.append(andIfNeeded()).append("(n.when < l.when OR (n.when = l.when AND n.id < l.id))");
+                parameters.put("lastKey", lastKey);
+            }
+            return this;
+        }
+
         public String build() {
             return query.toString();
         }
@@ -119,6 +127,12 @@ public class Neo4jAuditEventDAO implements AuditEventDAO {
         return neo4jTemplate.save(nodeValidator.validate(auditEvent));
     }
 
+    @Transactional
+    @Override
+    public List<AuditEvent> saveAll(final List<AuditEvent> auditEvents) {
+        return neo4jTemplate.saveAll(auditEvents.stream().map(nodeValidator::validate).toList());
+    }
+
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
         return new AuditEventCriteriaBuilder().entityKey(entityKey);
     }
@@ -185,4 +199,36 @@ public class Neo4jAuditEventDAO implements AuditEventDAO {
                 map(found -> neo4jTemplate.findById(found.get("n.id"), Neo4jAuditEvent.class)).
                 flatMap(Optional::stream).map(this::toAuditEventTO).toList();
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AuditEventTO> searchAfter(
+            final String entityKey,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op,
+            final OpEvent.Outcome outcome,
+            final OffsetDateTime before,
+            final OffsetDateTime after,
+            final String lastKey,
+            final int size) {
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        String query = (lastKey == null ? "" : "MATCH (l:" + Neo4jAuditEvent.NODE + " {id: $lastKey}) ")
+                + "MATCH (n:" + Neo4jAuditEvent.NODE + ") "
+                + "WHERE " + criteriaBuilder(entityKey).
+                        opEvent(type, category, subcategory, op, outcome).
+                        before(before, parameters).
+                        after(after, parameters).
+                        lastKey(lastKey, parameters).
+                        build()
+                + " RETURN n.id ORDER BY n.when DESC, n.id DESC LIMIT " + size;
+
+        return neo4jClient.query(query).
+                bindAll(parameters).fetch().all().stream().
+                map(found -> neo4jTemplate.findById(found.get("n.id"), Neo4jAuditEvent.class)).
+                flatMap(Optional::stream).map(this::toAuditEventTO).toList();
+    }
 }
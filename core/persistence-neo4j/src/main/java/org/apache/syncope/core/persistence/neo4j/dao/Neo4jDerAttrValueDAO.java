@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class Neo4jDerAttrValueDAO implements DerAttrValueDAO {
+
+    public static final String NODE = "DerAttrValue";
+
+    protected final Neo4jClient neo4jClient;
+
+    public Neo4jDerAttrValueDAO(final Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public Set<String> replace(final String anyKey, final Map<String, String> values) {
+        List<Map<String, String>> toStore = values.entrySet().stream().
+                filter(entry -> StringUtils.isNotEmpty(entry.getValue())).
+                map(entry -> Map.of(
+                "schema", entry.getKey(),
+                "value", entry.getValue(),
+                "lowerValue", entry.getValue().toLowerCase())).
+                toList();
+
+        neo4jClient.query(
+                "MATCH (n:" + NODE + " {anyKey: $anyKey}) "
+                + "WHERE NOT n.schema IN $schemas "
+                + "DELETE n").
+                bindAll(Map.of("anyKey", anyKey, "schemas", toStore.stream().map(v -> v.get("schema")).toList())).
+                run();
+
+        if (!toStore.isEmpty()) {
+            neo4jClient.query(
+                    "UNWIND $values AS v "
+                    + "MERGE (n:" + NODE + " {anyKey: $anyKey, schema: v.schema}) "
+                    + "SET n.value = v.value, n.lowerValue = v.lowerValue").
+                    bindAll(Map.of("anyKey", anyKey, "values", toStore)).
+                    run();
+        }
+
+        return Set.of();
+    }
+
+    @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public Set<String> replaceAll(final Map<String, Map<String, String>> values) {
+        values.forEach(this::replace);
+        return Set.of();
+    }
+
+    @Override
+    public void deleteByAny(final String anyKey) {
+        neo4jClient.query("MATCH (n:" + NODE + " {anyKey: $anyKey}) DELETE n").
+                bindAll(Map.of("anyKey", anyKey)).run();
+    }
+
+    @Override
+    public void deleteBySchema(final String schemaKey) {
+        neo4jClient.query("MATCH (n:" + NODE + " {schema: $schema}) DELETE n").
+                bindAll(Map.of("schema", schemaKey)).run();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findAnyKeys(final String schemaKey, final String value, final boolean ignoreCase) {
+        return neo4jClient.query(
+                "MATCH (n:" + NODE + " {schema: $schema}) "
+                + "WHERE n." + (ignoreCase ? "lowerValue" : "value") + " = $value "
+                + "RETURN n.anyKey").
+                bindAll(Map.of("schema", schemaKey, "value", ignoreCase ? value.toLowerCase() : value)).
+                fetch().all().stream().map(found -> found.get("n.anyKey").toString()).toList();
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -49,6 +50,7 @@ import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
 import org.apache.syncope.core.persistence.neo4j.dao.AbstractDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.AbstractAny;
@@ -58,7 +60,6 @@ import org.apache.syncope.core.persistence.neo4j.entity.Neo4jExternalResource;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractAnyRepoExt<A extends Any, N extends AbstractAny>
@@ -170,10 +171,14 @@ public abstract class AbstractAnyRepoExt<A extends Any, N extends AbstractAny>
         return anyFinder.findByDerAttrValue(anyUtils.anyTypeKind(), expression, value, ignoreCaseMatch);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Transactional(readOnly = true)
     @Override
-    @SuppressWarnings("unchecked")
     public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final A any, final Class<S> reference) {
+        return AllowedSchemasCache.get(any, reference, () -> doFindAllowedSchemas(any, reference));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <S extends Schema> AllowedSchemas<S> doFindAllowedSchemas(final A any, final Class<S> reference) {
         AllowedSchemas<S> result = new AllowedSchemas<>();
 
         // schemas given by type and aux classes
@@ -265,6 +270,22 @@ public abstract class AbstractAnyRepoExt<A extends Any, N extends AbstractAny>
                 map(found -> found.get("p.id").toString()).distinct().toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        Map<String, List<String>> result = new HashMap<>();
+        neo4jClient.query(
+                "MATCH (n)-"
+                + "[:" + DynRealmRepoExt.DYN_REALM_MEMBERSHIP_REL + "]-"
+                + "(p:" + Neo4jDynRealm.NODE + ") "
+                + "WHERE n.id IN $ids "
+                + "RETURN DISTINCT n.id, p.id").
+                bindAll(Map.of("ids", keys)).fetch().all().
+                forEach(found -> result.computeIfAbsent(found.get("n.id").toString(), k -> new ArrayList<>()).
+                add(found.get("p.id").toString()));
+        return result;
+    }
+
     @Override
     public List<A> findByResourcesContaining(final ExternalResource resource) {
         return findByRelationship(
@@ -318,6 +318,21 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
                 null);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        return toMap(neo4jClient.query(
+                "MATCH (n:" + Neo4jAnyObject.NODE + ")-"
+                + "[:" + GroupRepoExt.DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-"
+                + "(p:" + Neo4jGroup.NODE + ") "
+                + "WHERE n.id IN $ids "
+                + "RETURN DISTINCT n.id, p.id").bindAll(Map.of("ids", keys)).fetch().all(),
+                "n.id",
+                "p.id",
+                Neo4jGroup.class,
+                null);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final AnyObject anyObject) {
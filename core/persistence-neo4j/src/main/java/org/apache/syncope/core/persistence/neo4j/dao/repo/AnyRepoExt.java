@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
@@ -81,6 +82,8 @@ public interface AnyRepoExt<A extends Any> {
 
     List<String> findDynRealms(String key);
 
+    Map<String, List<String>> findDynRealms(Collection<String> keys);
+
     Collection<String> findAllResourceKeys(String key);
 
     List<A> findByResourcesContaining(ExternalResource resource);
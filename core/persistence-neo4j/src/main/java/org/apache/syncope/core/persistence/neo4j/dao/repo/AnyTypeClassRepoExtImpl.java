@@ -31,6 +31,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.neo4j.dao.AbstractDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
@@ -98,6 +99,8 @@ public class AnyTypeClassRepoExtImpl extends AbstractDAO implements AnyTypeClass
 
     @Override
     public AnyTypeClass save(final AnyTypeClass anyTypeClass) {
+        AllowedSchemasCache.invalidate();
+
         // unlink any schema that was unlinked from anyTypeClass
         neo4jTemplate.findById(anyTypeClass.getKey(), Neo4jAnyTypeClass.class).ifPresent(before -> {
             before.getPlainSchemas().stream().filter(schema -> !anyTypeClass.getPlainSchemas().contains(schema)).
@@ -139,6 +142,8 @@ public class AnyTypeClassRepoExtImpl extends AbstractDAO implements AnyTypeClass
 
     @Override
     public void deleteById(final String key) {
+        AllowedSchemasCache.invalidate();
+
         AnyTypeClass anyTypeClass = findById(key).orElse(null);
         if (anyTypeClass == null) {
             return;
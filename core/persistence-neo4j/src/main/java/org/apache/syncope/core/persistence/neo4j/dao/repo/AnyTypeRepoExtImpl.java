@@ -26,6 +26,7 @@ import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.neo4j.dao.AbstractDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
@@ -91,6 +92,8 @@ public class AnyTypeRepoExtImpl extends AbstractDAO implements AnyTypeRepoExt {
     @Transactional
     @Override
     public AnyType save(final AnyType anyType) {
+        AllowedSchemasCache.invalidate();
+
         AnyType saved = neo4jTemplate.save(nodeValidator.validate(anyType));
         cache.put(EntityCacheKey.of(saved.getKey()), (Neo4jAnyType) saved);
         return saved;
@@ -98,6 +101,8 @@ public class AnyTypeRepoExtImpl extends AbstractDAO implements AnyTypeRepoExt {
 
     @Override
     public void deleteById(final String key) {
+        AllowedSchemasCache.invalidate();
+
         AnyType anyType = findById(key).orElse(null);
         if (anyType == null) {
             return;
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
@@ -34,6 +35,10 @@ public interface DelegationRepoExt {
 
     List<Delegation> findByDelegated(User user);
 
+    List<Delegation> findByDelegatingIn(Collection<String> userKeys);
+
+    List<Delegation> findByDelegatedIn(Collection<String> userKeys);
+
     List<Delegation> findByRoles(Role role);
 
     Delegation save(Delegation delegation);
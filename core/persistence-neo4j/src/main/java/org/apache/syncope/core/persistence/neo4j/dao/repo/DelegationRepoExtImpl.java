@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -80,6 +81,32 @@ public class DelegationRepoExtImpl extends AbstractDAO implements DelegationRepo
                 cache);
     }
 
+    @Override
+    public List<Delegation> findByDelegatingIn(final Collection<String> userKeys) {
+        return toList(neo4jClient.query(
+                "MATCH (l:" + Neo4jUser.NODE + ")-"
+                + "[:" + Neo4jDelegation.DELEGATING_REL + "]-"
+                + "(n:" + Neo4jDelegation.NODE + ") "
+                + "WHERE l.id IN $ids "
+                + "RETURN n.id").bindAll(Map.of("ids", userKeys)).fetch().all(),
+                "n.id",
+                Neo4jDelegation.class,
+                cache);
+    }
+
+    @Override
+    public List<Delegation> findByDelegatedIn(final Collection<String> userKeys) {
+        return toList(neo4jClient.query(
+                "MATCH (n:" + Neo4jDelegation.NODE + ")-"
+                + "[:" + Neo4jDelegation.DELEGATED_REL + "]-"
+                + "(u:" + Neo4jUser.NODE + ") "
+                + "WHERE u.id IN $ids "
+                + "RETURN n.id").bindAll(Map.of("ids", userKeys)).fetch().all(),
+                "n.id",
+                Neo4jDelegation.class,
+                cache);
+    }
+
     @Override
     public List<Delegation> findByRoles(final Role role) {
         return toList(neo4jClient.query(
@@ -32,6 +32,8 @@ public interface DerSchemaRepoExt {
 
     List<? extends DerSchema> findByIdLike(String keyword);
 
+    List<? extends DerSchema> findByMaterializedTrue();
+
     List<? extends DerSchema> findByAnyTypeClasses(Collection<AnyTypeClass> anyTypeClasses);
 
     DerSchema save(DerSchema schema);
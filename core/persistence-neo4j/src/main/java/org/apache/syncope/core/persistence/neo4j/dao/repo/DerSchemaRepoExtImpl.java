@@ -20,12 +20,15 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.cache.Cache;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jDerSchema;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jSchema;
@@ -38,10 +41,13 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
 
     protected final ExternalResourceDAO resourceDAO;
 
+    protected final DerAttrValueDAO derAttrValueDAO;
+
     protected final Cache<EntityCacheKey, Neo4jDerSchema> derSchemaCache;
 
     public DerSchemaRepoExtImpl(
             final ExternalResourceDAO resourceDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
@@ -49,6 +55,7 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
 
         super(neo4jTemplate, neo4jClient, nodeValidator);
         this.resourceDAO = resourceDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
         this.derSchemaCache = derSchemaCache;
     }
 
@@ -70,6 +77,17 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
         return findByIdLike(Neo4jDerSchema.NODE, Neo4jDerSchema.class, keyword);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<? extends DerSchema> findByMaterializedTrue() {
+        return toList(neo4jClient.query(
+                "MATCH (n:" + Neo4jDerSchema.NODE + ") WHERE n.materialized = $materialized RETURN n.id").
+                bindAll(Map.of("materialized", true)).fetch().all(),
+                "n.id",
+                Neo4jDerSchema.class,
+                derSchemaCache);
+    }
+
     @Override
     public List<? extends DerSchema> findByAnyTypeClasses(final Collection<AnyTypeClass> anyTypeClasses) {
         return findByAnyTypeClasses(anyTypeClasses, Neo4jDerSchema.class, DerSchema.class);
@@ -83,6 +101,8 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
 
         derSchemaCache.put(EntityCacheKey.of(schema.getKey()), (Neo4jDerSchema) saved);
 
+        AllowedSchemasCache.invalidate();
+
         return saved;
     }
 
@@ -91,11 +111,15 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
         findById(key).ifPresent(schema -> {
             resourceDAO.deleteMapping(key);
 
+            derAttrValueDAO.deleteBySchema(key);
+
             Optional.ofNullable(schema.getAnyTypeClass()).ifPresent(atc -> atc.getDerSchemas().remove(schema));
 
             derSchemaCache.remove(EntityCacheKey.of(key));
 
             neo4jTemplate.deleteById(key, Neo4jDerSchema.class);
+
+            AllowedSchemasCache.invalidate();
         });
     }
 }
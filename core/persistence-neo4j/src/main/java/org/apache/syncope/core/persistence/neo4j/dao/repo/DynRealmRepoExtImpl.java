@@ -18,20 +18,25 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.common.dao.DynMembershipConds;
 import org.apache.syncope.core.persistence.neo4j.dao.AbstractDAO;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jDynRealm;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jDynRealmMembership;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
@@ -168,33 +173,60 @@ public class DynRealmRepoExtImpl extends AbstractDAO implements DynRealmRepoExt
         });
     }
 
+    /**
+     * Finds the compiled dynamic membership conditions defined for the given any type.
+     *
+     * @param anyType any type key
+     * @return compiled conditions, by dynamic realm key
+     */
+    protected Map<String, SearchCond> findDynMembershipConds(final String anyType) {
+        Map<String, SearchCond> conds = new HashMap<>();
+        neo4jClient.query(
+                "MATCH (r:" + Neo4jDynRealm.NODE + ")-[:" + Neo4jDynRealm.DYNREALM_MEMBERSHIP_REL + "]-"
+                + "(m:" + Neo4jDynRealmMembership.NODE + ")-[]-(:" + Neo4jAnyType.NODE + " {id: $type}) "
+                + "RETURN r.id, m.fiql").
+                bindAll(Map.of("type", anyType)).fetch().all().forEach(found -> conds.put(
+                found.get("r.id").toString(),
+                DynMembershipConds.get(searchCondVisitor, found.get("m.fiql").toString())));
+        return conds;
+    }
+
     @Transactional
     @Override
     public void refreshDynMemberships(final Any any) {
-        neo4jTemplate.findAll(Neo4jDynRealm.class).
-                forEach(dynRealm -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
-
-            boolean matches = anyMatchDAO.matches(
-                    any, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-
-            boolean existing = neo4jTemplate.count(
-                    "MATCH (n {id: $aid})-[:" + DYN_REALM_MEMBERSHIP_REL + "]-(p:" + Neo4jDynRealm.NODE + "{id: $pid}) "
-                    + "RETURN COUNT(p)",
-                    Map.of("aid", any.getKey(), "pid", dynRealm.getKey())) > 0;
-
-            if (matches && !existing) {
-                neo4jClient.query(
-                        "MATCH (a:" + node(any) + " {id: $aid}), (b:" + Neo4jDynRealm.NODE + "{id: $rid}) "
-                        + "CREATE (a)-[:" + DYN_REALM_MEMBERSHIP_REL + "]->(b)").
-                        bindAll(Map.of("aid", any.getKey(), "rid", dynRealm.getKey())).run();
-            } else if (!matches && existing) {
-                neo4jClient.query(
-                        "MATCH (n {id: $aid})-"
-                        + "[r:" + DYN_REALM_MEMBERSHIP_REL + "]-"
-                        + "(p:" + Neo4jDynRealm.NODE + " {id: $rid}) "
-                        + "DETACH DELETE r").bindAll(Map.of("aid", any.getKey(), "rid", dynRealm.getKey())).run();
-            }
-        }));
+        Map<String, SearchCond> conds = findDynMembershipConds(any.getType().getKey());
+        if (conds.isEmpty()) {
+            return;
+        }
+
+        Set<String> after = conds.entrySet().stream().
+                filter(cond -> anyMatchDAO.matches(any, cond.getValue())).
+                map(Map.Entry::getKey).
+                collect(Collectors.toSet());
+
+        Set<String> before = neo4jClient.query(
+                "MATCH (n {id: $aid})-[:" + DYN_REALM_MEMBERSHIP_REL + "]-(p:" + Neo4jDynRealm.NODE + ") "
+                + "RETURN p.id").
+                bindAll(Map.of("aid", any.getKey())).fetch().all().stream().
+                map(found -> found.get("p.id").toString()).
+                filter(conds::containsKey).
+                collect(Collectors.toSet());
+
+        List<String> added = after.stream().filter(dynRealm -> !before.contains(dynRealm)).toList();
+        if (!added.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (a:" + node(any) + " {id: $aid}), (b:" + Neo4jDynRealm.NODE + ") WHERE b.id IN $rids "
+                    + "CREATE (a)-[:" + DYN_REALM_MEMBERSHIP_REL + "]->(b)").
+                    bindAll(Map.of("aid", any.getKey(), "rids", added)).run();
+        }
+
+        List<String> removed = before.stream().filter(dynRealm -> !after.contains(dynRealm)).toList();
+        if (!removed.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (n {id: $aid})-[r:" + DYN_REALM_MEMBERSHIP_REL + "]-(p:" + Neo4jDynRealm.NODE + ") "
+                    + "WHERE p.id IN $rids "
+                    + "DETACH DELETE r").bindAll(Map.of("aid", any.getKey(), "rids", removed)).run();
+        }
     }
 
     @Override
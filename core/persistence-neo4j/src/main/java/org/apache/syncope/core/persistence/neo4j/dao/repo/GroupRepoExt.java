@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,6 +60,14 @@ public interface GroupRepoExt extends AnyRepoExt<Group> {
 
     long countUDynMembers(Group group);
 
+    Map<String, Long> countAMembers(Collection<String> groupKeys);
+
+    Map<String, Long> countUMembers(Collection<String> groupKeys);
+
+    Map<String, Long> countADynMembers(Collection<String> groupKeys);
+
+    Map<String, Long> countUDynMembers(Collection<String> groupKeys);
+
     List<String> findADynMembers(Group group);
 
     List<String> findUDynMembers(Group group);
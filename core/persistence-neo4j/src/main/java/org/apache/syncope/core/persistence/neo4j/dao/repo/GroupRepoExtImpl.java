@@ -59,7 +59,9 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
+import org.apache.syncope.core.persistence.common.dao.DynMembershipConds;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
@@ -79,7 +81,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
@@ -279,6 +280,8 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
 
     @Override
     public <S extends Group> S save(final S group) {
+        AllowedSchemasCache.invalidate();
+
         checkBeforeSave(group);
 
         // unlink any resource, aux class, user or group owner that was unlinked from group
@@ -344,15 +347,16 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
         clearUDynMembers(merged);
         if (merged.getUDynMembership() != null) {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, merged.getUDynMembership().getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.USER);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<User> matching = anySearchDAO.search(
+            List<User> matching;
+            String lastKey = null;
+            do {
+                matching = anySearchDAO.seek(
                         merged.getRealm(),
                         true,
                         Set.of(merged.getRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        lastKey,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         AnyTypeKind.USER);
 
                 matching.forEach(user -> {
@@ -364,20 +368,23 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
                 });
-            }
+
+                lastKey = matching.isEmpty() ? null : matching.getLast().getKey();
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
         clearADynMembers(merged);
         merged.getADynMemberships().forEach(memb -> {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<AnyObject> matching = anySearchDAO.search(
+            List<AnyObject> matching;
+            String lastKey = null;
+            do {
+                matching = anySearchDAO.seek(
                         merged.getRealm(),
                         true,
                         Set.of(merged.getRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        lastKey,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         AnyTypeKind.ANY_OBJECT);
 
                 matching.forEach(any -> {
@@ -389,7 +396,9 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
                 });
-            }
+
+                lastKey = matching.isEmpty() ? null : matching.getLast().getKey();
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         });
 
         dynRealmDAO.refreshDynMemberships(merged);
@@ -399,6 +408,8 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
 
     @Override
     public void delete(final Group group) {
+        AllowedSchemasCache.invalidate();
+
         dynRealmDAO.removeDynMemberships(group.getKey());
 
         findAMemberships(group).forEach(membership -> {
@@ -472,6 +483,46 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
                 + "RETURN COUNT(DISTINCT n.id)", Map.of("id", group.getKey()));
     }
 
+    protected Map<String, Long> countByGroup(final String match, final Collection<String> groupKeys) {
+        Map<String, Long> result = new HashMap<>();
+        neo4jClient.query(match + " WHERE p.id IN $ids RETURN p.id, COUNT(DISTINCT n.id) AS count").
+                bindAll(Map.of("ids", groupKeys)).fetch().all().
+                forEach(found -> result.put(found.get("p.id").toString(), ((Number) found.get("count")).longValue()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> countAMembers(final Collection<String> groupKeys) {
+        return countByGroup(
+                "MATCH (n:" + Neo4jAnyObject.NODE + ")-[]-"
+                + "(m:" + Neo4jAMembership.NODE + ")-[]-"
+                + "(p:" + Neo4jGroup.NODE + ")",
+                groupKeys);
+    }
+
+    @Override
+    public Map<String, Long> countUMembers(final Collection<String> groupKeys) {
+        return countByGroup(
+                "MATCH (n:" + Neo4jUser.NODE + ")-[]-"
+                + "(m:" + Neo4jUMembership.NODE + ")-[]-"
+                + "(p:" + Neo4jGroup.NODE + ")",
+                groupKeys);
+    }
+
+    @Override
+    public Map<String, Long> countADynMembers(final Collection<String> groupKeys) {
+        return countByGroup(
+                "MATCH (n)-[:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-(p:" + Neo4jGroup.NODE + ")",
+                groupKeys);
+    }
+
+    @Override
+    public Map<String, Long> countUDynMembers(final Collection<String> groupKeys) {
+        return countByGroup(
+                "MATCH (n)-[:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]-(p:" + Neo4jGroup.NODE + ")",
+                groupKeys);
+    }
+
     @Override
     public List<String> findADynMembers(final Group group) {
         return neo4jClient.query(
@@ -515,46 +566,71 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
                 null);
     }
 
+    /**
+     * Reads the current dynamic memberships of the given any, then creates and deletes relationships as needed to
+     * reach {@code after}, in one statement each.
+     *
+     * @param anyNode node label of the any
+     * @param rel dynamic membership relationship type
+     * @param anyKey any key
+     * @param groups groups with dynamic membership conditions, by key
+     * @param after keys of groups the any is now dynamic member of
+     * @return keys of groups the any was dynamic member of
+     */
+    protected Set<String> refreshDynMemberships(
+            final String anyNode,
+            final String rel,
+            final String anyKey,
+            final Map<String, Group> groups,
+            final Set<String> after) {
+
+        Set<String> before = neo4jClient.query(
+                "MATCH (n:" + anyNode + " {id: $aid})-[:" + rel + "]-(p:" + Neo4jGroup.NODE + ") "
+                + "RETURN p.id").
+                bindAll(Map.of("aid", anyKey)).fetch().all().stream().
+                map(found -> found.get("p.id").toString()).
+                filter(groups::containsKey).
+                collect(Collectors.toCollection(HashSet::new));
+
+        List<String> added = after.stream().filter(groupKey -> !before.contains(groupKey)).toList();
+        if (!added.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (a:" + anyNode + " {id: $aid}), (b:" + Neo4jGroup.NODE + ") WHERE b.id IN $gids "
+                    + "CREATE (a)-[:" + rel + "]->(b)").
+                    bindAll(Map.of("aid", anyKey, "gids", added)).run();
+        }
+
+        List<String> removed = before.stream().filter(groupKey -> !after.contains(groupKey)).toList();
+        if (!removed.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (n {id: $aid})-[r:" + rel + "]-(p:" + Neo4jGroup.NODE + ") WHERE p.id IN $gids "
+                    + "DETACH DELETE r").
+                    bindAll(Map.of("aid", anyKey, "gids", removed)).run();
+        }
+
+        added.forEach(groupKey -> publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, groups.get(groupKey), AuthContextUtils.getDomain())));
+        removed.forEach(groupKey -> publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, groups.get(groupKey), AuthContextUtils.getDomain())));
+
+        return before;
+    }
+
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Set<String> before = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         Set<String> after = new HashSet<>();
         findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
+            if (anyMatchDAO.matches(anyObject, DynMembershipConds.get(searchCondVisitor, memb.getFIQLCond()))) {
                 after.add(memb.getGroup().getKey());
             }
-
-            boolean existing = neo4jTemplate.count(
-                    "MATCH (n:" + Neo4jAnyObject.NODE + " {id: $aid})-"
-                    + "[r:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-"
-                    + "(p:" + Neo4jGroup.NODE + "{id: $gid}) "
-                    + "RETURN COUNT(n)",
-                    Map.of("aid", anyObject.getKey(), "gid", memb.getGroup().getKey())) > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
-
-            if (matches && !existing) {
-                neo4jClient.query(
-                        "MATCH (a:" + Neo4jAnyObject.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
-                        + "CREATE (a)-[:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]->(b)").
-                        bindAll(Map.of("aid", anyObject.getKey(), "gid", memb.getGroup().getKey())).run();
-            } else if (!matches && existing) {
-                neo4jClient.query(
-                        "MATCH (n {id: $aid})-"
-                        + "[r:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-"
-                        + "(p:" + Neo4jGroup.NODE + " {id: $gid}) "
-                        + "DETACH DELETE r").
-                        bindAll(Map.of("aid", anyObject.getKey(), "gid", memb.getGroup().getKey())).run();
-            }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        Set<String> before = refreshDynMemberships(
+                Neo4jAnyObject.NODE, DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL, anyObject.getKey(), groups, after);
+
         return Pair.of(before, after);
     }
 
@@ -585,43 +661,18 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Set<String> before = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         Set<String> after = new HashSet<>();
         findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
+            if (anyMatchDAO.matches(user, DynMembershipConds.get(searchCondVisitor, memb.getFIQLCond()))) {
                 after.add(memb.getGroup().getKey());
             }
-
-            boolean existing = neo4jTemplate.count(
-                    "MATCH (n:" + Neo4jUser.NODE + " {id: $aid})-"
-                    + "[r:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]-"
-                    + "(p:" + Neo4jGroup.NODE + "{id: $gid}) "
-                    + "RETURN COUNT(n)",
-                    Map.of("aid", user.getKey(), "gid", memb.getGroup().getKey())) > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
-
-            if (matches && !existing) {
-                neo4jClient.query(
-                        "MATCH (a:" + Neo4jUser.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
-                        + "CREATE (a)-[:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]->(b)").
-                        bindAll(Map.of("aid", user.getKey(), "gid", memb.getGroup().getKey())).run();
-            } else if (!matches && existing) {
-                neo4jClient.query(
-                        "MATCH (n {id: $aid})-"
-                        + "[r:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]-"
-                        + "(p:" + Neo4jGroup.NODE + " {id: $gid}) "
-                        + "DETACH DELETE r").
-                        bindAll(Map.of("aid", user.getKey(), "gid", memb.getGroup().getKey())).run();
-            }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        Set<String> before = refreshDynMemberships(
+                Neo4jUser.NODE, DYN_GROUP_USER_MEMBERSHIP_REL, user.getKey(), groups, after);
+
         return Pair.of(before, after);
     }
 
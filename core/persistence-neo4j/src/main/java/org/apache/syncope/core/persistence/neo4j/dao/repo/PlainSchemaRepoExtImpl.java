@@ -30,6 +30,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.apache.syncope.core.persistence.common.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jImplementation;
@@ -186,6 +187,8 @@ public class PlainSchemaRepoExtImpl extends AbstractSchemaRepoExt implements Pla
 
         plainSchemaCache.put(EntityCacheKey.of(schema.getKey()), (Neo4jPlainSchema) saved);
 
+        AllowedSchemasCache.invalidate();
+
         return saved;
     }
 
@@ -199,6 +202,8 @@ public class PlainSchemaRepoExtImpl extends AbstractSchemaRepoExt implements Pla
             plainSchemaCache.remove(EntityCacheKey.of(key));
 
             neo4jTemplate.deleteById(key, Neo4jPlainSchema.class);
+
+            AllowedSchemasCache.invalidate();
         });
     }
 }
@@ -52,10 +52,14 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     List<Role> findDynRoles(String key);
 
+    Map<String, List<Role>> findDynRoles(Collection<String> keys);
+
     Collection<Role> findAllRoles(User user);
 
     List<Group> findDynGroups(String key);
 
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     Collection<Group> findAllGroups(User user);
 
     Collection<String> findAllGroupKeys(User user);
@@ -76,6 +80,8 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     Optional<? extends LinkedAccount> findLinkedAccount(ExternalResource resource, String connObjectKeyValue);
 
+    List<LinkedAccount> findLinkedAccounts(ExternalResource resource, Collection<String> connObjectKeyValues);
+
     List<LinkedAccount> findLinkedAccounts(String userKey);
 
     List<LinkedAccount> findLinkedAccountsByResource(ExternalResource resource);
@@ -367,6 +367,21 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
                 null);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<Role>> findDynRoles(final Collection<String> keys) {
+        return toMap(neo4jClient.query(
+                "MATCH (n:" + Neo4jUser.NODE + ")-"
+                + "[:" + RoleRepoExt.DYN_ROLE_MEMBERSHIP_REL + "]-"
+                + "(p:" + Neo4jRole.NODE + ") "
+                + "WHERE n.id IN $ids "
+                + "RETURN DISTINCT n.id, p.id").bindAll(Map.of("ids", keys)).fetch().all(),
+                "n.id",
+                "p.id",
+                Neo4jRole.class,
+                null);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public List<Group> findDynGroups(final String key) {
@@ -380,6 +395,21 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
                 null);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        return toMap(neo4jClient.query(
+                "MATCH (n:" + Neo4jUser.NODE + ")-"
+                + "[:" + GroupRepoExt.DYN_GROUP_USER_MEMBERSHIP_REL + "]-"
+                + "(p:" + Neo4jGroup.NODE + ") "
+                + "WHERE n.id IN $ids "
+                + "RETURN DISTINCT n.id, p.id").bindAll(Map.of("ids", keys)).fetch().all(),
+                "n.id",
+                "p.id",
+                Neo4jGroup.class,
+                null);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final User user) {
@@ -451,6 +481,27 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
                 flatMap(toOptional("n.id", Neo4jLinkedAccount.class, null));
     }
 
+    @Override
+    public List<LinkedAccount> findLinkedAccounts(
+            final ExternalResource resource,
+            final Collection<String> connObjectKeyValues) {
+
+        if (connObjectKeyValues.isEmpty()) {
+            return List.of();
+        }
+
+        return toList(neo4jClient.query(
+                "MATCH (n:" + Neo4jLinkedAccount.NODE + ")-[]-"
+                + "(e:" + Neo4jExternalResource.NODE + " {id: $resource}) "
+                + "WHERE n.connObjectKeyValue IN $connObjectKeyValues "
+                + "RETURN n.id").
+                bindAll(Map.of("resource", resource.getKey(), "connObjectKeyValues", connObjectKeyValues)).
+                fetch().all(),
+                "n.id",
+                Neo4jLinkedAccount.class,
+                null);
+    }
+
     @Override
     public List<LinkedAccount> findLinkedAccounts(final String userKey) {
         return findByRelationship(
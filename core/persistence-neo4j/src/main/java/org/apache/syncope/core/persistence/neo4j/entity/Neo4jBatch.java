@@ -33,6 +33,10 @@ public class Neo4jBatch extends AbstractProvidedKeyNode implements Batch {
 
     private String results;
 
+    private int totalItems;
+
+    private int processedItems;
+
     @Override
     public OffsetDateTime getExpiryTime() {
         return expiryTime;
@@ -52,4 +56,24 @@ public class Neo4jBatch extends AbstractProvidedKeyNode implements Batch {
     public void setResults(final String results) {
         this.results = results;
     }
+
+    @Override
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    @Override
+    public void setTotalItems(final int totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    @Override
+    public int getProcessedItems() {
+        return processedItems;
+    }
+
+    @Override
+    public void setProcessedItems(final int processedItems) {
+        this.processedItems = processedItems;
+    }
 }
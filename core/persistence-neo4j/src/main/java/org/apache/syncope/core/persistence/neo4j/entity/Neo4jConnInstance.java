@@ -25,6 +25,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnPoolConf;
@@ -57,6 +58,8 @@ public class Neo4jConnInstance extends AbstractGeneratedKeyNode implements ConnI
 
     private static final int DEFAULT_TIMEOUT = 10;
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     /**
      * URI identifying the local / remote ConnId location where the related connector bundle is found.
      */
@@ -103,6 +106,14 @@ public class Neo4jConnInstance extends AbstractGeneratedKeyNode implements ConnI
      */
     private Integer connRequestTimeout = DEFAULT_TIMEOUT;
 
+    /**
+     * Page size used when paging over search results.
+     * DEFAULT_PAGE_SIZE if null.
+     */
+    private Integer searchPageSize;
+
+    private Boolean pipelinedSearch = false;
+
     private String poolConf;
 
     @Relationship(direction = Relationship.Direction.OUTGOING)
@@ -213,6 +224,26 @@ public class Neo4jConnInstance extends AbstractGeneratedKeyNode implements ConnI
         this.connRequestTimeout = timeout;
     }
 
+    @Override
+    public Integer getSearchPageSize() {
+        return Optional.ofNullable(searchPageSize).orElse(DEFAULT_PAGE_SIZE);
+    }
+
+    @Override
+    public void setSearchPageSize(final Integer searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    @Override
+    public boolean isPipelinedSearch() {
+        return BooleanUtils.isTrue(pipelinedSearch);
+    }
+
+    @Override
+    public void setPipelinedSearch(final boolean pipelinedSearch) {
+        this.pipelinedSearch = pipelinedSearch;
+    }
+
     @Override
     public ConnPoolConf getPoolConf() {
         return Optional.ofNullable(poolConf).map(pc -> POJOHelper.deserialize(pc, ConnPoolConf.class)).orElse(null);
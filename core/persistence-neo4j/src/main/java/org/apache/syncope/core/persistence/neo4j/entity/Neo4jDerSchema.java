@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.neo4j.entity;
 
 import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -35,6 +36,10 @@ public class Neo4jDerSchema extends Neo4jSchema implements DerSchema {
     @NotNull
     private String expression;
 
+    private Boolean materialized = false;
+
+    private Boolean fullyMaterialized = false;
+
     @Relationship(type = Neo4jAnyTypeClass.ANY_TYPE_CLASS_DER_REL, direction = Relationship.Direction.OUTGOING)
     private Neo4jAnyTypeClass anyTypeClass;
 
@@ -48,6 +53,26 @@ public class Neo4jDerSchema extends Neo4jSchema implements DerSchema {
         this.expression = expression;
     }
 
+    @Override
+    public boolean isMaterialized() {
+        return BooleanUtils.isTrue(materialized);
+    }
+
+    @Override
+    public void setMaterialized(final boolean materialized) {
+        this.materialized = materialized;
+    }
+
+    @Override
+    public boolean isFullyMaterialized() {
+        return BooleanUtils.isTrue(fullyMaterialized);
+    }
+
+    @Override
+    public void setFullyMaterialized(final boolean fullyMaterialized) {
+        this.fullyMaterialized = fullyMaterialized;
+    }
+
     @Override
     public AttrSchemaType getType() {
         return AttrSchemaType.String;
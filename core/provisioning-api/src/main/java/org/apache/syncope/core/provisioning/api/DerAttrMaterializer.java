@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.Map;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the stored values of materialized derived attributes in sync with the any objects they are computed from.
+ */
+public interface DerAttrMaterializer {
+
+    /**
+     * Calculates the values of the materialized derived attributes allowed for the given any.
+     *
+     * @param any any object
+     * @return materialized derived attribute values, by derived schema key
+     */
+    Map<String, String> getValues(Any any);
+
+    /**
+     * Stores, within the transaction which saved or deleted the any object of the given event, the values of its
+     * materialized derived attributes; for realm updates, flags as not fully materialized the derived schemas whose
+     * values depend on the realm.
+     *
+     * @param event entity lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    void materialize(EntityLifecycleEvent<Entity> event);
+}
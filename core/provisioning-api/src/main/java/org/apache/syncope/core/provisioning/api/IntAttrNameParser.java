@@ -90,6 +90,22 @@ public class IntAttrNameParser {
         return Pair.of(schema, SchemaType.PLAIN);
     }
 
+    /**
+     * Finds the schema with the given key and type, e.g. to reload in the current transaction the schema of an
+     * internal attribute name parsed in a previous one.
+     *
+     * @param key schema key
+     * @param schemaType schema type
+     * @return schema with the given key and type, if found
+     */
+    @Transactional(readOnly = true)
+    public Optional<? extends Schema> findSchema(final String key, final SchemaType schemaType) {
+        return switch (schemaType) {
+            case PLAIN -> plainSchemaDAO.findById(key);
+            case DERIVED -> derSchemaDAO.findById(key);
+        };
+    }
+
     protected void setFieldOrSchemaName(
             final String fieldOrSchemaName,
             final AnyTypeKind anyTypeKind,
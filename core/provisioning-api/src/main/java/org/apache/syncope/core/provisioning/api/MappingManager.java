@@ -28,12 +28,15 @@ import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.to.RealmTO;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.identityconnectors.framework.common.objects.Attribute;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 public interface MappingManager {
 
@@ -198,4 +201,13 @@ public interface MappingManager {
      * @return if there is a mapping item in the given provision for {@code mustChangePassword}
      */
     boolean hasMustChangePassword(Provision provision);
+
+    /**
+     * Discards, for the domain of the given event, any parsed internal attribute name which could be affected by the
+     * schema changed; this only affects the local node.
+     *
+     * @param event entity lifecycle event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    void evictCompiled(EntityLifecycleEvent<Entity> event);
 }
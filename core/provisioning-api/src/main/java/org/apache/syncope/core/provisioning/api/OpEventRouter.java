@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import org.apache.syncope.common.lib.types.OpEvent;
+
+/**
+ * Routing table from {@link OpEvent} to active audit confs and notifications, kept in memory for each domain as
+ * checked on every logic invocation.
+ */
+public interface OpEventRouter {
+
+    /**
+     * Checks if any active audit conf is defined for the given event, regardless of outcome.
+     *
+     * @param domain domain
+     * @param type event category type
+     * @param category event category
+     * @param subcategory event subcategory
+     * @param op operation
+     * @return whether the given event shall be audited
+     */
+    boolean isAudited(String domain, OpEvent.CategoryType type, String category, String subcategory, String op);
+
+    /**
+     * Checks if an active audit conf is defined for the given event, including outcome.
+     *
+     * @param domain domain
+     * @param opEvent event
+     * @return whether the given event shall be audited
+     */
+    boolean isAudited(String domain, OpEvent opEvent);
+
+    /**
+     * Checks if any active notification is defined for the given event, regardless of outcome.
+     *
+     * @param domain domain
+     * @param type event category type
+     * @param category event category
+     * @param subcategory event subcategory
+     * @param op operation
+     * @return whether the given event shall be notified
+     */
+    boolean isNotified(String domain, OpEvent.CategoryType type, String category, String subcategory, String op);
+
+    /**
+     * Discards the routing table for the given domain, to be rebuilt on next check; to be invoked whenever audit
+     * confs or notifications are changed.
+     *
+     * @param domain domain
+     */
+    void invalidate(String domain);
+}
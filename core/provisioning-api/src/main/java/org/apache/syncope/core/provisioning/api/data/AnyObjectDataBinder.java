@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
@@ -30,6 +31,17 @@ public interface AnyObjectDataBinder {
 
     AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details);
 
+    /**
+     * Same as {@link #getAnyObjectTO(AnyObject, boolean)} for all the given any objects, with data not available
+     * from the any objects themselves fetched in bulk rather than once per any object.
+     *
+     * @param anyObjects any objects, e.g. a page of search results
+     * @param details whether details shall be included
+     * @param projection what shall be included
+     * @return any objects, in the same order as given
+     */
+    List<AnyObjectTO> getAnyObjectTOs(List<AnyObject> anyObjects, boolean details, AnyProjection projection);
+
     void create(AnyObject anyObject, AnyObjectCR anyObjectCR);
 
     PropagationByResource<String> update(AnyObject toBeUpdated, AnyObjectUR anyObjectUR);
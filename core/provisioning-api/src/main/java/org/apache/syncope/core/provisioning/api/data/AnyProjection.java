@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.data;
+
+import java.util.Set;
+
+/**
+ * Restricts what is included when building user, group or any object TOs; key, type and other scalar properties
+ * are always included.
+ *
+ * @param fields names of the other TO properties to include (e.g. {@code resources}, {@code dynRealms},
+ * {@code memberships}), {@code null} to include all
+ * @param plainSchemas keys of the plain schemas whose attributes are to be included, {@code null} to include all
+ * @param derSchemas keys of the derived schemas whose attributes are to be included, {@code null} to include all
+ */
+public record AnyProjection(Set<String> fields, Set<String> plainSchemas, Set<String> derSchemas) {
+
+    public static final AnyProjection ALL = new AnyProjection(null, null, null);
+
+    public boolean isAll() {
+        return fields == null && plainSchemas == null && derSchemas == null;
+    }
+
+    public boolean includes(final String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean includesPlainSchema(final String schema) {
+        return plainSchemas == null || plainSchemas.contains(schema);
+    }
+
+    public boolean includesDerSchema(final String schema) {
+        return derSchemas == null || derSchemas.contains(schema);
+    }
+}
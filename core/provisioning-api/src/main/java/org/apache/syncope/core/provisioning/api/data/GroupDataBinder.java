@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -35,6 +36,17 @@ public interface GroupDataBinder {
 
     GroupTO getGroupTO(Group group, boolean details);
 
+    /**
+     * Same as {@link #getGroupTO(Group, boolean)} for all the given groups, with data not available from the groups
+     * themselves fetched in bulk rather than once per group.
+     *
+     * @param groups groups, e.g. a page of search results
+     * @param details whether details shall be included
+     * @param projection what shall be included
+     * @return groups, in the same order as given
+     */
+    List<GroupTO> getGroupTOs(List<Group> groups, boolean details, AnyProjection projection);
+
     void create(Group group, GroupCR groupCR);
 
     PropagationByResource<String> update(Group group, GroupUR groupUR);
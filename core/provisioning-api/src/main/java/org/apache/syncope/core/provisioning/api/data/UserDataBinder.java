@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
@@ -35,6 +36,17 @@ public interface UserDataBinder {
 
     UserTO getUserTO(User user, boolean details);
 
+    /**
+     * Same as {@link #getUserTO(User, boolean)} for all the given users, with data not available from the users
+     * themselves fetched in bulk rather than once per user.
+     *
+     * @param users users, e.g. a page of search results
+     * @param details whether details shall be included
+     * @param projection what shall be included
+     * @return users, in the same order as given
+     */
+    List<UserTO> getUserTOs(List<User> users, boolean details, AnyProjection projection);
+
     LinkedAccountTO getLinkedAccountTO(LinkedAccount account);
 
     void create(User user, UserCR userCR);
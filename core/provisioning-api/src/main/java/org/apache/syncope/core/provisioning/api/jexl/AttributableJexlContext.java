@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.jexl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.syncope.core.persistence.api.entity.Attributable;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+
+/**
+ * {@link JexlContext} backed by an entity: each variable is resolved only when first referenced by the expression
+ * being evaluated, rather than copying upfront all fields and plain attributes into a
+ * {@link org.apache.commons.jexl3.MapContext}.
+ *
+ * Resolution follows the same precedence as {@link JexlUtils#addPlainAttrsToContext} followed by
+ * {@link JexlUtils#addFieldsToContext}: fields first, then plain attributes.
+ */
+public class AttributableJexlContext implements JexlContext {
+
+    protected final Object entity;
+
+    protected final Function<String, Optional<PlainAttr>> plainAttrs;
+
+    protected final Map<String, Object> vars = new HashMap<>();
+
+    protected final Map<String, Optional<Object>> resolved = new HashMap<>();
+
+    public AttributableJexlContext(final Attributable attributable) {
+        this(attributable, attributable::getPlainAttr);
+    }
+
+    public AttributableJexlContext(final Object entity, final Function<String, Optional<PlainAttr>> plainAttrs) {
+        this.entity = entity;
+        this.plainAttrs = plainAttrs;
+    }
+
+    protected Optional<Object> resolve(final String name) {
+        return JexlUtils.getFieldValue(entity, name).
+                or(() -> plainAttrs.apply(name).map(JexlUtils::getPlainAttrValue));
+    }
+
+    @Override
+    public Object get(final String name) {
+        if (vars.containsKey(name)) {
+            return vars.get(name);
+        }
+        return resolved.computeIfAbsent(name, this::resolve).orElse(null);
+    }
+
+    @Override
+    public void set(final String name, final Object value) {
+        vars.put(name, value);
+    }
+
+    @Override
+    public boolean has(final String name) {
+        return vars.containsKey(name) || resolved.computeIfAbsent(name, this::resolve).isPresent();
+    }
+}
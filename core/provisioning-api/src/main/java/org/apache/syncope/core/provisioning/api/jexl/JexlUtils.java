@@ -27,11 +27,12 @@ import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.JexlEngine;
@@ -68,38 +69,36 @@ public final class JexlUtils {
 
     private static final String[] IGNORE_FIELDS = { "password", "clearPassword", "serialVersionUID", "class" };
 
-    private static final Map<Class<?>, Set<Pair<PropertyDescriptor, Field>>> FIELD_CACHE =
-            Collections.synchronizedMap(new HashMap<>());
+    private static final Map<Class<?>, Map<String, Pair<PropertyDescriptor, Field>>> FIELD_CACHE =
+            new ConcurrentHashMap<>();
 
-    private static JexlEngine JEXL_ENGINE;
+    /**
+     * Lazy holder for the JEXL engines: both are thread-safe once built, so they are initialized on first access
+     * by the class loader and then read without any locking.
+     */
+    private static final class Engines {
 
-    private static JxltEngine JXTL_ENGINE;
+        private static final JexlEngine JEXL_ENGINE = new JexlBuilder().
+                loader(new EmptyClassLoader()).
+                permissions(JexlPermissions.RESTRICTED.compose("java.time.*", "org.apache.syncope.*")).
+                namespaces(Map.of("syncope", new SyncopeJexlFunctions())).
+                cache(512).
+                silent(false).
+                strict(false).
+                create();
 
-    private static JexlEngine getJexlEngine() {
-        synchronized (LOG) {
-            if (JEXL_ENGINE == null) {
-                JEXL_ENGINE = new JexlBuilder().
-                        loader(new EmptyClassLoader()).
-                        permissions(JexlPermissions.RESTRICTED.compose("java.time.*", "org.apache.syncope.*")).
-                        namespaces(Map.of("syncope", new SyncopeJexlFunctions())).
-                        cache(512).
-                        silent(false).
-                        strict(false).
-                        create();
-            }
+        private static final JxltEngine JXTL_ENGINE = JEXL_ENGINE.createJxltEngine(false);
+
+        private Engines() {
         }
+    }
 
-        return JEXL_ENGINE;
+    private static JexlEngine getJexlEngine() {
+        return Engines.JEXL_ENGINE;
     }
 
     private static JxltEngine getJxltEngine() {
-        synchronized (LOG) {
-            if (JXTL_ENGINE == null) {
-                JXTL_ENGINE = getJexlEngine().createJxltEngine(false);
-            }
-        }
-
-        return JXTL_ENGINE;
+        return Engines.JXTL_ENGINE;
     }
 
     public static boolean isExpressionValid(final String expression) {
@@ -115,6 +114,62 @@ public final class JexlUtils {
         return result;
     }
 
+    /**
+     * Parses the given expression, for later evaluation via {@link #evaluateExpr(JexlExpression, JexlContext)}.
+     *
+     * @param expression JEXL expression
+     * @return parsed expression, or empty if blank or invalid
+     */
+    public static Optional<JexlExpression> parseExpr(final String expression) {
+        if (StringUtils.isBlank(expression)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(getJexlEngine().createExpression(expression));
+        } catch (JexlException e) {
+            LOG.error("Invalid JEXL expression: {}", expression, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Finds the names of the variables referenced by the given expression, e.g. {@code realm} or plain schema keys.
+     *
+     * @param expression JEXL expression
+     * @return names of the referenced variables, or empty if blank or invalid
+     */
+    public static Set<String> getVariables(final String expression) {
+        if (StringUtils.isBlank(expression)) {
+            return Set.of();
+        }
+
+        try {
+            return getJexlEngine().createScript(expression).getVariables().stream().
+                    map(List::getFirst).
+                    collect(Collectors.toSet());
+        } catch (JexlException e) {
+            LOG.error("Invalid JEXL expression: {}", expression, e);
+            return Set.of();
+        }
+    }
+
+    public static Object evaluateExpr(final JexlExpression expression, final JexlContext jexlContext) {
+        Object result = null;
+
+        if (expression != null && jexlContext != null) {
+            try {
+                result = expression.evaluate(jexlContext);
+            } catch (Exception e) {
+                LOG.error("Error while evaluating JEXL expression: {}", expression.getSourceText(), e);
+            }
+        } else {
+            LOG.debug("Expression not provided or invalid context");
+        }
+
+        return Optional.ofNullable(result).orElse(StringUtils.EMPTY);
+    }
+
     public static Object evaluateExpr(final String expression, final JexlContext jexlContext) {
         Object result = null;
 
@@ -150,17 +205,12 @@ public final class JexlUtils {
         return Optional.ofNullable(result).orElse(template);
     }
 
-    public static void addFieldsToContext(final Object object, final JexlContext jexlContext) {
-        if (object == null) {
-            return;
-        }
-
-        Set<Pair<PropertyDescriptor, Field>> cached = FIELD_CACHE.get(object.getClass());
-        if (cached == null) {
-            FIELD_CACHE.put(object.getClass(), Collections.synchronizedSet(new HashSet<>()));
+    private static Map<String, Pair<PropertyDescriptor, Field>> getFields(final Class<?> reference) {
+        return FIELD_CACHE.computeIfAbsent(reference, k -> {
+            Map<String, Pair<PropertyDescriptor, Field>> fields = new HashMap<>();
 
-            List<Class<?>> classes = ClassUtils.getAllSuperclasses(object.getClass());
-            classes.add(object.getClass());
+            List<Class<?>> classes = ClassUtils.getAllSuperclasses(reference);
+            classes.add(reference);
             classes.forEach(clazz -> {
                 try {
                     for (PropertyDescriptor desc : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
@@ -177,7 +227,8 @@ public final class JexlUtils {
                                 LOG.debug("Could not get field {} from {}", desc.getName(), clazz.getName(), e);
                             }
 
-                            FIELD_CACHE.get(object.getClass()).add(Pair.of(desc, field));
+                            Pair<PropertyDescriptor, Field> fd = Pair.of(desc, field);
+                            fields.merge(desc.getName(), fd, (prev, next) -> prev.getRight() == null ? next : prev);
                         }
                     }
                 } catch (IntrospectionException e) {
@@ -185,30 +236,87 @@ public final class JexlUtils {
                 }
             });
 
-            cached = FIELD_CACHE.get(object.getClass());
+            return Collections.unmodifiableMap(fields);
+        });
+    }
+
+    private static Object getFieldValue(final Object object, final Pair<PropertyDescriptor, Field> fd)
+            throws ReflectiveOperationException {
+
+        Object fieldValue = null;
+        if (fd.getLeft().getReadMethod() == null) {
+            if (fd.getRight() != null) {
+                ReflectionUtils.makeAccessible(fd.getRight());
+                fieldValue = fd.getRight().get(object);
+            }
+        } else {
+            fieldValue = fd.getLeft().getReadMethod().invoke(object);
+        }
+        if (fieldValue == null) {
+            fieldValue = StringUtils.EMPTY;
+        } else {
+            fieldValue = TemporalAccessor.class.isAssignableFrom(fd.getLeft().getPropertyType())
+                    ? FormatUtils.format((TemporalAccessor) fieldValue)
+                    : fieldValue;
+        }
+        return fieldValue;
+    }
+
+    private static Optional<Pair<String, Object>> getLocationValue(final Object object) {
+        if (object instanceof final Any any && any.getRealm() != null) {
+            return Optional.of(Pair.of("realm", any.getRealm().getFullPath()));
+        }
+        if (object instanceof final AnyTO anyTO && anyTO.getRealm() != null) {
+            return Optional.of(Pair.of("realm", anyTO.getRealm()));
+        }
+        if (object instanceof Realm realm) {
+            return Optional.of(Pair.of("fullPath", realm.getFullPath()));
+        }
+        if (object instanceof RealmTO realmTO) {
+            return Optional.of(Pair.of("fullPath", realmTO.getFullPath()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the value that {@link #addFieldsToContext(Object, JexlContext)} would set for the given name.
+     *
+     * @param object object to read from
+     * @param fieldName field name
+     * @return field value, or empty if the given object does not expose any field with such name
+     */
+    public static Optional<Object> getFieldValue(final Object object, final String fieldName) {
+        if (object == null) {
+            return Optional.empty();
+        }
+
+        Optional<Pair<String, Object>> location = getLocationValue(object).
+                filter(loc -> loc.getLeft().equals(fieldName));
+        if (location.isPresent()) {
+            return location.map(Pair::getRight);
+        }
+
+        Pair<PropertyDescriptor, Field> fd = getFields(object.getClass()).get(fieldName);
+        if (fd == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(getFieldValue(object, fd));
+        } catch (Exception e) {
+            LOG.error("Reading '{}' value error", fieldName, e);
+            return Optional.empty();
         }
+    }
 
-        cached.forEach(fd -> {
-            String fieldName = fd.getLeft().getName();
-            Class<?> fieldType = fd.getLeft().getPropertyType();
+    public static void addFieldsToContext(final Object object, final JexlContext jexlContext) {
+        if (object == null) {
+            return;
+        }
 
+        getFields(object.getClass()).forEach((fieldName, fd) -> {
             try {
-                Object fieldValue = null;
-                if (fd.getLeft().getReadMethod() == null) {
-                    if (fd.getRight() != null) {
-                        ReflectionUtils.makeAccessible(fd.getRight());
-                        fieldValue = fd.getRight().get(object);
-                    }
-                } else {
-                    fieldValue = fd.getLeft().getReadMethod().invoke(object);
-                }
-                if (fieldValue == null) {
-                    fieldValue = StringUtils.EMPTY;
-                } else {
-                    fieldValue = TemporalAccessor.class.isAssignableFrom(fieldType)
-                            ? FormatUtils.format((TemporalAccessor) fieldValue)
-                            : fieldValue;
-                }
+                Object fieldValue = getFieldValue(object, fd);
 
                 jexlContext.set(fieldName, fieldValue);
 
@@ -218,15 +326,7 @@ public final class JexlUtils {
             }
         });
 
-        if (object instanceof final Any any && any.getRealm() != null) {
-            jexlContext.set("realm", any.getRealm().getFullPath());
-        } else if (object instanceof final AnyTO anyTO && anyTO.getRealm() != null) {
-            jexlContext.set("realm", anyTO.getRealm());
-        } else if (object instanceof Realm realm) {
-            jexlContext.set("fullPath", realm.getFullPath());
-        } else if (object instanceof RealmTO realmTO) {
-            jexlContext.set("fullPath", realmTO.getFullPath());
-        }
+        getLocationValue(object).ifPresent(loc -> jexlContext.set(loc.getLeft(), loc.getRight()));
     }
 
     public static void addAttrsToContext(final Collection<Attr> attrs, final JexlContext jexlContext) {
@@ -246,17 +346,19 @@ public final class JexlUtils {
         });
     }
 
+    public static Object getPlainAttrValue(final PlainAttr attr) {
+        List<String> attrValues = attr.getValuesAsStrings();
+        if (attrValues.isEmpty()) {
+            return StringUtils.EMPTY;
+        }
+        return attrValues.size() == 1
+                ? attrValues.getFirst()
+                : attrValues;
+    }
+
     public static void addPlainAttrsToContext(final Collection<PlainAttr> attrs, final JexlContext jexlContext) {
         attrs.stream().filter(attr -> attr.getSchema() != null).forEach(attr -> {
-            List<String> attrValues = attr.getValuesAsStrings();
-            Object value;
-            if (attrValues.isEmpty()) {
-                value = StringUtils.EMPTY;
-            } else {
-                value = attrValues.size() == 1
-                        ? attrValues.getFirst()
-                        : attrValues;
-            }
+            Object value = getPlainAttrValue(attr);
 
             LOG.debug("Add attribute {} with value {}", attr.getSchema(), value);
 
@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.MatchType;
+
+/**
+ * Internal entity found to match some external object during bulk matching: only keys are retained, as matched
+ * entities shall be loaded again within the transaction handling such object.
+ *
+ * @param matchTarget match type
+ * @param anyTypeKind type kind of the matching any, or {@link AnyTypeKind#USER} for linked accounts
+ * @param key key of the matching any, or connObjectKey value of the matching linked account
+ */
+public record PrefetchedMatch(MatchType matchTarget, AnyTypeKind anyTypeKind, String key) {
+}
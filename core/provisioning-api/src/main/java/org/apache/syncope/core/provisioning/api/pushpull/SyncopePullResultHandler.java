@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
+import java.util.Map;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
@@ -26,4 +28,25 @@ public interface SyncopePullResultHandler extends SyncopeResultHandler<PullTask,
 
     @Override
     boolean handle(SyncDelta delta);
+
+    /**
+     * Finds, in bulk, the internal entities matching the given deltas.
+     *
+     * @param deltas window of deltas, about to be handled
+     * @return matches for each connObjectKey value found in the given deltas, empty list meaning no match; empty if
+     * not supported
+     */
+    default Map<String, List<PrefetchedMatch>> prefetch(List<SyncDelta> deltas) {
+        return Map.of();
+    }
+
+    /**
+     * Provides the matches previously found via {@link #prefetch(java.util.List)}: each entry is consumed when
+     * handling the first delta with the given connObjectKey value, by loading the matching entities again.
+     *
+     * @param prefetched matches for each connObjectKey value
+     */
+    default void setPrefetched(Map<String, List<PrefetchedMatch>> prefetched) {
+        // nothing to do
+    }
 }
@@ -37,5 +37,7 @@ public interface SyncopeStreamPullExecutor {
             String inboundCorrelationRule,
             Connector connector,
             PullTaskTO pullTaskTO,
+            int chunkSize,
+            long offset,
             String executor) throws JobExecutionException;
 }
@@ -0,0 +1,499 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditEvent;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.provisioning.api.AuditEventProcessor;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Collects audit events into a bounded buffer and writes them in batches, one transaction per batch and domain.
+ *
+ * Events are drained by a single task, submitted to the given executor only while there is something to write;
+ * what does not fit into the buffer is handled according to the configured
+ * {@link AuditWriterProperties.OverflowPolicy}.
+ */
+public class AuditEventWriter {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    protected static final String SPILL_SUFFIX = ".spill";
+
+    protected static final String REPLAY_SUFFIX = ".replay";
+
+    protected record Pending(String domain, Supplier<AuditEvent> auditEvent, long enqueued) {
+
+    }
+
+    protected record Spilled(
+            String opEvent,
+            String who,
+            OffsetDateTime when,
+            String before,
+            List<String> inputs,
+            String output,
+            String throwable) {
+
+    }
+
+    protected final AuditWriterProperties props;
+
+    protected final AuditEventDAO auditEventDAO;
+
+    protected final EntityFactory entityFactory;
+
+    protected final List<AuditEventProcessor> auditEventProcessors;
+
+    protected final AsyncTaskExecutor taskExecutor;
+
+    protected final BlockingQueue<Pending> buffer;
+
+    protected final AtomicBoolean draining = new AtomicBoolean(false);
+
+    protected final Object spillLock = new Object();
+
+    protected final long started = System.currentTimeMillis();
+
+    protected final AtomicLong submitted = new AtomicLong();
+
+    protected final AtomicLong written = new AtomicLong();
+
+    protected final AtomicLong failed = new AtomicLong();
+
+    protected final AtomicLong dropped = new AtomicLong();
+
+    protected final AtomicLong spilled = new AtomicLong();
+
+    protected final AtomicLong batches = new AtomicLong();
+
+    protected final AtomicLong lastBatchMillis = new AtomicLong();
+
+    public AuditEventWriter(
+            final AuditWriterProperties props,
+            final AuditEventDAO auditEventDAO,
+            final EntityFactory entityFactory,
+            final List<AuditEventProcessor> auditEventProcessors,
+            final AsyncTaskExecutor taskExecutor) {
+
+        this.props = props;
+        this.auditEventDAO = auditEventDAO;
+        this.entityFactory = entityFactory;
+        this.auditEventProcessors = auditEventProcessors;
+        this.taskExecutor = taskExecutor;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, props.getCapacity()));
+
+        if (props.getOverflow() == AuditWriterProperties.OverflowPolicy.SPILL && hasSpilled()) {
+            startDraining();
+        }
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    /**
+     * Enqueues the given audit event for writing; the event is only built when about to be written or spilled.
+     *
+     * @param domain domain
+     * @param auditEvent audit event supplier
+     */
+    public void submit(final String domain, final Supplier<AuditEvent> auditEvent) {
+        submitted.incrementAndGet();
+
+        Pending pending = new Pending(domain, auditEvent, System.currentTimeMillis());
+        if (!buffer.offer(pending)) {
+            switch (props.getOverflow()) {
+                case DROP -> {
+                    dropped.incrementAndGet();
+                    LOG.warn("Audit buffer full, dropping audit event");
+                }
+
+                case SPILL ->
+                    spill(pending);
+
+                default -> {
+                    try {
+                        if (!buffer.offer(pending, props.getBlockTimeout(), TimeUnit.MILLISECONDS)) {
+                            dropped.incrementAndGet();
+                            LOG.warn("Audit buffer still full after {} ms, dropping audit event",
+                                    props.getBlockTimeout());
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.incrementAndGet();
+                        LOG.warn("Interrupted while waiting for audit buffer, dropping audit event");
+                    }
+                }
+            }
+        }
+
+        startDraining();
+    }
+
+    protected void startDraining() {
+        if (draining.compareAndSet(false, true)) {
+            taskExecutor.submit(this::drain);
+        }
+    }
+
+    protected void drain() {
+        try {
+            List<Pending> batch = new ArrayList<>(props.getBatchSize());
+            boolean idle = false;
+            while (!idle) {
+                Pending first = buffer.poll(props.getPollTimeout(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    idle = !replay();
+                } else {
+                    batch.add(first);
+                    buffer.drainTo(batch, props.getBatchSize() - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while draining audit buffer");
+        } finally {
+            draining.set(false);
+            // events might have been submitted after the last poll
+            if (!buffer.isEmpty()) {
+                startDraining();
+            }
+        }
+    }
+
+    protected void write(final List<Pending> batch) {
+        long start = System.currentTimeMillis();
+
+        Map<String, List<Supplier<AuditEvent>>> byDomain = new LinkedHashMap<>();
+        batch.forEach(pending -> byDomain.computeIfAbsent(pending.domain(), k -> new ArrayList<>()).
+                add(pending.auditEvent()));
+
+        byDomain.forEach((domain, suppliers) -> {
+            List<AuditEvent> auditEvents = new ArrayList<>(suppliers.size());
+            suppliers.forEach(supplier -> {
+                try {
+                    auditEvents.add(supplier.get());
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    LOG.error("While building audit event", e);
+                }
+            });
+
+            write(domain, auditEvents).forEach(auditEvent -> {
+                if (props.getOverflow() == AuditWriterProperties.OverflowPolicy.SPILL) {
+                    spill(domain, auditEvent);
+                } else {
+                    failed.incrementAndGet();
+                }
+            });
+        });
+
+        batches.incrementAndGet();
+        lastBatchMillis.set(System.currentTimeMillis() - start);
+    }
+
+    protected List<AuditEvent> saveAll(final String domain, final List<AuditEvent> auditEvents) {
+        return AuthContextUtils.callAsAdmin(domain, () -> auditEventDAO.saveAll(auditEvents));
+    }
+
+    /**
+     * Writes the given audit events in a single transaction; if that fails, each event is retried in its own
+     * transaction, so that a single faulty event does not take the whole batch down.
+     *
+     * @param domain domain
+     * @param auditEvents audit events to write
+     * @return audit events which could not be written
+     */
+    protected List<AuditEvent> write(final String domain, final List<AuditEvent> auditEvents) {
+        if (auditEvents.isEmpty()) {
+            return List.of();
+        }
+
+        List<AuditEvent> saved;
+        try {
+            saved = saveAll(domain, auditEvents);
+        } catch (Exception e) {
+            if (auditEvents.size() == 1) {
+                LOG.error("While writing audit event {} for domain {}",
+                        auditEvents.getFirst().getOpEvent(), domain, e);
+                return auditEvents;
+            }
+
+            LOG.warn("While writing {} audit events for domain {}, retrying one at a time",
+                    auditEvents.size(), domain, e);
+            List<AuditEvent> notWritten = new ArrayList<>();
+            auditEvents.forEach(auditEvent -> notWritten.addAll(write(domain, List.of(auditEvent))));
+            return notWritten;
+        }
+
+        written.addAndGet(saved.size());
+
+        saved.forEach(auditEvent -> {
+            OpEvent opEvent = OpEvent.fromString(auditEvent.getOpEvent());
+            auditEventProcessors.stream().
+                    filter(p -> p.getEvents(domain).contains(opEvent)).
+                    forEach(p -> {
+                        try {
+                            p.process(domain, auditEvent);
+                        } catch (Exception e) {
+                            LOG.error("While processing audit event {}", opEvent, e);
+                        }
+                    });
+        });
+
+        return List.of();
+    }
+
+    protected Path spillFile(final String domain, final String suffix) {
+        return Path.of(props.getSpillDirectory(), domain + suffix);
+    }
+
+    protected void spill(final Pending pending) {
+        AuditEvent auditEvent;
+        try {
+            auditEvent = pending.auditEvent().get();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            LOG.error("While building audit event", e);
+            return;
+        }
+
+        spill(pending.domain(), auditEvent);
+    }
+
+    protected void spill(final String domain, final AuditEvent auditEvent) {
+        String line = POJOHelper.serialize(new Spilled(
+                auditEvent.getOpEvent(),
+                auditEvent.getWho(),
+                auditEvent.getWhen(),
+                auditEvent.getBefore(),
+                auditEvent.getInputs(),
+                auditEvent.getOutput(),
+                auditEvent.getThrowable()));
+
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(Path.of(props.getSpillDirectory()));
+                try (BufferedWriter writer = Files.newBufferedWriter(
+                        spillFile(domain, SPILL_SUFFIX),
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+                    writer.write(line);
+                    writer.newLine();
+                }
+                spilled.incrementAndGet();
+            } catch (IOException e) {
+                dropped.incrementAndGet();
+                LOG.error("Could not spill audit event {}, dropping", auditEvent.getOpEvent(), e);
+            }
+        }
+    }
+
+    protected boolean hasSpilled() {
+        Path dir = Path.of(props.getSpillDirectory());
+        if (!Files.isDirectory(dir)) {
+            return false;
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.anyMatch(file -> file.getFileName().toString().endsWith(SPILL_SUFFIX)
+                    || file.getFileName().toString().endsWith(REPLAY_SUFFIX));
+        } catch (IOException e) {
+            LOG.error("Could not list {}", dir, e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes one spilled file, if any, in batches; the file is removed only if all of its audit events were written,
+     * otherwise it is rewritten with those that were not, to be retried at the next replay.
+     *
+     * @return whether a spilled file was completely replayed
+     */
+    protected boolean replay() {
+        if (!hasSpilled()) {
+            return false;
+        }
+
+        Path replay;
+        String domain;
+        synchronized (spillLock) {
+            try (Stream<Path> files = Files.list(Path.of(props.getSpillDirectory()))) {
+                Path file = files.filter(f -> f.getFileName().toString().endsWith(REPLAY_SUFFIX)
+                        || f.getFileName().toString().endsWith(SPILL_SUFFIX)).
+                        findFirst().orElse(null);
+                if (file == null) {
+                    return false;
+                }
+
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(REPLAY_SUFFIX)) {
+                    domain = fileName.substring(0, fileName.length() - REPLAY_SUFFIX.length());
+                    replay = file;
+                } else {
+                    domain = fileName.substring(0, fileName.length() - SPILL_SUFFIX.length());
+                    replay = spillFile(domain, REPLAY_SUFFIX);
+                    // if a previous replay for the same domain was interrupted, complete that first
+                    if (!Files.exists(replay)) {
+                        Files.move(file, replay, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                }
+            } catch (IOException e) {
+                LOG.error("Could not prepare spilled audit events for replay", e);
+                return false;
+            }
+        }
+
+        LOG.info("Replaying spilled audit events for domain {} from {}", domain, replay);
+        List<String> retained = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(replay, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>(props.getBatchSize());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+
+                if (lines.size() >= props.getBatchSize()) {
+                    retained.addAll(replay(domain, lines));
+                    lines.clear();
+                }
+            }
+            retained.addAll(replay(domain, lines));
+        } catch (IOException e) {
+            LOG.error("While replaying spilled audit events from {}", replay, e);
+            return false;
+        }
+
+        try {
+            if (retained.isEmpty()) {
+                Files.delete(replay);
+                return true;
+            }
+
+            // only keep what could not be written, for the next replay
+            Path tmp = spillFile(domain, REPLAY_SUFFIX + ".tmp");
+            Files.write(tmp, retained, StandardCharsets.UTF_8);
+            Files.move(tmp, replay, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            LOG.error("{} spilled audit events for domain {} could not be written, kept in {}",
+                    retained.size(), domain, replay);
+        } catch (IOException e) {
+            LOG.error("Could not update {}", replay, e);
+        }
+        return false;
+    }
+
+    /**
+     * Writes the given spilled audit events.
+     *
+     * @param domain domain
+     * @param lines spilled audit events, as serialized
+     * @return spilled audit events which could not be written
+     */
+    protected List<String> replay(final String domain, final List<String> lines) {
+        List<AuditEvent> auditEvents = new ArrayList<>(lines.size());
+        List<String> read = new ArrayList<>(lines.size());
+        lines.forEach(line -> {
+            Spilled spilledEvent;
+            try {
+                spilledEvent = POJOHelper.deserialize(line, Spilled.class);
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                LOG.error("Could not read spilled audit event, discarding: {}", line, e);
+                return;
+            }
+
+            AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+            auditEvent.setOpEvent(spilledEvent.opEvent());
+            auditEvent.setWho(spilledEvent.who());
+            auditEvent.setWhen(spilledEvent.when());
+            auditEvent.setBefore(spilledEvent.before());
+            auditEvent.setInputs(spilledEvent.inputs());
+            auditEvent.setOutput(spilledEvent.output());
+            auditEvent.setThrowable(spilledEvent.throwable());
+            auditEvents.add(auditEvent);
+            read.add(line);
+        });
+
+        Set<AuditEvent> notWritten = Collections.newSetFromMap(new IdentityHashMap<>());
+        notWritten.addAll(write(domain, auditEvents));
+
+        List<String> retained = new ArrayList<>(notWritten.size());
+        for (int i = 0; i < auditEvents.size(); i++) {
+            if (notWritten.contains(auditEvents.get(i))) {
+                retained.add(read.get(i));
+            }
+        }
+        return retained;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Pending head = buffer.peek();
+        long uptime = Math.max(1, System.currentTimeMillis() - started);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", props.isEnabled());
+        stats.put("overflow", props.getOverflow().name());
+        stats.put("capacity", props.getCapacity());
+        stats.put("queued", buffer.size());
+        stats.put("lagMillis", head == null ? 0 : System.currentTimeMillis() - head.enqueued());
+        stats.put("submitted", submitted.get());
+        stats.put("written", written.get());
+        stats.put("failed", failed.get());
+        stats.put("dropped", dropped.get());
+        stats.put("spilled", spilled.get());
+        stats.put("batches", batches.get());
+        stats.put("lastBatchMillis", lastBatchMillis.get());
+        stats.put("writtenPerSecond", written.get() * 1000.0 / uptime);
+        return stats;
+    }
+}
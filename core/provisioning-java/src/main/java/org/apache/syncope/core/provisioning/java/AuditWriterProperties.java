@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.nio.file.Path;
+
+public class AuditWriterProperties {
+
+    public enum OverflowPolicy {
+        /**
+         * Callers wait for room in the buffer, up to the configured block timeout; events still not fitting are
+         * discarded and counted.
+         */
+        BLOCK,
+        /**
+         * Events not fitting into the buffer are discarded and counted.
+         */
+        DROP,
+        /**
+         * Events not fitting into the buffer, or failing to be written, are appended to files under the spill
+         * directory, and written once the buffer is drained.
+         */
+        SPILL
+
+    }
+
+    private boolean enabled = true;
+
+    private int capacity = 10000;
+
+    private int batchSize = 100;
+
+    private long pollTimeout = 500;
+
+    private long blockTimeout = 5000;
+
+    private OverflowPolicy overflow = OverflowPolicy.SPILL;
+
+    private String spillDirectory = Path.of(System.getProperty("java.io.tmpdir"), "syncope-audit").toString();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(final long pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public long getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(final long blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    public OverflowPolicy getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(final OverflowPolicy overflow) {
+        this.overflow = overflow;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(final String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+}
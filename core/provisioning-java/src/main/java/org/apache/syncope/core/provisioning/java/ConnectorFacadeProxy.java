@@ -23,8 +23,12 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
@@ -42,6 +46,7 @@ import org.identityconnectors.framework.api.ConfigurationProperties;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.identityconnectors.framework.api.ConnectorInfo;
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeDelta;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
@@ -64,7 +69,17 @@ public class ConnectorFacadeProxy implements Connector {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectorFacadeProxy.class);
 
-    private static final Integer DEFAULT_PAGE_SIZE = 100;
+    private sealed interface Fetched permits FetchedObject, FetchedPage, FetchDone {
+    }
+
+    private record FetchedObject(ConnectorObject connectorObject) implements Fetched {
+    }
+
+    private record FetchedPage(SearchResult page) implements Fetched {
+    }
+
+    private record FetchDone(SearchResult result, RuntimeException error) implements Fetched {
+    }
 
     /**
      * Connector facade wrapped instance.
@@ -459,6 +474,126 @@ public class ConnectorFacadeProxy implements Connector {
         }
     }
 
+    protected SearchResult pagedSearch(
+            final ObjectClass objectClass,
+            final Filter filter,
+            final SearchResultsHandler handler,
+            final OperationOptionsBuilder builder,
+            final BooleanSupplier stopped) {
+
+        SearchResult result;
+
+        String[] cookies = { null };
+        do {
+            if (cookies[0] != null) {
+                builder.setPagedResultsCookie(cookies[0]);
+            }
+
+            result = connector.search(objectClass, filter, new SearchResultsHandler() {
+
+                @Override
+                public void handleResult(final SearchResult result) {
+                    handler.handleResult(result);
+                    cookies[0] = result.getPagedResultsCookie();
+                }
+
+                @Override
+                public boolean handle(final ConnectorObject connectorObject) {
+                    return handler.handle(connectorObject);
+                }
+            }, builder.build());
+        } while (cookies[0] != null && !stopped.getAsBoolean());
+
+        return result;
+    }
+
+    /**
+     * Pages over search results on a separate virtual thread, which keeps fetching from the connector while the
+     * given handler is processing what was already received, on the calling thread.
+     * Fetched objects are exchanged via a buffer bounded to the configured page size: when full, the connector is
+     * blocked until the handler catches up.
+     *
+     * @param objectClass ConnId's object class
+     * @param filter search filter
+     * @param handler class responsible for working with the objects returned from the search
+     * @param builder options builder, with page size already set
+     * @return search result of the last page fetched
+     */
+    protected SearchResult pipelinedSearch(
+            final ObjectClass objectClass,
+            final Filter filter,
+            final SearchResultsHandler handler,
+            final OperationOptionsBuilder builder) {
+
+        BlockingQueue<Fetched> buffer = new ArrayBlockingQueue<>(connInstance.getSearchPageSize());
+        AtomicBoolean stopped = new AtomicBoolean(false);
+
+        Thread fetcher = Thread.ofVirtual().name("pipelinedSearch-" + connInstance.getKey()).start(() -> {
+            SearchResult result = null;
+            RuntimeException error = null;
+            try {
+                result = pagedSearch(objectClass, filter, new SearchResultsHandler() {
+
+                    @Override
+                    public void handleResult(final SearchResult result) {
+                        enqueue(new FetchedPage(result));
+                    }
+
+                    @Override
+                    public boolean handle(final ConnectorObject connectorObject) {
+                        return !stopped.get() && enqueue(new FetchedObject(connectorObject));
+                    }
+
+                    private boolean enqueue(final Fetched fetched) {
+                        try {
+                            buffer.put(fetched);
+                            return true;
+                        } catch (InterruptedException e) {
+                            stopped.set(true);
+                            Thread.currentThread().interrupt();
+                            return false;
+                        }
+                    }
+                }, builder, stopped::get);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+
+            try {
+                buffer.put(new FetchDone(result, error));
+            } catch (InterruptedException e) {
+                LOG.debug("Pipelined search on {} was interrupted", connInstance.getKey());
+            }
+        });
+
+        try {
+            while (true) {
+                Fetched fetched = buffer.take();
+                if (fetched instanceof FetchedObject(ConnectorObject connectorObject)) {
+                    if (!stopped.get() && !handler.handle(connectorObject)) {
+                        stopped.set(true);
+                    }
+                } else if (fetched instanceof FetchedPage(SearchResult page)) {
+                    handler.handleResult(page);
+                } else if (fetched instanceof FetchDone(SearchResult result, RuntimeException error)) {
+                    if (error != null) {
+                        throw error;
+                    }
+                    return result;
+                }
+            }
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            fetcher.interrupt();
+            Thread.currentThread().interrupt();
+            throw new ConnectorException("Interrupted while waiting for search results", e);
+        } catch (RuntimeException e) {
+            stopped.set(true);
+            fetcher.interrupt();
+            throw e;
+        }
+    }
+
     @Override
     public SearchResult search(
             final ObjectClass objectClass,
@@ -471,28 +606,11 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
             if (options.getPageSize() == null && options.getPagedResultsCookie() == null) {
                 OperationOptionsBuilder builder = new OperationOptionsBuilder(options).
-                        setPageSize(DEFAULT_PAGE_SIZE).setPagedResultsOffset(-1);
-
-                final String[] cookies = { null };
-                do {
-                    if (cookies[0] != null) {
-                        builder.setPagedResultsCookie(cookies[0]);
-                    }
-
-                    result = connector.search(objectClass, filter, new SearchResultsHandler() {
+                        setPageSize(connInstance.getSearchPageSize()).setPagedResultsOffset(-1);
 
-                        @Override
-                        public void handleResult(final SearchResult result) {
-                            handler.handleResult(result);
-                            cookies[0] = result.getPagedResultsCookie();
-                        }
-
-                        @Override
-                        public boolean handle(final ConnectorObject connectorObject) {
-                            return handler.handle(connectorObject);
-                        }
-                    }, builder.build());
-                } while (cookies[0] != null);
+                result = connInstance.isPipelinedSearch()
+                        ? pipelinedSearch(objectClass, filter, handler, builder)
+                        : pagedSearch(objectClass, filter, handler, builder, () -> false);
             } else {
                 result = connector.search(objectClass, filter, handler, options);
             }
@@ -22,6 +22,7 @@ import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
@@ -29,12 +30,12 @@ import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
 import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
-import org.apache.syncope.core.persistence.api.entity.AuditConf;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.provisioning.api.AuditEventProcessor;
 import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.OpEventRouter;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -88,18 +89,54 @@ public class DefaultAuditManager implements AuditManager {
 
     protected final AsyncTaskExecutor taskExecutor;
 
+    protected final OpEventRouter opEventRouter;
+
+    protected final AuditEventWriter auditEventWriter;
+
     public DefaultAuditManager(
             final AuditConfDAO auditConfDAO,
             final AuditEventDAO auditEventDAO,
             final EntityFactory entityFactory,
             final List<AuditEventProcessor> auditEventProcessors,
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final OpEventRouter opEventRouter,
+            final AuditEventWriter auditEventWriter) {
 
         this.auditConfDAO = auditConfDAO;
         this.auditEventDAO = auditEventDAO;
         this.entityFactory = entityFactory;
         this.auditEventProcessors = auditEventProcessors;
         this.taskExecutor = taskExecutor;
+        this.opEventRouter = opEventRouter;
+        this.auditEventWriter = auditEventWriter;
+    }
+
+    protected AuditEvent newAuditEvent(
+            final OpEvent opEvent,
+            final String who,
+            final OffsetDateTime when,
+            final Object before,
+            final Object output,
+            final Object... input) {
+
+        AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+        auditEvent.setOpEvent(opEvent.toString());
+        auditEvent.setWho(who);
+        auditEvent.setWhen(when);
+        auditEvent.setBefore(POJOHelper.serialize((maskSensitive(before))));
+
+        Optional.ofNullable(input).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
+                map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
+                toList()));
+
+        if (output instanceof Throwable throwable) {
+            auditEvent.setOutput(throwable.getMessage());
+            auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
+        } else {
+            auditEvent.setOutput(POJOHelper.serialize((maskSensitive(output))));
+        }
+
+        return auditEvent;
     }
 
     @Override
@@ -111,15 +148,7 @@ public class DefaultAuditManager implements AuditManager {
             final String subcategory,
             final String op) {
 
-        return AuthContextUtils.callAsAdmin(domain, () -> {
-            OpEvent opEvent = new OpEvent(type, category, subcategory, op, OpEvent.Outcome.SUCCESS);
-            if (auditConfDAO.findById(opEvent.toString()).map(AuditConf::isActive).orElse(false)) {
-                return true;
-            }
-
-            opEvent = new OpEvent(type, category, subcategory, op, OpEvent.Outcome.FAILURE);
-            return auditConfDAO.findById(opEvent.toString()).map(AuditConf::isActive).orElse(false);
-        });
+        return opEventRouter.isAudited(domain, type, category, subcategory, op);
     }
 
     @Override
@@ -150,47 +179,31 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
+        OpEvent opEvent = new OpEvent(type, category, subcategory, op, outcome);
+        if (!opEventRouter.isAudited(domain, opEvent)) {
+            LOG.debug("No active audit conf found for {}, skipping", opEvent);
+            return;
+        }
+
+        // the audit event is built later, but must report when it happened
+        OffsetDateTime when = OffsetDateTime.now();
+        Supplier<AuditEvent> auditEvent = () -> newAuditEvent(opEvent, who, when, before, output, input);
+        if (auditEventWriter.isEnabled()) {
+            auditEventWriter.submit(domain, auditEvent);
+            return;
+        }
+
         taskExecutor.submit(() -> AuthContextUtils.runAsAdmin(domain, new Runnable() {
 
             @Transactional
             @Override
             public void run() {
-                OpEvent opEvent = new OpEvent(type, category, subcategory, op, outcome);
-
-                Optional<? extends AuditConf> auditConf = auditConfDAO.findById(opEvent.toString());
-                if (auditConf.isEmpty()) {
-                    LOG.debug("No audit conf found for {}, skipping", opEvent);
-                    return;
-                }
-                if (!auditConf.get().isActive()) {
-                    LOG.debug("Audit conf found for {} is not active, skipping", opEvent);
-                    LOG.debug("Audit conf found for {} is not active, skippping", opEvent);
-                    return;
-                }
-
                 try {
-                    AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
-                    auditEvent.setOpEvent(opEvent.toString());
-                    auditEvent.setWho(who);
-                    auditEvent.setWhen(OffsetDateTime.now());
-                    auditEvent.setBefore(POJOHelper.serialize((maskSensitive(before))));
-
-                    Optional.ofNullable(input).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
-                            map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
-                            toList()));
-
-                    if (output instanceof Throwable throwable) {
-                        auditEvent.setOutput(throwable.getMessage());
-                        auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
-                    } else {
-                        auditEvent.setOutput(POJOHelper.serialize((maskSensitive(output))));
-                    }
-
-                    auditEventDAO.save(auditEvent);
+                    AuditEvent saved = auditEventDAO.save(auditEvent.get());
 
                     auditEventProcessors.stream().
                             filter(p -> p.getEvents(domain).contains(opEvent)).
-                            forEach(p -> p.process(domain, auditEvent));
+                            forEach(p -> p.process(domain, saved));
                 } catch (Exception e) {
                     LOG.error("While processing audit event for conf {}", opEvent, e);
                 }
@@ -124,6 +124,8 @@ public class DefaultConnectorManager implements ConnectorManager {
         override.setConf(connInstance.getConf());
         override.getCapabilities().addAll(connInstance.getCapabilities());
         override.setConnRequestTimeout(connInstance.getConnRequestTimeout());
+        override.setSearchPageSize(connInstance.getSearchPageSize());
+        override.setPipelinedSearch(connInstance.isPipelinedSearch());
 
         Map<String, ConnConfProperty> overridable = new HashMap<>();
         List<ConnConfProperty> conf = new ArrayList<>();
@@ -21,17 +21,24 @@ package org.apache.syncope.core.provisioning.java;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.Attributable;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.Groupable;
 import org.apache.syncope.core.persistence.api.entity.Membership;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.jexl.AttributableJexlContext;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,27 +49,57 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
 
     protected static final Logger LOG = LoggerFactory.getLogger(DerAttrHandler.class);
 
-    protected static Map<DerSchema, String> getValues(
+    /**
+     * Parsed form of a derived schema expression; the source is kept to detect when the schema was changed.
+     *
+     * @param source expression source
+     * @param parsed parsed expression, null if the source is blank or invalid
+     */
+    protected record CompiledExpression(String source, JexlExpression parsed) {
+
+    }
+
+    protected final AnyUtilsFactory anyUtilsFactory;
+
+    protected final Map<String, CompiledExpression> expressions = new ConcurrentHashMap<>();
+
+    public DefaultDerAttrHandler(final AnyUtilsFactory anyUtilsFactory) {
+        this.anyUtilsFactory = anyUtilsFactory;
+    }
+
+    protected Optional<JexlExpression> getExpression(final DerSchema schema) {
+        CompiledExpression compiled = expressions.get(schema.getKey());
+        if (compiled == null || !Objects.equals(compiled.source(), schema.getExpression())) {
+            compiled = new CompiledExpression(
+                    schema.getExpression(), JexlUtils.parseExpr(schema.getExpression()).orElse(null));
+            expressions.put(schema.getKey(), compiled);
+        }
+        return Optional.ofNullable(compiled.parsed());
+    }
+
+    protected Map<DerSchema, String> getValues(
             final Attributable attributable,
+            final Function<String, Optional<PlainAttr>> plainAttrs,
             final Collection<? extends DerSchema> schemas) {
 
         Map<DerSchema, String> result = new HashMap<>(schemas.size());
 
         schemas.forEach(schema -> {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(attributable.getPlainAttrs(), jexlContext);
-            JexlUtils.addFieldsToContext(attributable, jexlContext);
+            JexlContext jexlContext = new AttributableJexlContext(attributable, plainAttrs);
 
-            result.put(schema, JexlUtils.evaluateExpr(schema.getExpression(), jexlContext).toString());
+            result.put(schema, getExpression(schema).
+                    map(expression -> JexlUtils.evaluateExpr(expression, jexlContext).toString()).
+                    orElse(StringUtils.EMPTY));
         });
 
         return result;
     }
 
-    protected final AnyUtilsFactory anyUtilsFactory;
+    protected Map<DerSchema, String> getValues(
+            final Attributable attributable,
+            final Collection<? extends DerSchema> schemas) {
 
-    public DefaultDerAttrHandler(final AnyUtilsFactory anyUtilsFactory) {
-        this.anyUtilsFactory = anyUtilsFactory;
+        return getValues(attributable, attributable::getPlainAttr, schemas);
     }
 
     @Override
@@ -115,20 +152,19 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
                 anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, DerSchema.class).getForSelf());
     }
 
-    protected static Map<DerSchema, String> getValues(
-            final Groupable<?, ?, ?, ?> any, final Membership<?> membership, final Set<DerSchema> schemas) {
-
-        Map<DerSchema, String> result = new HashMap<>(schemas.size());
-
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(membership), jexlContext);
-            JexlUtils.addFieldsToContext(any, jexlContext);
+    @Override
+    public Map<DerSchema, String> getValues(final Any any, final Set<String> schemas) {
+        return getValues(
+                any,
+                anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, DerSchema.class).getForSelf().stream().
+                        filter(schema -> schemas.contains(schema.getKey())).
+                        toList());
+    }
 
-            result.put(schema, JexlUtils.evaluateExpr(schema.getExpression(), jexlContext).toString());
-        });
+    protected Map<DerSchema, String> getValues(
+            final Groupable<?, ?, ?, ?> any, final Membership<?> membership, final Set<DerSchema> schemas) {
 
-        return result;
+        return getValues(any, schema -> any.getPlainAttr(schema, membership), schemas);
     }
 
     @Override
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.DerAttrMaterializer;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DefaultDerAttrMaterializer implements DerAttrMaterializer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DerAttrMaterializer.class);
+
+    protected static final String REALM_VARIABLE = "realm";
+
+    protected final AnyUtilsFactory anyUtilsFactory;
+
+    protected final DerAttrHandler derAttrHandler;
+
+    protected final DerAttrValueDAO derAttrValueDAO;
+
+    protected final DerSchemaDAO derSchemaDAO;
+
+    public DefaultDerAttrMaterializer(
+            final AnyUtilsFactory anyUtilsFactory,
+            final DerAttrHandler derAttrHandler,
+            final DerAttrValueDAO derAttrValueDAO,
+            final DerSchemaDAO derSchemaDAO) {
+
+        this.anyUtilsFactory = anyUtilsFactory;
+        this.derAttrHandler = derAttrHandler;
+        this.derAttrValueDAO = derAttrValueDAO;
+        this.derSchemaDAO = derSchemaDAO;
+    }
+
+    @Override
+    public Map<String, String> getValues(final Any any) {
+        Set<String> materialized = anyUtilsFactory.getInstance(any).dao().
+                findAllowedSchemas(any, DerSchema.class).getForSelf().stream().
+                filter(DerSchema::isMaterialized).
+                map(DerSchema::getKey).
+                collect(Collectors.toSet());
+        if (materialized.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> values = new HashMap<>();
+        derAttrHandler.getValues(any, materialized).forEach((schema, value) -> values.put(schema.getKey(), value));
+        return values;
+    }
+
+    /**
+     * Renaming or moving a realm changes the full path of all realms below, and with it the value of the
+     * {@code realm} variable for all the any objects they contain: rather than evaluating again the expressions of
+     * all such any objects, the derived schemas referencing that variable are no longer considered fully
+     * materialized, until the {@code DerAttrValuesMaterializer} job is run again.
+     *
+     * @param realm updated realm
+     */
+    protected void realmUpdated(final Realm realm) {
+        derSchemaDAO.findByMaterializedTrue().stream().
+                filter(DerSchema::isFullyMaterialized).
+                filter(schema -> JexlUtils.getVariables(schema.getExpression()).contains(REALM_VARIABLE)).
+                forEach(schema -> {
+                    LOG.info("Realm {} was updated: values for {} shall be materialized again",
+                            realm.getFullPath(), schema.getKey());
+
+                    schema.setFullyMaterialized(false);
+                    derSchemaDAO.save(schema);
+                });
+    }
+
+    /**
+     * Values which could not be stored cannot be looked up: the related derived schemas are no longer considered
+     * fully materialized, so that their expressions are evaluated instead.
+     *
+     * @param schemaKeys keys of the derived schemas whose values could not be stored
+     */
+    protected void notStored(final Set<String> schemaKeys) {
+        schemaKeys.forEach(schemaKey -> derSchemaDAO.findById(schemaKey).
+                filter(DerSchema::isFullyMaterialized).
+                ifPresent(schema -> {
+                    LOG.info("Some values for {} could not be stored: values shall be materialized again",
+                            schema.getKey());
+
+                    schema.setFullyMaterialized(false);
+                    derSchemaDAO.save(schema);
+                }));
+    }
+
+    @Override
+    public void materialize(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Realm realm && event.getType() == SyncDeltaType.UPDATE) {
+            realmUpdated(realm);
+            return;
+        }
+
+        if (!(event.getEntity() instanceof Any any)) {
+            return;
+        }
+
+        if (event.getType() == SyncDeltaType.DELETE) {
+            derAttrValueDAO.deleteByAny(any.getKey());
+            return;
+        }
+
+        Map<String, String> values = getValues(any);
+        // without any materialized derived schema, no values can be stored, hence there is nothing to replace
+        if (values.isEmpty() && derSchemaDAO.findByMaterializedTrue().isEmpty()) {
+            return;
+        }
+
+        notStored(derAttrValueDAO.replace(any.getKey(), values));
+    }
+}
@@ -24,11 +24,13 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.mutable.Mutable;
@@ -60,6 +62,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Groupable;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
@@ -71,6 +74,7 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Relatable;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
 import org.apache.syncope.core.persistence.api.entity.RelationshipType;
+import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.Account;
@@ -84,9 +88,12 @@ import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.PlainAttrGetter;
 import org.apache.syncope.core.provisioning.api.data.ItemTransformer;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.jexl.AttributableJexlContext;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.FrameworkUtil;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
@@ -103,6 +110,29 @@ public class DefaultMappingManager implements MappingManager {
 
     protected static final Logger LOG = LoggerFactory.getLogger(MappingManager.class);
 
+    /**
+     * The same internal attribute name can resolve to different schemas on different domains and, for anys, depends
+     * on the any type kind of the provision (null for realms).
+     *
+     * @param domain domain
+     * @param intAttrName internal attribute name, as found in mapping items
+     * @param anyTypeKind any type kind of the provision, null for realms
+     */
+    protected record IntAttrNameKey(String domain, String intAttrName, AnyTypeKind anyTypeKind) {
+
+    }
+
+    /**
+     * Internal attribute name as parsed, without the schema entity, which is instead reloaded by key in each
+     * transaction using it.
+     *
+     * @param parsed parsed internal attribute name, without schema
+     * @param schemaKey key of the parsed schema, if any
+     */
+    protected record ParsedIntAttrName(IntAttrName parsed, String schemaKey) {
+
+    }
+
     protected static Optional<String> processPreparedAttr(
             final Pair<String, Attribute> preparedAttr,
             final Set<Attribute> attributes) {
@@ -190,6 +220,17 @@ public class DefaultMappingManager implements MappingManager {
 
     protected final EncryptorManager encryptorManager;
 
+    /**
+     * Parsed internal attribute names, shared by all mapping items with the same value and reused across all the
+     * anys and realms processed, until a schema is changed; no entity is held, as these are shared across
+     * transactions.
+     */
+    protected final Map<IntAttrNameKey, ParsedIntAttrName> intAttrNames = new ConcurrentHashMap<>();
+
+    protected final Map<String, Optional<JexlExpression>> connObjectLinks = new ConcurrentHashMap<>();
+
+    protected final AtomicLong compiledVersion = new AtomicLong();
+
     public DefaultMappingManager(
             final AnyTypeDAO anyTypeDAO,
             final UserDAO userDAO,
@@ -215,10 +256,109 @@ public class DefaultMappingManager implements MappingManager {
     }
 
     protected List<Implementation> getTransformers(final Item item) {
+        if (item.getTransformers().isEmpty()) {
+            return List.of();
+        }
+
+        // entities are not shared across transactions, hence looked up by key each time
         return item.getTransformers().stream().
                 map(implementationDAO::findById).
                 flatMap(Optional::stream).
-                collect(Collectors.toList());
+                toList();
+    }
+
+    protected static IntAttrName copy(final IntAttrName intAttrName, final Schema schema) {
+        IntAttrName copy = new IntAttrName();
+        copy.setAnyTypeKind(intAttrName.getAnyTypeKind());
+        copy.setField(intAttrName.getField());
+        copy.setSchemaType(intAttrName.getSchemaType());
+        copy.setSchema(schema);
+        copy.setEnclosingGroup(intAttrName.getEnclosingGroup());
+        copy.setRelatedUser(intAttrName.getRelatedUser());
+        copy.setRelatedAnyObject(intAttrName.getRelatedAnyObject());
+        copy.setMembershipOfGroup(intAttrName.getMembershipOfGroup());
+        copy.setRelationshipType(intAttrName.getRelationshipType());
+        copy.setRelationshipAnyType(intAttrName.getRelationshipAnyType());
+        return copy;
+    }
+
+    protected IntAttrName parse(final String intAttrName, final AnyTypeKind anyTypeKind) throws ParseException {
+        IntAttrNameKey key = new IntAttrNameKey(AuthContextUtils.getDomain(), intAttrName, anyTypeKind);
+
+        ParsedIntAttrName cached = intAttrNames.get(key);
+        if (cached != null) {
+            if (cached.schemaKey() == null) {
+                return copy(cached.parsed(), null);
+            }
+
+            // reload the schema in the current transaction; if not found any more, as removed or changed on another
+            // node, parse again
+            Optional<? extends Schema> schema = intAttrNameParser.findSchema(
+                    cached.schemaKey(), cached.parsed().getSchemaType());
+            if (schema.isPresent()) {
+                return copy(cached.parsed(), schema.get());
+            }
+            intAttrNames.remove(key, cached);
+        }
+
+        long version = compiledVersion.get();
+
+        IntAttrName parsed = anyTypeKind == null
+                ? intAttrNameParser.parse(intAttrName)
+                : intAttrNameParser.parse(intAttrName, anyTypeKind);
+
+        // do not store what was parsed if evicted in the meanwhile, nor what did not resolve to a field or schema,
+        // as the latter might be created afterwards on another node
+        if (compiledVersion.get() == version && (parsed.getField() != null || parsed.getSchema() != null)) {
+            intAttrNames.put(key, new ParsedIntAttrName(
+                    copy(parsed, null),
+                    Optional.ofNullable(parsed.getSchema()).map(Schema::getKey).orElse(null)));
+        }
+        return parsed;
+    }
+
+    protected Optional<JexlExpression> getConnObjectLink(final String connObjectLink) {
+        return StringUtils.isBlank(connObjectLink)
+                ? Optional.empty()
+                : connObjectLinks.computeIfAbsent(connObjectLink, JexlUtils::parseExpr);
+    }
+
+    /**
+     * Only resolves the variables referenced by the connObjectLink expression, derived attributes included.
+     *
+     * @param any given any object
+     * @return JEXL context for the given any object
+     */
+    protected JexlContext getJexlContext(final Any any) {
+        return new AttributableJexlContext(any) {
+
+            // same precedence as derived attributes set over plain attributes, in turn set over fields
+            @Override
+            protected Optional<Object> resolve(final String name) {
+                return derAttrHandler.getValues(any, Set.of(name)).values().stream().findFirst().
+                        <Object>map(Object.class::cast).
+                        or(() -> any.getPlainAttr(name).map(JexlUtils::getPlainAttrValue)).
+                        or(() -> JexlUtils.getFieldValue(any, name));
+            }
+        };
+    }
+
+    /**
+     * Entity lifecycle events are only published on the node where the change occurred, hence eviction is node-local:
+     * other nodes keep their parsed internal attribute names, whose schemas are anyway reloaded by key in each
+     * transaction and parsed again when not found any more.
+     *
+     * @param event entity lifecycle event
+     */
+    @Override
+    public void evictCompiled(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Schema) {
+            LOG.debug("Evicting parsed internal attribute names for domain {} as {} was {}",
+                    event.getDomain(), event.getEntity(), event.getType());
+
+            compiledVersion.incrementAndGet();
+            intAttrNames.keySet().removeIf(key -> key.domain().equals(event.getDomain()));
+        }
     }
 
     /**
@@ -238,17 +378,11 @@ public class DefaultMappingManager implements MappingManager {
         }
 
         // Evaluate connObjectKey expression
-        String connObjectLink = Optional.ofNullable(provision.getMapping()).
+        String evalConnObjectLink = getConnObjectLink(Optional.ofNullable(provision.getMapping()).
                 map(Mapping::getConnObjectLink).
+                orElse(null)).
+                map(connObjectLink -> JexlUtils.evaluateExpr(connObjectLink, getJexlContext(any)).toString()).
                 orElse(null);
-        String evalConnObjectLink = null;
-        if (StringUtils.isNotBlank(connObjectLink)) {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addFieldsToContext(any, jexlContext);
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-            JexlUtils.addDerAttrsToContext(any, derAttrHandler, jexlContext);
-            evalConnObjectLink = JexlUtils.evaluateExpr(connObjectLink, jexlContext).toString();
-        }
 
         return getName(evalConnObjectLink, connObjectKey);
     }
@@ -270,13 +404,10 @@ public class DefaultMappingManager implements MappingManager {
         }
 
         // Evaluate connObjectKey expression
-        String connObjectLink = orgUnit.getConnObjectLink();
-        String evalConnObjectLink = null;
-        if (StringUtils.isNotBlank(connObjectLink)) {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addFieldsToContext(realm, jexlContext);
-            evalConnObjectLink = JexlUtils.evaluateExpr(connObjectLink, jexlContext).toString();
-        }
+        String evalConnObjectLink = getConnObjectLink(orgUnit.getConnObjectLink()).
+                map(connObjectLink -> JexlUtils.evaluateExpr(
+                connObjectLink, new AttributableJexlContext(realm, schema -> Optional.empty())).toString()).
+                orElse(null);
 
         return getName(evalConnObjectLink, connObjectKey);
     }
@@ -500,7 +631,7 @@ public class DefaultMappingManager implements MappingManager {
 
         IntAttrName intAttrName;
         try {
-            intAttrName = intAttrNameParser.parse(item.getIntAttrName(), any.getType().getKind());
+            intAttrName = parse(item.getIntAttrName(), any.getType().getKind());
         } catch (ParseException e) {
             LOG.error("Invalid intAttrName '{}' specified, ignoring", item.getIntAttrName(), e);
             return null;
@@ -585,7 +716,7 @@ public class DefaultMappingManager implements MappingManager {
 
         IntAttrName intAttrName;
         try {
-            intAttrName = intAttrNameParser.parse(item.getIntAttrName());
+            intAttrName = parse(item.getIntAttrName(), null);
         } catch (ParseException e) {
             LOG.error("Invalid intAttrName '{}' specified, ignoring", item.getIntAttrName(), e);
             return null;
@@ -996,7 +1127,7 @@ public class DefaultMappingManager implements MappingManager {
                     resource,
                     provision,
                     item,
-                    intAttrNameParser.parse(item.getIntAttrName(), any.getType().getKind()),
+                    parse(item.getIntAttrName(), any.getType().getKind()),
                     AttrSchemaType.String,
                     any,
                     AccountGetter.DEFAULT,
@@ -1030,7 +1161,7 @@ public class DefaultMappingManager implements MappingManager {
             intValues = getIntValues(
                     resource,
                     item,
-                    intAttrNameParser.parse(item.getIntAttrName()),
+                    parse(item.getIntAttrName(), null),
                     AttrSchemaType.String,
                     realm);
         } catch (ParseException e) {
@@ -1056,7 +1187,7 @@ public class DefaultMappingManager implements MappingManager {
 
         IntAttrName intAttrName;
         try {
-            intAttrName = intAttrNameParser.parse(item.getIntAttrName(), AnyTypeKind.fromTOClass(anyTO.getClass()));
+            intAttrName = parse(item.getIntAttrName(), AnyTypeKind.fromTOClass(anyTO.getClass()));
         } catch (ParseException e) {
             LOG.error("Invalid intAttrName '{}' specified, ignoring", item.getIntAttrName(), e);
             return;
@@ -1193,7 +1324,7 @@ public class DefaultMappingManager implements MappingManager {
 
         IntAttrName intAttrName;
         try {
-            intAttrName = intAttrNameParser.parse(item.getIntAttrName());
+            intAttrName = parse(item.getIntAttrName(), null);
         } catch (ParseException e) {
             LOG.error("Invalid intAttrName '{}' specified, ignoring", item.getIntAttrName(), e);
             return;
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditConf;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.provisioning.api.OpEventRouter;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps, for each domain, the immutable sets of events for which active audit confs and notifications are defined,
+ * so that checks are reduced to lock-free lookups.
+ *
+ * Routing tables are built on first access and discarded whenever an audit conf or notification is changed, either
+ * locally (via {@link EntityLifecycleEvent}) or by another node in the cluster (via {@link #invalidate(String)}).
+ */
+public class DefaultOpEventRouter implements OpEventRouter {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(OpEventRouter.class);
+
+    protected record Routes(Set<String> audited, Set<String> notified) {
+
+    }
+
+    protected final AuditConfDAO auditConfDAO;
+
+    protected final NotificationDAO notificationDAO;
+
+    protected final Map<String, Routes> routes = new ConcurrentHashMap<>();
+
+    protected final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public DefaultOpEventRouter(final AuditConfDAO auditConfDAO, final NotificationDAO notificationDAO) {
+        this.auditConfDAO = auditConfDAO;
+        this.notificationDAO = notificationDAO;
+    }
+
+    protected Routes load() {
+        Set<String> audited = auditConfDAO.findAll().stream().
+                filter(AuditConf::isActive).
+                map(AuditConf::getKey).
+                collect(Collectors.toUnmodifiableSet());
+        Set<String> notified = notificationDAO.findAll().stream().
+                filter(Notification::isActive).
+                flatMap(notification -> notification.getEvents().stream()).
+                collect(Collectors.toUnmodifiableSet());
+        return new Routes(audited, notified);
+    }
+
+    protected Routes routes(final String domain) {
+        Routes current = routes.get(domain);
+        if (current != null) {
+            return current;
+        }
+
+        AtomicLong version = versions.computeIfAbsent(domain, k -> new AtomicLong());
+        long expected = version.get();
+
+        Routes loaded = AuthContextUtils.callAsAdmin(domain, this::load);
+        LOG.debug("Routing table built for domain {}: {}", domain, loaded);
+
+        // do not store what was loaded if invalidated in the meanwhile
+        routes.compute(domain, (k, existing) -> version.get() == expected ? loaded : existing);
+        return loaded;
+    }
+
+    protected static boolean matches(
+            final Set<String> events,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op) {
+
+        return events.contains(OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.SUCCESS))
+                || events.contains(OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.FAILURE));
+    }
+
+    @Override
+    public boolean isAudited(
+            final String domain,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op) {
+
+        return matches(routes(domain).audited(), type, category, subcategory, op);
+    }
+
+    @Override
+    public boolean isAudited(final String domain, final OpEvent opEvent) {
+        return routes(domain).audited().contains(opEvent.toString());
+    }
+
+    @Override
+    public boolean isNotified(
+            final String domain,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op) {
+
+        return matches(routes(domain).notified(), type, category, subcategory, op);
+    }
+
+    @Override
+    public void invalidate(final String domain) {
+        LOG.debug("Invalidating routing table for domain {}", domain);
+
+        routes.compute(domain, (k, existing) -> {
+            versions.computeIfAbsent(domain, v -> new AtomicLong()).incrementAndGet();
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof AuditConf || event.getEntity() instanceof Notification) {
+            invalidate(event.getDomain());
+        }
+    }
+}
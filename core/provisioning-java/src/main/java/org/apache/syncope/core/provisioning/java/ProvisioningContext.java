@@ -35,6 +35,7 @@ import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
 import org.apache.syncope.core.persistence.api.dao.AuthModuleDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
@@ -67,9 +68,11 @@ import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.DerAttrMaterializer;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.OpEventRouter;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
@@ -149,6 +152,7 @@ import org.apache.syncope.core.provisioning.java.job.notification.NotificationJo
 import org.apache.syncope.core.provisioning.java.notification.DefaultNotificationManager;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationManager;
 import org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationBulkheads;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.LiveSyncTaskSaver;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
@@ -220,7 +224,7 @@ public class ProvisioningContext {
     }
 
     /**
-     * Used by {@link org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor}.
+     * Used by {@link org.apache.syncope.core.provisioning.java.propagation.PropagationBulkheads}.
      *
      * @param props the provisioning properties
      * @return executor thread pool task executor
@@ -333,6 +337,7 @@ public class ProvisioningContext {
             final RealmDAO realmDAO,
             final RealmSearchDAO realmSearchDAO,
             final ImplementationDAO implementationDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final IntAttrNameParser intAttrNameParser) {
 
         return new InboundMatcher(
@@ -343,6 +348,7 @@ public class ProvisioningContext {
                 realmDAO,
                 realmSearchDAO,
                 implementationDAO,
+                derAttrValueDAO,
                 intAttrNameParser,
                 anyUtilsFactory);
     }
@@ -363,6 +369,17 @@ public class ProvisioningContext {
         return new DefaultDerAttrHandler(anyUtilsFactory);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrMaterializer derAttrMaterializer(
+            final AnyUtilsFactory anyUtilsFactory,
+            final DerAttrHandler derAttrHandler,
+            final DerAttrValueDAO derAttrValueDAO,
+            final DerSchemaDAO derSchemaDAO) {
+
+        return new DefaultDerAttrMaterializer(anyUtilsFactory, derAttrHandler, derAttrValueDAO, derSchemaDAO);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public MappingManager mappingManager(
@@ -457,9 +474,18 @@ public class ProvisioningContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public PropagationTaskExecutor propagationTaskExecutor(
+    public PropagationBulkheads propagationBulkheads(
+            final ProvisioningProperties props,
             @Qualifier("propagationTaskExecutorAsyncExecutor")
-            final AsyncTaskExecutor propagationTaskExecutorAsyncExecutor,
+            final AsyncTaskExecutor propagationTaskExecutorAsyncExecutor) {
+
+        return new PropagationBulkheads(props.getPropagationBulkhead(), propagationTaskExecutorAsyncExecutor);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationTaskExecutor propagationTaskExecutor(
+            final PropagationBulkheads propagationBulkheads,
             final TaskUtilsFactory taskUtilsFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final ConnectorManager connectorManager,
@@ -488,7 +514,7 @@ public class ProvisioningContext {
                 outboundMatcher,
                 validator,
                 publisher,
-                propagationTaskExecutorAsyncExecutor);
+                propagationBulkheads);
     }
 
     @ConditionalOnMissingBean
@@ -538,6 +564,12 @@ public class ProvisioningContext {
                 anyObjectDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public OpEventRouter opEventRouter(final AuditConfDAO auditConfDAO, final NotificationDAO notificationDAO) {
+        return new DefaultOpEventRouter(auditConfDAO, notificationDAO);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public NotificationManager notificationManager(
@@ -556,7 +588,8 @@ public class ProvisioningContext {
             final AnyObjectDataBinder anyObjectDataBinder,
             final ConfParamOps confParamOps,
             final DerAttrHandler derAttrHandler,
-            final IntAttrNameParser intAttrNameParser) {
+            final IntAttrNameParser intAttrNameParser,
+            final OpEventRouter opEventRouter) {
 
         return new DefaultNotificationManager(
                 derSchemaDAO,
@@ -574,7 +607,8 @@ public class ProvisioningContext {
                 confParamOps,
                 entityFactory,
                 intAttrNameParser,
-                searchCondVisitor);
+                searchCondVisitor,
+                opEventRouter);
     }
 
     /**
@@ -590,6 +624,20 @@ public class ProvisioningContext {
         return executor;
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditEventWriter auditEventWriter(
+            final ProvisioningProperties props,
+            final AuditEventDAO auditEventDAO,
+            final EntityFactory entityFactory,
+            final List<AuditEventProcessor> auditEventProcessors,
+            @Qualifier("auditManagerThreadExecutor")
+            final AsyncTaskExecutor taskExecutor) {
+
+        return new AuditEventWriter(
+                props.getAuditWriter(), auditEventDAO, entityFactory, auditEventProcessors, taskExecutor);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public AuditManager auditManager(
@@ -598,9 +646,18 @@ public class ProvisioningContext {
             final EntityFactory entityFactory,
             final List<AuditEventProcessor> auditEventProcessors,
             @Qualifier("auditManagerThreadExecutor")
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final OpEventRouter opEventRouter,
+            final AuditEventWriter auditEventWriter) {
 
-        return new DefaultAuditManager(auditConfDAO, auditEventDAO, entityFactory, auditEventProcessors, taskExecutor);
+        return new DefaultAuditManager(
+                auditConfDAO,
+                auditEventDAO,
+                entityFactory,
+                auditEventProcessors,
+                taskExecutor,
+                opEventRouter,
+                auditEventWriter);
     }
 
     @ConditionalOnMissingBean
@@ -665,7 +722,8 @@ public class ProvisioningContext {
             final AccessTokenJWSSigner jwsSigner,
             final AccessTokenDAO accessTokenDAO,
             final ConfParamOps confParamOps,
-            final DefaultCredentialChecker credentialChecker) {
+            final DefaultCredentialChecker credentialChecker,
+            final ApplicationEventPublisher publisher) {
 
         return new AccessTokenDataBinderImpl(
                 securityProperties,
@@ -673,7 +731,8 @@ public class ProvisioningContext {
                 accessTokenDAO,
                 confParamOps,
                 entityFactory,
-                credentialChecker);
+                credentialChecker,
+                publisher);
     }
 
     @ConditionalOnMissingBean
@@ -734,7 +793,8 @@ public class ProvisioningContext {
             final EncryptorManager encryptorManager,
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final ApplicationEventPublisher publisher) {
 
         return new AnyTypeDataBinderImpl(
                 securityProperties,
@@ -742,7 +802,8 @@ public class ProvisioningContext {
                 anyTypeDAO,
                 anyTypeClassDAO,
                 accessTokenDAO,
-                entityFactory);
+                entityFactory,
+                publisher);
     }
 
     @ConditionalOnMissingBean
@@ -1022,6 +1083,7 @@ public class ProvisioningContext {
             final AnyTypeClassDAO anyTypeClassDAO,
             final PlainSchemaDAO plainSchemaDAO,
             final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final ExternalResourceDAO resourceDAO,
             final AnyTypeDAO anyTypeDAO,
             final ImplementationDAO implementationDAO) {
@@ -1030,6 +1092,7 @@ public class ProvisioningContext {
                 anyTypeClassDAO,
                 plainSchemaDAO,
                 derSchemaDAO,
+                derAttrValueDAO,
                 resourceDAO,
                 anyTypeDAO,
                 implementationDAO,
@@ -1090,7 +1153,8 @@ public class ProvisioningContext {
             final SecurityQuestionDAO securityQuestionDAO,
             final AccessTokenDAO accessTokenDAO,
             final DelegationDAO delegationDAO,
-            final ConfParamOps confParamOps) {
+            final ConfParamOps confParamOps,
+            final ApplicationEventPublisher publisher) {
 
         return new UserDataBinderImpl(
                 anyTypeDAO,
@@ -1114,7 +1178,8 @@ public class ProvisioningContext {
                 accessTokenDAO,
                 delegationDAO,
                 confParamOps,
-                securityProperties);
+                securityProperties,
+                publisher);
     }
 
     @ConditionalOnMissingBean
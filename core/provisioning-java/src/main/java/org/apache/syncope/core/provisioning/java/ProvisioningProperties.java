@@ -29,8 +29,12 @@ public class ProvisioningProperties {
 
     private final ExecutorProperties propagationTaskExecutorAsyncExecutor = new ExecutorProperties();
 
+    private final BulkheadProperties propagationBulkhead = new BulkheadProperties();
+
     private final ExecutorProperties scheduling = new ExecutorProperties();
 
+    private final AuditWriterProperties auditWriter = new AuditWriterProperties();
+
     private final List<String> connIdLocation = new ArrayList<>();
 
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
@@ -41,10 +45,18 @@ public class ProvisioningProperties {
         return propagationTaskExecutorAsyncExecutor;
     }
 
+    public BulkheadProperties getPropagationBulkhead() {
+        return propagationBulkhead;
+    }
+
     public ExecutorProperties getScheduling() {
         return scheduling;
     }
 
+    public AuditWriterProperties getAuditWriter() {
+        return auditWriter;
+    }
+
     public List<String> getConnIdLocation() {
         return connIdLocation;
     }
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -78,6 +79,7 @@ import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.PlainAttrGetter;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
@@ -111,6 +113,31 @@ abstract class AnyDataBinder extends AttributableDataBinder {
         anyTO.getResources().addAll(resources.stream().map(ExternalResource::getKey).collect(Collectors.toSet()));
     }
 
+    protected void fillTO(
+            final AnyTO anyTO,
+            final Any any,
+            final Supplier<Collection<? extends ExternalResource>> resources,
+            final AnyProjection projection) {
+
+        Collection<PlainAttr> plainAttrs = projection.plainSchemas() == null
+                ? any.getPlainAttrs()
+                : any.getPlainAttrs().stream().filter(attr -> projection.includesPlainSchema(attr.getSchema())).
+                        toList();
+
+        Map<DerSchema, String> derAttrs = projection.derSchemas() == null
+                ? derAttrHandler.getValues(any)
+                : projection.derSchemas().isEmpty()
+                ? Map.of()
+                : derAttrHandler.getValues(any, projection.derSchemas());
+
+        fillTO(anyTO,
+                any.getRealm().getFullPath(),
+                projection.includes("auxClasses") ? any.getAuxClasses() : List.of(),
+                plainAttrs,
+                derAttrs,
+                projection.includes("resources") ? resources.get() : List.of());
+    }
+
     protected static RelationshipTO getRelationshipTO(
             final String relationshipType,
             final RelationshipTO.End end,
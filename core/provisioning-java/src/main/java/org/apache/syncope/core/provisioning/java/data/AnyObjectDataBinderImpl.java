@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.provisioning.java.data;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
@@ -52,6 +54,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -65,6 +68,7 @@ import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -113,9 +117,70 @@ public class AnyObjectDataBinderImpl extends AnyDataBinder implements AnyObjectD
         return getAnyObjectTO(anyObjectDAO.authFind(key), true);
     }
 
+    /**
+     * Data needed to build {@link AnyObjectTO} instances which is not available from the any objects themselves,
+     * fetched once for all the any objects to build.
+     *
+     * @param details whether details shall be included
+     * @param projection what shall be included
+     * @param dynRealms dynamic realm keys, by any object key; only populated if included
+     * @param dynGroups dynamic groups, by any object key; only populated if needed for resources or dynamic
+     * memberships
+     */
+    protected record AnyObjectTOContext(
+            boolean details,
+            AnyProjection projection,
+            Map<String, List<String>> dynRealms,
+            Map<String, List<Group>> dynGroups) {
+
+        boolean includesDetail(final String field) {
+            return details && projection.includes(field);
+        }
+    }
+
+    protected AnyObjectTOContext getAnyObjectTOContext(
+            final Collection<String> keys,
+            final boolean details,
+            final AnyProjection projection) {
+
+        Map<String, List<String>> dynRealms = projection.includes("dynRealms")
+                ? anyObjectDAO.findDynRealms(keys)
+                : Map.of();
+        Map<String, List<Group>> dynGroups = projection.includes("resources")
+                || (details && projection.includes("dynMemberships"))
+                ? anyObjectDAO.findDynGroups(keys)
+                : Map.of();
+
+        return new AnyObjectTOContext(details, projection, dynRealms, dynGroups);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details) {
+        return getAnyObjectTO(
+                anyObject,
+                getAnyObjectTOContext(List.of(anyObject.getKey()), details, AnyProjection.ALL));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AnyObjectTO> getAnyObjectTOs(
+            final List<AnyObject> anyObjects,
+            final boolean details,
+            final AnyProjection projection) {
+
+        if (anyObjects.isEmpty()) {
+            return List.of();
+        }
+
+        AnyObjectTOContext context = getAnyObjectTOContext(
+                anyObjects.stream().map(AnyObject::getKey).toList(), details, projection);
+        return anyObjects.stream().map(anyObject -> getAnyObjectTO(anyObject, context)).toList();
+    }
+
+    protected AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final AnyObjectTOContext context) {
+        List<Group> dynGroups = context.dynGroups().getOrDefault(anyObject.getKey(), List.of());
+
         AnyObjectTO anyObjectTO = new AnyObjectTO();
         anyObjectTO.setType(anyObject.getType().getKey());
 
@@ -130,18 +195,18 @@ public class AnyObjectDataBinderImpl extends AnyDataBinder implements AnyObjectD
         anyObjectTO.setLastChangeDate(anyObject.getLastChangeDate());
         anyObjectTO.setLastChangeContext(anyObject.getLastChangeContext());
 
-        fillTO(anyObjectTO,
-                anyObject.getRealm().getFullPath(),
-                anyObject.getAuxClasses(),
-                anyObject.getPlainAttrs(),
-                derAttrHandler.getValues(anyObject),
-                anyObjectDAO.findAllResources(anyObject));
+        fillTO(anyObjectTO, anyObject, () -> {
+            Set<ExternalResource> resources = new HashSet<>(anyObject.getResources());
+            anyObject.getMemberships().forEach(membership -> resources.addAll(membership.getRightEnd().getResources()));
+            dynGroups.forEach(group -> resources.addAll(group.getResources()));
+            return resources;
+        }, context.projection());
 
         // dynamic realms
-        anyObjectTO.getDynRealms().addAll(anyObjectDAO.findDynRealms(anyObject.getKey()));
+        anyObjectTO.getDynRealms().addAll(context.dynRealms().getOrDefault(anyObject.getKey(), List.of()));
 
-        if (details) {
-            // relationships
+        // relationships
+        if (context.includesDetail("relationships")) {
             anyObjectTO.getRelationships().addAll(
                     anyObjectDAO.findAllRelationships(anyObject).stream().
                             map(r -> getRelationshipTO(
@@ -153,19 +218,22 @@ public class AnyObjectDataBinderImpl extends AnyDataBinder implements AnyObjectD
                             ? r.getRightEnd()
                             : r.getLeftEnd())).
                             toList());
+        }
 
-            // memberships
+        // memberships
+        if (context.includesDetail("memberships")) {
             anyObjectTO.getMemberships().addAll(
                     anyObject.getMemberships().stream().map(membership -> getMembershipTO(
                     anyObject.getPlainAttrs(membership),
                     derAttrHandler.getValues(anyObject, membership),
                     membership)).toList());
+        }
 
-            // dynamic memberships
-            anyObjectTO.getDynMemberships().addAll(
-                    anyObjectDAO.findDynGroups(anyObject.getKey()).stream().
-                            map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
-                            toList());
+        // dynamic memberships
+        if (context.includesDetail("dynMemberships")) {
+            anyObjectTO.getDynMemberships().addAll(dynGroups.stream().
+                    map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
+                    toList());
         }
 
         return anyObjectTO;
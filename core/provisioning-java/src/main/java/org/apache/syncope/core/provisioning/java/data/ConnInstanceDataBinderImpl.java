@@ -68,8 +68,18 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
         this.entityFactory = entityFactory;
     }
 
+    protected static void checkSearchPageSize(final ConnInstanceTO connInstanceTO) {
+        if (connInstanceTO.getSearchPageSize() != null && connInstanceTO.getSearchPageSize() <= 0) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidConnInstance);
+            sce.getElements().add("Search page size must be positive: " + connInstanceTO.getSearchPageSize());
+            throw sce;
+        }
+    }
+
     @Override
     public ConnInstance getConnInstance(final ConnInstanceTO connInstanceTO) {
+        checkSearchPageSize(connInstanceTO);
+
         SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.RequiredValuesMissing);
 
         if (connInstanceTO.getLocation() == null) {
@@ -99,6 +109,8 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
         connInstance.setVersion(connInstanceTO.getVersion());
         connInstance.setDisplayName(connInstanceTO.getDisplayName());
         connInstance.setConnRequestTimeout(connInstanceTO.getConnRequestTimeout());
+        connInstance.setSearchPageSize(connInstanceTO.getSearchPageSize());
+        connInstance.setPipelinedSearch(connInstanceTO.isPipelinedSearch());
         connInstance.getCapabilities().addAll(connInstanceTO.getCapabilities());
 
         Optional.ofNullable(connInstanceTO.getAdminRealm()).
@@ -125,6 +137,8 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
         ConnInstance connInstance = Optional.ofNullable(connInstanceDAO.authFind(connInstanceTO.getKey())).
                 orElseThrow(() -> new NotFoundException("Connector '" + connInstanceTO.getKey() + '\''));
 
+        checkSearchPageSize(connInstanceTO);
+
         connInstance.getCapabilities().clear();
         connInstance.getCapabilities().addAll(connInstanceTO.getCapabilities());
 
@@ -145,6 +159,8 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
                 filter(Predicate.not(Collection::isEmpty)).
                 ifPresent(connInstance::setConf);
         Optional.ofNullable(connInstanceTO.getConnRequestTimeout()).ifPresent(connInstance::setConnRequestTimeout);
+        connInstance.setSearchPageSize(connInstanceTO.getSearchPageSize());
+        connInstance.setPipelinedSearch(connInstanceTO.isPipelinedSearch());
         Optional.ofNullable(connInstanceTO.getPoolConf()).ifPresentOrElse(
                 conf -> connInstance.setPoolConf(ConnPoolConfUtils.getConnPoolConf(conf)),
                 () -> connInstance.setPoolConf(null));
@@ -186,6 +202,8 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
         connInstanceTO.setVersion(connInstance.getVersion());
         connInstanceTO.setDisplayName(connInstance.getDisplayName());
         connInstanceTO.setConnRequestTimeout(connInstance.getConnRequestTimeout());
+        connInstanceTO.setSearchPageSize(connInstance.getSearchPageSize());
+        connInstanceTO.setPipelinedSearch(connInstance.isPipelinedSearch());
         connInstanceTO.setAdminRealm(connInstance.getAdminRealm().getFullPath());
         connInstanceTO.getCapabilities().addAll(connInstance.getCapabilities());
         connInstanceTO.getConf().addAll(connInstance.getConf());
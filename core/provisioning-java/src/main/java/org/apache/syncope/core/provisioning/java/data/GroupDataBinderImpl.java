@@ -18,9 +18,11 @@
  */
 package org.apache.syncope.core.provisioning.java.data;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -73,6 +75,7 @@ import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.springframework.data.domain.Pageable;
@@ -479,9 +482,62 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
         return typeExtTO;
     }
 
+    /**
+     * Data needed to build {@link GroupTO} instances which is not available from the groups themselves, fetched once
+     * for all the groups to build; each map is only populated if the matching property is included.
+     *
+     * @param details whether details shall be included
+     * @param projection what shall be included
+     * @param dynRealms dynamic realm keys, by group key
+     * @param staticUserMembershipCounts static user membership counts, by group key
+     * @param staticAnyObjectMembershipCounts static any object membership counts, by group key
+     * @param dynamicUserMembershipCounts dynamic user membership counts, by group key
+     * @param dynamicAnyObjectMembershipCounts dynamic any object membership counts, by group key
+     */
+    protected record GroupTOContext(
+            boolean details,
+            AnyProjection projection,
+            Map<String, List<String>> dynRealms,
+            Map<String, Long> staticUserMembershipCounts,
+            Map<String, Long> staticAnyObjectMembershipCounts,
+            Map<String, Long> dynamicUserMembershipCounts,
+            Map<String, Long> dynamicAnyObjectMembershipCounts) {
+
+    }
+
+    protected GroupTOContext getGroupTOContext(
+            final Collection<String> keys,
+            final boolean details,
+            final AnyProjection projection) {
+
+        return new GroupTOContext(
+                details,
+                projection,
+                projection.includes("dynRealms") ? groupDAO.findDynRealms(keys) : Map.of(),
+                projection.includes("staticUserMembershipCount") ? groupDAO.countUMembers(keys) : Map.of(),
+                projection.includes("staticAnyObjectMembershipCount") ? groupDAO.countAMembers(keys) : Map.of(),
+                projection.includes("dynamicUserMembershipCount") ? groupDAO.countUDynMembers(keys) : Map.of(),
+                projection.includes("dynamicAnyObjectMembershipCount") ? groupDAO.countADynMembers(keys) : Map.of());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final Group group, final boolean details) {
+        return getGroupTO(group, getGroupTOContext(List.of(group.getKey()), details, AnyProjection.ALL));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<GroupTO> getGroupTOs(final List<Group> groups, final boolean details, final AnyProjection projection) {
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+
+        GroupTOContext context = getGroupTOContext(groups.stream().map(Group::getKey).toList(), details, projection);
+        return groups.stream().map(group -> getGroupTO(group, context)).toList();
+    }
+
+    protected GroupTO getGroupTO(final Group group, final GroupTOContext context) {
         GroupTO groupTO = new GroupTO();
 
         groupTO.setKey(group.getKey());
@@ -498,34 +554,37 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
         Optional.ofNullable(group.getUserOwner()).map(User::getKey).ifPresent(groupTO::setUserOwner);
         Optional.ofNullable(group.getGroupOwner()).map(Group::getKey).ifPresent(groupTO::setGroupOwner);
 
-        fillTO(groupTO,
-                group.getRealm().getFullPath(),
-                group.getAuxClasses(),
-                group.getPlainAttrs(),
-                derAttrHandler.getValues(group),
-                group.getResources());
+        fillTO(groupTO, group, group::getResources, context.projection());
 
         // dynamic realms
-        groupTO.getDynRealms().addAll(groupDAO.findDynRealms(group.getKey()));
+        groupTO.getDynRealms().addAll(context.dynRealms().getOrDefault(group.getKey(), List.of()));
 
         // Static user and AnyType membership counts
-        groupTO.setStaticUserMembershipCount(groupDAO.countUMembers(group.getKey()));
-        groupTO.setStaticAnyObjectMembershipCount(groupDAO.countAMembers(group.getKey()));
+        groupTO.setStaticUserMembershipCount(context.staticUserMembershipCounts().getOrDefault(group.getKey(), 0L));
+        groupTO.setStaticAnyObjectMembershipCount(
+                context.staticAnyObjectMembershipCounts().getOrDefault(group.getKey(), 0L));
 
         // Dynamic user and AnyType membership counts
-        groupTO.setDynamicUserMembershipCount(groupDAO.countUDynMembers(group));
-        groupTO.setDynamicAnyObjectMembershipCount(groupDAO.countADynMembers(group));
+        groupTO.setDynamicUserMembershipCount(group.getUDynMembership() == null
+                ? 0
+                : context.dynamicUserMembershipCounts().getOrDefault(group.getKey(), 0L));
+        groupTO.setDynamicAnyObjectMembershipCount(
+                context.dynamicAnyObjectMembershipCounts().getOrDefault(group.getKey(), 0L));
 
         Optional.ofNullable(group.getUDynMembership()).
                 map(UDynGroupMembership::getFIQLCond).
                 ifPresent(groupTO::setUDynMembershipCond);
-        group.getADynMemberships().
-                forEach(memb -> groupTO.getADynMembershipConds().put(memb.getAnyType().getKey(), memb.getFIQLCond()));
+        if (context.projection().includes("aDynMembershipConds")) {
+            group.getADynMemberships().forEach(memb -> groupTO.getADynMembershipConds().
+                    put(memb.getAnyType().getKey(), memb.getFIQLCond()));
+        }
 
-        group.getTypeExtensions().forEach(typeExt -> groupTO.getTypeExtensions().add(getTypeExtensionTO(typeExt)));
+        if (context.projection().includes("typeExtensions")) {
+            group.getTypeExtensions().
+                    forEach(typeExt -> groupTO.getTypeExtensions().add(getTypeExtensionTO(typeExt)));
+        }
 
-        if (details) {
-            // relationships
+        if (context.details() && context.projection().includes("relationships")) {
             groupTO.getRelationships().addAll(group.getRelationships().stream().map(r -> getRelationshipTO(
                     r.getType().getKey(), RelationshipTO.End.LEFT, r.getRightEnd())).toList());
         }
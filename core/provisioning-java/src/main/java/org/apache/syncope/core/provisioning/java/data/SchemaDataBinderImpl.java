@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.data;
 
+import java.util.Objects;
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.mutable.Mutable;
@@ -29,6 +30,7 @@ import org.apache.syncope.common.lib.to.PlainSchemaTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
@@ -55,6 +57,8 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
 
     protected final DerSchemaDAO derSchemaDAO;
 
+    protected final DerAttrValueDAO derAttrValueDAO;
+
     protected final ExternalResourceDAO resourceDAO;
 
     protected final AnyTypeDAO anyTypeDAO;
@@ -69,6 +73,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
             final AnyTypeClassDAO anyTypeClassDAO,
             final PlainSchemaDAO plainSchemaDAO,
             final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final ExternalResourceDAO resourceDAO,
             final AnyTypeDAO anyTypeDAO,
             final ImplementationDAO implementationDAO,
@@ -78,6 +83,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.plainSchemaDAO = plainSchemaDAO;
         this.derSchemaDAO = derSchemaDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
         this.resourceDAO = resourceDAO;
         this.anyTypeDAO = anyTypeDAO;
         this.implementationDAO = implementationDAO;
@@ -236,14 +242,32 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
             throw scce;
         }
 
+        // values materialized so far no longer apply if the expression changed or materialization was disabled
+        boolean staleValues = schema.isMaterialized()
+                && (!schemaTO.isMaterialized() || !schemaTO.getExpression().equals(schema.getExpression()));
+        // values are complete only once DerAttrValuesMaterializer has run for the current expression and any type
+        // class, as the any objects allowed for the schema might change with the latter
+        boolean fullyMaterialized = schema.isFullyMaterialized()
+                && schemaTO.isMaterialized()
+                && schemaTO.getExpression().equals(schema.getExpression())
+                && Objects.equals(
+                        schemaTO.getAnyTypeClass(),
+                        Optional.ofNullable(schema.getAnyTypeClass()).map(AnyTypeClass::getKey).orElse(null));
+
         schema.setKey(schemaTO.getKey());
         schema.setExpression(schemaTO.getExpression());
+        schema.setMaterialized(schemaTO.isMaterialized());
+        schema.setFullyMaterialized(fullyMaterialized);
 
         schema.getLabels().clear();
         schema.getLabels().putAll(schemaTO.getLabels());
 
         DerSchema saved = derSchemaDAO.save(schema);
 
+        if (staleValues) {
+            derAttrValueDAO.deleteBySchema(saved.getKey());
+        }
+
         Mutable<AnyTypeClass> atc = new MutableObject<>();
         if (schemaTO.getAnyTypeClass() != null
                 && (saved.getAnyTypeClass() == null
@@ -288,6 +312,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         DerSchemaTO schemaTO = new DerSchemaTO();
         schemaTO.setKey(schema.getKey());
         schemaTO.setExpression(schema.getExpression());
+        schemaTO.setMaterialized(schema.isMaterialized());
         schemaTO.getLabels().putAll(schema.getLabels());
         schemaTO.setAnyTypeClass(schema.getAnyTypeClass() == null ? null : schema.getAnyTypeClass().getKey());
         return schemaTO;
@@ -19,11 +19,15 @@
 package org.apache.syncope.core.provisioning.java.data;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -85,10 +89,14 @@ import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(rollbackFor = { Throwable.class })
@@ -106,6 +114,8 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
 
     protected final SecurityProperties securityProperties;
 
+    protected final ApplicationEventPublisher publisher;
+
     public UserDataBinderImpl(
             final AnyTypeDAO anyTypeDAO,
             final RealmSearchDAO realmSearchDAO,
@@ -128,7 +138,8 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
             final AccessTokenDAO accessTokenDAO,
             final DelegationDAO delegationDAO,
             final ConfParamOps confParamOps,
-            final SecurityProperties securityProperties) {
+            final SecurityProperties securityProperties,
+            final ApplicationEventPublisher publisher) {
 
         super(anyTypeDAO,
                 realmSearchDAO,
@@ -153,6 +164,7 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
         this.delegationDAO = delegationDAO;
         this.confParamOps = confParamOps;
         this.securityProperties = securityProperties;
+        this.publisher = publisher;
     }
 
     @Transactional(readOnly = true)
@@ -464,6 +476,9 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
             accessTokenDAO.findByOwner(oldUsername).ifPresent(accessToken -> {
                 accessToken.setOwner(userUR.getUsername().getValue());
                 accessTokenDAO.save(accessToken);
+
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, accessToken, AuthContextUtils.getDomain()));
             });
         }
 
@@ -716,11 +731,96 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
         return getLinkedAccountTO(account, true);
     }
 
+    /**
+     * Data needed to build {@link UserTO} instances which is not available from the users themselves, fetched once
+     * for all the users to build.
+     *
+     * @param details whether details shall be included
+     * @param projection what shall be included
+     * @param returnPasswordValue whether password values shall be returned
+     * @param dynRealms dynamic realm keys, by user key; only populated if included
+     * @param dynGroups dynamic groups, by user key; only populated if needed for resources or dynamic memberships
+     * @param dynRoles dynamic roles, by user key; only populated for details, if included
+     * @param delegating keys of delegations given, by user key; only populated for details, if included
+     * @param delegated keys of delegations received, by user key; only populated for details, if included
+     */
+    protected record UserTOContext(
+            boolean details,
+            AnyProjection projection,
+            boolean returnPasswordValue,
+            Map<String, List<String>> dynRealms,
+            Map<String, List<Group>> dynGroups,
+            Map<String, List<Role>> dynRoles,
+            Map<String, List<String>> delegating,
+            Map<String, List<String>> delegated) {
+
+        boolean includes(final String field) {
+            return projection.includes(field);
+        }
+
+        boolean includesDetail(final String field) {
+            return details && projection.includes(field);
+        }
+    }
+
+    protected static Map<String, List<String>> delegationKeys(
+            final List<Delegation> delegations,
+            final Function<Delegation, User> user) {
+
+        return delegations.stream().collect(Collectors.groupingBy(
+                delegation -> user.apply(delegation).getKey(),
+                Collectors.mapping(Delegation::getKey, Collectors.toList())));
+    }
+
+    protected UserTOContext getUserTOContext(
+            final Collection<String> keys,
+            final boolean details,
+            final AnyProjection projection) {
+
+        boolean returnPasswordValue = confParamOps.get(AuthContextUtils.getDomain(),
+                "return.password.value", Boolean.FALSE, Boolean.class);
+
+        Map<String, List<String>> dynRealms = projection.includes("dynRealms")
+                ? userDAO.findDynRealms(keys)
+                : Map.of();
+        Map<String, List<Group>> dynGroups = projection.includes("resources")
+                || (details && projection.includes("dynMemberships"))
+                ? userDAO.findDynGroups(keys)
+                : Map.of();
+        Map<String, List<Role>> dynRoles = details && projection.includes("dynRoles")
+                ? userDAO.findDynRoles(keys)
+                : Map.of();
+        Map<String, List<String>> delegating = details && projection.includes("delegatingDelegations")
+                ? delegationKeys(delegationDAO.findByDelegatingIn(keys), Delegation::getDelegating)
+                : Map.of();
+        Map<String, List<String>> delegated = details && projection.includes("delegatedDelegations")
+                ? delegationKeys(delegationDAO.findByDelegatedIn(keys), Delegation::getDelegated)
+                : Map.of();
+
+        return new UserTOContext(
+                details, projection, returnPasswordValue, dynRealms, dynGroups, dynRoles, delegating, delegated);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
-        Boolean returnPasswordValue = confParamOps.get(AuthContextUtils.getDomain(),
-                "return.password.value", Boolean.FALSE, Boolean.class);
+        return getUserTO(user, getUserTOContext(List.of(user.getKey()), details, AnyProjection.ALL));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserTO> getUserTOs(final List<User> users, final boolean details, final AnyProjection projection) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        UserTOContext context = getUserTOContext(users.stream().map(User::getKey).toList(), details, projection);
+        return users.stream().map(user -> getUserTO(user, context)).toList();
+    }
+
+    protected UserTO getUserTO(final User user, final UserTOContext context) {
+        boolean returnPasswordValue = context.returnPasswordValue();
+        List<Group> dynGroups = context.dynGroups().getOrDefault(user.getKey(), List.of());
 
         UserTO userTO = new UserTO();
         userTO.setKey(user.getKey());
@@ -751,50 +851,56 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
         userTO.setToken(user.getToken());
         userTO.setTokenExpireTime(user.getTokenExpireTime());
 
-        fillTO(userTO,
-                user.getRealm().getFullPath(),
-                user.getAuxClasses(),
-                user.getPlainAttrs(),
-                derAttrHandler.getValues(user),
-                userDAO.findAllResources(user));
+        fillTO(userTO, user, () -> {
+            Set<ExternalResource> resources = new HashSet<>(user.getResources());
+            user.getMemberships().forEach(membership -> resources.addAll(membership.getRightEnd().getResources()));
+            dynGroups.forEach(group -> resources.addAll(group.getResources()));
+            return resources;
+        }, context.projection());
 
         // dynamic realms
-        userTO.getDynRealms().addAll(userDAO.findDynRealms(user.getKey()));
+        userTO.getDynRealms().addAll(context.dynRealms().getOrDefault(user.getKey(), List.of()));
 
-        if (details) {
-            // roles
+        // roles
+        if (context.includesDetail("roles")) {
             userTO.getRoles().addAll(user.getRoles().stream().map(Role::getKey).toList());
+        }
 
-            // dynamic roles
-            userTO.getDynRoles().addAll(
-                    userDAO.findDynRoles(user.getKey()).stream().map(Role::getKey).toList());
+        // dynamic roles
+        userTO.getDynRoles().addAll(context.dynRoles().getOrDefault(user.getKey(), List.of()).stream().
+                map(Role::getKey).toList());
 
-            // relationships
+        // relationships
+        if (context.includesDetail("relationships")) {
             userTO.getRelationships().addAll(user.getRelationships().stream().map(r -> getRelationshipTO(
                     r.getType().getKey(), RelationshipTO.End.LEFT, r.getRightEnd())).toList());
+        }
 
-            // memberships
+        // memberships
+        if (context.includesDetail("memberships")) {
             userTO.getMemberships().addAll(user.getMemberships().stream().
                     map(membership -> getMembershipTO(user.getPlainAttrs(membership),
                     derAttrHandler.getValues(user, membership),
                     membership)).toList());
+        }
 
-            // dynamic memberships
-            userTO.getDynMemberships().addAll(userDAO.findDynGroups(user.getKey()).stream().
+        // dynamic memberships
+        if (context.includesDetail("dynMemberships")) {
+            userTO.getDynMemberships().addAll(dynGroups.stream().
                     map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
                     toList());
+        }
 
-            // linked accounts
+        // linked accounts
+        if (context.includesDetail("linkedAccounts")) {
             userTO.getLinkedAccounts().addAll(user.getLinkedAccounts().stream().
                     map(account -> getLinkedAccountTO(account, returnPasswordValue)).toList());
-
-            // delegations
-            userTO.getDelegatingDelegations().addAll(
-                    delegationDAO.findByDelegating(user).stream().map(Delegation::getKey).toList());
-            userTO.getDelegatedDelegations().addAll(
-                    delegationDAO.findByDelegated(user).stream().map(Delegation::getKey).toList());
         }
 
+        // delegations
+        userTO.getDelegatingDelegations().addAll(context.delegating().getOrDefault(user.getKey(), List.of()));
+        userTO.getDelegatedDelegations().addAll(context.delegated().getOrDefault(user.getKey(), List.of()));
+
         return userTO;
     }
 
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Indexes the entity keys referenced by audit events stored before such indexing was available, so that they can
+ * be found when searching by entity key; each batch is committed on its own.
+ */
+public class AuditEventEntityKeysIndexer extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    @Autowired
+    private AuditEventDAO auditEventDAO;
+
+    @Override
+    protected String doExecute(final JobExecutionContext context) {
+        if (context.isDryRun()) {
+            return "SUCCESS";
+        }
+
+        long indexed = 0;
+        int batch;
+        do {
+            batch = auditEventDAO.indexEntityKeys(AnyDAO.DEFAULT_PAGE_SIZE);
+            indexed += batch;
+
+            setStatus("Indexed entity keys for " + indexed + " audit events");
+        } while (batch > 0);
+
+        LOG.debug("Successfully indexed entity keys for {} audit events", indexed);
+        return "Indexed entity keys for " + indexed + " audit events";
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.DerAttrMaterializer;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Computes and stores the values of materialized derived attributes for all users, groups and any objects; to be
+ * run after flagging a derived schema as materialized or changing the expression of a materialized derived schema,
+ * as values are otherwise only stored when any objects are saved. Each batch is committed on its own.
+ * <p>
+ * Once all any objects are processed, the materialized derived schemas are flagged as fully materialized, so that
+ * stored values are used, instead of evaluating expressions, for matching and searching; this does not happen for
+ * derived schemas having values which could not be stored.
+ */
+public class DerAttrValuesMaterializer extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    private DerAttrValueDAO derAttrValueDAO;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Autowired
+    private AnySearchDAO searchDAO;
+
+    @Autowired
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Autowired
+    private DerAttrMaterializer derAttrMaterializer;
+
+    @Override
+    protected String doExecute(final JobExecutionContext context) {
+        if (context.isDryRun()) {
+            return "SUCCESS";
+        }
+
+        // expressions changed while running will need another run
+        Map<String, String> expressions = derSchemaDAO.findByMaterializedTrue().stream().
+                collect(Collectors.toMap(DerSchema::getKey, DerSchema::getExpression));
+        if (expressions.isEmpty()) {
+            LOG.debug("No materialized derived schemas found");
+            return "No materialized derived schemas found";
+        }
+
+        // values which cannot be stored prevent the related derived schemas from being fully materialized
+        Set<String> notStored = new HashSet<>();
+
+        long materialized = 0;
+        for (AnyTypeKind kind : AnyTypeKind.values()) {
+            SearchCond cond = anyUtilsFactory.getInstance(kind).dao().getAllMatchingCond();
+
+            List<Any> anys;
+            String lastKey = null;
+            do {
+                anys = searchDAO.seek(
+                        realmDAO.getRoot(),
+                        true,
+                        Set.of(SyncopeConstants.ROOT_REALM),
+                        cond,
+                        lastKey,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
+                        kind);
+
+                Map<String, Map<String, String>> values = new HashMap<>();
+                anys.forEach(any -> values.put(any.getKey(), derAttrMaterializer.getValues(any)));
+                notStored.addAll(derAttrValueDAO.replaceAll(values));
+                materialized += anys.size();
+
+                setStatus("Materialized derived attributes for " + materialized + " any objects");
+
+                lastKey = anys.isEmpty() ? null : anys.getLast().getKey();
+            } while (anys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+        }
+
+        derSchemaDAO.findByMaterializedTrue().stream().
+                filter(schema -> schema.getExpression().equals(expressions.get(schema.getKey()))).
+                filter(schema -> !notStored.contains(schema.getKey())).
+                filter(schema -> !schema.isFullyMaterialized()).
+                forEach(schema -> {
+                    schema.setFullyMaterialized(true);
+                    derSchemaDAO.save(schema);
+                });
+
+        LOG.debug("Successfully materialized derived attributes for {} any objects", materialized);
+        return "Materialized derived attributes for " + materialized + " any objects";
+    }
+}
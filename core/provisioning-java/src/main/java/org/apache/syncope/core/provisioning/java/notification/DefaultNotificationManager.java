@@ -64,6 +64,7 @@ import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.OpEventRouter;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
@@ -114,6 +115,8 @@ public class DefaultNotificationManager implements NotificationManager {
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final OpEventRouter opEventRouter;
+
     protected Optional<RecipientsProvider> perContextRecipientsProvider = Optional.empty();
 
     public DefaultNotificationManager(
@@ -132,7 +135,8 @@ public class DefaultNotificationManager implements NotificationManager {
             final ConfParamOps confParamOps,
             final EntityFactory entityFactory,
             final IntAttrNameParser intAttrNameParser,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final OpEventRouter opEventRouter) {
 
         this.derSchemaDAO = derSchemaDAO;
         this.notificationDAO = notificationDAO;
@@ -150,6 +154,7 @@ public class DefaultNotificationManager implements NotificationManager {
         this.entityFactory = entityFactory;
         this.intAttrNameParser = intAttrNameParser;
         this.searchCondVisitor = searchCondVisitor;
+        this.opEventRouter = opEventRouter;
     }
 
     @Transactional(readOnly = true)
@@ -242,12 +247,7 @@ public class DefaultNotificationManager implements NotificationManager {
             final String subcategory,
             final String op) {
 
-        String successEvent = OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.SUCCESS);
-        String failureEvent = OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.FAILURE);
-        return AuthContextUtils.callAsAdmin(domain, () -> notificationDAO.findAll().stream().
-                anyMatch(notification -> notification.isActive()
-                && (notification.getEvents().contains(successEvent)
-                || notification.getEvents().contains(failureEvent))));
+        return opEventRouter.isNotified(domain, type, category, subcategory, op);
     }
 
     @Override
@@ -25,8 +25,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.ExecStatus;
@@ -50,20 +48,20 @@ import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * Sorts the tasks to be executed according to related
  * {@link org.apache.syncope.core.persistence.api.entity.ExternalResource}'s priority, then execute.
- * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
+ * Tasks related to resources with NULL priority are executed after other tasks, concurrently, through
+ * {@link PropagationBulkheads}.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
  */
 public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExecutor {
 
-    protected final AsyncTaskExecutor taskExecutor;
+    protected final PropagationBulkheads bulkheads;
 
     public PriorityPropagationTaskExecutor(
             final ConnectorManager connectorManager,
@@ -79,7 +77,7 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
-            final AsyncTaskExecutor taskExecutor) {
+            final PropagationBulkheads bulkheads) {
 
         super(connectorManager,
                 connObjectUtils,
@@ -94,16 +92,16 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 outboundMatcher,
                 validator,
                 publisher);
-        this.taskExecutor = taskExecutor;
+        this.bulkheads = bulkheads;
     }
 
     /**
-     * Creates new instances of {@link Callable} for usage with{@link java.util.concurrent.CompletionService}.
+     * Creates new instances of {@link Callable} for usage with {@link PropagationBulkheads}.
      *
      * @param taskInfo to be executed
      * @param reporter to report propagation execution status
      * @param executor user that triggered the propagation execution
-     * @return new {@link Callable} instance for usage with {@link java.util.concurrent.CompletionService}
+     * @return new {@link Callable} instance for usage with {@link PropagationBulkheads}
      */
     protected Callable<TaskExec<PropagationTask>> newPropagationTaskCallable(
             final PropagationTaskInfo taskInfo, final PropagationReporter reporter, final String executor) {
@@ -172,13 +170,14 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
             // then process non-priority resources concurrently...
             if (!concurrentTasks.isEmpty()) {
-                CompletionService<TaskExec<PropagationTask>> completionService =
-                        new ExecutorCompletionService<>(taskExecutor);
                 List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
 
                 concurrentTasks.forEach(taskInfo -> {
                     try {
-                        futures.add(completionService.submit(newPropagationTaskCallable(taskInfo, reporter, executor)));
+                        futures.add(bulkheads.submit(
+                                taskInfo.getResource().getKey(),
+                                newPropagationTaskCallable(taskInfo, reporter, executor),
+                                exec -> ExecStatus.FAILURE.name().equals(exec.getStatus())));
 
                         if (nullPriorityAsync) {
                             reporter.onSuccessOrNonPriorityResourceFailures(
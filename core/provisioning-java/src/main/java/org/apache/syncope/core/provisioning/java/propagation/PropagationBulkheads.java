@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import org.apache.syncope.core.provisioning.java.BulkheadProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Keeps one bulkhead per {@link org.apache.syncope.core.persistence.api.entity.ExternalResource} in front of the
+ * shared propagation executor.
+ * Tasks exceeding the concurrency limit of their resource are queued and only handed over to the shared executor when
+ * a slot frees up, so that a degraded resource throttles itself without holding threads needed by the others.
+ *
+ * Limits are adapted via AIMD after each execution: they grow additively while the recent average latency stays
+ * within {@code latencyTolerance} times the baseline latency of the resource, and are cut multiplicatively when
+ * latency degrades or execution fails.
+ * Both recent and baseline latencies are exponentially weighted moving averages of successful executions, the
+ * baseline moving much slower, so that a single fast or slow execution does not skew it and permanent changes in the
+ * resource response time are eventually followed.
+ */
+public class PropagationBulkheads {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationBulkheads.class);
+
+    /**
+     * Weight of the latest latency sample in the recent average.
+     */
+    protected static final double RECENT_WEIGHT = 0.1;
+
+    /**
+     * Weight of the latest latency sample in the baseline average.
+     */
+    protected static final double BASELINE_WEIGHT = 0.01;
+
+    protected record Pending(Runnable runnable, CompletableFuture<?> future) {
+
+    }
+
+    protected class Bulkhead {
+
+        protected final String resource;
+
+        protected final Deque<Pending> queue = new ArrayDeque<>();
+
+        protected double limit = props.getInitialLimit();
+
+        protected int inFlight;
+
+        protected double avgLatency;
+
+        protected double baselineLatency;
+
+        protected long completed;
+
+        protected long failed;
+
+        protected long rejected;
+
+        protected Bulkhead(final String resource) {
+            this.resource = resource;
+        }
+
+        protected synchronized boolean acquireOrEnqueue(final Pending pending) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+
+            if (queue.size() >= props.getMaxQueued()) {
+                rejected++;
+                throw new RejectedExecutionException("Too many propagation tasks queued for " + resource);
+            }
+
+            queue.add(pending);
+            return false;
+        }
+
+        protected synchronized void cancel() {
+            inFlight--;
+        }
+
+        protected synchronized List<Pending> release(final long latencyNanos, final boolean success) {
+            inFlight--;
+            completed++;
+
+            if (success) {
+                // failures often return early or time out, so they are not representative of latency
+                double latency = latencyNanos / 1_000_000D;
+                if (baselineLatency == 0) {
+                    avgLatency = latency;
+                    baselineLatency = latency;
+                } else {
+                    avgLatency = avgLatency * (1 - RECENT_WEIGHT) + latency * RECENT_WEIGHT;
+                    baselineLatency = baselineLatency * (1 - BASELINE_WEIGHT) + latency * BASELINE_WEIGHT;
+                }
+            } else {
+                failed++;
+            }
+
+            if (!success || avgLatency > baselineLatency * props.getLatencyTolerance()) {
+                limit = Math.max(props.getMinLimit(), limit * props.getBackoffRatio());
+                LOG.debug("Decreased concurrency limit for {} to {}", resource, limit);
+            } else {
+                limit = Math.min(props.getMaxLimit(), limit + 1 / limit);
+            }
+
+            List<Pending> next = new ArrayList<>();
+            while (!queue.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                next.add(queue.poll());
+            }
+            return next;
+        }
+
+        protected synchronized Map<String, Object> getStatistics() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("limit", (int) limit);
+            stats.put("inFlight", inFlight);
+            stats.put("queued", queue.size());
+            stats.put("avgLatencyMillis", Math.round(avgLatency));
+            stats.put("baselineLatencyMillis", Math.round(baselineLatency));
+            stats.put("completed", completed);
+            stats.put("failed", failed);
+            stats.put("rejected", rejected);
+            return stats;
+        }
+    }
+
+    protected final BulkheadProperties props;
+
+    protected final AsyncTaskExecutor taskExecutor;
+
+    protected final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public PropagationBulkheads(final BulkheadProperties props, final AsyncTaskExecutor taskExecutor) {
+        this.props = props;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Submits the given callable for execution, subject to the bulkhead of the given resource; execution is
+     * considered failed only when throwing exceptions.
+     *
+     * @param <T> callable result type
+     * @param resource external resource key
+     * @param callable task to execute
+     * @return future holding the task result
+     * @throws RejectedExecutionException if the task cannot be accepted
+     */
+    public <T> Future<T> submit(final String resource, final Callable<T> callable) {
+        return submit(resource, callable, result -> false);
+    }
+
+    /**
+     * Submits the given callable for execution, subject to the bulkhead of the given resource.
+     *
+     * @param <T> callable result type
+     * @param resource external resource key
+     * @param callable task to execute
+     * @param failure tells whether the result returned by the given callable denotes a failed execution
+     * @return future holding the task result
+     * @throws RejectedExecutionException if the task cannot be accepted
+     */
+    public <T> Future<T> submit(final String resource, final Callable<T> callable, final Predicate<T> failure) {
+        if (!props.isEnabled()) {
+            return taskExecutor.submit(callable);
+        }
+
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(resource, Bulkhead::new);
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Pending pending = new Pending(() -> run(bulkhead, callable, failure, future), future);
+        if (bulkhead.acquireOrEnqueue(pending)) {
+            try {
+                taskExecutor.execute(pending.runnable());
+            } catch (RejectedExecutionException e) {
+                bulkhead.cancel();
+                throw e;
+            }
+        }
+        return future;
+    }
+
+    protected <T> void run(
+            final Bulkhead bulkhead,
+            final Callable<T> callable,
+            final Predicate<T> failure,
+            final CompletableFuture<T> future) {
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = callable.call();
+            success = !failure.test(result);
+            future.complete(result);
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            bulkhead.release(System.nanoTime() - start, success).forEach(next -> {
+                try {
+                    taskExecutor.execute(next.runnable());
+                } catch (RejectedExecutionException e) {
+                    LOG.error("Could not execute queued propagation task for {}", bulkhead.resource, e);
+                    bulkhead.cancel();
+                    next.future().completeExceptionally(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return concurrency limit, in-flight and queued tasks, latency and outcome counters, by resource
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new TreeMap<>();
+        bulkheads.forEach((resource, bulkhead) -> statistics.put(resource, bulkhead.getStatistics()));
+        return statistics;
+    }
+}
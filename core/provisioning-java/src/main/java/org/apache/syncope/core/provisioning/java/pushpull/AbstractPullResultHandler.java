@@ -20,7 +20,10 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.syncope.common.lib.AnyOperations;
@@ -44,6 +47,7 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Remediation;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
@@ -55,6 +59,7 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
 import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
+import org.apache.syncope.core.provisioning.api.pushpull.PrefetchedMatch;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.rules.InboundMatch;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
@@ -102,6 +107,8 @@ public abstract class AbstractPullResultHandler
     @Autowired
     protected EntityFactory entityFactory;
 
+    protected Map<String, List<PrefetchedMatch>> prefetched = new ConcurrentHashMap<>();
+
     protected abstract String getName(AnyTO anyTO);
 
     protected abstract String getName(AnyCR anyCR);
@@ -112,6 +119,28 @@ public abstract class AbstractPullResultHandler
 
     protected abstract AnyUR doUpdate(AnyTO before, AnyUR anyUR, SyncDelta delta, ProvisioningReport result);
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<PrefetchedMatch>> prefetch(final List<SyncDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+
+        Optional<Provision> provision = profile.getTask().getResource().
+                getProvisionByObjectClass(deltas.getFirst().getObject().getObjectClass().getObjectClassValue());
+        Optional<AnyType> anyType = provision.flatMap(p -> anyTypeDAO.findById(p.getAnyType()));
+        if (provision.isEmpty() || anyType.isEmpty()) {
+            return Map.of();
+        }
+
+        return inboundMatcher.match(deltas, profile.getTask().getResource(), provision.get(), anyType.get().getKind());
+    }
+
+    @Override
+    public void setPrefetched(final Map<String, List<PrefetchedMatch>> prefetched) {
+        this.prefetched = prefetched;
+    }
+
     @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final SyncDelta delta) {
@@ -841,11 +870,15 @@ public abstract class AbstractPullResultHandler
 
         OpEvent.Outcome result = OpEvent.Outcome.SUCCESS;
         try {
-            List<InboundMatch> matches = inboundMatcher.match(
-                    finalDelta,
+            SyncDelta matchDelta = finalDelta;
+            List<InboundMatch> matches = inboundMatcher.getConnObjectKeyValue(matchDelta, provision).
+                    map(prefetched::remove).
+                    flatMap(found -> inboundMatcher.resolve(found, profile.getTask().getResource())).
+                    orElseGet(() -> inboundMatcher.match(
+                    matchDelta,
                     profile.getTask().getResource(),
                     provision,
-                    anyTypeKind);
+                    anyTypeKind));
             LOG.debug("Match(es) found for {} as {}: {}",
                     finalDelta.getUid().getUidValue(), finalDelta.getObject().getObjectClass(), matches);
 
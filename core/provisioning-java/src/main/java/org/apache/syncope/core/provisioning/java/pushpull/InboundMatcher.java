@@ -20,10 +20,15 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -32,8 +37,10 @@ import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
@@ -47,14 +54,19 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.policy.InboundCorrelationRuleEntity;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.data.ItemTransformer;
+import org.apache.syncope.core.provisioning.api.pushpull.PrefetchedMatch;
 import org.apache.syncope.core.provisioning.api.rules.InboundCorrelationRule;
 import org.apache.syncope.core.provisioning.api.rules.InboundMatch;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
@@ -83,6 +95,8 @@ public class InboundMatcher {
 
     protected static final Logger LOG = LoggerFactory.getLogger(InboundMatcher.class);
 
+    protected static final int MATCH_CHUNK_SIZE = 100;
+
     protected final UserDAO userDAO;
 
     protected final AnyObjectDAO anyObjectDAO;
@@ -97,6 +111,8 @@ public class InboundMatcher {
 
     protected final ImplementationDAO implementationDAO;
 
+    protected final DerAttrValueDAO derAttrValueDAO;
+
     protected final IntAttrNameParser intAttrNameParser;
 
     protected final AnyUtilsFactory anyUtilsFactory;
@@ -111,6 +127,7 @@ public class InboundMatcher {
             final RealmDAO realmDAO,
             final RealmSearchDAO realmSearchDAO,
             final ImplementationDAO implementationDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final IntAttrNameParser intAttrNameParser,
             final AnyUtilsFactory anyUtilsFactory) {
 
@@ -121,6 +138,7 @@ public class InboundMatcher {
         this.realmDAO = realmDAO;
         this.realmSearchDAO = realmSearchDAO;
         this.implementationDAO = implementationDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
         this.intAttrNameParser = intAttrNameParser;
         this.anyUtilsFactory = anyUtilsFactory;
     }
@@ -221,25 +239,30 @@ public class InboundMatcher {
                 collect(Collectors.toList());
     }
 
-    public List<InboundMatch> matchByConnObjectKeyValue(
-            final Item connObjectKeyItem,
-            final String connObjectKeyValue,
-            final AnyTypeKind anyTypeKind,
-            final ExternalResource resource,
-            final boolean ignoreCaseMatch) {
-
-        String finalConnObjectKeyValue = connObjectKeyValue;
+    protected String transform(final Item connObjectKeyItem, final String connObjectKeyValue) {
+        String transformed = connObjectKeyValue;
         for (ItemTransformer transformer
                 : MappingUtils.getItemTransformers(connObjectKeyItem, getTransformers(connObjectKeyItem))) {
 
             List<Object> output = transformer.beforePull(
                     connObjectKeyItem,
                     null,
-                    List.of(finalConnObjectKeyValue));
+                    List.of(transformed));
             if (!CollectionUtils.isEmpty(output)) {
-                finalConnObjectKeyValue = output.getFirst().toString();
+                transformed = output.getFirst().toString();
             }
         }
+        return transformed;
+    }
+
+    public List<InboundMatch> matchByConnObjectKeyValue(
+            final Item connObjectKeyItem,
+            final String connObjectKeyValue,
+            final AnyTypeKind anyTypeKind,
+            final ExternalResource resource,
+            final boolean ignoreCaseMatch) {
+
+        String finalConnObjectKeyValue = transform(connObjectKeyItem, connObjectKeyValue);
 
         List<InboundMatch> noMatchResult = List.of(InboundCorrelationRule.NO_MATCH);
 
@@ -303,11 +326,20 @@ public class InboundMatcher {
                     anys.addAll(anySearchDAO.search(SearchCond.of(attrCond), anyTypeKind));
                 }
 
-                case DERIVED ->
-                    anys.addAll(anyUtils.dao().findByDerAttrValue(
-                            ((DerSchema) intAttrName.getSchema()).getExpression(),
-                            finalConnObjectKeyValue,
-                            ignoreCaseMatch));
+                case DERIVED -> {
+                    // stored values are only relied upon once complete, otherwise pulls would not match any
+                    // objects whose values are missing, and create duplicates
+                    DerSchema derSchema = (DerSchema) intAttrName.getSchema();
+                    if (derSchema.isFullyMaterialized()) {
+                        anys.addAll(anyUtils.dao().findByKeys(derAttrValueDAO.findAnyKeys(
+                                derSchema.getKey(), finalConnObjectKeyValue, ignoreCaseMatch)));
+                    } else {
+                        anys.addAll(anyUtils.dao().findByDerAttrValue(
+                                derSchema.getExpression(),
+                                finalConnObjectKeyValue,
+                                ignoreCaseMatch));
+                    }
+                }
 
                 default -> {
                 }
@@ -316,7 +348,7 @@ public class InboundMatcher {
 
         List<InboundMatch> result = anys.stream().
                 map(any -> new InboundMatch(MatchType.ANY, any)).
-                toList();
+                collect(Collectors.toCollection(ArrayList::new));
 
         if (resource != null) {
             userDAO.findLinkedAccount(resource, finalConnObjectKeyValue).
@@ -327,6 +359,150 @@ public class InboundMatcher {
         return result.isEmpty() ? noMatchResult : result;
     }
 
+    protected SearchCond anyConds(final String field, final Collection<String> values, final boolean ignoreCaseMatch) {
+        return SearchCond.or(values.stream().map(value -> {
+            AnyCond cond = new AnyCond(ignoreCaseMatch ? AttrCond.Type.IEQ : AttrCond.Type.EQ);
+            cond.setSchema(field);
+            cond.setExpression(value);
+            return SearchCond.of(cond);
+        }).toList());
+    }
+
+    protected static String matchValue(final String value, final boolean ignoreCaseMatch) {
+        return ignoreCaseMatch ? value.toLowerCase() : value;
+    }
+
+    /**
+     * Bulk version of {@link #matchByConnObjectKeyValue(Item, String, AnyTypeKind, ExternalResource, boolean)}:
+     * resolves all given values with one query per any type (plus one for linked accounts), chunk by chunk.
+     *
+     * @param connObjectKeyItem connObjectKey mapping item
+     * @param connObjectKeyValues connObjectKey values, after transformation
+     * @param anyTypeKind any type kind
+     * @param resource external resource
+     * @param ignoreCaseMatch whether matching shall be case-insensitive
+     * @return matches for each of the given values, empty list meaning no match, or empty if the connObjectKey mapping
+     * item does not allow bulk matching
+     */
+    public Optional<Map<String, List<PrefetchedMatch>>> matchByConnObjectKeyValues(
+            final Item connObjectKeyItem,
+            final Collection<String> connObjectKeyValues,
+            final AnyTypeKind anyTypeKind,
+            final ExternalResource resource,
+            final boolean ignoreCaseMatch) {
+
+        IntAttrName intAttrName;
+        try {
+            intAttrName = intAttrNameParser.parse(connObjectKeyItem.getIntAttrName(), anyTypeKind);
+        } catch (ParseException e) {
+            LOG.error("Invalid intAttrName '{}' specified, ignoring", connObjectKeyItem.getIntAttrName(), e);
+            return Optional.empty();
+        }
+
+        Map<String, List<PrefetchedMatch>> found = new HashMap<>();
+        BiConsumer<String, Any> addAny = (value, any) -> found.computeIfAbsent(
+                matchValue(value, ignoreCaseMatch), k -> new ArrayList<>()).
+                add(new PrefetchedMatch(MatchType.ANY, any.getType().getKind(), any.getKey()));
+
+        List<String> values = List.copyOf(connObjectKeyValues);
+        for (int i = 0; i < values.size(); i += MATCH_CHUNK_SIZE) {
+            List<String> chunk = values.subList(i, Math.min(i + MATCH_CHUNK_SIZE, values.size()));
+
+            if (intAttrName.getField() != null) {
+                switch (intAttrName.getField()) {
+                    case "key" ->
+                        anyUtilsFactory.getInstance(anyTypeKind).dao().findByKeys(chunk).
+                                forEach(any -> addAny.accept(any.getKey(), any));
+
+                    case "username" ->
+                        anySearchDAO.<User>search(anyConds("username", chunk, ignoreCaseMatch), AnyTypeKind.USER).
+                                forEach(user -> addAny.accept(user.getUsername(), user));
+
+                    case "name" -> {
+                        anySearchDAO.<Group>search(anyConds("name", chunk, ignoreCaseMatch), AnyTypeKind.GROUP).
+                                forEach(group -> addAny.accept(group.getName(), group));
+                        anySearchDAO.<AnyObject>search(
+                                anyConds("name", chunk, ignoreCaseMatch), AnyTypeKind.ANY_OBJECT).
+                                forEach(anyObject -> addAny.accept(anyObject.getName(), anyObject));
+                    }
+
+                    default -> {
+                        return Optional.empty();
+                    }
+                }
+            } else if (intAttrName.getSchemaType() == SchemaType.PLAIN) {
+                String schema = intAttrName.getSchema().getKey();
+                anySearchDAO.search(SearchCond.or(chunk.stream().map(value -> {
+                    AttrCond attrCond = new AttrCond(ignoreCaseMatch ? AttrCond.Type.IEQ : AttrCond.Type.EQ);
+                    attrCond.setSchema(schema);
+                    attrCond.setExpression(value);
+                    return SearchCond.of(attrCond);
+                }).toList()), anyTypeKind).forEach(any -> any.getPlainAttr(schema).ifPresent(attr -> {
+                    Set<String> attrValues = new HashSet<>(attr.getValuesAsStrings());
+                    attrValues.forEach(value -> addAny.accept(value, any));
+                }));
+            } else if (intAttrName.getSchemaType() == SchemaType.DERIVED
+                    && ((DerSchema) intAttrName.getSchema()).isFullyMaterialized()) {
+
+                String schema = intAttrName.getSchema().getKey();
+                Map<String, String> matchingKeys = new HashMap<>();
+                chunk.forEach(value -> derAttrValueDAO.findAnyKeys(schema, value, ignoreCaseMatch).
+                        forEach(key -> matchingKeys.put(key, value)));
+                anyUtilsFactory.getInstance(anyTypeKind).dao().findByKeys(List.copyOf(matchingKeys.keySet())).
+                        forEach(any -> addAny.accept(matchingKeys.get(any.getKey()), any));
+            } else {
+                // derived schemas not fully materialized are matched via expression evaluation, one value at a time
+                return Optional.empty();
+            }
+
+            if (resource != null) {
+                userDAO.findLinkedAccounts(resource, chunk).forEach(account -> found.computeIfAbsent(
+                        matchValue(account.getConnObjectKeyValue(), ignoreCaseMatch), k -> new ArrayList<>()).
+                        add(new PrefetchedMatch(
+                                MatchType.LINKED_ACCOUNT, AnyTypeKind.USER, account.getConnObjectKeyValue())));
+            }
+        }
+
+        Map<String, List<PrefetchedMatch>> result = new HashMap<>();
+        connObjectKeyValues.forEach(value -> result.put(
+                value,
+                Optional.ofNullable(found.get(matchValue(value, ignoreCaseMatch))).
+                        map(List::copyOf).
+                        orElseGet(List::of)));
+        return Optional.of(result);
+    }
+
+    /**
+     * Loads the entities for matches previously found via
+     * {@link #match(java.util.List, ExternalResource, Provision, AnyTypeKind)}, within the current transaction.
+     *
+     * @param prefetched matches found in bulk, empty list meaning no match
+     * @param resource external resource
+     * @return matching users / groups / any objects / linked accounts, or empty if any of the matched entities is no
+     * longer available
+     */
+    public Optional<List<InboundMatch>> resolve(
+            final List<PrefetchedMatch> prefetched,
+            final ExternalResource resource) {
+
+        if (prefetched.isEmpty()) {
+            return Optional.of(List.of(InboundCorrelationRule.NO_MATCH));
+        }
+
+        List<InboundMatch> result = new ArrayList<>(prefetched.size());
+        for (PrefetchedMatch match : prefetched) {
+            Optional<? extends Entity> entity = match.matchTarget() == MatchType.LINKED_ACCOUNT
+                    ? userDAO.findLinkedAccount(resource, match.key())
+                    : anyUtilsFactory.getInstance(match.anyTypeKind()).dao().findById(match.key());
+            if (entity.isEmpty()) {
+                LOG.debug("{} {} no longer available, will match again", match.matchTarget(), match.key());
+                return Optional.empty();
+            }
+            result.add(new InboundMatch(match.matchTarget(), entity.get()));
+        }
+        return Optional.of(result);
+    }
+
     protected List<InboundMatch> matchByCorrelationRule(
             final SyncDelta syncDelta,
             final Provision provision,
@@ -370,6 +546,22 @@ public class InboundMatcher {
         return rule;
     }
 
+    /**
+     * Extracts the connObjectKey value from the given sync delta, before any transformation.
+     *
+     * @param syncDelta change operation, including external attributes
+     * @param provision mapping
+     * @return connObjectKey value, if available
+     */
+    public Optional<String> getConnObjectKeyValue(final SyncDelta syncDelta, final Provision provision) {
+        return MappingUtils.getConnObjectKeyItem(provision).map(connObjectKeyItem -> {
+            Attribute connObjectKeyAttr = syncDelta.getObject().getAttributeByName(connObjectKeyItem.getExtAttrName());
+            return Optional.ofNullable(connObjectKeyAttr).map(AttributeUtil::getStringValue).
+                    // fallback to __UID__
+                    orElseGet(() -> syncDelta.getUid().getUidValue());
+        });
+    }
+
     /**
      * Finds internal entities based on external attributes and mapping.
      *
@@ -392,20 +584,8 @@ public class InboundMatcher {
             if (rule.isPresent()) {
                 result = matchByCorrelationRule(syncDelta, provision, rule.get(), anyTypeKind);
             } else {
-                String connObjectKeyValue = null;
-
                 Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-                if (connObjectKeyItem.isPresent()) {
-                    Attribute connObjectKeyAttr = syncDelta.getObject().
-                            getAttributeByName(connObjectKeyItem.get().getExtAttrName());
-                    if (connObjectKeyAttr != null) {
-                        connObjectKeyValue = AttributeUtil.getStringValue(connObjectKeyAttr);
-                    }
-                    // fallback to __UID__
-                    if (connObjectKeyValue == null) {
-                        connObjectKeyValue = syncDelta.getUid().getUidValue();
-                    }
-                }
+                String connObjectKeyValue = getConnObjectKeyValue(syncDelta, provision).orElse(null);
                 if (connObjectKeyValue == null) {
                     result = List.of(InboundCorrelationRule.NO_MATCH);
                 } else {
@@ -424,6 +604,50 @@ public class InboundMatcher {
         return result;
     }
 
+    /**
+     * Finds internal entities for several changes at once, based on external attributes and mapping: this is only
+     * possible when no correlation rule is configured.
+     *
+     * @param syncDeltas change operations, including external attributes
+     * @param resource external resource
+     * @param provision mapping
+     * @param anyTypeKind type kind
+     * @return matching users / groups / any objects / linked accounts for each connObjectKey value, before any
+     * transformation, to be resolved via {@link #resolve(java.util.List, ExternalResource)}; empty if bulk matching
+     * is not possible
+     */
+    public Map<String, List<PrefetchedMatch>> match(
+            final List<SyncDelta> syncDeltas,
+            final ExternalResource resource,
+            final Provision provision,
+            final AnyTypeKind anyTypeKind) {
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (syncDeltas.isEmpty() || connObjectKeyItem.isEmpty() || rule(resource, provision).isPresent()) {
+            return Map.of();
+        }
+
+        try {
+            // connObjectKey value -> transformed connObjectKey value
+            Map<String, String> values = new HashMap<>();
+            syncDeltas.forEach(syncDelta -> getConnObjectKeyValue(syncDelta, provision).
+                    ifPresent(value -> values.computeIfAbsent(value, v -> transform(connObjectKeyItem.get(), v))));
+
+            return matchByConnObjectKeyValues(
+                    connObjectKeyItem.get(),
+                    new HashSet<>(values.values()),
+                    anyTypeKind,
+                    resource,
+                    provision.isIgnoreCaseMatch()).
+                    map(matches -> values.entrySet().stream().collect(Collectors.toMap(
+                    Map.Entry::getKey, entry -> matches.get(entry.getValue())))).
+                    orElseGet(Map::of);
+        } catch (RuntimeException e) {
+            LOG.error("Could not match {} changes with any existing {}", syncDeltas.size(), provision.getAnyType(), e);
+            return Map.of();
+        }
+    }
+
     /**
      * Finds internal realms based on external attributes and mapping.
      *
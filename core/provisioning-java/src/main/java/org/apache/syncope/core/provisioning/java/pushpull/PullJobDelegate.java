@@ -50,6 +50,11 @@ public class PullJobDelegate
         extends AbstractPullExecutor<PullTask>
         implements SyncopePullExecutor, StoppableSchedTaskJobDelegate {
 
+    /**
+     * Number of deltas matched in bulk against internal entities: same as the default connector page size.
+     */
+    protected static final int MATCH_WINDOW = 100;
+
     protected Optional<ReconFilterBuilder> perContextReconFilterBuilder = Optional.empty();
 
     protected ReconFilterBuilder getReconFilterBuilder(final PullTask task) throws ClassNotFoundException {
@@ -78,7 +83,7 @@ public class PullJobDelegate
                 executor,
                 context.isDryRun());
 
-        dispatcher = new PullResultHandlerDispatcher(profile, this);
+        dispatcher = new PullResultHandlerDispatcher(profile, this, MATCH_WINDOW);
     }
 
     @Override
@@ -126,6 +131,7 @@ public class PullJobDelegate
                                 ConnObjectUtils.toSyncToken(orgUnit.getSyncToken()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
 
                         if (!context.isDryRun()) {
                             orgUnit.setSyncToken(
@@ -139,6 +145,7 @@ public class PullJobDelegate
                                 getReconFilterBuilder(task),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
                         break;
 
                     case FULL_RECONCILIATION:
@@ -147,6 +154,7 @@ public class PullJobDelegate
                                 new ObjectClass(orgUnit.getObjectClass()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
                         break;
                 }
             } catch (Throwable t) {
@@ -205,6 +213,7 @@ public class PullJobDelegate
                                 ConnObjectUtils.toSyncToken(provision.getSyncToken()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
 
                         if (!context.isDryRun()) {
                             setSyncTokens = true;
@@ -216,6 +225,7 @@ public class PullJobDelegate
                                 getReconFilterBuilder(task),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
                         break;
 
                     case FULL_RECONCILIATION:
@@ -224,6 +234,7 @@ public class PullJobDelegate
                                 new ObjectClass(provision.getObjectClass()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
                 }
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
@@ -18,33 +18,179 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
+import org.apache.syncope.core.provisioning.api.pushpull.PrefetchedMatch;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 
+/**
+ * Dispatches the received deltas to the pull result handlers; when {@code window} is greater than 1, deltas are
+ * collected per object class and matched in bulk against internal entities, before being dispatched.
+ * In such case, {@link #flush()} must be invoked once the connector has delivered all deltas.
+ */
 public class PullResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PullTask, InboundActions, SyncopePullResultHandler>
         implements SyncResultsHandler {
 
     protected final SyncopePullExecutor executor;
 
+    protected final int window;
+
+    protected final Map<String, List<SyncDelta>> pending = new HashMap<>();
+
     public PullResultHandlerDispatcher(
             final ProvisioningProfile<PullTask, InboundActions> profile,
             final SyncopePullExecutor executor) {
 
+        this(profile, executor, 1);
+    }
+
+    public PullResultHandlerDispatcher(
+            final ProvisioningProfile<PullTask, InboundActions> profile,
+            final SyncopePullExecutor executor,
+            final int window) {
+
         super(profile);
         this.executor = executor;
+        this.window = window;
     }
 
     @Override
     public boolean handle(final SyncDelta delta) {
+        if (window <= 1) {
+            return dispatch(delta, null);
+        }
+
+        String objectClass = delta.getObjectClass().getObjectClassValue();
+        List<SyncDelta> deltas = pending.computeIfAbsent(objectClass, k -> new ArrayList<>(window));
+        deltas.add(delta);
+        return deltas.size() < window || flush(objectClass);
+    }
+
+    protected boolean flush(final String objectClass) {
+        List<SyncDelta> deltas = pending.remove(objectClass);
+        if (deltas == null || deltas.isEmpty()) {
+            return true;
+        }
+
+        Map<String, List<PrefetchedMatch>> prefetched = prefetch(objectClass, deltas);
+        for (SyncDelta delta : deltas) {
+            if (!dispatch(delta, prefetched)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected Map<String, List<PrefetchedMatch>> prefetch(final String objectClass, final List<SyncDelta> deltas) {
+        Map<String, List<PrefetchedMatch>> prefetched = new ConcurrentHashMap<>();
+        try {
+            prefetched.putAll(nonConcurrentHandler(objectClass).prefetch(deltas));
+        } catch (Exception e) {
+            LOG.error("While matching {} {} deltas in bulk, will match one by one", deltas.size(), objectClass, e);
+        }
+        return prefetched;
+    }
+
+    /**
+     * Matches the given deltas in bulk, then dispatches them split into the given number of partitions by
+     * {@link org.identityconnectors.framework.common.objects.Uid} value: partitions are handled in parallel when
+     * concurrent settings are available, while deltas within the same partition are always handled in order.
+     * Only the keys of matching entities are shared among partitions, as each handler loads them again within the
+     * transaction handling the related delta.
+     * Returns only when all given deltas were handled, or as soon as a partition failed.
+     *
+     * @param objectClass object class of all given deltas
+     * @param deltas deltas to dispatch
+     * @param partitions number of partitions
+     * @return whether all deltas were successfully handled
+     */
+    public boolean dispatch(final String objectClass, final List<SyncDelta> deltas, final int partitions) {
+        Map<String, List<PrefetchedMatch>> prefetched = prefetch(objectClass, deltas);
+
+        if (tpte.isEmpty() || partitions <= 1) {
+            SyncopePullResultHandler handler = nonConcurrentHandler(objectClass);
+            handler.setPrefetched(prefetched);
+            for (SyncDelta delta : deltas) {
+                boolean handled = handler.handle(delta);
+                executor.reportHandled(objectClass, delta.getObject().getName());
+                if (!handled) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Map<Integer, List<SyncDelta>> partitioned = deltas.stream().collect(Collectors.groupingBy(
+                delta -> Math.floorMod(delta.getUid().getUidValue().hashCode(), partitions)));
+
+        List<Future<Boolean>> submitted = new ArrayList<>(partitioned.size());
+        try {
+            partitioned.values().forEach(partition -> submitted.add(tpte.get().submit(() -> {
+                SyncopePullResultHandler handler = suppliers.get(objectClass).get();
+                handler.setPrefetched(prefetched);
+                for (SyncDelta delta : partition) {
+                    boolean handled = handler.handle(delta);
+                    executor.reportHandled(objectClass, delta.getObject().getName());
+                    if (!handled) {
+                        return false;
+                    }
+                }
+                return true;
+            })));
+        } catch (RejectedExecutionException e) {
+            LOG.error("Could not submit pull handler for {} {} deltas", deltas.size(), objectClass, e);
+            return false;
+        }
+
+        boolean result = true;
+        for (Future<Boolean> future : submitted) {
+            try {
+                result &= future.get();
+            } catch (ExecutionException e) {
+                LOG.error("While handling {} deltas", objectClass, e);
+                result = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Dispatches all deltas collected so far.
+     *
+     * @return whether all deltas were successfully handled
+     */
+    public boolean flush() {
+        boolean result = true;
+        for (String objectClass : List.copyOf(pending.keySet())) {
+            result &= flush(objectClass);
+        }
+        return result;
+    }
+
+    protected boolean dispatch(final SyncDelta delta, final Map<String, List<PrefetchedMatch>> prefetched) {
         if (tpte.isEmpty()) {
-            boolean result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
+            SyncopePullResultHandler handler = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue());
+            if (prefetched != null) {
+                handler.setPrefetched(prefetched);
+            }
+            boolean result = handler.handle(delta);
 
             executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
             if (result) {
@@ -58,7 +204,11 @@ public class PullResultHandlerDispatcher
             submit(() -> {
                 executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
 
-                suppliers.get(delta.getObjectClass().getObjectClassValue()).get().handle(delta);
+                SyncopePullResultHandler handler = suppliers.get(delta.getObjectClass().getObjectClassValue()).get();
+                if (prefetched != null) {
+                    handler.setPrefetched(prefetched);
+                }
+                handler.handle(delta);
 
                 executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
             });
@@ -69,4 +219,10 @@ public class PullResultHandlerDispatcher
             return false;
         }
     }
+
+    @Override
+    public void shutdown() {
+        flush();
+        super.shutdown();
+    }
 }
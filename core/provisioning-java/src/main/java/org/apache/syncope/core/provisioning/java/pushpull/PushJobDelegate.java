@@ -59,7 +59,6 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandle
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 public class PushJobDelegate
@@ -256,23 +255,22 @@ public class PushJobDelegate
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            long count = searchDAO.count(
-                    profile.getTask().getSourceRealm(),
-                    true,
-                    Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                    cond,
-                    anyType.getKind());
-            boolean result = true;
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) && result; page++) {
-                List<? extends Any> anys = searchDAO.search(
+            boolean result;
+            List<? extends Any> anys;
+            String lastKey = null;
+            do {
+                anys = searchDAO.seek(
                         profile.getTask().getSourceRealm(),
                         true,
                         Set.of(profile.getTask().getSourceRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        lastKey,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         anyType.getKind());
                 result = doHandle(anys, dispatcher, task.getResource());
-            }
+
+                lastKey = anys.isEmpty() ? null : anys.getLast().getKey();
+            } while (result && anys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
 
         dispatcher.shutdown();
@@ -78,6 +78,8 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
 
     private SequenceWriter writer;
 
+    private long offset;
+
     public CSVStreamConnector(
             final String keyColumn,
             final String arrayElementsSeparator,
@@ -104,6 +106,15 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
         }
     }
 
+    /**
+     * Sets the number of rows to skip when searching, to resume a previously interrupted read.
+     *
+     * @param offset number of rows to skip
+     */
+    public void setOffset(final long offset) {
+        this.offset = offset;
+    }
+
     public MappingIterator<Map<String, String>> reader() throws IOException {
         synchronized (this) {
             if (reader == null) {
@@ -270,8 +281,11 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
         SearchResult result = new SearchResult();
 
         try {
-            for (int record = 1; reader().hasNext(); record++) {
+            for (long record = 1; reader().hasNext(); record++) {
                 Map<String, String> row = reader().next();
+                if (record <= offset) {
+                    continue;
+                }
 
                 String keyValue = row.get(keyColumn);
                 if (StringUtils.isBlank(keyValue)) {
@@ -290,7 +304,10 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
 
                 ConnectorObject obj = builder.build();
                 if (filter == null || filter.accept(obj)) {
-                    handler.handle(obj);
+                    if (!handler.handle(obj)) {
+                        LOG.debug("Stopping at record {} as requested by handler", record);
+                        break;
+                    }
                 } else {
                     LOG.debug("Found but not passing the provided filter {}: {}", filter, obj);
                 }
@@ -18,10 +18,12 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull.stream;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.Mapping;
 import org.apache.syncope.common.lib.to.Provision;
@@ -32,6 +34,7 @@ import org.apache.syncope.common.lib.types.IdMImplementationType;
 import org.apache.syncope.common.lib.types.MappingPurpose;
 import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -52,7 +55,11 @@ import org.apache.syncope.core.provisioning.java.pushpull.PullJobDelegate;
 import org.apache.syncope.core.provisioning.java.pushpull.PullResultHandlerDispatcher;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStreamPullExecutor {
@@ -63,6 +70,68 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
     @Autowired
     private RealmSearchDAO realmSearchDAO;
 
+    /**
+     * Rows fully processed so far, including the initial offset; only maintained when processing in chunks.
+     */
+    protected final AtomicLong checkpoint = new AtomicLong();
+
+    protected boolean chunked;
+
+    /**
+     * Collects deltas in chunks and dispatches each chunk as a whole, advancing the checkpoint only once all of its
+     * deltas were handled.
+     */
+    protected class ChunkedHandler implements SyncResultsHandler {
+
+        protected final String objectClass;
+
+        protected final int chunkSize;
+
+        protected final int partitions;
+
+        protected final long offset;
+
+        protected final long start = System.currentTimeMillis();
+
+        protected final List<SyncDelta> chunk;
+
+        protected boolean failed;
+
+        public ChunkedHandler(final String objectClass, final int chunkSize, final int partitions, final long offset) {
+            this.objectClass = objectClass;
+            this.chunkSize = chunkSize;
+            this.partitions = partitions;
+            this.offset = offset;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public boolean handle(final SyncDelta delta) {
+            if (failed) {
+                return false;
+            }
+
+            chunk.add(delta);
+            return chunk.size() < chunkSize || flush();
+        }
+
+        public boolean flush() {
+            if (chunk.isEmpty()) {
+                return !failed;
+            }
+
+            failed = !dispatcher.dispatch(objectClass, chunk, partitions);
+            if (!failed) {
+                long rows = checkpoint.addAndGet(chunk.size());
+                long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+                setStatus(String.format("Processed %d rows, %.1f rows/sec",
+                        rows, (rows - offset) * 1000D / elapsed));
+            }
+            chunk.clear();
+            return !failed;
+        }
+    }
+
     private InboundPolicy inboundPolicy(
             final AnyType anyType,
             final ConflictResolutionAction conflictResolutionAction,
@@ -147,6 +216,14 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
         return resource;
     }
 
+    @Override
+    public void reportHandled(final String objectClass, final Name name) {
+        // when processing in chunks, progress is reported once per chunk
+        if (!chunked) {
+            super.reportHandled(objectClass, name);
+        }
+    }
+
     @Override
     public List<ProvisioningReport> pull(
             final AnyType anyType,
@@ -156,10 +233,15 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
             final String inboundCorrelationRule,
             final Connector connector,
             final PullTaskTO pullTaskTO,
+            final int chunkSize,
+            final long offset,
             final String executor) throws JobExecutionException {
 
         LOG.debug("Executing stream pull");
 
+        chunked = chunkSize > 0;
+        checkpoint.set(offset);
+
         taskType = TaskType.PULL;
         try {
             ExternalResource resource =
@@ -179,6 +261,7 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
             task.setDestinationRealm(realmSearchDAO.findByFullPath(pullTaskTO.getDestinationRealm()).
                     orElseThrow(() -> new NotFoundException("Realm " + pullTaskTO.getDestinationRealm())));
             task.setRemediation(pullTaskTO.isRemediation());
+            task.setConcurrentSettings(pullTaskTO.getConcurrentSettings());
 
             profile = new ProvisioningProfile<>(
                     connector,
@@ -221,12 +304,35 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
             Set<String> moreAttrsToGet = new HashSet<>();
             profile.getActions().forEach(a -> moreAttrsToGet.addAll(a.moreAttrsToGet(profile, provision)));
 
-            connector.fullReconciliation(
-                    new ObjectClass(provision.getObjectClass()),
-                    dispatcher,
-                    MappingUtils.buildOperationOptions(
-                            MappingUtils.getInboundItems(provision.getMapping().getItems().stream()),
-                            moreAttrsToGet.toArray(String[]::new)));
+            OperationOptions options = MappingUtils.buildOperationOptions(
+                    MappingUtils.getInboundItems(provision.getMapping().getItems().stream()),
+                    moreAttrsToGet.toArray(String[]::new));
+            ObjectClass objectClass = new ObjectClass(provision.getObjectClass());
+            if (chunked) {
+                ChunkedHandler handler = new ChunkedHandler(
+                        objectClass.getObjectClassValue(),
+                        chunkSize,
+                        Optional.ofNullable(task.getConcurrentSettings()).
+                                map(ThreadPoolSettings::getPoolSize).orElse(1),
+                        offset);
+                try {
+                    connector.fullReconciliation(objectClass, handler, options);
+                    if (!handler.flush()) {
+                        throw new IllegalStateException("Chunk processing was interrupted");
+                    }
+                } catch (Exception e) {
+                    throw new JobExecutionException(
+                            "While stream pulling, can be resumed from offset " + checkpoint.get(), e);
+                } finally {
+                    dispatcher.shutdown();
+                }
+            } else {
+                try {
+                    connector.fullReconciliation(objectClass, dispatcher, options);
+                } finally {
+                    dispatcher.shutdown();
+                }
+            }
 
             try {
                 setGroupOwners();
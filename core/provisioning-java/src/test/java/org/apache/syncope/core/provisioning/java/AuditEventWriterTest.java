@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditEvent;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AuditEventWriterTest {
+
+    private static final String POISON = opEvent("poison");
+
+    private static String opEvent(final String op) {
+        return new OpEvent(OpEvent.CategoryType.LOGIC, "UserLogic", null, op, OpEvent.Outcome.SUCCESS).toString();
+    }
+
+    private static Supplier<AuditEvent> auditEvent(final String opEvent) {
+        return () -> {
+            AuditEvent auditEvent = new JPAAuditEvent();
+            auditEvent.setOpEvent(opEvent);
+            auditEvent.setWho("admin");
+            auditEvent.setWhen(OffsetDateTime.now());
+            auditEvent.setInputs(List.of());
+            return auditEvent;
+        };
+    }
+
+    @TempDir
+    private Path spillDirectory;
+
+    @Mock
+    private AuditEventDAO auditEventDAO;
+
+    @Mock
+    private EntityFactory entityFactory;
+
+    private final List<Integer> saveAllSizes = new ArrayList<>();
+
+    private AuditWriterProperties props;
+
+    @BeforeEach
+    public void setUp() {
+        when(entityFactory.newEntity(AuditEvent.class)).thenAnswer(ic -> new JPAAuditEvent());
+
+        props = new AuditWriterProperties();
+        props.setCapacity(1);
+        props.setPollTimeout(1);
+        props.setBlockTimeout(10);
+        props.setSpillDirectory(spillDirectory.toString());
+    }
+
+    private AuditEventWriter writer(final AsyncTaskExecutor taskExecutor) {
+        return new AuditEventWriter(props, auditEventDAO, entityFactory, List.of(), taskExecutor) {
+
+            @Override
+            protected List<AuditEvent> saveAll(final String domain, final List<AuditEvent> auditEvents) {
+                saveAllSizes.add(auditEvents.size());
+                if (auditEvents.stream().anyMatch(auditEvent -> POISON.equals(auditEvent.getOpEvent()))) {
+                    throw new IllegalStateException("Cannot write " + POISON);
+                }
+                return auditEvents;
+            }
+        };
+    }
+
+    private static AsyncTaskExecutor notDraining() {
+        return new TaskExecutorAdapter(task -> {
+        });
+    }
+
+    private Path file(final String suffix) {
+        return spillDirectory.resolve(SyncopeConstants.MASTER_DOMAIN + suffix);
+    }
+
+    @Test
+    public void dropOnOverflow() {
+        props.setOverflow(AuditWriterProperties.OverflowPolicy.DROP);
+        AuditEventWriter writer = writer(notDraining());
+
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("create")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("update")));
+
+        assertEquals(1, writer.getStatistics().get("queued"));
+        assertEquals(1L, writer.getStatistics().get("dropped"));
+    }
+
+    @Test
+    public void blockTimesOut() {
+        props.setOverflow(AuditWriterProperties.OverflowPolicy.BLOCK);
+        AuditEventWriter writer = writer(notDraining());
+
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("create")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("update")));
+
+        assertEquals(1, writer.getStatistics().get("queued"));
+        assertEquals(1L, writer.getStatistics().get("dropped"));
+    }
+
+    @Test
+    public void spillAndReplay() throws IOException {
+        props.setOverflow(AuditWriterProperties.OverflowPolicy.SPILL);
+        AuditEventWriter writer = writer(notDraining());
+
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("create")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("update")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("delete")));
+
+        assertEquals(2L, writer.getStatistics().get("spilled"));
+        assertEquals(2, Files.readAllLines(file(AuditEventWriter.SPILL_SUFFIX), StandardCharsets.UTF_8).size());
+
+        assertTrue(writer.replay());
+        assertEquals(List.of(2), saveAllSizes);
+        assertEquals(2L, writer.getStatistics().get("written"));
+        assertFalse(Files.exists(file(AuditEventWriter.SPILL_SUFFIX)));
+        assertFalse(Files.exists(file(AuditEventWriter.REPLAY_SUFFIX)));
+    }
+
+    @Test
+    public void replayKeepsNotWritten() throws IOException {
+        props.setOverflow(AuditWriterProperties.OverflowPolicy.SPILL);
+        AuditEventWriter writer = writer(notDraining());
+
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("create")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("update")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(POISON));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("delete")));
+
+        assertFalse(writer.replay());
+        // the whole batch first, then one at a time
+        assertEquals(List.of(3, 1, 1, 1), saveAllSizes);
+        assertEquals(2L, writer.getStatistics().get("written"));
+
+        List<String> retained = Files.readAllLines(file(AuditEventWriter.REPLAY_SUFFIX), StandardCharsets.UTF_8);
+        assertEquals(1, retained.size());
+        assertTrue(retained.getFirst().contains("poison"));
+
+        // the next replay only retries what was not written
+        saveAllSizes.clear();
+        assertFalse(writer.replay());
+        assertEquals(List.of(1), saveAllSizes);
+        assertEquals(2L, writer.getStatistics().get("written"));
+    }
+
+    @Test
+    public void writeRetriesOneByOne() {
+        props.setOverflow(AuditWriterProperties.OverflowPolicy.DROP);
+        AuditEventWriter writer = writer(notDraining());
+
+        writer.write(List.of(
+                new AuditEventWriter.Pending(
+                        SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("create")), System.currentTimeMillis()),
+                new AuditEventWriter.Pending(
+                        SyncopeConstants.MASTER_DOMAIN, auditEvent(POISON), System.currentTimeMillis()),
+                new AuditEventWriter.Pending(
+                        SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("delete")), System.currentTimeMillis())));
+
+        assertEquals(List.of(3, 1, 1, 1), saveAllSizes);
+        assertEquals(2L, writer.getStatistics().get("written"));
+        assertEquals(1L, writer.getStatistics().get("failed"));
+    }
+
+    @Test
+    public void spillWhenNotWritten() throws IOException {
+        props.setOverflow(AuditWriterProperties.OverflowPolicy.SPILL);
+        AuditEventWriter writer = writer(new TaskExecutorAdapter(Runnable::run));
+
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(opEvent("create")));
+        writer.submit(SyncopeConstants.MASTER_DOMAIN, auditEvent(POISON));
+
+        assertEquals(1L, writer.getStatistics().get("written"));
+        assertEquals(0L, writer.getStatistics().get("failed"));
+        assertEquals(1L, writer.getStatistics().get("spilled"));
+
+        // spilled while draining, then replayed as soon as the buffer was empty, and kept
+        List<String> retained = Files.readAllLines(file(AuditEventWriter.REPLAY_SUFFIX), StandardCharsets.UTF_8);
+        assertEquals(1, retained.size());
+        assertTrue(retained.getFirst().contains("poison"));
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
+import org.identityconnectors.framework.api.APIConfiguration;
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.identityconnectors.framework.api.ConnectorFacadeFactory;
+import org.identityconnectors.framework.api.ConnectorInfo;
+import org.identityconnectors.framework.api.ResultsHandlerConfiguration;
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.OperationOptionsBuilder;
+import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ConnectorFacadeProxyTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private static final List<ConnectorObject> OBJECTS = IntStream.range(0, 5).
+            mapToObj(i -> new ConnectorObjectBuilder().
+            setObjectClass(ObjectClass.ACCOUNT).setUid(String.valueOf(i)).setName(String.valueOf(i)).build()).
+            toList();
+
+    private static class RecordingHandler implements SearchResultsHandler {
+
+        private final Thread caller = Thread.currentThread();
+
+        private final int stopAfter;
+
+        private final List<ConnectorObject> handled = new ArrayList<>();
+
+        private final List<SearchResult> results = new ArrayList<>();
+
+        RecordingHandler(final int stopAfter) {
+            this.stopAfter = stopAfter;
+        }
+
+        @Override
+        public boolean handle(final ConnectorObject connectorObject) {
+            assertSame(caller, Thread.currentThread());
+            handled.add(connectorObject);
+            return handled.size() < stopAfter;
+        }
+
+        @Override
+        public void handleResult(final SearchResult result) {
+            results.add(result);
+        }
+    }
+
+    @Mock
+    private DefaultListableBeanFactory beanFactory;
+
+    @Mock
+    private ConnIdBundleManager connIdBundleManager;
+
+    @Mock
+    private ConnectorInfo connectorInfo;
+
+    @Mock
+    private APIConfiguration apiConfig;
+
+    @Mock
+    private ConnectorFacadeFactory connectorFacadeFactory;
+
+    @Mock
+    private ConnectorFacade connector;
+
+    @Mock
+    private ConnInstance connInstance;
+
+    @BeforeEach
+    public void setUp() {
+        when(beanFactory.getBean(ConnIdBundleManager.class)).thenReturn(connIdBundleManager);
+        when(connIdBundleManager.getConnectorInfo(connInstance)).
+                thenReturn(Pair.of(URI.create("connid://testconnectorserver@localhost:4554"), connectorInfo));
+        when(connectorInfo.createDefaultAPIConfiguration()).thenReturn(apiConfig);
+        when(apiConfig.getResultsHandlerConfiguration()).thenReturn(new ResultsHandlerConfiguration());
+        when(connectorFacadeFactory.newInstance(apiConfig)).thenReturn(connector);
+        ApplicationContextProvider.setBeanFactory(beanFactory);
+
+        when(connInstance.getKey()).thenReturn("88a7a819-dab5-46b4-9b90-0b9769eabdb8");
+        when(connInstance.getCapabilities()).thenReturn(Set.of(ConnectorCapability.SEARCH));
+        when(connInstance.getSearchPageSize()).thenReturn(PAGE_SIZE);
+
+        // serves OBJECTS in pages, the cookie being the index of the page to serve next
+        when(connector.search(eq(ObjectClass.ACCOUNT), any(), any(), any())).thenAnswer(ic -> {
+            SearchResultsHandler handler = ic.getArgument(2);
+            OperationOptions options = ic.getArgument(3);
+            assertEquals(PAGE_SIZE, options.getPageSize());
+
+            int page = options.getPagedResultsCookie() == null ? 0 : Integer.parseInt(options.getPagedResultsCookie());
+            int from = page * PAGE_SIZE;
+            int to = Math.min(from + PAGE_SIZE, OBJECTS.size());
+            int i = from;
+            while (i < to && handler.handle(OBJECTS.get(i))) {
+                i++;
+            }
+
+            SearchResult result = new SearchResult(to < OBJECTS.size() ? String.valueOf(page + 1) : null, -1);
+            handler.handleResult(result);
+            return result;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ApplicationContextProvider.setBeanFactory(null);
+    }
+
+    private ConnectorFacadeProxy proxy(final boolean pipelinedSearch) {
+        when(connInstance.isPipelinedSearch()).thenReturn(pipelinedSearch);
+
+        try (MockedStatic<ConnectorFacadeFactory> factory = mockStatic(ConnectorFacadeFactory.class)) {
+            factory.when(ConnectorFacadeFactory::getInstance).thenReturn(connectorFacadeFactory);
+            return new ConnectorFacadeProxy(connInstance, null);
+        }
+    }
+
+    private static SearchResult search(final ConnectorFacadeProxy proxy, final SearchResultsHandler handler) {
+        return proxy.search(ObjectClass.ACCOUNT, null, handler, new OperationOptionsBuilder().build());
+    }
+
+    @Test
+    public void pagedSearch() {
+        RecordingHandler handler = new RecordingHandler(Integer.MAX_VALUE);
+
+        SearchResult result = search(proxy(false), handler);
+
+        assertEquals(OBJECTS, handler.handled);
+        assertEquals(3, handler.results.size());
+        assertNull(result.getPagedResultsCookie());
+        verify(connector, times(3)).search(eq(ObjectClass.ACCOUNT), any(), any(), any());
+    }
+
+    @Test
+    public void pipelinedSearch() {
+        RecordingHandler handler = new RecordingHandler(Integer.MAX_VALUE);
+
+        SearchResult result = search(proxy(true), handler);
+
+        assertEquals(OBJECTS, handler.handled);
+        assertEquals(3, handler.results.size());
+        assertNull(result.getPagedResultsCookie());
+        verify(connector, times(3)).search(eq(ObjectClass.ACCOUNT), any(), any(), any());
+    }
+
+    @Test
+    public void pipelinedSearchStoppedByHandler() {
+        RecordingHandler handler = new RecordingHandler(3);
+
+        search(proxy(true), handler);
+
+        assertEquals(OBJECTS.subList(0, 3), handler.handled);
+    }
+
+    @Test
+    public void pipelinedSearchFailure() {
+        ConnectorException error = new ConnectorException("page unavailable");
+        when(connector.search(eq(ObjectClass.ACCOUNT), any(), any(), any())).thenAnswer(ic -> {
+            OperationOptions options = ic.getArgument(3);
+            if (options.getPagedResultsCookie() != null) {
+                throw error;
+            }
+
+            SearchResultsHandler handler = ic.getArgument(2);
+            handler.handle(OBJECTS.get(0));
+            SearchResult result = new SearchResult("1", -1);
+            handler.handleResult(result);
+            return result;
+        });
+
+        RecordingHandler handler = new RecordingHandler(Integer.MAX_VALUE);
+
+        assertSame(error, assertThrows(ConnectorException.class, () -> search(proxy(true), handler)));
+        assertEquals(List.of(OBJECTS.get(0)), handler.handled);
+    }
+
+    @Test
+    public void explicitPaging() {
+        RecordingHandler handler = new RecordingHandler(Integer.MAX_VALUE);
+        OperationOptions options = new OperationOptionsBuilder().setPageSize(PAGE_SIZE).build();
+
+        SearchResult result = proxy(true).search(ObjectClass.ACCOUNT, null, handler, options);
+
+        assertEquals(OBJECTS.subList(0, PAGE_SIZE), handler.handled);
+        assertEquals("1", result.getPagedResultsCookie());
+        verify(connector).search(ObjectClass.ACCOUNT, null, handler, options);
+        assertEquals(1, handler.results.size());
+    }
+}
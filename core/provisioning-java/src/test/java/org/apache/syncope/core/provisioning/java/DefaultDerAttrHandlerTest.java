@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultDerAttrHandlerTest {
+
+    private static DerSchema derSchema(final String key, final String expression) {
+        DerSchema schema = mock(DerSchema.class);
+        when(schema.getKey()).thenReturn(key);
+        when(schema.getExpression()).thenReturn(expression);
+        return schema;
+    }
+
+    private static PlainAttr plainAttr(final String schema, final String... values) {
+        PlainAttr attr = mock(PlainAttr.class);
+        when(attr.getSchema()).thenReturn(schema);
+        when(attr.getValuesAsStrings()).thenReturn(List.of(values));
+        return attr;
+    }
+
+    private final Set<String> requested = new HashSet<>();
+
+    private DefaultDerAttrHandler handler;
+
+    private User user;
+
+    private Function<String, Optional<PlainAttr>> plainAttrs;
+
+    @BeforeEach
+    public void setUp() {
+        handler = new DefaultDerAttrHandler(mock(AnyUtilsFactory.class));
+
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn("/even");
+
+        user = mock(User.class);
+        when(user.getUsername()).thenReturn("rossini");
+        when(user.getRealm()).thenReturn(realm);
+
+        Map<String, PlainAttr> attrs = Map.of(
+                "firstname", plainAttr("firstname", "Gioacchino"),
+                "surname", plainAttr("surname", "Rossini"),
+                "username", plainAttr("username", "other"));
+        plainAttrs = schema -> {
+            requested.add(schema);
+            return Optional.ofNullable(attrs.get(schema));
+        };
+    }
+
+    private String evaluate(final DerSchema schema) {
+        return handler.getValues(user, plainAttrs, Set.of(schema)).get(schema);
+    }
+
+    @Test
+    public void plainAttrs() {
+        assertEquals("Gioacchino Rossini", evaluate(derSchema("fullname", "firstname + ' ' + surname")));
+    }
+
+    @Test
+    public void fieldsBeforePlainAttrs() {
+        assertEquals("rossini@/even", evaluate(derSchema("address", "username + '@' + realm")));
+        assertEquals(Set.of(), requested);
+    }
+
+    @Test
+    public void resolvedOnlyWhenReferenced() {
+        assertEquals("Rossini", evaluate(derSchema("lastname", "surname")));
+        assertEquals(Set.of("surname"), requested);
+    }
+
+    @Test
+    public void blankOrInvalid() {
+        assertEquals("", evaluate(derSchema("blank", " ")));
+        assertEquals("", evaluate(derSchema("invalid", "firstname +")));
+    }
+
+    @Test
+    public void parsedOncePerChange() {
+        DerSchema schema = derSchema("fullname", "firstname + ' ' + surname");
+
+        assertEquals("Gioacchino Rossini", evaluate(schema));
+        JexlExpression parsed = handler.getExpression(schema).orElseThrow();
+        assertEquals("Gioacchino Rossini", evaluate(schema));
+        assertSame(parsed, handler.getExpression(schema).orElseThrow());
+
+        when(schema.getExpression()).thenReturn("surname + ', ' + firstname");
+
+        assertEquals("Rossini, Gioacchino", evaluate(schema));
+        assertNotSame(parsed, handler.getExpression(schema).orElseThrow());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultDerAttrMaterializerTest {
+
+    private static DerSchema derSchema(
+            final String key,
+            final String expression,
+            final boolean materialized,
+            final boolean fullyMaterialized) {
+
+        DerSchema schema = mock(DerSchema.class);
+        when(schema.getKey()).thenReturn(key);
+        when(schema.getExpression()).thenReturn(expression);
+        when(schema.isMaterialized()).thenReturn(materialized);
+        when(schema.isFullyMaterialized()).thenReturn(fullyMaterialized);
+        return schema;
+    }
+
+    private static EntityLifecycleEvent<Entity> event(final SyncDeltaType type, final Entity entity) {
+        return new EntityLifecycleEvent<>(
+                DefaultDerAttrMaterializerTest.class, type, entity, SyncopeConstants.MASTER_DOMAIN);
+    }
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private DerAttrHandler derAttrHandler;
+
+    @Mock
+    private DerAttrValueDAO derAttrValueDAO;
+
+    @Mock
+    private DerSchemaDAO derSchemaDAO;
+
+    private DefaultDerAttrMaterializer materializer;
+
+    private User user;
+
+    private DerSchema fullname;
+
+    private DerSchema cn;
+
+    @BeforeEach
+    public void setUp() {
+        materializer = new DefaultDerAttrMaterializer(anyUtilsFactory, derAttrHandler, derAttrValueDAO, derSchemaDAO);
+
+        user = mock(User.class);
+        when(user.getKey()).thenReturn("1417acbe-cbf6-4277-9372-e75e04f97000");
+
+        fullname = derSchema("fullname", "firstname + ' ' + surname", true, true);
+        cn = derSchema("cn", "surname + ', ' + firstname", false, false);
+
+        AllowedSchemas<DerSchema> allowed = new AllowedSchemas<>();
+        allowed.getForSelf().addAll(Set.of(fullname, cn));
+
+        AnyDAO<?> anyDAO = mock(AnyDAO.class);
+        doReturn(allowed).when(anyDAO).findAllowedSchemas(user, DerSchema.class);
+        AnyUtils anyUtils = mock(AnyUtils.class);
+        doReturn(anyDAO).when(anyUtils).dao();
+        when(anyUtilsFactory.getInstance(user)).thenReturn(anyUtils);
+
+        when(derAttrHandler.getValues(user, Set.of("fullname"))).thenReturn(Map.of(fullname, "Gioacchino Rossini"));
+    }
+
+    @Test
+    public void onlyMaterialized() {
+        assertEquals(Map.of("fullname", "Gioacchino Rossini"), materializer.getValues(user));
+        verify(derAttrHandler, never()).getValues(user, Set.of("cn"));
+    }
+
+    @Test
+    public void anySaved() {
+        materializer.materialize(event(SyncDeltaType.UPDATE, user));
+
+        verify(derAttrValueDAO).replace(user.getKey(), Map.of("fullname", "Gioacchino Rossini"));
+    }
+
+    @Test
+    public void noMaterializedSchemas() {
+        when(fullname.isMaterialized()).thenReturn(false);
+
+        materializer.materialize(event(SyncDeltaType.UPDATE, user));
+
+        verify(derSchemaDAO).findByMaterializedTrue();
+        verify(derAttrValueDAO, never()).replace(anyString(), anyMap());
+    }
+
+    @Test
+    public void valueNotStored() {
+        when(derAttrValueDAO.replace(user.getKey(), Map.of("fullname", "Gioacchino Rossini"))).
+                thenReturn(Set.of("fullname"));
+        doReturn(Optional.of(fullname)).when(derSchemaDAO).findById("fullname");
+
+        materializer.materialize(event(SyncDeltaType.UPDATE, user));
+
+        // stored values cannot be relied upon any more
+        verify(fullname).setFullyMaterialized(false);
+        verify(derSchemaDAO).save(fullname);
+    }
+
+    @Test
+    public void anyDeleted() {
+        materializer.materialize(event(SyncDeltaType.DELETE, user));
+
+        verify(derAttrValueDAO).deleteByAny(user.getKey());
+        verify(derAttrValueDAO, never()).replace(anyString(), anyMap());
+    }
+
+    @Test
+    public void realmUpdated() {
+        DerSchema location = derSchema("location", "realm + ' - ' + surname", true, true);
+        doReturn(List.of(fullname, location)).when(derSchemaDAO).findByMaterializedTrue();
+
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn("/even/two");
+
+        materializer.materialize(event(SyncDeltaType.UPDATE, realm));
+
+        // only values depending on the realm are no longer reliable
+        verify(location).setFullyMaterialized(false);
+        verify(derSchemaDAO).save(location);
+        verify(fullname, never()).setFullyMaterialized(false);
+        verify(derSchemaDAO, never()).save(fullname);
+
+        verify(derAttrValueDAO, never()).replace(anyString(), anyMap());
+        verify(derAttrValueDAO, never()).deleteByAny(any());
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.core.persistence.api.EncryptorManager;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultMappingManagerTest {
+
+    private static PlainSchema plainSchema(final String key) {
+        PlainSchema schema = mock(PlainSchema.class);
+        when(schema.getKey()).thenReturn(key);
+        return schema;
+    }
+
+    @Mock
+    private DerAttrHandler derAttrHandler;
+
+    @Mock
+    private IntAttrNameParser intAttrNameParser;
+
+    private DefaultMappingManager mappingManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        mappingManager = new DefaultMappingManager(
+                mock(AnyTypeDAO.class),
+                mock(UserDAO.class),
+                mock(AnyObjectDAO.class),
+                mock(GroupDAO.class),
+                mock(RelationshipTypeDAO.class),
+                mock(RealmSearchDAO.class),
+                mock(ImplementationDAO.class),
+                derAttrHandler,
+                intAttrNameParser,
+                mock(EncryptorManager.class));
+
+        IntAttrName email = new IntAttrName();
+        email.setAnyTypeKind(AnyTypeKind.USER);
+        email.setSchemaType(SchemaType.PLAIN);
+        email.setSchema(plainSchema("email"));
+        when(intAttrNameParser.parse("email", AnyTypeKind.USER)).thenReturn(email);
+
+        IntAttrName username = new IntAttrName();
+        username.setAnyTypeKind(AnyTypeKind.USER);
+        username.setField("username");
+        when(intAttrNameParser.parse("username", AnyTypeKind.USER)).thenReturn(username);
+
+        IntAttrName unknown = new IntAttrName();
+        unknown.setAnyTypeKind(AnyTypeKind.USER);
+        when(intAttrNameParser.parse("unknown", AnyTypeKind.USER)).thenReturn(unknown);
+    }
+
+    @Test
+    public void parseSchema() throws Exception {
+        PlainSchema reloaded = plainSchema("email");
+        doReturn(Optional.of(reloaded)).when(intAttrNameParser).findSchema("email", SchemaType.PLAIN);
+
+        IntAttrName first = mappingManager.parse("email", AnyTypeKind.USER);
+        assertEquals("email", first.getSchema().getKey());
+
+        // parsed once, schema reloaded by key
+        IntAttrName second = mappingManager.parse("email", AnyTypeKind.USER);
+        assertSame(reloaded, second.getSchema());
+        assertEquals(SchemaType.PLAIN, second.getSchemaType());
+        assertEquals(AnyTypeKind.USER, second.getAnyTypeKind());
+        verify(intAttrNameParser, times(1)).parse("email", AnyTypeKind.USER);
+
+        // not found any more, parsed again
+        doReturn(Optional.empty()).when(intAttrNameParser).findSchema("email", SchemaType.PLAIN);
+        mappingManager.parse("email", AnyTypeKind.USER);
+        verify(intAttrNameParser, times(2)).parse("email", AnyTypeKind.USER);
+    }
+
+    @Test
+    public void parseField() throws Exception {
+        assertEquals("username", mappingManager.parse("username", AnyTypeKind.USER).getField());
+        IntAttrName second = mappingManager.parse("username", AnyTypeKind.USER);
+        assertEquals("username", second.getField());
+        assertNull(second.getSchema());
+
+        verify(intAttrNameParser, times(1)).parse("username", AnyTypeKind.USER);
+        verify(intAttrNameParser, never()).findSchema(anyString(), any(SchemaType.class));
+    }
+
+    @Test
+    public void parseUnresolved() throws Exception {
+        mappingManager.parse("unknown", AnyTypeKind.USER);
+        mappingManager.parse("unknown", AnyTypeKind.USER);
+
+        // might be created afterwards, hence never cached
+        verify(intAttrNameParser, times(2)).parse("unknown", AnyTypeKind.USER);
+    }
+
+    @Test
+    public void evictCompiled() throws Exception {
+        mappingManager.parse("username", AnyTypeKind.USER);
+
+        mappingManager.evictCompiled(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, mock(ExternalResource.class), "Master"));
+        mappingManager.parse("username", AnyTypeKind.USER);
+        verify(intAttrNameParser, times(1)).parse("username", AnyTypeKind.USER);
+
+        mappingManager.evictCompiled(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.DELETE, mock(PlainSchema.class), "Two"));
+        mappingManager.parse("username", AnyTypeKind.USER);
+        verify(intAttrNameParser, times(1)).parse("username", AnyTypeKind.USER);
+
+        mappingManager.evictCompiled(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.DELETE, mock(PlainSchema.class), "Master"));
+        mappingManager.parse("username", AnyTypeKind.USER);
+        verify(intAttrNameParser, times(2)).parse("username", AnyTypeKind.USER);
+    }
+
+    @Test
+    public void connObjectLink() {
+        String expression = "'uid=' + username + ',cn=' + fullname + ',o=' + surname";
+        assertSame(
+                mappingManager.getConnObjectLink(expression).orElseThrow(),
+                mappingManager.getConnObjectLink(expression).orElseThrow());
+        assertTrue(mappingManager.getConnObjectLink(" ").isEmpty());
+
+        PlainAttr surname = mock(PlainAttr.class);
+        when(surname.getValuesAsStrings()).thenReturn(List.of("Rossini"));
+
+        User user = mock(User.class);
+        when(user.getUsername()).thenReturn("rossini");
+        when(user.getPlainAttr(anyString())).thenReturn(Optional.empty());
+        when(user.getPlainAttr("surname")).thenReturn(Optional.of(surname));
+
+        DerSchema fullname = mock(DerSchema.class);
+        when(derAttrHandler.getValues(eq(user), anySet())).thenReturn(Map.of());
+        when(derAttrHandler.getValues(user, Set.of("fullname"))).thenReturn(Map.of(fullname, "Gioacchino Rossini"));
+
+        assertEquals("uid=rossini,cn=Gioacchino Rossini,o=Rossini", JexlUtils.evaluateExpr(
+                mappingManager.getConnObjectLink(expression).orElseThrow(),
+                mappingManager.getJexlContext(user)).toString());
+
+        // only referenced variables are resolved
+        verify(derAttrHandler, never()).getValues(user);
+        verify(user, never()).getPlainAttrs();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
+import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditConf;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOpEventRouterTest {
+
+    private static final String DOMAIN = "Master";
+
+    private static final String USER_CREATE = OpEvent.toString(
+            OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS);
+
+    private static final String USER_DELETE = OpEvent.toString(
+            OpEvent.CategoryType.LOGIC, "UserLogic", null, "delete", OpEvent.Outcome.FAILURE);
+
+    private static final String GROUP_CREATE = OpEvent.toString(
+            OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create", OpEvent.Outcome.SUCCESS);
+
+    @Mock
+    private DefaultListableBeanFactory beanFactory;
+
+    @Mock
+    private AuditConfDAO auditConfDAO;
+
+    @Mock
+    private NotificationDAO notificationDAO;
+
+    private DefaultOpEventRouter router;
+
+    private static AuditConf auditConf(final String key, final boolean active) {
+        AuditConf auditConf = mock(AuditConf.class);
+        when(auditConf.getKey()).thenReturn(key);
+        when(auditConf.isActive()).thenReturn(active);
+        return auditConf;
+    }
+
+    private static Notification notification(final boolean active, final String... events) {
+        Notification notification = mock(Notification.class);
+        when(notification.isActive()).thenReturn(active);
+        when(notification.getEvents()).thenReturn(List.of(events));
+        return notification;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setAdminUser("admin");
+        when(beanFactory.getBean(SecurityProperties.class)).thenReturn(securityProperties);
+        ApplicationContextProvider.setBeanFactory(beanFactory);
+
+        doReturn(List.of(auditConf(USER_CREATE, true), auditConf(USER_DELETE, false))).
+                when(auditConfDAO).findAll();
+        doReturn(List.of(notification(true, GROUP_CREATE), notification(false, USER_CREATE))).
+                when(notificationDAO).findAll();
+
+        router = new DefaultOpEventRouter(auditConfDAO, notificationDAO);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ApplicationContextProvider.setBeanFactory(null);
+    }
+
+    @Test
+    public void routes() {
+        assertTrue(router.isAudited(DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+        assertTrue(router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE)));
+        assertFalse(router.isAudited(DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "delete"));
+        assertFalse(router.isAudited(DOMAIN, OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create"));
+
+        assertTrue(router.isNotified(DOMAIN, OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create"));
+        assertFalse(router.isNotified(DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+
+        // built once, then only looked up
+        verify(auditConfDAO, times(1)).findAll();
+        verify(notificationDAO, times(1)).findAll();
+    }
+
+    @Test
+    public void invalidate() {
+        assertFalse(router.isAudited(DOMAIN, OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create"));
+        assertFalse(router.isAudited("Two", OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create"));
+
+        doReturn(List.of(auditConf(GROUP_CREATE, true))).when(auditConfDAO).findAll();
+
+        router.invalidate(DOMAIN);
+
+        assertTrue(router.isAudited(DOMAIN, OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create"));
+        assertFalse(router.isAudited("Two", OpEvent.CategoryType.LOGIC, "GroupLogic", null, "create"));
+        verify(auditConfDAO, times(3)).findAll();
+    }
+
+    @Test
+    public void invalidateOnChange() {
+        router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE));
+
+        router.entity(new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, mock(Realm.class), DOMAIN));
+        router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE));
+        verify(auditConfDAO, times(1)).findAll();
+
+        router.entity(new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, mock(AuditConf.class), DOMAIN));
+        router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE));
+        verify(auditConfDAO, times(2)).findAll();
+
+        router.entity(new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, mock(Notification.class), DOMAIN));
+        router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE));
+        verify(auditConfDAO, times(3)).findAll();
+    }
+
+    @Test
+    public void invalidateWhileLoading() {
+        doAnswer(ic -> {
+            router.invalidate(DOMAIN);
+            return List.of(auditConf(USER_CREATE, true));
+        }).doReturn(List.of()).when(auditConfDAO).findAll();
+
+        // what was loaded is returned, but not kept
+        assertTrue(router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE)));
+        assertFalse(router.isAudited(DOMAIN, OpEvent.fromString(USER_CREATE)));
+        verify(auditConfDAO, times(2)).findAll();
+    }
+}
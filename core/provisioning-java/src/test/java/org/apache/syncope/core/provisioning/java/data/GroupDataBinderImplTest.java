@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
+import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class GroupDataBinderImplTest {
+
+    private static PlainAttr plainAttr(final String schema, final String value) {
+        PlainAttr attr = mock(PlainAttr.class);
+        when(attr.getSchema()).thenReturn(schema);
+        when(attr.getValuesAsStrings()).thenReturn(List.of(value));
+        return attr;
+    }
+
+    @Mock
+    private GroupDAO groupDAO;
+
+    @Mock
+    private DerAttrHandler derAttrHandler;
+
+    private GroupDataBinderImpl binder;
+
+    private Group group;
+
+    private DerSchema fullname;
+
+    @BeforeEach
+    public void setUp() {
+        binder = new GroupDataBinderImpl(
+                mock(AnyTypeDAO.class),
+                mock(RealmSearchDAO.class),
+                mock(AnyTypeClassDAO.class),
+                mock(AnyObjectDAO.class),
+                mock(UserDAO.class),
+                groupDAO,
+                mock(PlainSchemaDAO.class),
+                mock(ExternalResourceDAO.class),
+                mock(RelationshipTypeDAO.class),
+                mock(EntityFactory.class),
+                mock(AnyUtilsFactory.class),
+                derAttrHandler,
+                mock(MappingManager.class),
+                mock(IntAttrNameParser.class),
+                mock(OutboundMatcher.class),
+                mock(SearchCondVisitor.class),
+                mock(PlainAttrValidationManager.class));
+
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn("/");
+
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-ldap");
+
+        group = mock(Group.class);
+        when(group.getKey()).thenReturn("root");
+        when(group.getName()).thenReturn("root");
+        when(group.getRealm()).thenReturn(realm);
+        when(group.getPlainAttrs()).thenReturn(List.of(plainAttr("icon", "niceIcon"), plainAttr("show", "true")));
+        doReturn(List.of(resource)).when(group).getResources();
+
+        fullname = mock(DerSchema.class);
+        when(fullname.getKey()).thenReturn("fullname");
+        when(derAttrHandler.getValues(any(Group.class))).thenReturn(Map.of(fullname, "root group"));
+        when(derAttrHandler.getValues(any(Group.class), anySet())).thenReturn(Map.of(fullname, "root group"));
+
+        when(groupDAO.findDynRealms(anyCollection())).thenReturn(Map.of("root", List.of("dynRealm")));
+        when(groupDAO.countUMembers(anyCollection())).thenReturn(Map.of("root", 3L));
+        when(groupDAO.countAMembers(anyCollection())).thenReturn(Map.of("root", 2L));
+    }
+
+    @Test
+    public void projectionAll() {
+        assertTrue(AnyProjection.ALL.isAll());
+
+        GroupTO groupTO = binder.getGroupTOs(List.of(group), false, AnyProjection.ALL).getFirst();
+
+        assertEquals("root", groupTO.getName());
+        assertEquals(Set.of("icon", "show"), groupTO.getPlainAttrs().stream().map(Attr::getSchema).
+                collect(Collectors.toSet()));
+        assertEquals("root group", groupTO.getDerAttr("fullname").orElseThrow().getValues().getFirst());
+        assertEquals(Set.of("resource-ldap"), groupTO.getResources());
+        assertEquals(List.of("dynRealm"), groupTO.getDynRealms());
+        assertEquals(3L, groupTO.getStaticUserMembershipCount());
+        assertEquals(2L, groupTO.getStaticAnyObjectMembershipCount());
+
+        verify(derAttrHandler).getValues(group);
+        verify(groupDAO).findDynRealms(List.of("root"));
+    }
+
+    @Test
+    public void projectionExcludes() {
+        AnyProjection projection = new AnyProjection(
+                Set.of("resources", "staticUserMembershipCount"), Set.of("icon"), Set.of());
+        assertFalse(projection.isAll());
+
+        GroupTO groupTO = binder.getGroupTOs(List.of(group), false, projection).getFirst();
+
+        // scalar properties are always included
+        assertEquals("root", groupTO.getKey());
+        assertEquals("root", groupTO.getName());
+        assertEquals("/", groupTO.getRealm());
+
+        assertEquals(1, groupTO.getPlainAttrs().size());
+        assertTrue(groupTO.getPlainAttr("icon").isPresent());
+        assertTrue(groupTO.getDerAttrs().isEmpty());
+        assertEquals(Set.of("resource-ldap"), groupTO.getResources());
+        assertTrue(groupTO.getDynRealms().isEmpty());
+        assertEquals(3L, groupTO.getStaticUserMembershipCount());
+        assertEquals(0L, groupTO.getStaticAnyObjectMembershipCount());
+
+        // excluded parts are not computed at all
+        verify(derAttrHandler, never()).getValues(any(Group.class));
+        verify(derAttrHandler, never()).getValues(any(Group.class), anySet());
+        verify(groupDAO, never()).findDynRealms(anyCollection());
+        verify(groupDAO, never()).countAMembers(anyCollection());
+        verify(groupDAO, never()).countUDynMembers(anyCollection());
+        verify(groupDAO, never()).countADynMembers(anyCollection());
+    }
+
+    @Test
+    public void projectionDerSchemas() {
+        AnyProjection projection = new AnyProjection(Set.of(), Set.of(), Set.of("fullname"));
+
+        GroupTO groupTO = binder.getGroupTOs(List.of(group), false, projection).getFirst();
+
+        assertTrue(groupTO.getPlainAttrs().isEmpty());
+        assertTrue(groupTO.getResources().isEmpty());
+        assertTrue(groupTO.getDerAttr("fullname").isPresent());
+
+        verify(derAttrHandler).getValues(group, Set.of("fullname"));
+        verify(derAttrHandler, never()).getValues(any(Group.class));
+        verify(group, never()).getResources();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.to.MembershipTO;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Delegation;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.data.AnyProjection;
+import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class UserDataBinderImplTest {
+
+    private static final String ROSSINI = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    private static final String VERDI = "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee";
+
+    private static ExternalResource resource(final String key) {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn(key);
+        return resource;
+    }
+
+    private static User user(final String key, final String username, final Realm realm) {
+        User user = mock(User.class);
+        when(user.getKey()).thenReturn(key);
+        when(user.getUsername()).thenReturn(username);
+        when(user.getRealm()).thenReturn(realm);
+        return user;
+    }
+
+    private static Delegation delegation(final String key, final User delegating, final User delegated) {
+        Delegation delegation = mock(Delegation.class);
+        when(delegation.getKey()).thenReturn(key);
+        when(delegation.getDelegating()).thenReturn(delegating);
+        when(delegation.getDelegated()).thenReturn(delegated);
+        return delegation;
+    }
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private DelegationDAO delegationDAO;
+
+    @Mock
+    private ConfParamOps confParamOps;
+
+    @Mock
+    private DerAttrHandler derAttrHandler;
+
+    private UserDataBinderImpl binder;
+
+    private User rossini;
+
+    private User verdi;
+
+    @BeforeEach
+    public void setUp() {
+        binder = new UserDataBinderImpl(
+                mock(AnyTypeDAO.class),
+                mock(RealmSearchDAO.class),
+                mock(AnyTypeClassDAO.class),
+                mock(AnyObjectDAO.class),
+                userDAO,
+                mock(GroupDAO.class),
+                mock(PlainSchemaDAO.class),
+                mock(ExternalResourceDAO.class),
+                mock(RelationshipTypeDAO.class),
+                mock(EntityFactory.class),
+                mock(AnyUtilsFactory.class),
+                derAttrHandler,
+                mock(MappingManager.class),
+                mock(IntAttrNameParser.class),
+                mock(OutboundMatcher.class),
+                mock(PlainAttrValidationManager.class),
+                mock(RoleDAO.class),
+                mock(SecurityQuestionDAO.class),
+                mock(AccessTokenDAO.class),
+                delegationDAO,
+                confParamOps,
+                new SecurityProperties(),
+                mock(ApplicationEventPublisher.class));
+
+        when(confParamOps.get(anyString(), eq("return.password.value"), eq(Boolean.FALSE), eq(Boolean.class))).
+                thenReturn(Boolean.FALSE);
+        when(derAttrHandler.getValues(any(User.class))).thenReturn(Map.of());
+
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn("/even");
+
+        rossini = user(ROSSINI, "rossini", realm);
+        doReturn(List.of(resource("resource-testdb"))).when(rossini).getResources();
+        verdi = user(VERDI, "verdi", realm);
+
+        Group additional = mock(Group.class);
+        when(additional.getKey()).thenReturn("additional");
+        when(additional.getName()).thenReturn("additional");
+        doReturn(List.of(resource("resource-ldap"))).when(additional).getResources();
+
+        Role other = mock(Role.class);
+        when(other.getKey()).thenReturn("Other");
+
+        when(userDAO.findDynRealms(anyCollection())).thenReturn(Map.of(VERDI, List.of("dynRealm")));
+        when(userDAO.findDynGroups(anyCollection())).thenReturn(Map.of(ROSSINI, List.of(additional)));
+        when(userDAO.findDynRoles(anyCollection())).thenReturn(Map.of(VERDI, List.of(other)));
+        when(delegationDAO.findByDelegatingIn(anyCollection())).
+                thenReturn(List.of(delegation("delegation", rossini, verdi)));
+        when(delegationDAO.findByDelegatedIn(anyCollection())).
+                thenReturn(List.of(delegation("delegation", rossini, verdi)));
+    }
+
+    @Test
+    public void getUserTOs() {
+        List<UserTO> userTOs = binder.getUserTOs(List.of(rossini, verdi), true, AnyProjection.ALL);
+        assertEquals(2, userTOs.size());
+
+        UserTO rossiniTO = userTOs.getFirst();
+        assertEquals("rossini", rossiniTO.getUsername());
+        assertEquals("/even", rossiniTO.getRealm());
+        assertEquals(Set.of("resource-testdb", "resource-ldap"), rossiniTO.getResources());
+        assertEquals(List.of("additional"),
+                rossiniTO.getDynMemberships().stream().map(MembershipTO::getGroupKey).toList());
+        assertTrue(rossiniTO.getDynRealms().isEmpty());
+        assertTrue(rossiniTO.getDynRoles().isEmpty());
+        assertEquals(List.of("delegation"), rossiniTO.getDelegatingDelegations());
+        assertTrue(rossiniTO.getDelegatedDelegations().isEmpty());
+
+        UserTO verdiTO = userTOs.get(1);
+        assertEquals("verdi", verdiTO.getUsername());
+        assertTrue(verdiTO.getResources().isEmpty());
+        assertTrue(verdiTO.getDynMemberships().isEmpty());
+        assertEquals(List.of("dynRealm"), verdiTO.getDynRealms());
+        assertEquals(List.of("Other"), verdiTO.getDynRoles());
+        assertTrue(verdiTO.getDelegatingDelegations().isEmpty());
+        assertEquals(List.of("delegation"), verdiTO.getDelegatedDelegations());
+
+        // all data fetched once for the whole page
+        List<String> keys = List.of(ROSSINI, VERDI);
+        verify(confParamOps, times(1)).
+                get(anyString(), eq("return.password.value"), eq(Boolean.FALSE), eq(Boolean.class));
+        verify(userDAO).findDynRealms(keys);
+        verify(userDAO).findDynGroups(keys);
+        verify(userDAO).findDynRoles(keys);
+        verify(delegationDAO).findByDelegatingIn(keys);
+        verify(delegationDAO).findByDelegatedIn(keys);
+
+        verify(userDAO, never()).findDynRealms(anyString());
+        verify(userDAO, never()).findDynGroups(anyString());
+        verify(userDAO, never()).findDynRoles(anyString());
+        verify(delegationDAO, never()).findByDelegating(any(User.class));
+        verify(delegationDAO, never()).findByDelegated(any(User.class));
+    }
+
+    @Test
+    public void getUserTOsWithoutDetails() {
+        List<UserTO> userTOs = binder.getUserTOs(List.of(rossini, verdi), false, AnyProjection.ALL);
+
+        assertEquals(Set.of("resource-testdb", "resource-ldap"), userTOs.getFirst().getResources());
+        assertTrue(userTOs.getFirst().getDynMemberships().isEmpty());
+        assertEquals(List.of("dynRealm"), userTOs.get(1).getDynRealms());
+        assertTrue(userTOs.get(1).getDynRoles().isEmpty());
+
+        verify(userDAO, never()).findDynRoles(anyCollection());
+        verify(delegationDAO, never()).findByDelegatingIn(anyCollection());
+        verify(delegationDAO, never()).findByDelegatedIn(anyCollection());
+    }
+
+    @Test
+    public void getUserTOsEmpty() {
+        assertTrue(binder.getUserTOs(List.of(), true, AnyProjection.ALL).isEmpty());
+
+        verify(confParamOps, never()).get(anyString(), anyString(), any(), any());
+        verify(userDAO, never()).findDynRealms(anyCollection());
+    }
+}
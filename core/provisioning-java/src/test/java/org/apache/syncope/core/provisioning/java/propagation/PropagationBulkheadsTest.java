@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.core.provisioning.java.BulkheadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+public class PropagationBulkheadsTest {
+
+    private static final String RESOURCE = "resource-ldap";
+
+    private BulkheadProperties props;
+
+    @BeforeEach
+    public void setUp() {
+        props = new BulkheadProperties();
+        props.setInitialLimit(8);
+        props.setMinLimit(1);
+        props.setMaxLimit(25);
+        props.setLatencyTolerance(2.0);
+        props.setBackoffRatio(0.5);
+    }
+
+    private static int limit(final PropagationBulkheads bulkheads) {
+        return (int) bulkheads.getStatistics().get(RESOURCE).get("limit");
+    }
+
+    private static void complete(
+            final PropagationBulkheads.Bulkhead bulkhead,
+            final long latencyMillis,
+            final boolean success) {
+
+        bulkhead.acquireOrEnqueue(new PropagationBulkheads.Pending(() -> {
+        }, new CompletableFuture<>()));
+        bulkhead.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis), success);
+    }
+
+    @Test
+    public void failedStatusDecreasesLimit() throws Exception {
+        PropagationBulkheads bulkheads = new PropagationBulkheads(props, new TaskExecutorAdapter(Runnable::run));
+
+        Future<String> future = bulkheads.submit(
+                RESOURCE, () -> ExecStatus.FAILURE.name(), ExecStatus.FAILURE.name()::equals);
+
+        // the result is returned anyway
+        assertEquals(ExecStatus.FAILURE.name(), future.get());
+        assertEquals(4, limit(bulkheads));
+        assertEquals(1L, bulkheads.getStatistics().get(RESOURCE).get("failed"));
+    }
+
+    @Test
+    public void exceptionDecreasesLimit() {
+        PropagationBulkheads bulkheads = new PropagationBulkheads(props, new TaskExecutorAdapter(Runnable::run));
+
+        Future<String> future = bulkheads.submit(RESOURCE, () -> {
+            throw new IllegalStateException();
+        });
+
+        assertThrows(ExecutionException.class, future::get);
+        assertEquals(4, limit(bulkheads));
+    }
+
+    @Test
+    public void successIncreasesAdditively() {
+        PropagationBulkheads bulkheads = new PropagationBulkheads(props, new TaskExecutorAdapter(Runnable::run));
+        PropagationBulkheads.Bulkhead bulkhead = bulkheads.bulkheads.computeIfAbsent(
+                RESOURCE, k -> bulkheads.new Bulkhead(k));
+
+        for (int i = 0; i < 9; i++) {
+            complete(bulkhead, 10, true);
+        }
+        // +1/limit for each of the 9 successful executions
+        assertEquals(9, limit(bulkheads));
+        assertEquals(0L, bulkheads.getStatistics().get(RESOURCE).get("failed"));
+    }
+
+    @Test
+    public void latencyDegradationDecreasesLimit() {
+        PropagationBulkheads bulkheads = new PropagationBulkheads(props, new TaskExecutorAdapter(Runnable::run));
+        PropagationBulkheads.Bulkhead bulkhead = bulkheads.bulkheads.computeIfAbsent(
+                RESOURCE, k -> bulkheads.new Bulkhead(k));
+
+        for (int i = 0; i < 50; i++) {
+            complete(bulkhead, 10, true);
+        }
+        int before = limit(bulkheads);
+        assertTrue(before > props.getInitialLimit());
+
+        // a single outlier does not move the recent average beyond tolerance
+        complete(bulkhead, 25, true);
+        assertTrue(limit(bulkheads) >= before);
+
+        // a sustained slowdown does
+        for (int i = 0; i < 5; i++) {
+            complete(bulkhead, 100, true);
+        }
+        assertTrue(limit(bulkheads) < before);
+    }
+
+    @Test
+    public void baselineFollowsPermanentChange() {
+        PropagationBulkheads bulkheads = new PropagationBulkheads(props, new TaskExecutorAdapter(Runnable::run));
+        PropagationBulkheads.Bulkhead bulkhead = bulkheads.bulkheads.computeIfAbsent(
+                RESOURCE, k -> bulkheads.new Bulkhead(k));
+
+        for (int i = 0; i < 50; i++) {
+            complete(bulkhead, 10, true);
+        }
+        for (int i = 0; i < 20; i++) {
+            complete(bulkhead, 30, true);
+        }
+        assertEquals(props.getMinLimit(), limit(bulkheads));
+
+        // the slower response time becomes the new baseline, so the limit can grow again
+        for (int i = 0; i < 1000; i++) {
+            complete(bulkhead, 30, true);
+        }
+        assertEquals(props.getMaxLimit(), limit(bulkheads));
+    }
+
+    @Test
+    public void queueUntilSlotFreesUp() throws Exception {
+        props.setInitialLimit(1);
+
+        List<Runnable> submitted = new ArrayList<>();
+        PropagationBulkheads bulkheads = new PropagationBulkheads(props, new TaskExecutorAdapter(submitted::add));
+
+        Future<String> first = bulkheads.submit(RESOURCE, () -> "first");
+        Future<String> second = bulkheads.submit(RESOURCE, () -> "second");
+        assertEquals(1, submitted.size());
+        assertEquals(1, bulkheads.getStatistics().get(RESOURCE).get("queued"));
+
+        submitted.getFirst().run();
+        assertEquals("first", first.get());
+        assertFalse(second.isDone());
+        assertEquals(2, submitted.size());
+
+        submitted.get(1).run();
+        assertEquals("second", second.get());
+    }
+}
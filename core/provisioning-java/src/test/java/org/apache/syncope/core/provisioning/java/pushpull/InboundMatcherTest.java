@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.common.lib.to.Item;
+import org.apache.syncope.common.lib.to.Mapping;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.pushpull.PrefetchedMatch;
+import org.apache.syncope.core.provisioning.api.rules.InboundCorrelationRule;
+import org.apache.syncope.core.provisioning.api.rules.InboundMatch;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class InboundMatcherTest {
+
+    private static SyncDelta delta(final String uid, final String username) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(uid)).
+                setObject(new ConnectorObjectBuilder().
+                        setObjectClass(ObjectClass.ACCOUNT).
+                        setUid(uid).
+                        setName(username).
+                        addAttribute(AttributeBuilder.build("username", username)).
+                        build()).
+                build();
+    }
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private AnySearchDAO anySearchDAO;
+
+    @Mock
+    private DerAttrValueDAO derAttrValueDAO;
+
+    @Mock
+    private IntAttrNameParser intAttrNameParser;
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private AnyUtils anyUtils;
+
+    @Mock
+    private ExternalResource resource;
+
+    private InboundMatcher inboundMatcher;
+
+    private Provision provision;
+
+    private User user(final String key, final String username) {
+        AnyType anyType = mock(AnyType.class);
+        when(anyType.getKind()).thenReturn(AnyTypeKind.USER);
+
+        User user = mock(User.class);
+        when(user.getKey()).thenReturn(key);
+        when(user.getUsername()).thenReturn(username);
+        when(user.getType()).thenReturn(anyType);
+        return user;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        inboundMatcher = new InboundMatcher(
+                userDAO,
+                mock(AnyObjectDAO.class),
+                mock(GroupDAO.class),
+                anySearchDAO,
+                mock(RealmDAO.class),
+                mock(RealmSearchDAO.class),
+                mock(ImplementationDAO.class),
+                derAttrValueDAO,
+                intAttrNameParser,
+                anyUtilsFactory);
+
+        Item connObjectKey = new Item();
+        connObjectKey.setConnObjectKey(true);
+        connObjectKey.setIntAttrName("username");
+        connObjectKey.setExtAttrName("username");
+        Mapping mapping = new Mapping();
+        mapping.setConnObjectKeyItem(connObjectKey);
+        provision = new Provision();
+        provision.setAnyType(AnyTypeKind.USER.name());
+        provision.setMapping(mapping);
+
+        IntAttrName intAttrName = new IntAttrName();
+        intAttrName.setAnyTypeKind(AnyTypeKind.USER);
+        intAttrName.setField("username");
+        when(intAttrNameParser.parse("username", AnyTypeKind.USER)).thenReturn(intAttrName);
+
+        when(anyUtilsFactory.getInstance(AnyTypeKind.USER)).thenReturn(anyUtils);
+        doReturn(userDAO).when(anyUtils).dao();
+    }
+
+    @Test
+    public void prefetchOnlyKeys() {
+        User rossini = user("1417acbe-cbf6-4277-9372-e75e04f97000", "rossini");
+        doReturn(List.of(rossini)).when(anySearchDAO).search(any(SearchCond.class), eq(AnyTypeKind.USER));
+
+        LinkedAccount account = mock(LinkedAccount.class);
+        when(account.getConnObjectKeyValue()).thenReturn("verdi");
+        when(userDAO.findLinkedAccounts(eq(resource), anyCollection())).thenReturn(List.of(account));
+
+        Map<String, List<PrefetchedMatch>> prefetched = inboundMatcher.match(
+                List.of(delta("1", "rossini"), delta("2", "verdi"), delta("3", "bellini"), delta("4", "rossini")),
+                resource,
+                provision,
+                AnyTypeKind.USER);
+
+        // one search for all values, instead of one per delta
+        verify(anySearchDAO, times(1)).search(any(SearchCond.class), eq(AnyTypeKind.USER));
+
+        assertEquals(3, prefetched.size());
+        assertEquals(
+                List.of(new PrefetchedMatch(MatchType.ANY, AnyTypeKind.USER, rossini.getKey())),
+                prefetched.get("rossini"));
+        assertEquals(
+                List.of(new PrefetchedMatch(MatchType.LINKED_ACCOUNT, AnyTypeKind.USER, "verdi")),
+                prefetched.get("verdi"));
+        assertTrue(prefetched.get("bellini").isEmpty());
+    }
+
+    private Item derived(final boolean fullyMaterialized) throws ParseException {
+        DerSchema fullname = mock(DerSchema.class);
+        when(fullname.getKey()).thenReturn("fullname");
+        when(fullname.getExpression()).thenReturn("firstname + ' ' + surname");
+        when(fullname.isMaterialized()).thenReturn(true);
+        when(fullname.isFullyMaterialized()).thenReturn(fullyMaterialized);
+
+        IntAttrName intAttrName = new IntAttrName();
+        intAttrName.setAnyTypeKind(AnyTypeKind.USER);
+        intAttrName.setSchemaType(SchemaType.DERIVED);
+        intAttrName.setSchema(fullname);
+        when(intAttrNameParser.parse("fullname", AnyTypeKind.USER)).thenReturn(intAttrName);
+
+        Item connObjectKey = new Item();
+        connObjectKey.setConnObjectKey(true);
+        connObjectKey.setIntAttrName("fullname");
+        connObjectKey.setExtAttrName("cn");
+        return connObjectKey;
+    }
+
+    @Test
+    public void matchFullyMaterialized() throws ParseException {
+        Item connObjectKey = derived(true);
+
+        User rossini = user("1417acbe-cbf6-4277-9372-e75e04f97000", "rossini");
+        when(derAttrValueDAO.findAnyKeys("fullname", "Gioacchino Rossini", false)).
+                thenReturn(List.of(rossini.getKey()));
+        doReturn(List.of(rossini)).when(userDAO).findByKeys(List.of(rossini.getKey()));
+
+        Map<String, List<PrefetchedMatch>> prefetched = inboundMatcher.matchByConnObjectKeyValues(
+                connObjectKey,
+                List.of("Gioacchino Rossini", "Giuseppe Verdi"),
+                AnyTypeKind.USER,
+                null,
+                false).orElseThrow();
+
+        assertEquals(
+                List.of(new PrefetchedMatch(MatchType.ANY, AnyTypeKind.USER, rossini.getKey())),
+                prefetched.get("Gioacchino Rossini"));
+        assertTrue(prefetched.get("Giuseppe Verdi").isEmpty());
+        verify(userDAO, never()).findByDerAttrValue(anyString(), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void matchNotFullyMaterialized() throws ParseException {
+        Item connObjectKey = derived(false);
+
+        // stored values might be missing until materialization completes: do not rely on them
+        assertTrue(inboundMatcher.matchByConnObjectKeyValues(
+                connObjectKey,
+                List.of("Gioacchino Rossini"),
+                AnyTypeKind.USER,
+                null,
+                false).isEmpty());
+
+        User rossini = user("1417acbe-cbf6-4277-9372-e75e04f97000", "rossini");
+        doReturn(List.of(rossini)).when(userDAO).
+                findByDerAttrValue("firstname + ' ' + surname", "Gioacchino Rossini", false);
+
+        List<InboundMatch> matches = inboundMatcher.matchByConnObjectKeyValue(
+                connObjectKey, "Gioacchino Rossini", AnyTypeKind.USER, null, false);
+
+        assertEquals(1, matches.size());
+        assertSame(rossini, matches.getFirst().getAny());
+        verify(derAttrValueDAO, never()).findAnyKeys(anyString(), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void resolveReloads() {
+        User prefetched = user("1417acbe-cbf6-4277-9372-e75e04f97000", "rossini");
+        User reloaded = user(prefetched.getKey(), "rossini");
+        doReturn(Optional.of(reloaded)).when(userDAO).findById(prefetched.getKey());
+
+        List<InboundMatch> matches = inboundMatcher.resolve(
+                List.of(new PrefetchedMatch(MatchType.ANY, AnyTypeKind.USER, prefetched.getKey())),
+                resource).orElseThrow();
+
+        assertEquals(1, matches.size());
+        assertEquals(MatchType.ANY, matches.getFirst().getMatchTarget());
+        assertSame(reloaded, matches.getFirst().getAny());
+        assertNotSame(prefetched, matches.getFirst().getAny());
+    }
+
+    @Test
+    public void resolveLinkedAccount() {
+        LinkedAccount account = mock(LinkedAccount.class);
+        doReturn(Optional.of(account)).when(userDAO).findLinkedAccount(resource, "verdi");
+
+        List<InboundMatch> matches = inboundMatcher.resolve(
+                List.of(new PrefetchedMatch(MatchType.LINKED_ACCOUNT, AnyTypeKind.USER, "verdi")),
+                resource).orElseThrow();
+
+        assertEquals(1, matches.size());
+        assertSame(account, matches.getFirst().getLinkedAccount());
+    }
+
+    @Test
+    public void resolveNoMatch() {
+        assertEquals(
+                List.of(InboundCorrelationRule.NO_MATCH),
+                inboundMatcher.resolve(List.of(), resource).orElseThrow());
+    }
+
+    @Test
+    public void resolveDeletedMeanwhile() {
+        doReturn(Optional.empty()).when(userDAO).findById(anyString());
+
+        assertTrue(inboundMatcher.resolve(
+                List.of(new PrefetchedMatch(MatchType.ANY, AnyTypeKind.USER, "1417acbe")),
+                resource).isEmpty());
+    }
+}
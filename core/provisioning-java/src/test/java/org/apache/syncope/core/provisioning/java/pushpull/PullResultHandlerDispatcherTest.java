@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
+import org.apache.syncope.core.provisioning.api.pushpull.PrefetchedMatch;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PullResultHandlerDispatcherTest {
+
+    private static final String OBJECT_CLASS = ObjectClass.ACCOUNT_NAME;
+
+    private static SyncDelta delta(final String uid) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(uid)).
+                setObject(new ConnectorObjectBuilder().
+                        setObjectClass(ObjectClass.ACCOUNT).
+                        setUid(uid).
+                        setName(uid).
+                        build()).
+                build();
+    }
+
+    @Mock
+    private PullTask task;
+
+    @Mock
+    private SyncopePullExecutor executor;
+
+    @Mock
+    private SyncopePullResultHandler handler;
+
+    private ProvisioningProfile<PullTask, InboundActions> profile;
+
+    @BeforeEach
+    public void setUp() {
+        when(task.getConcurrentSettings()).thenReturn(null);
+        profile = new ProvisioningProfile<>(
+                null, TaskType.PULL, task, ConflictResolutionAction.IGNORE, List.of(), "admin", false);
+
+        when(handler.handle(any(SyncDelta.class))).thenReturn(true);
+    }
+
+    private PullResultHandlerDispatcher dispatcher(final int window) {
+        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher(profile, executor, window);
+        dispatcher.addHandlerSupplier(OBJECT_CLASS, () -> handler);
+        return dispatcher;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void prefetchPerWindow() {
+        Map<String, List<PrefetchedMatch>> prefetched = Map.of(
+                "1", List.of(new PrefetchedMatch(MatchType.ANY, AnyTypeKind.USER, "key1")),
+                "2", List.of());
+        when(handler.prefetch(anyList())).thenReturn(prefetched);
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(2);
+
+        assertTrue(dispatcher.handle(delta("1")));
+        // window not full yet: nothing prefetched nor handled
+        verify(handler, never()).prefetch(anyList());
+        verify(handler, never()).handle(any(SyncDelta.class));
+
+        assertTrue(dispatcher.handle(delta("2")));
+        assertTrue(dispatcher.handle(delta("3")));
+        assertTrue(dispatcher.flush());
+
+        ArgumentCaptor<List<SyncDelta>> windows = ArgumentCaptor.forClass(List.class);
+        verify(handler, times(2)).prefetch(windows.capture());
+        assertEquals(2, windows.getAllValues().getFirst().size());
+        assertEquals(1, windows.getAllValues().getLast().size());
+
+        ArgumentCaptor<Map<String, List<PrefetchedMatch>>> provided = ArgumentCaptor.forClass(Map.class);
+        verify(handler, atLeastOnce()).setPrefetched(provided.capture());
+        assertEquals(prefetched, provided.getAllValues().getFirst());
+
+        InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler).handle(argThat(d -> "1".equals(d.getUid().getUidValue())));
+        inOrder.verify(handler).handle(argThat(d -> "2".equals(d.getUid().getUidValue())));
+        inOrder.verify(handler).handle(argThat(d -> "3".equals(d.getUid().getUidValue())));
+    }
+
+    @Test
+    public void prefetchFailureFallsBack() {
+        when(handler.prefetch(anyList())).thenThrow(new IllegalStateException());
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(2);
+        assertTrue(dispatcher.handle(delta("1")));
+        assertTrue(dispatcher.handle(delta("2")));
+
+        // deltas are handled anyway, matching one by one
+        verify(handler, atLeastOnce()).setPrefetched(Map.of());
+        verify(handler, times(2)).handle(any(SyncDelta.class));
+    }
+
+    @Test
+    public void dispatchChunkStopsOnFailure() {
+        when(handler.prefetch(anyList())).thenReturn(Map.of());
+        when(handler.handle(argThat(d -> "2".equals(d.getUid().getUidValue())))).thenReturn(false);
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(1);
+        assertFalse(dispatcher.dispatch(OBJECT_CLASS, List.of(delta("1"), delta("2"), delta("3")), 4));
+
+        verify(handler).prefetch(anyList());
+        verify(handler, times(2)).handle(any(SyncDelta.class));
+        verify(handler, never()).handle(argThat(d -> "3".equals(d.getUid().getUidValue())));
+    }
+}
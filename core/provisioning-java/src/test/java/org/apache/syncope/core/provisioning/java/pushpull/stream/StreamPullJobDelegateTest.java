@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.core.provisioning.java.pushpull.PullResultHandlerDispatcher;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class StreamPullJobDelegateTest {
+
+    private static final String OBJECT_CLASS = ObjectClass.ACCOUNT_NAME;
+
+    private static class TestStreamPullJobDelegate extends StreamPullJobDelegate {
+
+        private final List<String> statuses = new ArrayList<>();
+
+        private void setDispatcher(final PullResultHandlerDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        protected void setStatus(final String status) {
+            statuses.add(status);
+        }
+    }
+
+    private static SyncDelta delta(final String uid) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(uid)).
+                setObject(new ConnectorObjectBuilder().
+                        setObjectClass(ObjectClass.ACCOUNT).
+                        setUid(uid).
+                        setName(uid).
+                        build()).
+                build();
+    }
+
+    @Mock
+    private PullResultHandlerDispatcher dispatcher;
+
+    private TestStreamPullJobDelegate delegate;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new TestStreamPullJobDelegate();
+        delegate.setDispatcher(dispatcher);
+    }
+
+    @Test
+    public void chunks() {
+        when(dispatcher.dispatch(eq(OBJECT_CLASS), anyList(), anyInt())).thenReturn(true);
+
+        StreamPullJobDelegate.ChunkedHandler handler = delegate.new ChunkedHandler(OBJECT_CLASS, 2, 1, 0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(handler.handle(delta("uid" + i)));
+        }
+        assertTrue(handler.flush());
+
+        verify(dispatcher, times(3)).dispatch(eq(OBJECT_CLASS), anyList(), eq(1));
+        assertEquals(5, delegate.checkpoint.get());
+        assertEquals(3, delegate.statuses.size());
+
+        // nothing left to dispatch
+        assertTrue(handler.flush());
+        verify(dispatcher, times(3)).dispatch(eq(OBJECT_CLASS), anyList(), eq(1));
+    }
+
+    @Test
+    public void chunkFailsMidStream() {
+        when(dispatcher.dispatch(eq(OBJECT_CLASS), anyList(), anyInt())).thenReturn(true, false);
+
+        StreamPullJobDelegate.ChunkedHandler handler = delegate.new ChunkedHandler(OBJECT_CLASS, 2, 1, 0);
+        assertTrue(handler.handle(delta("uid0")));
+        assertTrue(handler.handle(delta("uid1")));
+        assertTrue(handler.handle(delta("uid2")));
+        assertFalse(handler.handle(delta("uid3")));
+
+        // no more deltas are accepted once a chunk failed
+        assertFalse(handler.handle(delta("uid4")));
+
+        // the final flush has nothing to dispatch, but still reports the failure
+        assertFalse(handler.flush());
+
+        verify(dispatcher, times(2)).dispatch(eq(OBJECT_CLASS), anyList(), eq(1));
+        assertEquals(2, delegate.checkpoint.get());
+    }
+}
@@ -21,17 +21,41 @@ package org.apache.syncope.core.logic;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.lang.reflect.Method;
 import java.util.Map;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.to.EntityTO;
 import org.apache.syncope.core.keymaster.internal.InternalConfParamHelper;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class ConfParamLogic extends AbstractTransactionalLogic<EntityTO> {
 
     protected final InternalConfParamHelper helper;
 
-    public ConfParamLogic(final InternalConfParamHelper helper) {
+    protected final ConfParamOps internalConfParamOps;
+
+    public ConfParamLogic(final InternalConfParamHelper helper, final ConfParamOps internalConfParamOps) {
         this.helper = helper;
+        this.internalConfParamOps = internalConfParamOps;
+    }
+
+    protected void invalidate() {
+        if (internalConfParamOps instanceof CachingConfParamOps cachingConfParamOps) {
+            cachingConfParamOps.invalidateAll();
+
+            // discard also what might be read in the meanwhile, before commit
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                    @Override
+                    public void afterCommit() {
+                        cachingConfParamOps.invalidateAll();
+                    }
+                });
+            }
+        }
     }
 
     @PreAuthorize("@environment.getProperty('keymaster.username') == authentication.name")
@@ -49,11 +73,13 @@ public class ConfParamLogic extends AbstractTransactionalLogic<EntityTO> {
     @PreAuthorize("@environment.getProperty('keymaster.username') == authentication.name")
     public void set(final String key, final JsonNode value) {
         helper.set(key, value);
+        invalidate();
     }
 
     @PreAuthorize("@environment.getProperty('keymaster.username') == authentication.name")
     public void remove(final String key) {
         helper.remove(key);
+        invalidate();
     }
 
     @Override
@@ -42,6 +42,7 @@ import org.apache.cxf.jaxrs.utils.JAXRSUtils;
 import org.apache.cxf.jaxrs.validation.JAXRSBeanValidationInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPOutInterceptor;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.DomainWatcher;
@@ -80,6 +81,7 @@ import org.apache.syncope.core.spring.security.WebSecurityContext;
 import org.apache.syncope.core.starter.SelfKeymasterContext.SelfKeymasterCondition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
@@ -245,8 +247,11 @@ public class SelfKeymasterContext {
     }
 
     @Bean
-    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper) {
-        return new SelfKeymasterInternalConfParamOps(helper);
+    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper, final KeymasterProperties props) {
+        ConfParamOps confParamOps = new SelfKeymasterInternalConfParamOps(helper);
+        return props.getConfParamCacheTtlMs() > 0
+                ? new CachingConfParamOps(confParamOps, props.getConfParamCacheTtlMs())
+                : confParamOps;
     }
 
     @Bean
@@ -263,8 +268,12 @@ public class SelfKeymasterContext {
     }
 
     @Bean
-    public ConfParamLogic confParamLogic(final InternalConfParamHelper helper) {
-        return new ConfParamLogic(helper);
+    public ConfParamLogic confParamLogic(
+            final InternalConfParamHelper helper,
+            @Qualifier("internalConfParamOps")
+            final ConfParamOps internalConfParamOps) {
+
+        return new ConfParamLogic(helper, internalConfParamOps);
     }
 
     @Bean
@@ -60,9 +60,12 @@ import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
@@ -117,6 +120,8 @@ public class AuthDataAccessor {
 
     private final List<JWTSSOProvider> jwtSSOProviders;
 
+    protected final ApplicationEventPublisher publisher;
+
     public AuthDataAccessor(
             final SecurityProperties securityProperties,
             final EncryptorManager encryptorManager,
@@ -132,7 +137,8 @@ public class AuthDataAccessor {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
-            final List<JWTSSOProvider> jwtSSOProviders) {
+            final List<JWTSSOProvider> jwtSSOProviders,
+            final ApplicationEventPublisher publisher) {
 
         this.securityProperties = securityProperties;
         this.encryptorManager = encryptorManager;
@@ -149,6 +155,7 @@ public class AuthDataAccessor {
         this.auditManager = auditManager;
         this.mappingManager = mappingManager;
         this.jwtSSOProviders = jwtSSOProviders;
+        this.publisher = publisher;
     }
 
     public JWTSSOProvider getJWTSSOProvider(final String issuer) {
@@ -483,7 +490,12 @@ public class AuthDataAccessor {
 
     @Transactional
     public void removeExpired(final String tokenKey) {
-        accessTokenDAO.deleteById(tokenKey);
+        accessTokenDAO.findById(tokenKey).ifPresent(accessToken -> {
+            accessTokenDAO.deleteById(tokenKey);
+
+            publisher.publishEvent(new EntityLifecycleEvent<>(
+                    this, SyncDeltaType.DELETE, accessToken, AuthContextUtils.getDomain()));
+        });
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.entity.AccessToken;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded, time-limited cache for the authorities stored with each {@link AccessToken}, to avoid decrypting and
+ * deserializing them on every request authenticated via JWT.
+ *
+ * Entries are keyed by domain and JWT ID, and are only returned if the encrypted authorities they were read from are
+ * still the ones stored with the AccessToken: as the AccessToken is read anyway, changes or deletions performed by
+ * other cluster nodes are detected without need for any distributed invalidation. Entries are also evicted upon local
+ * AccessToken changes, in order to release memory early.
+ */
+public class JWTAuthoritiesCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JWTAuthoritiesCache.class);
+
+    protected record Entry(byte[] stored, Set<SyncopeGrantedAuthority> authorities) {
+
+    }
+
+    protected static String key(final String domain, final String jwtId) {
+        return domain + '|' + jwtId;
+    }
+
+    protected final Cache<String, Entry> cache;
+
+    public JWTAuthoritiesCache(final long maximumSize, final Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder().
+                maximumSize(maximumSize).
+                expireAfterWrite(expireAfterWrite).
+                recordStats().
+                build();
+    }
+
+    public Optional<Set<SyncopeGrantedAuthority>> get(final String domain, final AccessToken accessToken) {
+        return Optional.ofNullable(cache.getIfPresent(key(domain, accessToken.getKey()))).
+                filter(entry -> Arrays.equals(entry.stored(), accessToken.getAuthorities())).
+                map(Entry::authorities);
+    }
+
+    public void put(
+            final String domain,
+            final AccessToken accessToken,
+            final Set<SyncopeGrantedAuthority> authorities) {
+
+        cache.put(key(domain, accessToken.getKey()), new Entry(accessToken.getAuthorities(), authorities));
+    }
+
+    public void evict(final String domain, final String jwtId) {
+        cache.invalidate(key(domain, jwtId));
+    }
+
+    @TransactionalEventListener
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof final AccessToken accessToken) {
+            LOG.debug("Evicting cached authorities for {} as AccessToken was {}",
+                    accessToken.getOwner(), event.getType());
+            evict(event.getDomain(), accessToken.getKey());
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.stats();
+        return Map.of(
+                "size", cache.estimatedSize(),
+                "hitCount", stats.hitCount(),
+                "missCount", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictionCount", stats.evictionCount());
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -23,6 +23,7 @@ import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.KeyLengthException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
+import java.time.Duration;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
@@ -120,6 +121,14 @@ public class SecurityContext {
         return new AccessTokenJWSSigner(jwsAlgorithm, jwsKey(jwsAlgorithm, props));
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public JWTAuthoritiesCache jwtAuthoritiesCache(final SecurityProperties props) {
+        return new JWTAuthoritiesCache(
+                props.getJwtAuthoritiesCache().getMaximumSize(),
+                Duration.ofSeconds(props.getJwtAuthoritiesCache().getExpireAfterWriteSeconds()));
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public SyncopeJWTSSOProvider syncopeJWTSSOProvider(
@@ -127,9 +136,11 @@ public class SecurityContext {
             final EncryptorManager encryptorManager,
             final AccessTokenJWSVerifier accessTokenJWSVerifier,
             final UserDAO userDAO,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final JWTAuthoritiesCache jwtAuthoritiesCache) {
 
-        return new SyncopeJWTSSOProvider(props, encryptorManager, accessTokenJWSVerifier, userDAO, accessTokenDAO);
+        return new SyncopeJWTSSOProvider(
+                props, encryptorManager, accessTokenJWSVerifier, userDAO, accessTokenDAO, jwtAuthoritiesCache);
     }
 
     @ConditionalOnMissingBean
@@ -82,6 +82,29 @@ public class SecurityProperties {
         }
     }
 
+    public static class JWTAuthoritiesCacheProperties {
+
+        private long maximumSize = 10000;
+
+        private long expireAfterWriteSeconds = 300;
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(final long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public long getExpireAfterWriteSeconds() {
+            return expireAfterWriteSeconds;
+        }
+
+        public void setExpireAfterWriteSeconds(final long expireAfterWriteSeconds) {
+            this.expireAfterWriteSeconds = expireAfterWriteSeconds;
+        }
+    }
+
     private String adminUser;
 
     private String adminPassword;
@@ -102,6 +125,8 @@ public class SecurityProperties {
 
     private final DigesterProperties digester = new DigesterProperties();
 
+    private final JWTAuthoritiesCacheProperties jwtAuthoritiesCache = new JWTAuthoritiesCacheProperties();
+
     public String getAdminUser() {
         return adminUser;
     }
@@ -177,4 +202,8 @@ public class SecurityProperties {
     public DigesterProperties getDigester() {
         return digester;
     }
+
+    public JWTAuthoritiesCacheProperties getJwtAuthoritiesCache() {
+        return jwtAuthoritiesCache;
+    }
 }
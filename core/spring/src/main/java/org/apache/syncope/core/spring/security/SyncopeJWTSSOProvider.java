@@ -56,18 +56,22 @@ public class SyncopeJWTSSOProvider implements JWTSSOProvider {
 
     protected final AccessTokenDAO accessTokenDAO;
 
+    protected final JWTAuthoritiesCache authoritiesCache;
+
     public SyncopeJWTSSOProvider(
             final SecurityProperties securityProperties,
             final EncryptorManager encryptorManager,
             final AccessTokenJWSVerifier delegate,
             final UserDAO userDAO,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final JWTAuthoritiesCache authoritiesCache) {
 
         this.securityProperties = securityProperties;
         this.encryptorManager = encryptorManager;
         this.delegate = delegate;
         this.userDAO = userDAO;
         this.accessTokenDAO = accessTokenDAO;
+        this.authoritiesCache = authoritiesCache;
     }
 
     @Override
@@ -94,6 +98,22 @@ public class SyncopeJWTSSOProvider implements JWTSSOProvider {
         return delegate.verify(header, signingInput, signature);
     }
 
+    protected Set<SyncopeGrantedAuthority> readAuthorities(final AccessToken accessToken) {
+        Set<SyncopeGrantedAuthority> authorities = Set.of();
+
+        try {
+            authorities = POJOHelper.deserialize(
+                    encryptorManager.getInstance().decode(
+                            new String(accessToken.getAuthorities()), CipherAlgorithm.AES),
+                    new TypeReference<>() {
+            });
+        } catch (Throwable t) {
+            LOG.error("Could not read stored authorities", t);
+        }
+
+        return authorities;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Pair<User, Set<SyncopeGrantedAuthority>> resolve(final JWTClaimsSet jwtClaims) {
@@ -102,15 +122,12 @@ public class SyncopeJWTSSOProvider implements JWTSSOProvider {
         if (user != null) {
             AccessToken accessToken = accessTokenDAO.findById(jwtClaims.getJWTID()).orElse(null);
             if (accessToken != null && accessToken.getAuthorities() != null) {
-                try {
-                    authorities = POJOHelper.deserialize(
-                            encryptorManager.getInstance().decode(
-                                    new String(accessToken.getAuthorities()), CipherAlgorithm.AES),
-                            new TypeReference<>() {
-                    });
-                } catch (Throwable t) {
-                    LOG.error("Could not read stored authorities", t);
-                }
+                String domain = AuthContextUtils.getDomain();
+                authorities = authoritiesCache.get(domain, accessToken).orElseGet(() -> {
+                    Set<SyncopeGrantedAuthority> read = Set.copyOf(readAuthorities(accessToken));
+                    authoritiesCache.put(domain, accessToken, read);
+                    return read;
+                });
             }
         }
 
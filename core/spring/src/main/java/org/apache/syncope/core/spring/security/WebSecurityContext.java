@@ -36,6 +36,7 @@ import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -159,7 +160,8 @@ public class WebSecurityContext {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
-            final List<JWTSSOProvider> jwtSSOProviders) {
+            final List<JWTSSOProvider> jwtSSOProviders,
+            final ApplicationEventPublisher publisher) {
 
         return new AuthDataAccessor(
                 securityProperties,
@@ -176,6 +178,7 @@ public class WebSecurityContext {
                 connectorManager,
                 auditManager,
                 mappingManager,
-                jwtSSOProviders);
+                jwtSSOProviders,
+                publisher);
     }
 }
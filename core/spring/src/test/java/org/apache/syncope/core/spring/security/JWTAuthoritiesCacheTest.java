@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.CipherAlgorithm;
+import org.apache.syncope.core.persistence.api.Encryptor;
+import org.apache.syncope.core.persistence.api.EncryptorManager;
+import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AccessToken;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JWTAuthoritiesCacheTest {
+
+    private static final String JWT_ID = "d2f4fa55-7da6-4d57-b4fa-557da67d57b1";
+
+    private static final Set<SyncopeGrantedAuthority> AUTHORITIES =
+            Set.of(new SyncopeGrantedAuthority("USER_READ", SyncopeConstants.ROOT_REALM));
+
+    private JWTAuthoritiesCache cache;
+
+    private AccessToken accessToken(final String key, final String authorities) {
+        AccessToken accessToken = mock(AccessToken.class);
+        when(accessToken.getKey()).thenReturn(key);
+        when(accessToken.getOwner()).thenReturn("rossini");
+        when(accessToken.getAuthorities()).thenReturn(authorities.getBytes(StandardCharsets.UTF_8));
+        return accessToken;
+    }
+
+    @BeforeEach
+    public void setup() {
+        cache = new JWTAuthoritiesCache(100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void hitWhenStoredAuthoritiesMatch() {
+        cache.put(SyncopeConstants.MASTER_DOMAIN, accessToken(JWT_ID, "encrypted"), AUTHORITIES);
+
+        // same row, as read by another request
+        assertEquals(
+                Optional.of(AUTHORITIES),
+                cache.get(SyncopeConstants.MASTER_DOMAIN, accessToken(JWT_ID, "encrypted")));
+
+        // other domain or other JWT
+        assertTrue(cache.get("Two", accessToken(JWT_ID, "encrypted")).isEmpty());
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, accessToken("other", "encrypted")).isEmpty());
+    }
+
+    @Test
+    public void missWhenStoredAuthoritiesChangedElsewhere() {
+        cache.put(SyncopeConstants.MASTER_DOMAIN, accessToken(JWT_ID, "encrypted"), AUTHORITIES);
+
+        // authorities were updated, e.g. by another cluster node: no event was received here
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, accessToken(JWT_ID, "updated")).isEmpty());
+    }
+
+    @Test
+    public void evictOnAccessTokenEvent() {
+        AccessToken accessToken = accessToken(JWT_ID, "encrypted");
+        cache.put(SyncopeConstants.MASTER_DOMAIN, accessToken, AUTHORITIES);
+
+        cache.entity(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.DELETE, accessToken, SyncopeConstants.MASTER_DOMAIN));
+
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, accessToken).isEmpty());
+        assertEquals(0L, cache.getStatistics().get("hitCount"));
+    }
+
+    @Test
+    public void resolve() throws Exception {
+        User user = mock(User.class);
+        when(user.getUsername()).thenReturn("rossini");
+        UserDAO userDAO = mock(UserDAO.class);
+        when(userDAO.findByUsername("rossini")).thenReturn(Optional.of(user));
+
+        AccessToken accessToken = accessToken(JWT_ID, "encrypted");
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        when(accessTokenDAO.findById(JWT_ID)).thenReturn(Optional.of(accessToken));
+
+        Encryptor encryptor = mock(Encryptor.class);
+        when(encryptor.decode(anyString(), eq(CipherAlgorithm.AES))).
+                thenReturn("[{\"entitlement\":\"USER_READ\"}]");
+        EncryptorManager encryptorManager = mock(EncryptorManager.class);
+        when(encryptorManager.getInstance()).thenReturn(encryptor);
+
+        SyncopeJWTSSOProvider provider = new SyncopeJWTSSOProvider(
+                new SecurityProperties(), encryptorManager, null, userDAO, accessTokenDAO, cache);
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder().subject("rossini").jwtID(JWT_ID).build();
+
+        Set<SyncopeGrantedAuthority> authorities = provider.resolve(claims).getRight();
+        assertEquals(1, authorities.size());
+        assertEquals("USER_READ", authorities.iterator().next().getAuthority());
+
+        // second request: token is read again, but authorities are not decoded
+        assertEquals(authorities, provider.resolve(claims).getRight());
+        verify(accessTokenDAO, times(2)).findById(JWT_ID);
+        verify(encryptor, times(1)).decode(anyString(), eq(CipherAlgorithm.AES));
+
+        // token deleted, e.g. logout on another cluster node: no more authorities
+        when(accessTokenDAO.findById(JWT_ID)).thenReturn(Optional.empty());
+        assertTrue(provider.resolve(claims).getRight().isEmpty());
+    }
+}
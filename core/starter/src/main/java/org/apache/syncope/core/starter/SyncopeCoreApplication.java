@@ -42,10 +42,17 @@ import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
+import org.apache.syncope.core.provisioning.java.AuditEventWriter;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationBulkheads;
+import org.apache.syncope.core.spring.security.JWTAuthoritiesCache;
+import org.apache.syncope.core.starter.actuate.AuditEventWriterEndpoint;
+import org.apache.syncope.core.starter.actuate.ConfParamCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.DefaultSyncopeCoreInfoContributor;
 import org.apache.syncope.core.starter.actuate.DomainsHealthIndicator;
 import org.apache.syncope.core.starter.actuate.EntityCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.ExternalResourcesHealthIndicator;
+import org.apache.syncope.core.starter.actuate.JWTAuthoritiesCacheEndpoint;
+import org.apache.syncope.core.starter.actuate.PropagationBulkheadsEndpoint;
 import org.apache.syncope.core.starter.actuate.SyncopeCoreInfoContributor;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -191,12 +198,38 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
         return new ExternalResourcesHealthIndicator(domainOps, resourceDAO, connInstanceDataBinder, connectorManager);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ConfParamCacheEndpoint confParamCacheEndpoint(final ConfParamOps confParamOps) {
+        return new ConfParamCacheEndpoint(confParamOps);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public EntityCacheEndpoint entityCacheEndpoint(final EntityCacheDAO entityCacheDAO) {
         return new EntityCacheEndpoint(entityCacheDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public JWTAuthoritiesCacheEndpoint jwtAuthoritiesCacheEndpoint(final JWTAuthoritiesCache jwtAuthoritiesCache) {
+        return new JWTAuthoritiesCacheEndpoint(jwtAuthoritiesCache);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationBulkheadsEndpoint propagationBulkheadsEndpoint(
+            final PropagationBulkheads propagationBulkheads) {
+
+        return new PropagationBulkheadsEndpoint(propagationBulkheads);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditEventWriterEndpoint auditEventWriterEndpoint(final AuditEventWriter auditEventWriter) {
+        return new AuditEventWriterEndpoint(auditEventWriter);
+    }
+
     @Bean
     public SyncopeStarterEventListener syncopeCoreEventListener(
             @Qualifier("syncopeCoreInfoContributor")
@@ -0,0 +1,575 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.elasticsearch.client;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Collects index and delete operations, coalesced per document, and sends them to Elasticsearch via the Bulk API
+ * as soon as either the configured batch size is reached or the flush interval elapses.
+ *
+ * When an outbox file is configured, pending operations are appended there and forced to disk before being
+ * acknowledged to callers; concurrent callers share the same force (group commit). Flushed operations are marked as
+ * such by appending acknowledgements, and the outbox is rewritten with the pending operations only once it holds
+ * more than twice their number - or {@code maxPending}, whichever is greater.
+ * At startup, operations not acknowledged are replayed: since operations are idempotent, replaying an already flushed
+ * operation is harmless.
+ */
+public class ElasticsearchBulkIndexer implements InitializingBean, DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkIndexer.class);
+
+    /**
+     * Index or delete (when {@code document} is null) operation waiting to be sent.
+     *
+     * @param index index name
+     * @param id document id
+     * @param document document to index, null for deletion
+     * @param enqueued epoch millis of the latest enqueuing
+     * @param seq sequence number, unique within the outbox
+     */
+    public record PendingOperation(String index, String id, Map<String, Object> document, long enqueued, long seq) {
+
+        public String key() {
+            return index + '/' + id;
+        }
+
+        public BulkOperation toBulkOperation() {
+            return document == null
+                    ? BulkOperation.of(op -> op.delete(d -> d.index(index).id(id)))
+                    : BulkOperation.of(op -> op.index(i -> i.index(index).id(id).document(document)));
+        }
+    }
+
+    /**
+     * Outbox entry: either an operation to replay or the acknowledgement for the flushed operation with given key
+     * and sequence number.
+     *
+     * @param operation operation to replay
+     * @param flushed key of the flushed operation
+     * @param seq sequence number of the flushed operation
+     */
+    protected record JournalEntry(PendingOperation operation, String flushed, long seq) {
+
+        static JournalEntry of(final PendingOperation operation) {
+            return new JournalEntry(operation, null, operation.seq());
+        }
+
+        static JournalEntry ack(final PendingOperation operation) {
+            return new JournalEntry(null, operation.key(), operation.seq());
+        }
+
+        ByteBuffer toLine() {
+            return ByteBuffer.wrap((POJOHelper.serialize(this) + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    protected final ElasticsearchClient client;
+
+    protected final int batchSize;
+
+    protected final long flushInterval;
+
+    protected final int maxPending;
+
+    protected final Optional<Path> outbox;
+
+    protected final Map<String, PendingOperation> pending = new LinkedHashMap<>();
+
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    protected final Condition flushRequested = lock.newCondition();
+
+    protected final Condition notFull = lock.newCondition();
+
+    /**
+     * Serializes forces to disk and outbox compaction; when both are needed, to be acquired before {@link #lock}.
+     */
+    protected final ReentrantLock syncLock = new ReentrantLock();
+
+    protected final AtomicLong sequence = new AtomicLong();
+
+    protected final AtomicLong enqueued = new AtomicLong();
+
+    protected final AtomicLong coalesced = new AtomicLong();
+
+    protected final AtomicLong flushed = new AtomicLong();
+
+    protected final AtomicLong failed = new AtomicLong();
+
+    protected final AtomicLong lastFlushDuration = new AtomicLong();
+
+    /**
+     * Open outbox channel, guarded by {@link #lock}.
+     */
+    protected FileChannel channel;
+
+    /**
+     * Number of entries written to the outbox, guarded by {@link #lock}.
+     */
+    protected long written;
+
+    /**
+     * Number of entries in the outbox, guarded by {@link #lock}.
+     */
+    protected long journaled;
+
+    /**
+     * Number of entries written to the outbox and forced to disk.
+     */
+    protected volatile long synced;
+
+    protected volatile boolean running;
+
+    protected Thread worker;
+
+    public ElasticsearchBulkIndexer(
+            final ElasticsearchClient client,
+            final int batchSize,
+            final long flushInterval,
+            final int maxPending,
+            final String outbox) {
+
+        this.client = client;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxPending = maxPending;
+        this.outbox = Optional.ofNullable(outbox).filter(o -> !o.isBlank()).map(Path::of);
+    }
+
+    protected static FileChannel open(final Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    protected void replay(final Path file) throws IOException {
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                try {
+                    JournalEntry entry = POJOHelper.deserialize(line, JournalEntry.class);
+                    if (entry.operation() == null) {
+                        PendingOperation op = pending.get(entry.flushed());
+                        if (op != null && op.seq() == entry.seq()) {
+                            pending.remove(entry.flushed());
+                        }
+                    } else {
+                        pending.remove(entry.operation().key());
+                        pending.put(entry.operation().key(), entry.operation());
+                    }
+                    sequence.accumulateAndGet(entry.seq(), Math::max);
+                } catch (Exception e) {
+                    LOG.error("Could not replay outbox entry {}", line, e);
+                }
+            });
+        }
+        LOG.info("Replayed {} pending operation(s) from {}", pending.size(), file);
+    }
+
+    /**
+     * Replays the operations not acknowledged from the outbox, if configured, then rewrites it and keeps it open.
+     *
+     * @throws IOException if the outbox cannot be read
+     */
+    protected void openOutbox() throws IOException {
+        if (outbox.isPresent()) {
+            if (Files.exists(outbox.get())) {
+                replay(outbox.get());
+            }
+
+            syncLock.lock();
+            lock.lock();
+            try {
+                compactJournal();
+            } finally {
+                lock.unlock();
+                syncLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        openOutbox();
+
+        running = true;
+        worker = Thread.ofVirtual().name("ElasticsearchBulkIndexer").start(this::work);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        lock.lock();
+        try {
+            flushRequested.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        syncLock.lock();
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.force(false);
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            LOG.error("Could not close {}", outbox.orElse(null), e);
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Appends the given entry to the outbox, without forcing it to disk; to be invoked while holding the lock.
+     *
+     * @param entry outbox entry
+     * @return number of entries written so far, to be passed to {@link #sync(long)}
+     */
+    protected long journal(final JournalEntry entry) {
+        if (channel == null) {
+            return written;
+        }
+
+        try {
+            ByteBuffer line = entry.toLine();
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            journaled++;
+        } catch (IOException e) {
+            LOG.error("Could not journal to {}", outbox.orElse(null), e);
+        }
+        return ++written;
+    }
+
+    /**
+     * Makes sure that the first {@code upTo} entries written to the outbox are on disk: a single force covers all
+     * entries written by concurrent callers in the meantime.
+     *
+     * @param upTo number of entries written, as returned by {@link #journal(JournalEntry)}
+     */
+    protected void sync(final long upTo) {
+        if (outbox.isEmpty() || synced >= upTo) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            if (synced >= upTo) {
+                // forced by another caller in the meantime
+                return;
+            }
+
+            long target;
+            FileChannel current;
+            lock.lock();
+            try {
+                target = written;
+                current = channel;
+            } finally {
+                lock.unlock();
+            }
+
+            if (current != null) {
+                current.force(false);
+            }
+            synced = target;
+        } catch (IOException e) {
+            LOG.error("Could not force {} to disk", outbox.orElse(null), e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrites the outbox with the operations still pending; to be invoked while holding both {@link #syncLock} and
+     * {@link #lock}.
+     */
+    protected void compactJournal() {
+        outbox.ifPresent(file -> {
+            try {
+                Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+                try (FileChannel out = FileChannel.open(tmp,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+                    for (PendingOperation op : pending.values()) {
+                        ByteBuffer line = JournalEntry.of(op).toLine();
+                        while (line.hasRemaining()) {
+                            out.write(line);
+                        }
+                    }
+                    out.force(false);
+                }
+
+                if (channel != null) {
+                    channel.close();
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel = open(file);
+
+                journaled = pending.size();
+                // all pending operations were just forced to disk
+                synced = written;
+            } catch (IOException e) {
+                LOG.error("Could not compact {}", file, e);
+            }
+        });
+    }
+
+    protected boolean compactionNeeded() {
+        return outbox.isPresent() && journaled > Math.max(maxPending, 2L * pending.size());
+    }
+
+    protected void enqueue(final String index, final String id, final Map<String, Object> document)
+            throws InterruptedException {
+
+        String key = index + '/' + id;
+
+        long toSync;
+        lock.lock();
+        try {
+            while (running && pending.size() >= maxPending && !pending.containsKey(key)) {
+                flushRequested.signal();
+                notFull.await();
+            }
+
+            PendingOperation op = new PendingOperation(
+                    index, id, document, System.currentTimeMillis(), sequence.incrementAndGet());
+            if (pending.remove(key) != null) {
+                coalesced.incrementAndGet();
+            }
+            pending.put(key, op);
+            enqueued.incrementAndGet();
+            toSync = journal(JournalEntry.of(op));
+
+            if (pending.size() >= batchSize) {
+                flushRequested.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        sync(toSync);
+    }
+
+    public void index(final String index, final String id, final Map<String, Object> document)
+            throws InterruptedException {
+
+        enqueue(index, id, document);
+    }
+
+    public void delete(final String index, final String id) throws InterruptedException {
+        enqueue(index, id, null);
+    }
+
+    protected List<PendingOperation> drain() {
+        List<PendingOperation> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (Iterator<PendingOperation> itor = pending.values().iterator();
+                itor.hasNext() && batch.size() < batchSize;) {
+
+            batch.add(itor.next());
+            itor.remove();
+        }
+        return batch;
+    }
+
+    protected void requeue(final List<PendingOperation> ops) {
+        lock.lock();
+        try {
+            // newer operations enqueued in the meantime win
+            ops.forEach(op -> pending.putIfAbsent(op.key(), op));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected static boolean retryable(final BulkResponseItem item) {
+        return item.status() == 429 || item.status() >= 500;
+    }
+
+    /**
+     * Sends the given operations via the Bulk API, requeueing those to be retried.
+     *
+     * @param batch operations to send
+     * @return operations requeued for retry
+     */
+    protected List<PendingOperation> flush(final List<PendingOperation> batch) {
+        long start = System.currentTimeMillis();
+        try {
+            BulkResponse response = client.bulk(new BulkRequest.Builder().
+                    operations(batch.stream().map(PendingOperation::toBulkOperation).toList()).
+                    build());
+
+            List<PendingOperation> retry = new ArrayList<>();
+            if (response.errors()) {
+                for (int i = 0; i < response.items().size(); i++) {
+                    BulkResponseItem item = response.items().get(i);
+                    if (item.error() != null) {
+                        if (retryable(item)) {
+                            retry.add(batch.get(i));
+                        } else {
+                            failed.incrementAndGet();
+                            LOG.error("Could not {} {}/{}: {}",
+                                    item.operationType().jsonValue(), item.index(), item.id(),
+                                    item.error().reason());
+                        }
+                    }
+                }
+            }
+            flushed.addAndGet(batch.size() - retry.size());
+            LOG.debug("Bulk request for {} operation(s) completed in {} ms", batch.size(), response.took());
+
+            requeue(retry);
+            return retry;
+        } catch (Exception e) {
+            LOG.error("While sending bulk request for {} operation(s), will retry", batch.size(), e);
+            requeue(batch);
+            return batch;
+        } finally {
+            lastFlushDuration.set(System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Journals acknowledgements for the operations not requeued, then compacts the outbox if needed.
+     *
+     * @param batch operations sent
+     * @param retry operations requeued for retry
+     */
+    protected void acknowledge(final List<PendingOperation> batch, final List<PendingOperation> retry) {
+        if (outbox.isEmpty()) {
+            lock.lock();
+            try {
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        syncLock.lock();
+        lock.lock();
+        try {
+            batch.stream().filter(op -> !retry.contains(op)).forEach(op -> journal(JournalEntry.ack(op)));
+
+            if (compactionNeeded()) {
+                compactJournal();
+            }
+
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    protected void work() {
+        long backoff = flushInterval;
+        while (running || !pending.isEmpty()) {
+            List<PendingOperation> batch;
+            lock.lock();
+            try {
+                if (running && pending.size() < batchSize) {
+                    flushRequested.await(flushInterval, TimeUnit.MILLISECONDS);
+                }
+                batch = drain();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            if (!batch.isEmpty()) {
+                List<PendingOperation> retry = flush(batch);
+                acknowledge(batch, retry);
+
+                if (retry.isEmpty()) {
+                    backoff = flushInterval;
+                } else if (running) {
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        running = false;
+                        return;
+                    }
+                    backoff = Math.min(backoff * 2, TimeUnit.MINUTES.toMillis(1));
+                } else {
+                    LOG.error("Giving up on {} pending operation(s) while shutting down", pending.size());
+                    return;
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            long oldest = pending.values().stream().mapToLong(PendingOperation::enqueued).min().orElse(now);
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("pending", pending.size());
+            stats.put("lagMillis", now - oldest);
+            stats.put("enqueued", enqueued.get());
+            stats.put("coalesced", coalesced.get());
+            stats.put("flushed", flushed.get());
+            stats.put("failed", failed.get());
+            stats.put("lastFlushDurationMillis", lastFlushDuration.get());
+            outbox.ifPresent(file -> stats.put("journaled", journaled));
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.syncope.ext.elasticsearch.client;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import java.net.URISyntaxException;
 import java.util.Objects;
+import java.util.Optional;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -28,8 +29,10 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.identityconnectors.common.CollectionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthContributor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,18 +68,35 @@ public class ElasticsearchClientContext {
         return new ElasticsearchUtils(userDAO, groupDAO, anyObjectDAO);
     }
 
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "elasticsearch.async", name = "enabled", havingValue = "true")
+    @Bean
+    public ElasticsearchBulkIndexer elasticsearchBulkIndexer(
+            final ElasticsearchProperties props,
+            final ElasticsearchClient client) {
+
+        return new ElasticsearchBulkIndexer(
+                client,
+                props.getAsync().getBatchSize(),
+                props.getAsync().getFlushInterval(),
+                props.getAsync().getMaxPending(),
+                props.getAsync().getOutbox());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public ElasticsearchIndexManager elasticsearchIndexManager(
             final ElasticsearchProperties props,
             final ElasticsearchClient client,
-            final ElasticsearchUtils elasticsearchUtils) {
+            final ElasticsearchUtils elasticsearchUtils,
+            final ObjectProvider<ElasticsearchBulkIndexer> bulkIndexer) {
 
         return new ElasticsearchIndexManager(
                 client,
                 elasticsearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                Optional.ofNullable(bulkIndexer.getIfAvailable()));
     }
 
     @ConditionalOnMissingBean
@@ -88,7 +108,10 @@ public class ElasticsearchClientContext {
     @ConditionalOnMissingBean(name = "syncopeElasticsearchHealthContributor")
     @Bean(name = {
         "syncopeElasticsearchHealthContributor", "elasticsearchHealthIndicator", "elasticsearchHealthContributor" })
-    public HealthContributor syncopeElasticsearchHealthContributor(final ElasticsearchClient client) {
-        return new SyncopeElasticsearchHealthContributor(client);
+    public HealthContributor syncopeElasticsearchHealthContributor(
+            final ElasticsearchClient client,
+            final ObjectProvider<ElasticsearchBulkIndexer> bulkIndexer) {
+
+        return new SyncopeElasticsearchHealthContributor(client, Optional.ofNullable(bulkIndexer.getIfAvailable()));
     }
 }
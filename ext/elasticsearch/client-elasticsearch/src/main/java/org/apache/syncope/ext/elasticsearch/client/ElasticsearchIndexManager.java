@@ -43,6 +43,7 @@ import co.elastic.clients.util.NamedValue;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
@@ -69,16 +70,29 @@ public class ElasticsearchIndexManager {
 
     protected final String numberOfReplicas;
 
+    protected final Optional<ElasticsearchBulkIndexer> bulkIndexer;
+
     public ElasticsearchIndexManager(
             final ElasticsearchClient client,
             final ElasticsearchUtils elasticsearchUtils,
             final String numberOfShards,
             final String numberOfReplicas) {
 
+        this(client, elasticsearchUtils, numberOfShards, numberOfReplicas, Optional.empty());
+    }
+
+    public ElasticsearchIndexManager(
+            final ElasticsearchClient client,
+            final ElasticsearchUtils elasticsearchUtils,
+            final String numberOfShards,
+            final String numberOfReplicas,
+            final Optional<ElasticsearchBulkIndexer> bulkIndexer) {
+
         this.client = client;
         this.elasticsearchUtils = elasticsearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.bulkIndexer = bulkIndexer;
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -293,10 +307,18 @@ public class ElasticsearchIndexManager {
     }
 
     @TransactionalEventListener
-    public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
+    public void entity(final EntityLifecycleEvent<Entity> event) throws IOException, InterruptedException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
-        if (event.getEntity() instanceof final Any any) {
+        if (event.getEntity() instanceof final Any any && bulkIndexer.isPresent()) {
+            String index = ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind());
+            if (event.getType() == SyncDeltaType.DELETE) {
+                bulkIndexer.get().delete(index, any.getKey());
+            } else {
+                bulkIndexer.get().index(index, any.getKey(), elasticsearchUtils.document(any));
+            }
+            LOG.debug("Index {} enqueued for {}[{}]", event.getType().name(), any.getType().getKind(), any.getKey());
+        } else if (event.getEntity() instanceof final Any any) {
             if (event.getType() == SyncDeltaType.DELETE) {
                 DeleteRequest request = new DeleteRequest.Builder().index(
                         ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
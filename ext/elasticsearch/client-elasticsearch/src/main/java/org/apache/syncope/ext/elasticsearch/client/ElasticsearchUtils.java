@@ -116,6 +116,7 @@ public class ElasticsearchUtils {
     @Transactional
     public Map<String, Object> document(final Any any) {
         Map<String, Object> builder = new HashMap<>();
+        builder.put("key", any.getKey());
         builder.put("realm", any.getRealm().getKey());
         builder.put("anyType", any.getType().getKey());
         builder.put("creationDate", any.getCreationDate());
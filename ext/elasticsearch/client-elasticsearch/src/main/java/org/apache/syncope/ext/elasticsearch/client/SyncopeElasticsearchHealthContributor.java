@@ -20,6 +20,7 @@ package org.apache.syncope.ext.elasticsearch.client;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.cluster.HealthResponse;
+import java.util.Optional;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 
@@ -27,8 +28,18 @@ public class SyncopeElasticsearchHealthContributor implements HealthIndicator {
 
     protected final ElasticsearchClient client;
 
+    protected final Optional<ElasticsearchBulkIndexer> bulkIndexer;
+
     public SyncopeElasticsearchHealthContributor(final ElasticsearchClient client) {
+        this(client, Optional.empty());
+    }
+
+    public SyncopeElasticsearchHealthContributor(
+            final ElasticsearchClient client,
+            final Optional<ElasticsearchBulkIndexer> bulkIndexer) {
+
         this.client = client;
+        this.bulkIndexer = bulkIndexer;
     }
 
     @Override
@@ -61,6 +72,7 @@ public class SyncopeElasticsearchHealthContributor implements HealthIndicator {
             builder.withDetail("number_of_in_flight_fetch", health.numberOfInFlightFetch());
             builder.withDetail("task_max_waiting_in_queue_millis", health.taskMaxWaitingInQueueMillis());
             builder.withDetail("active_shards_percent_as_number", health.activeShardsPercentAsNumber());
+            bulkIndexer.ifPresent(indexer -> builder.withDetail("bulk_indexer", indexer.getStatistics()));
         } catch (Exception e) {
             builder.down(e);
         }
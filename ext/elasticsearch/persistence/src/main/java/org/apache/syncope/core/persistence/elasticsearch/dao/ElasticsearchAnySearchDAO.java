@@ -300,6 +300,65 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 : buildResult(esResult.stream().map(Hit::id).collect(Collectors.toList()), kind);
     }
 
+    /**
+     * Since Elasticsearch cannot sort by internal _id, keyset pagination is performed here on the {@code key} field, which
+     * holds the same unique value; indexes built before such field was introduced need to be rebuilt.
+     */
+    @Override
+    public <T extends Any> List<T> seek(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String lastKey,
+            final int size,
+            final AnyTypeKind kind) {
+
+        if (CollectionUtils.isEmpty(adminRealms)) {
+            LOG.error("No realms provided");
+            return List.of();
+        }
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return List.of();
+        }
+
+        Query query = getQuery(base, recursive, adminRealms, cond, kind);
+        if (lastKey != null) {
+            query = new Query.Builder().bool(
+                    QueryBuilders.bool().
+                            filter(new Query.Builder().range(RangeQuery.of(r -> r.untyped(n -> n.
+                                    field("key").
+                                    gt(JsonData.of(lastKey))))).
+                                    build()).
+                            filter(query).build()).
+                    build();
+        }
+
+        SearchRequest request = new SearchRequest.Builder().
+                index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
+                searchType(SearchType.QueryThenFetch).
+                query(query).
+                size(size).
+                sort(new SortOptions.Builder().field(
+                        new FieldSort.Builder().field("key").order(SortOrder.Asc).build()).
+                        build()).
+                fields(List.of()).source(new SourceConfig.Builder().fetch(false).build()).
+                build();
+        LOG.debug("Seek request: {}", request);
+
+        List<Hit<Void>> esResult = null;
+        try {
+            esResult = client.search(request, Void.class).hits().hits();
+        } catch (Exception e) {
+            LOG.error("While seeking in Elasticsearch with request {}", request, e);
+        }
+
+        return CollectionUtils.isEmpty(esResult)
+                ? List.of()
+                : buildResult(esResult.stream().map(Hit::id).collect(Collectors.toList()), kind);
+    }
+
     protected Query getQuery(final SearchCond cond, final AnyTypeKind kind) {
         Query query = null;
 
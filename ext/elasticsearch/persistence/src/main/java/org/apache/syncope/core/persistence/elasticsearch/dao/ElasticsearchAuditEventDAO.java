@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.elasticsearch.dao;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.FieldSort;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SearchType;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
@@ -196,4 +197,71 @@ public class ElasticsearchAuditEventDAO implements AuditEventDAO {
                         map(hit -> POJOHelper.convertValue(hit.source(), AuditEventTO.class)).
                         filter(Objects::nonNull).toList();
     }
+
+    protected List<SortOptions> keysetSort() {
+        return sortBuilders(Stream.of(Sort.Order.desc("when"), Sort.Order.desc("id")));
+    }
+
+    @Override
+    public List<AuditEventTO> searchAfter(
+            final String entityKey,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op,
+            final OpEvent.Outcome outcome,
+            final OffsetDateTime before,
+            final OffsetDateTime after,
+            final String lastKey,
+            final int size) {
+
+        String index = ElasticsearchUtils.getAuditIndex(AuthContextUtils.getDomain());
+
+        SearchRequest.Builder builder = new SearchRequest.Builder().
+                index(index).
+                searchType(SearchType.QueryThenFetch).
+                query(getQuery(entityKey, type, category, subcategory, op, outcome, before, after)).
+                size(size).
+                sort(keysetSort());
+
+        if (lastKey != null) {
+            // fetch the sort values of the last event previously returned, to resume from there
+            SearchRequest lastRequest = new SearchRequest.Builder().
+                    index(index).
+                    query(new Query.Builder().term(QueryBuilders.term().
+                            field("key").value(FieldValue.of(lastKey)).build()).build()).
+                    size(1).
+                    sort(keysetSort()).
+                    build();
+            LOG.debug("Search request: {}", lastRequest);
+
+            List<Hit<ObjectNode>> last = null;
+            try {
+                last = client.search(lastRequest, ObjectNode.class).hits().hits();
+            } catch (Exception e) {
+                LOG.error("While searching in Elasticsearch with request {}", lastRequest, e);
+            }
+            if (CollectionUtils.isEmpty(last)) {
+                return List.of();
+            }
+
+            builder.searchAfter(last.getFirst().sort());
+        }
+
+        SearchRequest request = builder.build();
+        LOG.debug("Search request: {}", request);
+
+        List<Hit<ObjectNode>> esResult = null;
+        try {
+            esResult = client.search(request, ObjectNode.class).hits().hits();
+        } catch (Exception e) {
+            LOG.error("While searching in Elasticsearch with request {}", request, e);
+        }
+
+        return CollectionUtils.isEmpty(esResult)
+                ? List.of()
+                : esResult.stream().
+                        map(hit -> POJOHelper.convertValue(hit.source(), AuditEventTO.class)).
+                        filter(Objects::nonNull).toList();
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.ext.opensearch.client;
 
 import java.net.URISyntaxException;
 import java.util.Objects;
+import java.util.Optional;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -28,8 +29,10 @@ import org.identityconnectors.common.CollectionUtil;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthContributor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,18 +68,35 @@ public class OpenSearchClientContext {
         return new OpenSearchUtils(userDAO, groupDAO, anyObjectDAO);
     }
 
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "opensearch.async", name = "enabled", havingValue = "true")
+    @Bean
+    public OpenSearchBulkIndexer openSearchBulkIndexer(
+            final OpenSearchProperties props,
+            final OpenSearchClient client) {
+
+        return new OpenSearchBulkIndexer(
+                client,
+                props.getAsync().getBatchSize(),
+                props.getAsync().getFlushInterval(),
+                props.getAsync().getMaxPending(),
+                props.getAsync().getOutbox());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public OpenSearchIndexManager openSearchIndexManager(
             final OpenSearchProperties props,
             final OpenSearchClient client,
-            final OpenSearchUtils openSearchUtils) {
+            final OpenSearchUtils openSearchUtils,
+            final ObjectProvider<OpenSearchBulkIndexer> bulkIndexer) {
 
         return new OpenSearchIndexManager(
                 client,
                 openSearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                Optional.ofNullable(bulkIndexer.getIfAvailable()));
     }
 
     @ConditionalOnMissingBean
@@ -88,7 +108,10 @@ public class OpenSearchClientContext {
     @ConditionalOnMissingBean(name = "syncopeOpenSearchHealthContributor")
     @Bean(name = {
         "syncopeOpenSearchHealthContributor", "openSearchHealthIndicator", "openSearchHealthContributor" })
-    public HealthContributor syncopeOpenSearchHealthContributor(final OpenSearchClient client) {
-        return new SyncopeOpenSearchHealthContributor(client);
+    public HealthContributor syncopeOpenSearchHealthContributor(
+            final OpenSearchClient client,
+            final ObjectProvider<OpenSearchBulkIndexer> bulkIndexer) {
+
+        return new SyncopeOpenSearchHealthContributor(client, Optional.ofNullable(bulkIndexer.getIfAvailable()));
     }
 }
@@ -21,6 +21,7 @@ package org.apache.syncope.ext.opensearch.client;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
@@ -68,16 +69,29 @@ public class OpenSearchIndexManager {
 
     protected final Integer numberOfReplicas;
 
+    protected final Optional<OpenSearchBulkIndexer> bulkIndexer;
+
     public OpenSearchIndexManager(
             final OpenSearchClient client,
             final OpenSearchUtils ppenSearchUtils,
             final Integer numberOfShards,
             final Integer numberOfReplicas) {
 
+        this(client, ppenSearchUtils, numberOfShards, numberOfReplicas, Optional.empty());
+    }
+
+    public OpenSearchIndexManager(
+            final OpenSearchClient client,
+            final OpenSearchUtils ppenSearchUtils,
+            final Integer numberOfShards,
+            final Integer numberOfReplicas,
+            final Optional<OpenSearchBulkIndexer> bulkIndexer) {
+
         this.client = client;
         this.openSearchUtils = ppenSearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.bulkIndexer = bulkIndexer;
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -292,10 +306,18 @@ public class OpenSearchIndexManager {
     }
 
     @TransactionalEventListener
-    public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
+    public void entity(final EntityLifecycleEvent<Entity> event) throws IOException, InterruptedException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
-        if (event.getEntity() instanceof final Any any) {
+        if (event.getEntity() instanceof final Any any && bulkIndexer.isPresent()) {
+            String index = OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind());
+            if (event.getType() == SyncDeltaType.DELETE) {
+                bulkIndexer.get().delete(index, any.getKey());
+            } else {
+                bulkIndexer.get().index(index, any.getKey(), openSearchUtils.document(any));
+            }
+            LOG.debug("Index {} enqueued for {}[{}]", event.getType().name(), any.getType().getKind(), any.getKey());
+        } else if (event.getEntity() instanceof final Any any) {
             if (event.getType() == SyncDeltaType.DELETE) {
                 DeleteRequest request = new DeleteRequest.Builder().index(
                         OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
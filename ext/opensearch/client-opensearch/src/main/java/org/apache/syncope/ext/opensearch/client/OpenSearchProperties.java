@@ -25,6 +25,74 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties("opensearch")
 public class OpenSearchProperties {
 
+    public static class Async {
+
+        /**
+         * Whether users, groups and any objects shall be indexed asynchronously via the Bulk API.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of operations triggering a bulk request.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Maximum time (in milliseconds) operations are retained before being sent.
+         */
+        private long flushInterval = 1000;
+
+        /**
+         * Maximum number of pending operations: when reached, callers wait for a bulk request to complete.
+         */
+        private int maxPending = 10000;
+
+        /**
+         * Optional file where pending operations are journaled, to be replayed at startup.
+         */
+        private String outbox;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(final long flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(final int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        public String getOutbox() {
+            return outbox;
+        }
+
+        public void setOutbox(final String outbox) {
+            this.outbox = outbox;
+        }
+    }
+
     private List<String> hosts = new ArrayList<>();
 
     private int indexMaxResultWindow = 10000;
@@ -33,6 +101,8 @@ public class OpenSearchProperties {
 
     private int numberOfReplicas = 1;
 
+    private final Async async = new Async();
+
     public List<String> getHosts() {
         return hosts;
     }
@@ -64,4 +134,8 @@ public class OpenSearchProperties {
     public void setNumberOfReplicas(final int numberOfReplicas) {
         this.numberOfReplicas = numberOfReplicas;
     }
+
+    public Async getAsync() {
+        return async;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.ext.opensearch.client;
 
+import java.util.Optional;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.cluster.HealthResponse;
 import org.springframework.boot.actuate.health.Health;
@@ -27,8 +28,18 @@ public class SyncopeOpenSearchHealthContributor implements HealthIndicator {
 
     protected final OpenSearchClient client;
 
+    protected final Optional<OpenSearchBulkIndexer> bulkIndexer;
+
     public SyncopeOpenSearchHealthContributor(final OpenSearchClient client) {
+        this(client, Optional.empty());
+    }
+
+    public SyncopeOpenSearchHealthContributor(
+            final OpenSearchClient client,
+            final Optional<OpenSearchBulkIndexer> bulkIndexer) {
+
         this.client = client;
+        this.bulkIndexer = bulkIndexer;
     }
 
     @Override
@@ -61,6 +72,7 @@ public class SyncopeOpenSearchHealthContributor implements HealthIndicator {
             builder.withDetail("number_of_in_flight_fetch", health.numberOfInFlightFetch());
             builder.withDetail("task_max_waiting_in_queue_millis", health.taskMaxWaitingInQueueMillis());
             builder.withDetail("active_shards_percent_as_number", health.activeShardsPercentAsNumber());
+            bulkIndexer.ifPresent(indexer -> builder.withDetail("bulk_indexer", indexer.getStatistics()));
         } catch (Exception e) {
             builder.down(e);
         }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.opensearch.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+
+@ExtendWith(MockitoExtension.class)
+public class OpenSearchBulkIndexerTest {
+
+    private static BulkResponseItem item(final String id, final int status) {
+        return BulkResponseItem.of(b -> {
+            b.operationType(OperationType.Index).index("users").id(id).status(status);
+            if (status >= 300) {
+                b.error(e -> e.type("es_rejected_execution_exception").reason("busy"));
+            }
+            return b;
+        });
+    }
+
+    @TempDir
+    private Path dir;
+
+    @Mock
+    private OpenSearchClient client;
+
+    private OpenSearchBulkIndexer indexer(final Path outbox, final int maxPending) throws Exception {
+        OpenSearchBulkIndexer indexer = new OpenSearchBulkIndexer(
+                client, 100, 1000, maxPending, outbox.toString());
+        indexer.openOutbox();
+        return indexer;
+    }
+
+    private void flushAll(final OpenSearchBulkIndexer indexer) {
+        List<OpenSearchBulkIndexer.PendingOperation> batch;
+        indexer.lock.lock();
+        try {
+            batch = indexer.drain();
+        } finally {
+            indexer.lock.unlock();
+        }
+        indexer.acknowledge(batch, indexer.flush(batch));
+    }
+
+    @Test
+    public void journalAndReplay() throws Exception {
+        Path outbox = dir.resolve("outbox");
+
+        OpenSearchBulkIndexer indexer = indexer(outbox, 10);
+        indexer.index("users", "1", Map.of("username", "rossini"));
+        indexer.index("users", "2", Map.of("username", "verdi"));
+        indexer.delete("users", "1");
+        assertEquals(3, Files.readAllLines(outbox).size());
+        assertEquals(1L, indexer.getStatistics().get("coalesced"));
+        indexer.destroy();
+
+        OpenSearchBulkIndexer replayed = indexer(outbox, 10);
+        assertEquals(2, replayed.pending.size());
+        assertEquals(List.of("users/2", "users/1"), List.copyOf(replayed.pending.keySet()));
+        assertNull(replayed.pending.get("users/1").document());
+        assertEquals("verdi", replayed.pending.get("users/2").document().get("username"));
+        assertEquals(3, replayed.sequence.get());
+
+        // replay rewrites the outbox with pending operations only
+        assertEquals(2, Files.readAllLines(outbox).size());
+        replayed.destroy();
+    }
+
+    @Test
+    public void acknowledgeFlushed() throws Exception {
+        when(client.bulk(any(BulkRequest.class))).thenReturn(
+                BulkResponse.of(b -> b.errors(false).took(1).items(item("1", 200), item("2", 201))));
+
+        Path outbox = dir.resolve("outbox");
+
+        OpenSearchBulkIndexer indexer = indexer(outbox, 10);
+        indexer.index("users", "1", Map.of("username", "rossini"));
+        indexer.index("users", "2", Map.of("username", "verdi"));
+        flushAll(indexer);
+
+        ArgumentCaptor<BulkRequest> request = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(request.capture());
+        assertEquals(2, request.getValue().operations().size());
+
+        assertTrue(indexer.pending.isEmpty());
+        assertEquals(2L, indexer.getStatistics().get("flushed"));
+        // acknowledgements are appended, no rewrite yet
+        assertEquals(4, Files.readAllLines(outbox).size());
+        indexer.destroy();
+
+        OpenSearchBulkIndexer replayed = indexer(outbox, 10);
+        assertTrue(replayed.pending.isEmpty());
+        assertEquals(0, Files.size(outbox));
+        replayed.destroy();
+    }
+
+    @Test
+    public void requeueRetryable() throws Exception {
+        when(client.bulk(any(BulkRequest.class))).thenReturn(
+                BulkResponse.of(b -> b.errors(true).took(1).items(item("1", 200), item("2", 429))));
+
+        Path outbox = dir.resolve("outbox");
+
+        OpenSearchBulkIndexer indexer = indexer(outbox, 10);
+        indexer.index("users", "1", Map.of("username", "rossini"));
+        indexer.index("users", "2", Map.of("username", "verdi"));
+        flushAll(indexer);
+
+        assertEquals(List.of("users/2"), List.copyOf(indexer.pending.keySet()));
+        indexer.destroy();
+
+        OpenSearchBulkIndexer replayed = indexer(outbox, 10);
+        assertEquals(List.of("users/2"), List.copyOf(replayed.pending.keySet()));
+        replayed.destroy();
+    }
+
+    @Test
+    public void newerOperationIsNotAcknowledged() throws Exception {
+        Path outbox = dir.resolve("outbox");
+
+        OpenSearchBulkIndexer indexer = indexer(outbox, 10);
+        indexer.index("users", "1", Map.of("username", "rossini"));
+
+        List<OpenSearchBulkIndexer.PendingOperation> batch;
+        indexer.lock.lock();
+        try {
+            batch = indexer.drain();
+        } finally {
+            indexer.lock.unlock();
+        }
+        // enqueued while the former is being sent
+        indexer.delete("users", "1");
+        indexer.acknowledge(batch, List.of());
+        indexer.destroy();
+
+        OpenSearchBulkIndexer replayed = indexer(outbox, 10);
+        assertEquals(List.of("users/1"), List.copyOf(replayed.pending.keySet()));
+        assertNull(replayed.pending.get("users/1").document());
+        replayed.destroy();
+    }
+
+    @Test
+    public void compactIncrementally() throws Exception {
+        when(client.bulk(any(BulkRequest.class))).thenReturn(
+                BulkResponse.of(b -> b.errors(false).took(1).items(item("1", 200))));
+
+        Path outbox = dir.resolve("outbox");
+
+        OpenSearchBulkIndexer indexer = indexer(outbox, 3);
+        indexer.index("users", "1", Map.of("username", "rossini"));
+        flushAll(indexer);
+        // 2 entries, below threshold
+        assertEquals(2, Files.readAllLines(outbox).size());
+
+        indexer.index("users", "1", Map.of("username", "rossini"));
+        flushAll(indexer);
+        // 4 entries, above threshold: rewritten with no pending operations
+        assertEquals(0, Files.size(outbox));
+        assertEquals(0L, indexer.getStatistics().get("journaled"));
+
+        indexer.index("users", "2", Map.of("username", "verdi"));
+        assertEquals(1, Files.readAllLines(outbox).size());
+        indexer.destroy();
+    }
+}
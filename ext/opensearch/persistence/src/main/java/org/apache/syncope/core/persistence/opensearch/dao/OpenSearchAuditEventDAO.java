@@ -36,6 +36,7 @@ import org.apache.syncope.ext.opensearch.client.OpenSearchUtils;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldSort;
+import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.SearchType;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
@@ -195,4 +196,71 @@ public class OpenSearchAuditEventDAO implements AuditEventDAO {
                         map(hit -> POJOHelper.convertValue(hit.source(), AuditEventTO.class)).
                         filter(Objects::nonNull).toList();
     }
+
+    protected List<SortOptions> keysetSort() {
+        return sortBuilders(Stream.of(Sort.Order.desc("when"), Sort.Order.desc("id")));
+    }
+
+    @Override
+    public List<AuditEventTO> searchAfter(
+            final String entityKey,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op,
+            final OpEvent.Outcome outcome,
+            final OffsetDateTime before,
+            final OffsetDateTime after,
+            final String lastKey,
+            final int size) {
+
+        String index = OpenSearchUtils.getAuditIndex(AuthContextUtils.getDomain());
+
+        SearchRequest.Builder builder = new SearchRequest.Builder().
+                index(index).
+                searchType(SearchType.QueryThenFetch).
+                query(getQuery(entityKey, type, category, subcategory, op, outcome, before, after)).
+                size(size).
+                sort(keysetSort());
+
+        if (lastKey != null) {
+            // fetch the sort values of the last event previously returned, to resume from there
+            SearchRequest lastRequest = new SearchRequest.Builder().
+                    index(index).
+                    query(new Query.Builder().term(QueryBuilders.term().
+                            field("key").value(FieldValue.of(lastKey)).build()).build()).
+                    size(1).
+                    sort(keysetSort()).
+                    build();
+            LOG.debug("Search request: {}", lastRequest);
+
+            List<Hit<ObjectNode>> last = null;
+            try {
+                last = client.search(lastRequest, ObjectNode.class).hits().hits();
+            } catch (Exception e) {
+                LOG.error("While searching in OpenSearch with request {}", lastRequest, e);
+            }
+            if (CollectionUtils.isEmpty(last)) {
+                return List.of();
+            }
+
+            builder.searchAfter(last.getFirst().sort());
+        }
+
+        SearchRequest request = builder.build();
+        LOG.debug("Search request: {}", request);
+
+        List<Hit<ObjectNode>> esResult = null;
+        try {
+            esResult = client.search(request, ObjectNode.class).hits().hits();
+        } catch (Exception e) {
+            LOG.error("While searching in OpenSearch with request {}", request, e);
+        }
+
+        return CollectionUtils.isEmpty(esResult)
+                ? List.of()
+                : esResult.stream().
+                        map(hit -> POJOHelper.convertValue(hit.source(), AuditEventTO.class)).
+                        filter(Objects::nonNull).toList();
+    }
 }
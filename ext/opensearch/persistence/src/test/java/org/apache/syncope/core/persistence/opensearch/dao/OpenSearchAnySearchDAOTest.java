@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.opensearch.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch._types.query_dsl.QueryBuilders;
+import org.opensearch.client.opensearch._types.query_dsl.RangeQuery;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.HitsMetadata;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OpenSearchAnySearchDAOTest {
+
+    @Mock
+    private RealmSearchDAO realmSearchDAO;
+
+    @Mock
+    private DynRealmDAO dynRealmDAO;
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private GroupDAO groupDAO;
+
+    @Mock
+    private AnyObjectDAO anyObjectDAO;
+
+    @Mock
+    private PlainSchemaDAO schemaDAO;
+
+    @Mock
+    private EntityFactory entityFactory;
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private AnyUtils anyUtils;
+
+    @Mock
+    private PlainAttrValidationManager validator;
+
+    @Mock
+    private OpenSearchClient client;
+
+    @Mock
+    private Realm root;
+
+    private OpenSearchAnySearchDAO searchDAO;
+
+    private SearchCond cond;
+
+    @BeforeEach
+    protected void setupSearchDAO() {
+        AnyCond idCond = new AnyCond(AttrCond.Type.ISNOTNULL);
+        idCond.setSchema("id");
+        cond = SearchCond.of(idCond);
+
+        when(root.getFullPath()).thenReturn(SyncopeConstants.ROOT_REALM);
+        when(anyUtilsFactory.getInstance(AnyTypeKind.USER)).thenReturn(anyUtils);
+        doReturn(userDAO).when(anyUtils).dao();
+
+        searchDAO = spy(new OpenSearchAnySearchDAO(
+                realmSearchDAO,
+                dynRealmDAO,
+                userDAO,
+                groupDAO,
+                anyObjectDAO,
+                schemaDAO,
+                entityFactory,
+                anyUtilsFactory,
+                validator,
+                client,
+                10000));
+        doReturn(new Query.Builder().matchAll(QueryBuilders.matchAll().build()).build()).
+                when(searchDAO).getQuery(any(SearchCond.class), eq(AnyTypeKind.USER));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<SearchRequest> mockSearch(final List<String> keys) throws IOException {
+        List<Hit<Void>> hits = keys.stream().map(key -> {
+            Hit<Void> hit = mock(Hit.class);
+            when(hit.id()).thenReturn(key);
+            return hit;
+        }).toList();
+        HitsMetadata<Void> hitsMetadata = mock(HitsMetadata.class);
+        when(hitsMetadata.hits()).thenReturn(hits);
+        SearchResponse<Void> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(hitsMetadata);
+
+        ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+        when(client.search(request.capture(), eq(Void.class))).thenReturn(response);
+
+        List<User> users = keys.stream().map(key -> {
+            User user = mock(User.class);
+            when(user.getKey()).thenReturn(key);
+            return user;
+        }).toList();
+        doReturn(users).when(userDAO).findByKeys(keys);
+
+        return request;
+    }
+
+    @Test
+    public void seekFirstPage() throws IOException {
+        ArgumentCaptor<SearchRequest> request = mockSearch(List.of("k1", "k2"));
+
+        List<User> page = searchDAO.seek(
+                root, true, SyncopeConstants.FULL_ADMIN_REALMS, cond, null, 2, AnyTypeKind.USER);
+        assertEquals(List.of("k1", "k2"), page.stream().map(User::getKey).toList());
+
+        assertEquals(2, request.getValue().size());
+        assertEquals("key", request.getValue().sort().getFirst().field().field());
+        assertEquals(SortOrder.Asc, request.getValue().sort().getFirst().field().order());
+        assertTrue(request.getValue().query().isMatchAll());
+    }
+
+    @Test
+    public void seekNextPageOnIndexedKey() throws IOException {
+        ArgumentCaptor<SearchRequest> request = mockSearch(List.of("k3"));
+
+        List<User> page = searchDAO.seek(
+                root, true, SyncopeConstants.FULL_ADMIN_REALMS, cond, "k2", 2, AnyTypeKind.USER);
+        assertEquals(List.of("k3"), page.stream().map(User::getKey).toList());
+
+        // the last key is used as-is, hence it does not matter whether the related entity still exists
+        verify(userDAO, never()).findById(anyString());
+
+        List<Query> filters = request.getValue().query().bool().filter();
+        assertEquals(2, filters.size());
+        RangeQuery range = filters.getFirst().range();
+        assertEquals("key", range.field());
+        assertEquals("k2", range.gt().to(String.class));
+        assertNull(range.gte());
+        assertTrue(filters.getLast().isMatchAll());
+
+        assertEquals("key", request.getValue().sort().getFirst().field().field());
+    }
+
+    @Test
+    public void seekWithoutRealms() throws IOException {
+        List<User> page = searchDAO.seek(root, true, Set.of(), cond, "k2", 2, AnyTypeKind.USER);
+        assertTrue(page.isEmpty());
+        verify(client, never()).search(any(SearchRequest.class), eq(Void.class));
+    }
+}
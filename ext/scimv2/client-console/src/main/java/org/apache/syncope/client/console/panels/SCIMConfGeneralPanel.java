@@ -74,6 +74,10 @@ public class SCIMConfGeneralPanel extends SCIMConfTabPanel {
                 build("bulkMaxPayloadSize", "bulkMaxPayloadSize", Integer.class,
                         new PropertyModel<>(scimGeneralConf, "bulkMaxPayloadSize")));
 
+        add(new AjaxNumberFieldPanel.Builder<Integer>().enableOnChange().convertValuesToString(false).
+                build("bulkMaxConcurrency", "bulkMaxConcurrency", Integer.class,
+                        new PropertyModel<>(scimGeneralConf, "bulkMaxConcurrency")));
+
         add(new AjaxNumberFieldPanel.Builder<Integer>().enableOnChange().convertValuesToString(false).
                 build("filterMaxResults", "filterMaxResults", Integer.class,
                         new PropertyModel<>(scimGeneralConf, "filterMaxResults")));
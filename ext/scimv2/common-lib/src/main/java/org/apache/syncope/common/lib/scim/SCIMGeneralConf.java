@@ -36,6 +36,8 @@ public class SCIMGeneralConf implements Serializable {
 
     private int bulkMaxPayloadSize = 1048576;
 
+    private int bulkMaxConcurrency = 8;
+
     private int filterMaxResults = 200;
 
     public OffsetDateTime getCreationDate() {
@@ -80,6 +82,14 @@ public class SCIMGeneralConf implements Serializable {
         this.bulkMaxPayloadSize = bulkMaxPayloadSize;
     }
 
+    public int getBulkMaxConcurrency() {
+        return bulkMaxConcurrency;
+    }
+
+    public void setBulkMaxConcurrency(final int bulkMaxConcurrency) {
+        this.bulkMaxConcurrency = bulkMaxConcurrency;
+    }
+
     public int getFilterMaxResults() {
         return filterMaxResults;
     }
@@ -450,7 +450,7 @@ public class SCIMDataBinder {
 
         if (conf.getExtensionUserConf() != null) {
             SCIMExtensionInfo extensionInfo = new SCIMExtensionInfo();
-            conf.getExtensionUserConf().asMap().forEach((scimAttr, syncopeAttr) -> {
+            confManager.mappings().extensionUserAttrs().forEach((scimAttr, syncopeAttr) -> {
                 if (output(attributes, excludedAttributes, scimAttr) && attrs.containsKey(syncopeAttr)) {
                     extensionInfo.getAttributes().put(scimAttr, attrs.get(syncopeAttr).getValues().getFirst());
                 }
@@ -703,7 +703,7 @@ public class SCIMDataBinder {
         }
 
         if (conf.getExtensionUserConf() != null && user.getExtensionInfo() != null) {
-            conf.getExtensionUserConf().asMap().forEach((scimAttr, syncopeAttr) -> setAttribute(
+            confManager.mappings().extensionUserAttrs().forEach((scimAttr, syncopeAttr) -> setAttribute(
                     userTO, syncopeAttr, user.getExtensionInfo().getAttributes().get(scimAttr)));
         }
 
@@ -990,8 +990,7 @@ public class SCIMDataBinder {
                                 map(SCIMEnterpriseUserConf::getManager).map(SCIMManagerConf::getKey).orElse(null), op);
 
             default -> {
-                Optional.ofNullable(conf.getExtensionUserConf()).
-                        flatMap(schema -> Optional.ofNullable(schema.asMap().get(op.getPath().getAttribute()))).
+                Optional.ofNullable(confManager.mappings().extensionUserAttrs().get(op.getPath().getAttribute())).
                         ifPresent(schema -> setAttribute(userUR.getPlainAttrs(), schema, op));
             }
         }
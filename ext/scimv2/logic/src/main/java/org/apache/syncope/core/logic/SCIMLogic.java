@@ -128,7 +128,7 @@ public class SCIMLogic extends AbstractLogic<EntityTO> {
                                 uriBuilder.build().toASCIIString()),
                         new ConfigurationOption(true),
                         new BulkConfigurationOption(
-                                false,
+                                true,
                                 conf.getGeneralConf().getBulkMaxOperations(),
                                 conf.getGeneralConf().getBulkMaxPayloadSize()),
                         new FilterConfigurationOption(true, conf.getGeneralConf().getFilterMaxResults()),
@@ -21,7 +21,8 @@ package org.apache.syncope.core.logic.scim;
 import jakarta.ws.rs.core.MediaType;
 import java.time.OffsetDateTime;
 import java.util.Base64;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.scim.SCIMConf;
@@ -52,23 +53,63 @@ public class SCIMConfManager {
         this.schemaLogic = schemaLogic;
     }
 
+    /**
+     * Parsed configuration for a given domain, together with the raw value it was parsed from.
+     *
+     * @param raw Base64-encoded value as stored by {@link ConfParamOps}
+     * @param conf parsed configuration
+     * @param mappings lookup tables derived from {@code conf}
+     */
+    protected record Snapshot(String raw, SCIMConf conf, SCIMConfMappings mappings) {
+
+        static Snapshot parse(final String raw) {
+            SCIMConf conf = POJOHelper.deserialize(new String(Base64.getDecoder().decode(raw)), SCIMConf.class);
+            return new Snapshot(raw, conf, SCIMConfMappings.of(conf));
+        }
+    }
+
+    protected final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    protected Snapshot snapshot() {
+        String domain = AuthContextUtils.getDomain();
+        String raw = confParamOps.get(domain, SCIMConf.KEY, null, String.class);
+
+        Snapshot snapshot = snapshots.get(domain);
+        if (raw != null && snapshot != null && raw.equals(snapshot.raw())) {
+            return snapshot;
+        }
+
+        if (raw != null) {
+            try {
+                snapshot = Snapshot.parse(raw);
+                snapshots.put(domain, snapshot);
+                return snapshot;
+            } catch (Exception e) {
+                LOG.error("Could not deserialize, reverting to default", e);
+            }
+        }
+
+        set(new SCIMConf());
+        return snapshots.get(domain);
+    }
+
+    /**
+     * Returns the configuration for the current domain; the instance is shared among callers and re-parsed only
+     * when the stored value changes, hence it must not be modified: pass a new instance to {@link #set(SCIMConf)}.
+     *
+     * @return SCIM configuration for the current domain
+     */
     @PreAuthorize("hasRole('" + SCIMEntitlement.SCIM_CONF_GET + "')")
     public SCIMConf get() {
-        return Optional.ofNullable(confParamOps.get(AuthContextUtils.getDomain(), SCIMConf.KEY, null, String.class)).
-                map(confString -> {
-                    try {
-                        return POJOHelper.deserialize(
-                                new String(Base64.getDecoder().decode(confString)), SCIMConf.class);
-                    } catch (Exception e) {
-                        LOG.error("Could not deserialize, reverting to default", e);
-                        return null;
-                    }
-                }).
-                orElseGet(() -> {
-                    SCIMConf scimConf = new SCIMConf();
-                    set(scimConf);
-                    return scimConf;
-                });
+        return snapshot().conf();
+    }
+
+    /**
+     * @return lookup tables derived from the configuration for the current domain
+     */
+    @PreAuthorize("hasRole('" + SCIMEntitlement.SCIM_CONF_GET + "')")
+    public SCIMConfMappings mappings() {
+        return snapshot().mappings();
     }
 
     @PreAuthorize("hasRole('" + SCIMEntitlement.SCIM_CONF_SET + "')")
@@ -120,7 +161,9 @@ public class SCIMConfManager {
             });
         }
 
-        confParamOps.set(AuthContextUtils.getDomain(),
-                SCIMConf.KEY, Base64.getEncoder().encodeToString(POJOHelper.serialize(conf).getBytes()));
+        String domain = AuthContextUtils.getDomain();
+        String raw = Base64.getEncoder().encodeToString(POJOHelper.serialize(conf).getBytes());
+        confParamOps.set(domain, SCIMConf.KEY, raw);
+        snapshots.put(domain, Snapshot.parse(raw));
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.scim;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.common.lib.scim.SCIMConf;
+import org.apache.syncope.common.lib.scim.SCIMEnterpriseUserConf;
+import org.apache.syncope.common.lib.scim.SCIMExtensionUserConf;
+import org.apache.syncope.common.lib.scim.SCIMManagerConf;
+import org.apache.syncope.ext.scimv2.api.type.Resource;
+
+/**
+ * Lookup tables derived once from a {@link SCIMConf} snapshot, so that filter visiting and entity binding do not
+ * rebuild the {@code asMap()} views of the configuration on every request.
+ */
+public final class SCIMConfMappings {
+
+    private static String lookupKey(final String schema) {
+        return schema.toLowerCase(Locale.ROOT);
+    }
+
+    private static void put(
+            final Map<String, String> lookup,
+            final Resource resource,
+            final String value,
+            final String syncopeAttr) {
+
+        lookup.put(lookupKey(value), syncopeAttr);
+        lookup.put(lookupKey(resource.schema() + ':' + value), syncopeAttr);
+    }
+
+    public static SCIMConfMappings of(final SCIMConf conf) {
+        Map<String, String> user = new LinkedHashMap<>();
+        Map<String, String> extensionUser = new LinkedHashMap<>();
+        Map<String, String> group = new LinkedHashMap<>();
+
+        // insertion order mirrors the precedence originally applied by SearchCondVisitor: later entries win
+        if (conf.getUserConf() != null) {
+            if (conf.getUserConf().getName() != null) {
+                conf.getUserConf().getName().asMap().
+                        forEach((key, value) -> put(user, Resource.User, "name." + key, value));
+            }
+            conf.getUserConf().asMap().forEach((key, value) -> put(user, Resource.User, key, value));
+            conf.getUserConf().getAddresses().forEach(address -> address.asMap().
+                    forEach((key, value) -> put(user, Resource.User, "addresses." + key, value)));
+        }
+        if (conf.getEnterpriseUserConf() != null) {
+            conf.getEnterpriseUserConf().asMap().
+                    forEach((key, value) -> put(user, Resource.EnterpriseUser, key, value));
+        }
+        if (conf.getExtensionUserConf() != null) {
+            conf.getExtensionUserConf().asMap().
+                    forEach((key, value) -> put(extensionUser, Resource.ExtensionUser, key, value));
+        }
+        if (conf.getGroupConf() != null) {
+            conf.getGroupConf().asMap().forEach((key, value) -> put(group, Resource.Group, key, value));
+        }
+
+        return new SCIMConfMappings(
+                user,
+                Optional.ofNullable(conf.getEnterpriseUserConf()).
+                        map(SCIMEnterpriseUserConf::getManager).
+                        map(SCIMManagerConf::getKey).orElse(null),
+                extensionUser,
+                Optional.ofNullable(conf.getExtensionUserConf()).
+                        map(SCIMExtensionUserConf::asMap).orElse(Map.of()),
+                group);
+    }
+
+    private final Map<String, String> user;
+
+    private final String managerKey;
+
+    private final Map<String, String> extensionUser;
+
+    private final Map<String, String> extensionUserAttrs;
+
+    private final Map<String, String> group;
+
+    private SCIMConfMappings(
+            final Map<String, String> user,
+            final String managerKey,
+            final Map<String, String> extensionUser,
+            final Map<String, String> extensionUserAttrs,
+            final Map<String, String> group) {
+
+        this.user = Collections.unmodifiableMap(user);
+        this.managerKey = managerKey;
+        this.extensionUser = Collections.unmodifiableMap(extensionUser);
+        this.extensionUserAttrs = extensionUserAttrs;
+        this.group = Collections.unmodifiableMap(group);
+    }
+
+    /**
+     * Matches the given SCIM filter attribute, either plain or prefixed by the resource schema URN and compared
+     * case-insensitively, against core and enterprise user mappings.
+     *
+     * @param schema SCIM filter attribute
+     * @return mapped Syncope attribute, if any
+     */
+    public Optional<String> user(final String schema) {
+        return Optional.ofNullable(user.get(lookupKey(schema)));
+    }
+
+    public Optional<String> managerKey() {
+        return Optional.ofNullable(managerKey);
+    }
+
+    /**
+     * Matches the given SCIM filter attribute against extension user mappings.
+     *
+     * @param schema SCIM filter attribute
+     * @return mapped Syncope attribute, if any
+     */
+    public Optional<String> extensionUser(final String schema) {
+        return Optional.ofNullable(extensionUser.get(lookupKey(schema)));
+    }
+
+    /**
+     * @return extension user mappings, as SCIM attribute name to Syncope attribute
+     */
+    public Map<String, String> extensionUserAttrs() {
+        return extensionUserAttrs;
+    }
+
+    /**
+     * Matches the given SCIM filter attribute against group mappings.
+     *
+     * @param schema SCIM filter attribute
+     * @return mapped Syncope attribute, if any
+     */
+    public Optional<String> group(final String schema) {
+        return Optional.ofNullable(group.get(lookupKey(schema)));
+    }
+}
@@ -19,7 +19,6 @@
 package org.apache.syncope.core.logic.scim;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -48,6 +47,12 @@ public class SearchCondVisitor extends SCIMFilterBaseVisitor<SearchCond> {
                 : value.equalsIgnoreCase(schema) || (resource.schema() + ":" + value).equalsIgnoreCase(schema);
     }
 
+    private static AttrCond attrCond(final String schema) {
+        AttrCond attrCond = new AttrCond();
+        attrCond.setSchema(schema);
+        return attrCond;
+    }
+
     private static SearchCond setOperator(final AttrCond attrCond, final String operator) {
         switch (operator) {
             case "eq":
@@ -158,9 +163,16 @@ public class SearchCondVisitor extends SCIMFilterBaseVisitor<SearchCond> {
 
     private final SCIMConf conf;
 
+    private final SCIMConfMappings mappings;
+
     public SearchCondVisitor(final Resource resource, final SCIMConf conf) {
+        this(resource, conf, SCIMConfMappings.of(conf));
+    }
+
+    public SearchCondVisitor(final Resource resource, final SCIMConf conf, final SCIMConfMappings mappings) {
         this.resource = resource;
         this.conf = conf;
+        this.mappings = mappings;
     }
 
     @Override
@@ -187,68 +199,13 @@ public class SearchCondVisitor extends SCIMFilterBaseVisitor<SearchCond> {
 
         switch (resource) {
             case User:
-                if (conf.getUserConf() != null) {
-                    if (conf.getUserConf().getName() != null) {
-                        for (Map.Entry<String, String> entry : conf.getUserConf().getName().asMap().entrySet()) {
-                            if (schemaEquals(Resource.User, "name." + entry.getKey(), schema)) {
-                                attrCond = new AttrCond();
-                                attrCond.setSchema(entry.getValue());
-                            }
-                        }
-                    }
-
-                    for (Map.Entry<String, String> entry : conf.getUserConf().asMap().entrySet()) {
-                        if (schemaEquals(Resource.User, entry.getKey(), schema)) {
-                            attrCond = new AttrCond();
-                            attrCond.setSchema(entry.getValue());
-                        }
-                    }
-
-                    for (SCIMUserAddressConf address : conf.getUserConf().getAddresses()) {
-                        for (Map.Entry<String, String> entry : address.asMap().entrySet()) {
-                            if (schemaEquals(Resource.User, "addresses." + entry.getKey(), schema)) {
-                                attrCond = new AttrCond();
-                                attrCond.setSchema(entry.getValue());
-                            }
-                        }
-                    }
-                }
-
-                if (conf.getEnterpriseUserConf() != null) {
-                    for (Map.Entry<String, String> entry : conf.getEnterpriseUserConf().asMap().entrySet()) {
-                        if (schemaEquals(Resource.EnterpriseUser, entry.getKey(), schema)) {
-                            attrCond = new AttrCond();
-                            attrCond.setSchema(entry.getValue());
-                        }
-                    }
-
-                    if (conf.getEnterpriseUserConf().getManager() != null
-                            && conf.getEnterpriseUserConf().getManager().getKey() != null) {
-
-                        attrCond = new AttrCond();
-                        attrCond.setSchema(conf.getEnterpriseUserConf().getManager().getKey());
-                    }
-                }
-
-                if (conf.getExtensionUserConf() != null) {
-                    for (Map.Entry<String, String> entry : conf.getExtensionUserConf().asMap().entrySet()) {
-                        if (schemaEquals(Resource.ExtensionUser, entry.getKey(), schema)) {
-                            attrCond = new AttrCond();
-                            attrCond.setSchema(entry.getValue());
-                        }
-                    }
-                }
+                attrCond = mappings.user(schema).map(SearchCondVisitor::attrCond).orElse(attrCond);
+                attrCond = mappings.managerKey().map(SearchCondVisitor::attrCond).orElse(attrCond);
+                attrCond = mappings.extensionUser(schema).map(SearchCondVisitor::attrCond).orElse(attrCond);
                 break;
 
             case Group:
-                if (conf.getGroupConf() != null) {
-                    for (Map.Entry<String, String> entry : conf.getGroupConf().asMap().entrySet()) {
-                        if (schemaEquals(Resource.Group, entry.getKey(), schema)) {
-                            attrCond = new AttrCond();
-                            attrCond.setSchema(entry.getValue());
-                        }
-                    }
-                }
+                attrCond = mappings.group(schema).map(SearchCondVisitor::attrCond).orElse(attrCond);
                 break;
 
             default:
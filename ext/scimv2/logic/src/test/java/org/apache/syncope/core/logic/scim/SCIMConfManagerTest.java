@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.scim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.scim.SCIMConf;
+import org.apache.syncope.common.lib.scim.SCIMEnterpriseUserConf;
+import org.apache.syncope.common.lib.scim.SCIMManagerConf;
+import org.apache.syncope.common.lib.scim.SCIMUserConf;
+import org.apache.syncope.common.lib.scim.SCIMUserNameConf;
+import org.apache.syncope.common.lib.to.PlainSchemaTO;
+import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.core.logic.SchemaLogic;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.ext.scimv2.api.type.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SCIMConfManagerTest {
+
+    @Mock
+    private ConfParamOps confParamOps;
+
+    @Mock
+    private SchemaLogic schemaLogic;
+
+    private final AtomicReference<String> stored = new AtomicReference<>();
+
+    private SCIMConfManager manager;
+
+    private static SCIMConf conf(final String displayName) {
+        SCIMUserNameConf name = new SCIMUserNameConf();
+        name.setFamilyName("surname");
+
+        SCIMUserConf userConf = new SCIMUserConf();
+        userConf.setDisplayName(displayName);
+        userConf.setName(name);
+
+        SCIMManagerConf manager = new SCIMManagerConf();
+        manager.setKey("manager");
+
+        SCIMEnterpriseUserConf enterpriseUserConf = new SCIMEnterpriseUserConf();
+        enterpriseUserConf.setEmployeeNumber("employeeNumber");
+        enterpriseUserConf.setManager(manager);
+
+        SCIMConf conf = new SCIMConf();
+        conf.setUserConf(userConf);
+        conf.setEnterpriseUserConf(enterpriseUserConf);
+        return conf;
+    }
+
+    private static String raw(final SCIMConf conf) {
+        return Base64.getEncoder().encodeToString(POJOHelper.serialize(conf).getBytes());
+    }
+
+    @BeforeEach
+    public void setUp() {
+        when(confParamOps.get(anyString(), eq(SCIMConf.KEY), isNull(), eq(String.class))).
+                thenAnswer(ic -> stored.get());
+        doAnswer(ic -> {
+            stored.set(ic.getArgument(2));
+            return null;
+        }).when(confParamOps).set(anyString(), eq(SCIMConf.KEY), any());
+        doReturn(new PlainSchemaTO()).when(schemaLogic).read(eq(SchemaType.PLAIN), anyString());
+
+        manager = new SCIMConfManager(confParamOps, schemaLogic);
+    }
+
+    @Test
+    public void parsedOncePerChange() {
+        stored.set(raw(conf("cn")));
+
+        SCIMConf conf = manager.get();
+        assertEquals("cn", conf.getUserConf().getDisplayName());
+        assertSame(conf, manager.get());
+        assertSame(manager.mappings(), manager.mappings());
+
+        // changed by another node
+        stored.set(raw(conf("fullname")));
+
+        SCIMConf changed = manager.get();
+        assertNotSame(conf, changed);
+        assertEquals("fullname", changed.getUserConf().getDisplayName());
+        assertEquals("fullname", manager.mappings().user("displayName").orElseThrow());
+    }
+
+    @Test
+    public void set() {
+        stored.set(raw(conf("cn")));
+        SCIMConf conf = manager.get();
+
+        manager.set(conf("fullname"));
+
+        SCIMConf changed = manager.get();
+        assertNotSame(conf, changed);
+        assertEquals("fullname", changed.getUserConf().getDisplayName());
+        assertNotNull(changed.getGeneralConf().getLastChangeDate());
+        assertSame(changed, manager.get());
+    }
+
+    @Test
+    public void defaultWhenMissing() {
+        SCIMConf conf = manager.get();
+
+        assertNotNull(conf.getGeneralConf());
+        assertNotNull(stored.get());
+        assertSame(conf, manager.get());
+    }
+
+    @Test
+    public void mappings() {
+        stored.set(raw(conf("cn")));
+
+        SCIMConfMappings mappings = manager.mappings();
+        assertEquals("cn", mappings.user("displayName").orElseThrow());
+        assertEquals("cn", mappings.user(Resource.User.schema() + ":DISPLAYNAME").orElseThrow());
+        assertEquals("surname", mappings.user("name.familyName").orElseThrow());
+        assertEquals("employeeNumber", mappings.user("employeeNumber").orElseThrow());
+        assertEquals("employeeNumber",
+                mappings.user(Resource.EnterpriseUser.schema() + ":employeeNumber").orElseThrow());
+        assertEquals("manager", mappings.managerKey().orElseThrow());
+        assertTrue(mappings.group("displayName").isEmpty());
+        assertTrue(mappings.extensionUserAttrs().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.api.data;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.syncope.ext.scimv2.api.type.BulkMethod;
+
+@JsonPropertyOrder({ "method", "bulkId", "version", "path", "data" })
+public class SCIMBulkOperation extends SCIMBean {
+
+    private static final long serialVersionUID = -2938287036483453812L;
+
+    private BulkMethod method;
+
+    private String bulkId;
+
+    private String version;
+
+    private String path;
+
+    private JsonNode data;
+
+    public BulkMethod getMethod() {
+        return method;
+    }
+
+    public void setMethod(final BulkMethod method) {
+        this.method = method;
+    }
+
+    public String getBulkId() {
+        return bulkId;
+    }
+
+    public void setBulkId(final String bulkId) {
+        this.bulkId = bulkId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(final String path) {
+        this.path = path;
+    }
+
+    public JsonNode getData() {
+        return data;
+    }
+
+    public void setData(final JsonNode data) {
+        this.data = data;
+    }
+}
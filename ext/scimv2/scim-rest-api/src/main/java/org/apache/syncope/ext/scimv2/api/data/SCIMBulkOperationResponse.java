@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.api.data;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.apache.syncope.ext.scimv2.api.type.BulkMethod;
+
+@JsonPropertyOrder({ "method", "bulkId", "version", "location", "status", "response" })
+public class SCIMBulkOperationResponse extends SCIMBean {
+
+    private static final long serialVersionUID = 6127069473587429381L;
+
+    private final BulkMethod method;
+
+    private final String bulkId;
+
+    private String version;
+
+    private String location;
+
+    @JsonFormat(shape = Shape.STRING)
+    private final int status;
+
+    private SCIMError response;
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public SCIMBulkOperationResponse(
+            @JsonProperty("method") final BulkMethod method,
+            @JsonProperty("bulkId") final String bulkId,
+            @JsonProperty("status") final int status) {
+
+        this.method = method;
+        this.bulkId = bulkId;
+        this.status = status;
+    }
+
+    public BulkMethod getMethod() {
+        return method;
+    }
+
+    public String getBulkId() {
+        return bulkId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(final String location) {
+        this.location = location;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public SCIMError getResponse() {
+        return response;
+    }
+
+    public void setResponse(final SCIMError response) {
+        this.response = response;
+    }
+}
@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.ext.scimv2.api.service;
 
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
@@ -26,6 +28,7 @@ import jakarta.ws.rs.core.Response;
 import java.util.List;
 import org.apache.syncope.ext.scimv2.api.SCIMConstants;
 import org.apache.syncope.ext.scimv2.api.data.ResourceType;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkRequest;
 import org.apache.syncope.ext.scimv2.api.data.ServiceProviderConfig;
 
 @Path("v2")
@@ -55,4 +58,10 @@ public interface SCIMService {
     @Path("Schemas/{schema}")
     @Produces({ SCIMConstants.APPLICATION_SCIM_JSON })
     Response schema(@PathParam("schema") String schema);
+
+    @POST
+    @Path("Bulk")
+    @Produces({ SCIMConstants.APPLICATION_SCIM_JSON })
+    @Consumes({ SCIMConstants.APPLICATION_SCIM_JSON })
+    Response bulk(SCIMBulkRequest request);
 }
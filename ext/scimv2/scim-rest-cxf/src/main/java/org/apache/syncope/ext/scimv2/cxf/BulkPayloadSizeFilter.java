@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.apache.syncope.core.logic.scim.SCIMConfManager;
+import org.apache.syncope.ext.scimv2.api.data.SCIMError;
+
+/**
+ * Enforces the configured bulk {@code maxPayloadSize} before the request payload is parsed: requests declaring a
+ * larger {@code Content-Length} are rejected right away, all others - including chunked ones - are read up to the
+ * limit.
+ */
+@Provider
+public class BulkPayloadSizeFilter implements ContainerRequestFilter {
+
+    protected static final String BULK_PATH = "v2/Bulk";
+
+    protected final SCIMConfManager confManager;
+
+    public BulkPayloadSizeFilter(final SCIMConfManager confManager) {
+        this.confManager = confManager;
+    }
+
+    protected static void abort(final ContainerRequestContext reqCtx, final int maxPayloadSize) {
+        reqCtx.abortWith(Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).
+                entity(new SCIMError(
+                        null,
+                        Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(),
+                        "The size of the bulk operation exceeds the maxPayloadSize (" + maxPayloadSize + ")")).
+                build());
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext reqCtx) throws IOException {
+        if (!HttpMethod.POST.equals(reqCtx.getMethod())
+                || !BULK_PATH.equals(reqCtx.getUriInfo().getPath().replaceAll("^/+|/+$", ""))
+                || !reqCtx.hasEntity()) {
+
+            return;
+        }
+
+        int maxPayloadSize = confManager.get().getGeneralConf().getBulkMaxPayloadSize();
+        if (reqCtx.getLength() > maxPayloadSize) {
+            abort(reqCtx, maxPayloadSize);
+            return;
+        }
+
+        byte[] payload = reqCtx.getEntityStream().readNBytes((int) Math.min(maxPayloadSize + 1L, Integer.MAX_VALUE));
+        if (payload.length > maxPayloadSize) {
+            abort(reqCtx, maxPayloadSize);
+            return;
+        }
+        reqCtx.setEntityStream(new ByteArrayInputStream(payload));
+    }
+}
@@ -69,6 +69,12 @@ public class SCIMv2RESTCXFContext {
         return new AddETagFilter();
     }
 
+    @ConditionalOnMissingBean(name = "scimBulkPayloadSizeFilter")
+    @Bean
+    public BulkPayloadSizeFilter scimBulkPayloadSizeFilter(final SCIMConfManager confManager) {
+        return new BulkPayloadSizeFilter(confManager);
+    }
+
     @ConditionalOnMissingBean(name = "scimv2Container")
     @Bean
     public Server scimv2Container(
@@ -81,6 +87,7 @@ public class SCIMv2RESTCXFContext {
             final JacksonJsonProvider scimJacksonJsonProvider,
             final SCIMExceptionMapper scimExceptionMapper,
             final AddETagFilter scimAddETagFilter,
+            final BulkPayloadSizeFilter scimBulkPayloadSizeFilter,
             final Bus bus,
             final ApplicationContext ctx) {
 
@@ -97,7 +104,8 @@ public class SCIMv2RESTCXFContext {
 
         scimv2Container.setOutInterceptors(List.of(gzipOutInterceptor));
 
-        scimv2Container.setProviders(List.of(scimJacksonJsonProvider, scimExceptionMapper, scimAddETagFilter));
+        scimv2Container.setProviders(List.of(
+                scimJacksonJsonProvider, scimExceptionMapper, scimAddETagFilter, scimBulkPayloadSizeFilter));
 
         scimv2Container.setApplicationContext(ctx);
         return scimv2Container.create();
@@ -112,9 +120,22 @@ public class SCIMv2RESTCXFContext {
             final GroupLogic groupLogic,
             final SCIMDataBinder binder,
             final SCIMConfManager confManager,
-            final SCIMLogic scimLogic) {
-
-        return new SCIMServiceImpl(userDAO, groupDAO, userLogic, groupLogic, binder, confManager, scimLogic);
+            final SCIMLogic scimLogic,
+            final SCIMUserService scimv2UserService,
+            final SCIMGroupService scimv2GroupService,
+            final SCIMExceptionMapper scimExceptionMapper) {
+
+        return new SCIMServiceImpl(
+                userDAO,
+                groupDAO,
+                userLogic,
+                groupLogic,
+                binder,
+                confManager,
+                scimLogic,
+                scimv2UserService,
+                scimv2GroupService,
+                scimExceptionMapper);
     }
 
     @ConditionalOnMissingBean
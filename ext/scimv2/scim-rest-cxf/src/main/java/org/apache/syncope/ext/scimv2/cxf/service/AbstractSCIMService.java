@@ -176,7 +176,7 @@ abstract class AbstractSCIMService<R extends SCIMResource> {
             throw new BadRequestException(ErrorType.tooMany, "Too many results requested");
         }
 
-        SearchCondVisitor visitor = new SearchCondVisitor(type, confManager.get());
+        SearchCondVisitor visitor = new SearchCondVisitor(type, confManager.get(), confManager.mappings());
 
         int startIndex = request.getStartIndex() <= 1 ? 1 : request.getStartIndex();
 
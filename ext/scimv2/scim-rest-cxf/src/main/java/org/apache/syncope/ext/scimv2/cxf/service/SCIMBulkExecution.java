@@ -0,0 +1,518 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.ext.scimv2.api.BadRequestException;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperation;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperationResponse;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkRequest;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkResponse;
+import org.apache.syncope.ext.scimv2.api.data.SCIMError;
+import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
+import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
+import org.apache.syncope.ext.scimv2.api.type.BulkMethod;
+import org.apache.syncope.ext.scimv2.api.type.ErrorType;
+import org.apache.syncope.ext.scimv2.api.type.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Executes the operations of a single SCIM bulk request.
+ *
+ * Operations are arranged in a dependency graph: an operation waits for the {@code POST} operations whose
+ * {@code bulkId} it references, and for earlier operations touching the same resources, so that ordering is preserved
+ * where it matters; all other operations run concurrently on virtual threads, up to the configured limit.
+ */
+class SCIMBulkExecution {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(SCIMBulkExecution.class);
+
+    protected static final String BULK_ID_PREFIX = "bulkId:";
+
+    /**
+     * Resource endpoint addressable by bulk operations.
+     *
+     * @param <R> SCIM resource type
+     * @param type resource type
+     * @param endpoint endpoint path, relative to the SCIM base URI
+     * @param resourceClass SCIM resource class
+     * @param operations operations on the resource type
+     */
+    protected record Target<R extends SCIMResource>(
+            Resource type, String endpoint, Class<R> resourceClass, SCIMResourceOperations<R> operations) {
+
+    }
+
+    protected static class UnresolvedBulkIdException extends RuntimeException {
+
+        private static final long serialVersionUID = 3620437613567106207L;
+
+        UnresolvedBulkIdException(final String bulkId) {
+            super("Could not resolve " + BULK_ID_PREFIX + bulkId);
+        }
+    }
+
+    protected static class VersionMismatchException extends RuntimeException {
+
+        private static final long serialVersionUID = -1178407963358316032L;
+
+        VersionMismatchException(final String version) {
+            super("Resource version " + version + " does not match");
+        }
+    }
+
+    protected static void collectText(final JsonNode node, final Set<String> values) {
+        if (node == null) {
+            return;
+        }
+        if (node.isTextual()) {
+            values.add(node.asText());
+        } else if (node.isContainerNode()) {
+            node.forEach(child -> collectText(child, values));
+        }
+    }
+
+    protected final SCIMBulkRequest request;
+
+    protected final Map<String, Target<?>> targets;
+
+    protected final ExceptionMapper<Exception> exceptionMapper;
+
+    protected final JsonMapper mapper;
+
+    protected final URI baseUri;
+
+    protected final Semaphore permits;
+
+    protected final int size;
+
+    protected final Target<?>[] opTargets;
+
+    protected final String[] opIds;
+
+    protected final List<Set<Integer>> dependencies = new ArrayList<>();
+
+    protected final SCIMBulkOperationResponse[] results;
+
+    protected final Map<String, String> resolved = new ConcurrentHashMap<>();
+
+    protected final AtomicInteger errors = new AtomicInteger();
+
+    SCIMBulkExecution(
+            final SCIMBulkRequest request,
+            final Map<String, Target<?>> targets,
+            final ExceptionMapper<Exception> exceptionMapper,
+            final JsonMapper mapper,
+            final URI baseUri,
+            final int maxConcurrency) {
+
+        this.request = request;
+        this.targets = targets;
+        this.exceptionMapper = exceptionMapper;
+        this.mapper = mapper;
+        this.baseUri = baseUri;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+
+        this.size = request.getOperations().size();
+        this.opTargets = new Target<?>[size];
+        this.opIds = new String[size];
+        this.results = new SCIMBulkOperationResponse[size];
+        for (int i = 0; i < size; i++) {
+            dependencies.add(new LinkedHashSet<>());
+        }
+    }
+
+    protected SCIMBulkOperationResponse error(
+            final SCIMBulkOperation op,
+            final Response.Status status,
+            final ErrorType scimType,
+            final String detail) {
+
+        SCIMBulkOperationResponse response = new SCIMBulkOperationResponse(
+                op.getMethod(), op.getBulkId(), status.getStatusCode());
+        response.setResponse(new SCIMError(scimType, status.getStatusCode(), detail));
+        return response;
+    }
+
+    protected SCIMBulkOperationResponse error(final SCIMBulkOperation op, final Exception e) {
+        if (e instanceof UnresolvedBulkIdException) {
+            return error(op, Response.Status.CONFLICT, ErrorType.invalidValue, e.getMessage());
+        }
+
+        Response response = exceptionMapper.toResponse(e);
+        int status = Optional.ofNullable(response).
+                map(Response::getStatus).
+                orElse(Response.Status.FORBIDDEN.getStatusCode());
+
+        SCIMBulkOperationResponse result = new SCIMBulkOperationResponse(op.getMethod(), op.getBulkId(), status);
+        result.setResponse(Optional.ofNullable(response).
+                map(Response::getEntity).
+                filter(SCIMError.class::isInstance).
+                map(SCIMError.class::cast).
+                orElseGet(() -> new SCIMError(null, status, ExceptionUtils.getRootCauseMessage(e))));
+        return result;
+    }
+
+    /**
+     * Checks whether the {@code dependent} operation is, directly or transitively, a dependency of {@code from}.
+     *
+     * @param from operation to start visiting from
+     * @param dependent operation to look for
+     * @return whether {@code from} depends on {@code dependent}
+     */
+    protected boolean dependsOn(final int from, final int dependent) {
+        Set<Integer> visited = new HashSet<>();
+        Deque<Integer> toVisit = new ArrayDeque<>();
+        toVisit.push(from);
+        while (!toVisit.isEmpty()) {
+            int current = toVisit.pop();
+            if (current == dependent) {
+                return true;
+            }
+            if (visited.add(current)) {
+                dependencies.get(current).forEach(toVisit::push);
+            }
+        }
+        return false;
+    }
+
+    protected boolean addDependency(final int op, final int dependency) {
+        if (op == dependency || dependsOn(dependency, op)) {
+            return false;
+        }
+        dependencies.get(op).add(dependency);
+        return true;
+    }
+
+    /**
+     * Validates the operations and builds the dependency graph; operations that cannot be executed get their
+     * error result recorded right away.
+     */
+    protected void plan() {
+        List<SCIMBulkOperation> operations = request.getOperations();
+
+        Map<String, Integer> creators = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            SCIMBulkOperation op = operations.get(i);
+            if (op.getMethod() == null) {
+                throw new BadRequestException(ErrorType.invalidSyntax, "Missing method for operation #" + i);
+            }
+            if (op.getMethod() == BulkMethod.POST) {
+                if (StringUtils.isBlank(op.getBulkId())) {
+                    throw new BadRequestException(ErrorType.invalidSyntax, "Missing bulkId for operation #" + i);
+                }
+                if (creators.put(op.getBulkId(), i) != null) {
+                    throw new BadRequestException(ErrorType.invalidValue, "Duplicate bulkId " + op.getBulkId());
+                }
+            }
+        }
+
+        // first pass: resolve targets and resource ids
+        Set<String> touchable = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            SCIMBulkOperation op = operations.get(i);
+
+            String[] path = StringUtils.split(StringUtils.strip(op.getPath(), "/"), "/", 2);
+            opTargets[i] = path == null || path.length == 0 ? null : targets.get(path[0]);
+            if (opTargets[i] == null) {
+                results[i] = error(op, Response.Status.BAD_REQUEST, ErrorType.invalidPath,
+                        "Unsupported path: " + op.getPath());
+                continue;
+            }
+
+            if (op.getMethod() == BulkMethod.POST) {
+                if (path.length > 1) {
+                    results[i] = error(op, Response.Status.BAD_REQUEST, ErrorType.invalidPath,
+                            "Unexpected resource id in path: " + op.getPath());
+                    continue;
+                }
+                opIds[i] = BULK_ID_PREFIX + op.getBulkId();
+            } else {
+                if (path.length < 2 || StringUtils.isBlank(path[1])) {
+                    results[i] = error(op, Response.Status.BAD_REQUEST, ErrorType.invalidPath,
+                            "Missing resource id in path: " + op.getPath());
+                    continue;
+                }
+                opIds[i] = path[1];
+            }
+            if (op.getMethod() != BulkMethod.DELETE && (op.getData() == null || !op.getData().isObject())) {
+                results[i] = error(op, Response.Status.BAD_REQUEST, ErrorType.invalidSyntax,
+                        "Missing data for operation #" + i);
+                continue;
+            }
+
+            touchable.add(opIds[i]);
+        }
+
+        // second pass: bulkId references, which must be honored whatever their position in the request
+        List<Set<String>> touches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Set<String> touched = new LinkedHashSet<>();
+            touches.add(touched);
+            if (results[i] != null) {
+                continue;
+            }
+
+            SCIMBulkOperation op = operations.get(i);
+
+            Set<String> texts = new HashSet<>();
+            collectText(op.getData(), texts);
+            if (op.getMethod() != BulkMethod.POST) {
+                texts.add(opIds[i]);
+            }
+
+            for (String text : texts) {
+                if (text.startsWith(BULK_ID_PREFIX)) {
+                    Integer creator = creators.get(text.substring(BULK_ID_PREFIX.length()));
+                    if (creator == null) {
+                        results[i] = error(op, Response.Status.CONFLICT, ErrorType.invalidValue,
+                                "Unknown " + text);
+                    } else if (!addDependency(i, creator)) {
+                        results[i] = error(op, Response.Status.CONFLICT, ErrorType.invalidValue,
+                                "Circular reference to " + text);
+                    }
+                }
+                if (touchable.contains(text)) {
+                    touched.add(text);
+                }
+            }
+            touched.add(opIds[i]);
+        }
+
+        // third pass: operations touching the same resources keep the request order, unless this would contradict
+        // the bulkId references above
+        Map<String, Integer> lastTouch = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+
+            for (String touched : touches.get(i)) {
+                Integer previous = lastTouch.put(touched, i);
+                if (previous != null) {
+                    addDependency(i, previous);
+                }
+            }
+        }
+    }
+
+    protected String resolve(final String id) {
+        if (id != null && id.startsWith(BULK_ID_PREFIX)) {
+            String bulkId = id.substring(BULK_ID_PREFIX.length());
+            return Optional.ofNullable(resolved.get(bulkId)).orElseThrow(() -> new UnresolvedBulkIdException(bulkId));
+        }
+        return id;
+    }
+
+    protected JsonNode resolve(final JsonNode node) {
+        if (node.isTextual()) {
+            return node.asText().startsWith(BULK_ID_PREFIX) ? TextNode.valueOf(resolve(node.asText())) : node;
+        }
+
+        if (node.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> itor = node.fields(); itor.hasNext();) {
+                Map.Entry<String, JsonNode> field = itor.next();
+                field.setValue(resolve(field.getValue()));
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                ((ArrayNode) node).set(i, resolve(node.get(i)));
+            }
+        }
+        return node;
+    }
+
+    protected String location(final Target<?> target, final String key) {
+        return UriBuilder.fromUri(baseUri).path(target.endpoint()).path(key).build().toASCIIString();
+    }
+
+    protected void checkVersion(final Target<?> target, final String id, final String version) {
+        String current = target.operations().findLastChange(id).
+                map(lastChange -> String.valueOf(lastChange.toInstant().toEpochMilli())).
+                orElseThrow(() -> new NotFoundException("Resource " + id + " not found"));
+
+        String expected;
+        try {
+            expected = EntityTag.valueOf(version).getValue();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorType.invalidVers, "Invalid version: " + version);
+        }
+        if (!current.equals(expected)) {
+            throw new VersionMismatchException(version);
+        }
+    }
+
+    protected <R extends SCIMResource> SCIMBulkOperationResponse execute(
+            final SCIMBulkOperation op, final Target<R> target, final String rawId)
+            throws JsonProcessingException {
+
+        String id = op.getMethod() == BulkMethod.POST ? null : resolve(rawId);
+        JsonNode data = Optional.ofNullable(op.getData()).map(JsonNode::deepCopy).map(this::resolve).orElse(null);
+
+        if (id != null && op.getVersion() != null) {
+            checkVersion(target, id, op.getVersion());
+        }
+
+        SCIMBulkOperationResponse response;
+        switch (op.getMethod()) {
+            case POST -> {
+                AnyTO created = target.operations().doCreate(mapper.treeToValue(data, target.resourceClass()));
+                resolved.put(op.getBulkId(), created.getKey());
+
+                response = new SCIMBulkOperationResponse(
+                        op.getMethod(), op.getBulkId(), Response.Status.CREATED.getStatusCode());
+                response.setLocation(location(target, created.getKey()));
+                response.setVersion(new EntityTag(created.getETagValue(), true).toString());
+            }
+
+            case PUT -> {
+                ((ObjectNode) data).put("id", id);
+                AnyTO updated = target.operations().doReplace(id, mapper.treeToValue(data, target.resourceClass()));
+
+                response = new SCIMBulkOperationResponse(
+                        op.getMethod(), op.getBulkId(), Response.Status.OK.getStatusCode());
+                response.setLocation(location(target, id));
+                response.setVersion(new EntityTag(updated.getETagValue(), true).toString());
+            }
+
+            case PATCH -> {
+                target.operations().doUpdate(id, mapper.treeToValue(data, SCIMPatchOp.class));
+
+                response = new SCIMBulkOperationResponse(
+                        op.getMethod(), op.getBulkId(), Response.Status.OK.getStatusCode());
+                response.setLocation(location(target, id));
+            }
+
+            case DELETE -> {
+                target.operations().doDelete(id);
+
+                response = new SCIMBulkOperationResponse(
+                        op.getMethod(), op.getBulkId(), Response.Status.NO_CONTENT.getStatusCode());
+                response.setLocation(location(target, id));
+            }
+
+            default ->
+                throw new BadRequestException(ErrorType.invalidSyntax, "Unsupported method " + op.getMethod());
+        }
+        return response;
+    }
+
+    protected boolean stopped() {
+        return request.getFailOnErrors() != null && errors.get() >= request.getFailOnErrors();
+    }
+
+    protected void run(final int index) {
+        if (stopped()) {
+            // once the failOnErrors threshold is reached, outstanding operations are neither run nor reported
+            results[index] = null;
+            return;
+        }
+
+        if (results[index] == null) {
+            SCIMBulkOperation op = request.getOperations().get(index);
+
+            permits.acquireUninterruptibly();
+            try {
+                results[index] = execute(op, opTargets[index], opIds[index]);
+            } catch (VersionMismatchException e) {
+                results[index] = error(op, Response.Status.PRECONDITION_FAILED, ErrorType.invalidVers, e.getMessage());
+            } catch (JsonProcessingException e) {
+                results[index] = error(op, Response.Status.BAD_REQUEST, ErrorType.invalidSyntax,
+                        ExceptionUtils.getRootCauseMessage(e));
+            } catch (Exception e) {
+                LOG.debug("While executing bulk operation #{}", index, e);
+                results[index] = error(op, e);
+            } finally {
+                permits.release();
+            }
+        }
+
+        if (results[index].getStatus() >= Response.Status.BAD_REQUEST.getStatusCode()) {
+            errors.incrementAndGet();
+        }
+    }
+
+    SCIMBulkResponse execute() {
+        plan();
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Void>[] done = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) {
+            done[i] = new CompletableFuture<>();
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < size; i++) {
+                int index = i;
+                CompletableFuture.allOf(dependencies.get(i).stream().
+                        map(dependency -> done[dependency]).toArray(CompletableFuture[]::new)).
+                        thenRunAsync(new DelegatingSecurityContextRunnable(() -> run(index)), executor).
+                        whenComplete((result, error) -> {
+                            if (error != null) {
+                                LOG.error("Unexpected error while running bulk operation #{}", index, error);
+                            }
+                            done[index].complete(null);
+                        });
+            }
+
+            CompletableFuture.allOf(done).join();
+        }
+
+        SCIMBulkResponse response = new SCIMBulkResponse();
+        for (SCIMBulkOperationResponse result : results) {
+            if (result != null) {
+                response.getOperations().add(result);
+            }
+        }
+        return response;
+    }
+}
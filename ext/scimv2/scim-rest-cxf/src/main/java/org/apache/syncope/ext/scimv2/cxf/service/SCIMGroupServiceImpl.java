@@ -20,9 +20,11 @@ package org.apache.syncope.ext.scimv2.cxf.service;
 
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import java.time.OffsetDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.jexl3.MapContext;
@@ -64,7 +66,8 @@ import org.apache.syncope.ext.scimv2.api.type.SortOrder;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 
-public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> implements SCIMGroupService {
+public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup>
+        implements SCIMGroupService, SCIMResourceOperations<SCIMGroup> {
 
     public SCIMGroupServiceImpl(
             final UserDAO userDAO,
@@ -90,7 +93,7 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
     }
 
     @Override
-    public Response create(final SCIMGroup group) {
+    public GroupTO doCreate(final SCIMGroup group) {
         // first create group, no members assigned
         ProvisioningResult<GroupTO> result = groupLogic.create(binder.toGroupCR(group), false);
 
@@ -98,11 +101,17 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
         group.getMembers().forEach(member -> changeMembership(
                 member.getValue(), result.getEntity().getKey(), PatchOp.add));
 
+        return result.getEntity();
+    }
+
+    @Override
+    public Response create(final SCIMGroup group) {
+        GroupTO created = doCreate(group);
         return createResponse(
-                result.getEntity().getKey(),
+                created.getKey(),
                 binder.toSCIMGroup(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        created,
+                        uriInfo.getAbsolutePathBuilder().path(created.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()));
     }
@@ -142,12 +151,7 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
     }
 
     @Override
-    public Response update(final String id, final SCIMPatchOp patch) {
-        ResponseBuilder builder = checkETag(Resource.Group, id);
-        if (builder != null) {
-            return builder.build();
-        }
-
+    public void doUpdate(final String id, final SCIMPatchOp patch) {
         patch.getOperations().forEach(op -> {
             if (op.getPath() != null && "members".equals(op.getPath().getAttribute())) {
                 if (CollectionUtils.isEmpty(op.getValue())) {
@@ -165,24 +169,25 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
                 groupLogic.update(binder.toGroupUR(groupLogic.read(id), op), false);
             }
         });
-
-        return updateResponse(
-                id,
-                null,
-                true);
     }
 
     @Override
-    public Response replace(final String id, final SCIMGroup group) {
-        if (!id.equals(group.getId())) {
-            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + group.getId());
-        }
-
+    public Response update(final String id, final SCIMPatchOp patch) {
         ResponseBuilder builder = checkETag(Resource.Group, id);
         if (builder != null) {
             return builder.build();
         }
 
+        doUpdate(id, patch);
+
+        return updateResponse(
+                id,
+                null,
+                true);
+    }
+
+    @Override
+    public GroupTO doReplace(final String id, final SCIMGroup group) {
         // save current group members
         Set<String> beforeMembers = members(id);
 
@@ -205,11 +210,27 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
         beforeMembers.stream().filter(member -> !afterMembers.contains(member)).forEach(user -> changeMembership(
                 user, result.getEntity().getKey(), PatchOp.remove));
 
+        return result.getEntity();
+    }
+
+    @Override
+    public Response replace(final String id, final SCIMGroup group) {
+        if (!id.equals(group.getId())) {
+            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + group.getId());
+        }
+
+        ResponseBuilder builder = checkETag(Resource.Group, id);
+        if (builder != null) {
+            return builder.build();
+        }
+
+        GroupTO updated = doReplace(id, group);
+
         return updateResponse(
-                result.getEntity().getKey(),
+                updated.getKey(),
                 binder.toSCIMGroup(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        updated,
+                        uriInfo.getAbsolutePathBuilder().path(updated.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()),
                 false);
@@ -224,6 +245,16 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
                 List.of());
     }
 
+    @Override
+    public Optional<OffsetDateTime> findLastChange(final String id) {
+        return groupDAO.findLastChange(id);
+    }
+
+    @Override
+    public void doDelete(final String id) {
+        groupLogic.delete(id, false);
+    }
+
     @Override
     public Response delete(final String id) {
         ResponseBuilder builder = checkETag(Resource.Group, id);
@@ -231,7 +262,7 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
             return builder.build();
         }
 
-        anyLogic(Resource.Group).delete(id, false);
+        doDelete(id);
         return Response.noContent().build();
     }
 
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf.service;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
+import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
+
+/**
+ * Write operations on a SCIM resource type, shared by the single-resource endpoints and bulk execution.
+ *
+ * @param <R> SCIM resource type
+ */
+interface SCIMResourceOperations<R extends SCIMResource> {
+
+    Optional<OffsetDateTime> findLastChange(String id);
+
+    AnyTO doCreate(R resource);
+
+    AnyTO doReplace(String id, R resource);
+
+    void doUpdate(String id, SCIMPatchOp patch);
+
+    void doDelete(String id);
+}
@@ -18,8 +18,12 @@
  */
 package org.apache.syncope.ext.scimv2.cxf.service;
 
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.ws.rs.core.Response;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import org.apache.syncope.common.lib.scim.SCIMGeneralConf;
 import org.apache.syncope.core.logic.GroupLogic;
 import org.apache.syncope.core.logic.SCIMDataBinder;
 import org.apache.syncope.core.logic.SCIMLogic;
@@ -28,14 +32,28 @@ import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.ext.scimv2.api.data.ResourceType;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkRequest;
+import org.apache.syncope.ext.scimv2.api.data.SCIMError;
+import org.apache.syncope.ext.scimv2.api.data.SCIMGroup;
 import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
+import org.apache.syncope.ext.scimv2.api.data.SCIMUser;
 import org.apache.syncope.ext.scimv2.api.data.ServiceProviderConfig;
+import org.apache.syncope.ext.scimv2.api.service.SCIMGroupService;
 import org.apache.syncope.ext.scimv2.api.service.SCIMService;
+import org.apache.syncope.ext.scimv2.api.service.SCIMUserService;
+import org.apache.syncope.ext.scimv2.api.type.Resource;
+import org.apache.syncope.ext.scimv2.cxf.SCIMExceptionMapper;
 
 public class SCIMServiceImpl extends AbstractSCIMService<SCIMResource> implements SCIMService {
 
+    protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
     protected final SCIMLogic scimLogic;
 
+    protected final SCIMExceptionMapper exceptionMapper;
+
+    protected final Map<String, SCIMBulkExecution.Target<?>> bulkTargets = new HashMap<>();
+
     public SCIMServiceImpl(
             final UserDAO userDAO,
             final GroupDAO groupDAO,
@@ -43,10 +61,39 @@ public class SCIMServiceImpl extends AbstractSCIMService<SCIMResource> implement
             final GroupLogic groupLogic,
             final SCIMDataBinder binder,
             final SCIMConfManager confManager,
-            final SCIMLogic scimLogic) {
+            final SCIMLogic scimLogic,
+            final SCIMUserService userService,
+            final SCIMGroupService groupService,
+            final SCIMExceptionMapper exceptionMapper) {
 
         super(userDAO, groupDAO, userLogic, groupLogic, binder, confManager);
         this.scimLogic = scimLogic;
+        this.exceptionMapper = exceptionMapper;
+
+        bulkTargets.put("Users", new SCIMBulkExecution.Target<>(
+                Resource.User, "Users", SCIMUser.class, operations(userService, SCIMUser.class)));
+        bulkTargets.put("Groups", new SCIMBulkExecution.Target<>(
+                Resource.Group, "Groups", SCIMGroup.class, operations(groupService, SCIMGroup.class)));
+    }
+
+    /**
+     * Bulk requests are executed against the given service, which is then required to provide the operations on
+     * the given resource type.
+     *
+     * @param <R> resource type
+     * @param service resource service
+     * @param resourceClass resource class
+     * @return operations on the given resource type
+     */
+    @SuppressWarnings("unchecked")
+    protected static <R extends SCIMResource> SCIMResourceOperations<R> operations(
+            final Object service, final Class<R> resourceClass) {
+
+        if (service instanceof SCIMResourceOperations<?> operations) {
+            return (SCIMResourceOperations<R>) operations;
+        }
+        throw new IllegalArgumentException(service.getClass().getName()
+                + " does not provide bulk operations on " + resourceClass.getSimpleName());
     }
 
     @Override
@@ -74,6 +121,31 @@ public class SCIMServiceImpl extends AbstractSCIMService<SCIMResource> implement
         return Response.ok(scimLogic.schema(schema)).build();
     }
 
+    protected static Response payloadTooLarge(final String detail) {
+        return Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).
+                entity(new SCIMError(null, Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(), detail)).
+                build();
+    }
+
+    @Override
+    public Response bulk(final SCIMBulkRequest request) {
+        SCIMGeneralConf conf = confManager.get().getGeneralConf();
+
+        if (request.getOperations().size() > conf.getBulkMaxOperations()) {
+            return payloadTooLarge("The number of operations exceeds the maxOperations value ("
+                    + conf.getBulkMaxOperations() + ")");
+        }
+
+        return Response.ok(new SCIMBulkExecution(
+                request,
+                bulkTargets,
+                exceptionMapper,
+                MAPPER,
+                uriInfo.getBaseUriBuilder().path("v2").build(),
+                conf.getBulkMaxConcurrency()).execute()).
+                build();
+    }
+
     @Override
     protected SCIMResource getResource(final String key) {
         return null;
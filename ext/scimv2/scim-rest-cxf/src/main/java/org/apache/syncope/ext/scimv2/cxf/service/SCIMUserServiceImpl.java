@@ -20,6 +20,7 @@ package org.apache.syncope.ext.scimv2.cxf.service;
 
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.ArrayUtils;
@@ -48,7 +49,8 @@ import org.apache.syncope.ext.scimv2.api.type.ErrorType;
 import org.apache.syncope.ext.scimv2.api.type.Resource;
 import org.apache.syncope.ext.scimv2.api.type.SortOrder;
 
-public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implements SCIMUserService {
+public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser>
+        implements SCIMUserService, SCIMResourceOperations<SCIMUser> {
 
     public SCIMUserServiceImpl(
             final UserDAO userDAO,
@@ -61,14 +63,19 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
         super(userDAO, groupDAO, userLogic, groupLogic, binder, confManager);
     }
 
+    @Override
+    public UserTO doCreate(final SCIMUser user) {
+        return userLogic.create(binder.toUserCR(user), false).getEntity();
+    }
+
     @Override
     public Response create(final SCIMUser user) {
-        ProvisioningResult<UserTO> result = userLogic.create(binder.toUserCR(user), false);
+        UserTO created = doCreate(user);
         return createResponse(
-                result.getEntity().getKey(),
+                created.getKey(),
                 binder.toSCIMUser(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        created,
+                        uriInfo.getAbsolutePathBuilder().path(created.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()));
     }
@@ -86,12 +93,7 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
     }
 
     @Override
-    public Response update(final String id, final SCIMPatchOp patch) {
-        ResponseBuilder builder = checkETag(Resource.User, id);
-        if (builder != null) {
-            return builder.build();
-        }
-
+    public void doUpdate(final String id, final SCIMPatchOp patch) {
         patch.getOperations().forEach(op -> {
             Pair<UserUR, StatusR> update = binder.toUserUpdate(
                     userLogic.read(id),
@@ -100,24 +102,25 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             userLogic.update(update.getLeft(), false);
             Optional.ofNullable(update.getRight()).ifPresent(statusR -> userLogic.status(statusR, false));
         });
-
-        return updateResponse(
-                id,
-                null,
-                true);
     }
 
     @Override
-    public Response replace(final String id, final SCIMUser user) {
-        if (!id.equals(user.getId())) {
-            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + user.getId());
-        }
-
+    public Response update(final String id, final SCIMPatchOp patch) {
         ResponseBuilder builder = checkETag(Resource.User, id);
         if (builder != null) {
             return builder.build();
         }
 
+        doUpdate(id, patch);
+
+        return updateResponse(
+                id,
+                null,
+                true);
+    }
+
+    @Override
+    public UserTO doReplace(final String id, final SCIMUser user) {
         UserTO before = userLogic.read(id);
 
         UserUR req = AnyOperations.diff(binder.toUserTO(user, true), before, false);
@@ -136,11 +139,27 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             userLogic.status(statusR, false);
         }
 
+        return result.getEntity();
+    }
+
+    @Override
+    public Response replace(final String id, final SCIMUser user) {
+        if (!id.equals(user.getId())) {
+            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + user.getId());
+        }
+
+        ResponseBuilder builder = checkETag(Resource.User, id);
+        if (builder != null) {
+            return builder.build();
+        }
+
+        UserTO updated = doReplace(id, user);
+
         return updateResponse(
-                result.getEntity().getKey(),
+                updated.getKey(),
                 binder.toSCIMUser(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        updated,
+                        uriInfo.getAbsolutePathBuilder().path(updated.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()),
                 false);
@@ -155,6 +174,16 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
                 List.of());
     }
 
+    @Override
+    public Optional<OffsetDateTime> findLastChange(final String id) {
+        return userDAO.findLastChange(id);
+    }
+
+    @Override
+    public void doDelete(final String id) {
+        userLogic.delete(id, false);
+    }
+
     @Override
     public Response delete(final String id) {
         ResponseBuilder builder = checkETag(Resource.User, id);
@@ -162,7 +191,7 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             return builder.build();
         }
 
-        anyLogic(Resource.User).delete(id, false);
+        doDelete(id);
         return Response.noContent().build();
     }
 
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.ws.rs.core.Response;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.ext.scimv2.api.data.Member;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperation;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperationResponse;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkRequest;
+import org.apache.syncope.ext.scimv2.api.data.SCIMGroup;
+import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
+import org.apache.syncope.ext.scimv2.api.type.BulkMethod;
+import org.apache.syncope.ext.scimv2.api.type.Resource;
+import org.junit.jupiter.api.Test;
+
+public class SCIMBulkExecutionTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private static class Groups implements SCIMResourceOperations<SCIMGroup> {
+
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Optional<OffsetDateTime> findLastChange(final String id) {
+            return Optional.of(OffsetDateTime.now());
+        }
+
+        @Override
+        public GroupTO doCreate(final SCIMGroup group) {
+            if ("first".equals(group.getDisplayName())) {
+                // give dependent operations the chance to run too early, if not properly ordered
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            calls.add("create " + group.getDisplayName() + group.getMembers().stream().
+                    map(Member::getValue).collect(Collectors.joining(",", " [", "]")));
+
+            GroupTO groupTO = new GroupTO();
+            groupTO.setKey(group.getDisplayName() + "-key");
+            groupTO.setCreationDate(OffsetDateTime.now());
+            return groupTO;
+        }
+
+        @Override
+        public GroupTO doReplace(final String id, final SCIMGroup group) {
+            calls.add("replace " + id);
+
+            GroupTO groupTO = new GroupTO();
+            groupTO.setKey(id);
+            groupTO.setLastChangeDate(OffsetDateTime.now());
+            return groupTO;
+        }
+
+        @Override
+        public void doUpdate(final String id, final SCIMPatchOp patch) {
+            calls.add("update " + id);
+        }
+
+        @Override
+        public void doDelete(final String id) {
+            // give the following operation on the same resource the chance to run too early, if not properly ordered
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            calls.add("delete " + id);
+        }
+    }
+
+    private static SCIMBulkOperation op(
+            final BulkMethod method,
+            final String bulkId,
+            final String path,
+            final String data) throws Exception {
+
+        SCIMBulkOperation op = new SCIMBulkOperation();
+        op.setMethod(method);
+        op.setBulkId(bulkId);
+        op.setPath(path);
+        if (data != null) {
+            op.setData(MAPPER.readTree(data));
+        }
+        return op;
+    }
+
+    private static List<SCIMBulkOperationResponse> execute(final Groups groups, final SCIMBulkOperation... ops) {
+        SCIMBulkRequest request = new SCIMBulkRequest();
+        request.getOperations().addAll(List.of(ops));
+
+        return new SCIMBulkExecution(
+                request,
+                Map.of("Groups", new SCIMBulkExecution.Target<>(Resource.Group, "Groups", SCIMGroup.class, groups)),
+                e -> Response.serverError().build(),
+                MAPPER,
+                URI.create("http://localhost:9080/syncope/rest/scim/v2"),
+                10).execute().getOperations();
+    }
+
+    @Test
+    public void dependencyOrdering() throws Exception {
+        Groups groups = new Groups();
+
+        List<SCIMBulkOperationResponse> responses = execute(
+                groups,
+                // forward reference to the group created by the next operation
+                op(BulkMethod.POST, "second", "/Groups",
+                        "{\"displayName\":\"second\",\"members\":[{\"value\":\"bulkId:first\"}]}"),
+                op(BulkMethod.POST, "first", "/Groups", "{\"displayName\":\"first\"}"),
+                op(BulkMethod.PATCH, null, "/Groups/bulkId:second", "{\"Operations\":[]}"),
+                op(BulkMethod.DELETE, null, "/Groups/existing", null),
+                op(BulkMethod.PUT, null, "/Groups/existing", "{\"displayName\":\"existing\"}"));
+
+        assertEquals(
+                List.of(201, 201, 200, 204, 200),
+                responses.stream().map(SCIMBulkOperationResponse::getStatus).toList());
+        assertEquals(
+                "http://localhost:9080/syncope/rest/scim/v2/Groups/second-key",
+                responses.getFirst().getLocation());
+
+        List<String> calls = List.copyOf(groups.calls);
+        assertEquals(5, calls.size());
+        assertTrue(calls.indexOf("create first []") < calls.indexOf("create second [first-key]"));
+        assertTrue(calls.indexOf("create second [first-key]") < calls.indexOf("update second-key"));
+        assertTrue(calls.indexOf("delete existing") < calls.indexOf("replace existing"));
+    }
+
+    @Test
+    public void circularReference() throws Exception {
+        Groups groups = new Groups();
+
+        List<SCIMBulkOperationResponse> responses = execute(
+                groups,
+                op(BulkMethod.POST, "left", "/Groups",
+                        "{\"displayName\":\"left\",\"members\":[{\"value\":\"bulkId:right\"}]}"),
+                op(BulkMethod.POST, "right", "/Groups",
+                        "{\"displayName\":\"right\",\"members\":[{\"value\":\"bulkId:left\"}]}"));
+
+        assertEquals(
+                List.of(409, 409),
+                responses.stream().map(SCIMBulkOperationResponse::getStatus).toList());
+        assertTrue(groups.calls.isEmpty());
+    }
+}
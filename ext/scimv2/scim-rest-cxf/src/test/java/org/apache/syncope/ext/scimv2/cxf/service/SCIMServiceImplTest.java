@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.syncope.ext.scimv2.api.data.SCIMGroup;
+import org.apache.syncope.ext.scimv2.api.data.SCIMUser;
+import org.junit.jupiter.api.Test;
+
+public class SCIMServiceImplTest {
+
+    @Test
+    public void bulkOperations() {
+        SCIMUserServiceImpl users = new SCIMUserServiceImpl(null, null, null, null, null, null);
+        assertSame(users, SCIMServiceImpl.operations(users, SCIMUser.class));
+
+        SCIMGroupServiceImpl groups = new SCIMGroupServiceImpl(null, null, null, null, null, null);
+        assertSame(groups, SCIMServiceImpl.operations(groups, SCIMGroup.class));
+    }
+
+    @Test
+    public void bulkOperationsMissing() {
+        // e.g. a service replaced by a proxy only exposing the REST interface
+        assertThrows(IllegalArgumentException.class, () -> SCIMServiceImpl.operations(new Object(), SCIMUser.class));
+    }
+}
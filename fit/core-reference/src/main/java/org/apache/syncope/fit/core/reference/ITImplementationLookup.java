@@ -46,6 +46,8 @@ import org.apache.syncope.core.provisioning.api.rules.AccountRule;
 import org.apache.syncope.core.provisioning.api.rules.InboundCorrelationRule;
 import org.apache.syncope.core.provisioning.api.rules.PasswordRule;
 import org.apache.syncope.core.provisioning.api.rules.PushCorrelationRule;
+import org.apache.syncope.core.provisioning.java.job.AuditEventEntityKeysIndexer;
+import org.apache.syncope.core.provisioning.java.job.DerAttrValuesMaterializer;
 import org.apache.syncope.core.provisioning.java.job.ExpiredAccessTokenCleanup;
 import org.apache.syncope.core.provisioning.java.job.ExpiredBatchCleanup;
 import org.apache.syncope.core.provisioning.java.job.MacroJobDelegate;
@@ -138,6 +140,8 @@ public class ITImplementationLookup implements ImplementationLookup {
             classNames = new HashSet<>();
             classNames.add(ExpiredAccessTokenCleanup.class.getName());
             classNames.add(ExpiredBatchCleanup.class.getName());
+            classNames.add(AuditEventEntityKeysIndexer.class.getName());
+            classNames.add(DerAttrValuesMaterializer.class.getName());
             classNames.add(TestSampleJobDelegate.class.getName());
             classNames.add(MacroJobDelegate.class.getName());
             classNames.add(LiveSyncJobDelegate.class.getName());